@@ -1,7 +1,11 @@
 package net.cyberpunk042.client;
 
+import net.cyberpunk042.client.command.AccessorBenchCommand;
 import net.cyberpunk042.client.command.FieldEditCommands;
 import net.cyberpunk042.client.command.LogViewerCommand;
+import net.cyberpunk042.client.command.MeshBenchCommand;
+import net.cyberpunk042.client.command.RayFlowBenchCommand;
+import net.cyberpunk042.client.command.TraceBenchCommand;
 import net.cyberpunk042.client.gui.render.TestFieldRenderer;
 import net.cyberpunk042.client.network.GuiClientHandlers;
 import net.cyberpunk042.log.Logging;
@@ -9,6 +13,7 @@ import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.fabricmc.loader.api.FabricLoader;
 
 /**
  * G141-G145: Client-side GUI initialization.
@@ -63,6 +68,14 @@ public class GuiClientInit implements ClientModInitializer {
         ClientCommandRegistrationCallback.EVENT.register((dispatcher, access) -> {
             FieldEditCommands.register(dispatcher);
             LogViewerCommand.register(dispatcher);
+            
+            // Benchmarks are dev-only tools, not part of the shipped command set
+            if (FabricLoader.getInstance().isDevelopmentEnvironment()) {
+                MeshBenchCommand.register(dispatcher);
+                TraceBenchCommand.register(dispatcher);
+                AccessorBenchCommand.register(dispatcher);
+                RayFlowBenchCommand.register(dispatcher);
+            }
         });
         
         Logging.GUI.topic("init").info("GUI client initialized");
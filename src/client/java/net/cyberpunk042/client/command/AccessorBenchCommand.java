@@ -0,0 +1,30 @@
+package net.cyberpunk042.client.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.cyberpunk042.client.gui.state.StatePathBenchmark;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.text.Text;
+
+import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
+
+/**
+ * Client command comparing compiled and reflective state path access.
+ *
+ * Usage: /accessorbench
+ *
+ * <p>Only registered in development environments (see {@code GuiClientInit}).
+ */
+public class AccessorBenchCommand {
+
+    public static void register(CommandDispatcher<FabricClientCommandSource> dispatcher) {
+        dispatcher.register(
+            literal("accessorbench")
+                .executes(ctx -> {
+                    for (StatePathBenchmark.Result result : StatePathBenchmark.run()) {
+                        ctx.getSource().sendFeedback(Text.literal(result.describe()));
+                    }
+                    return 1;
+                })
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package net.cyberpunk042.client.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.cyberpunk042.client.visual.mesh.MeshBenchmark;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.text.Text;
+
+import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
+
+/**
+ * Client command to run the mesh build/emit micro benchmark.
+ * 
+ * Usage: /meshbench
+ * 
+ * <p>Only registered in development environments (see {@code GuiClientInit}).
+ */
+public class MeshBenchCommand {
+    
+    public static void register(CommandDispatcher<FabricClientCommandSource> dispatcher) {
+        dispatcher.register(
+            literal("meshbench")
+                .executes(ctx -> {
+                    for (MeshBenchmark.Result result : MeshBenchmark.run()) {
+                        ctx.getSource().sendFeedback(Text.literal(result.describe()));
+                    }
+                    return 1;
+                })
+        );
+    }
+}
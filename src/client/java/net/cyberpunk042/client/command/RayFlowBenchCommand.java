@@ -0,0 +1,44 @@
+package net.cyberpunk042.client.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.cyberpunk042.client.visual.mesh.ray.flow.RayFlowBenchmark;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.Util;
+
+import java.util.concurrent.CompletableFuture;
+
+import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
+
+/**
+ * Client command to run the ray flow per-ray vs batch benchmark.
+ * 
+ * Usage: /rayflowbench
+ * 
+ * <p>The 10k-ray rounds take seconds, so the benchmark runs on a worker
+ * thread and reports back on the client thread. Only registered in
+ * development environments (see {@code GuiClientInit}).
+ */
+public class RayFlowBenchCommand {
+    
+    public static void register(CommandDispatcher<FabricClientCommandSource> dispatcher) {
+        dispatcher.register(
+            literal("rayflowbench")
+                .executes(ctx -> {
+                    FabricClientCommandSource source = ctx.getSource();
+                    source.sendFeedback(Text.literal("Running ray flow benchmark..."));
+                    CompletableFuture.supplyAsync(RayFlowBenchmark::run, Util.getMainWorkerExecutor())
+                        .whenCompleteAsync((results, error) -> {
+                            if (error != null) {
+                                source.sendError(Text.literal("Ray flow benchmark failed: " + error.getMessage()));
+                                return;
+                            }
+                            for (RayFlowBenchmark.Result result : results) {
+                                source.sendFeedback(Text.literal(result.describe()));
+                            }
+                        }, source.getClient());
+                    return 1;
+                })
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package net.cyberpunk042.client.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.cyberpunk042.client.gui.state.PipelineTracerBenchmark;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.text.Text;
+
+import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
+
+/**
+ * Client command to check that disabled pipeline tracing allocates nothing.
+ * 
+ * Usage: /tracebench
+ * 
+ * <p>Only registered in development environments (see {@code GuiClientInit}).
+ */
+public class TraceBenchCommand {
+    
+    public static void register(CommandDispatcher<FabricClientCommandSource> dispatcher) {
+        dispatcher.register(
+            literal("tracebench")
+                .executes(ctx -> {
+                    ctx.getSource().sendFeedback(Text.literal(PipelineTracerBenchmark.run().describe()));
+                    return 1;
+                })
+        );
+    }
+}
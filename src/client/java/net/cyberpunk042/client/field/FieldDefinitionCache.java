@@ -0,0 +1,135 @@
+package net.cyberpunk042.client.field;
+
+import com.google.gson.JsonObject;
+import net.cyberpunk042.field.FieldRegistry;
+import net.cyberpunk042.field.loader.FieldLoader;
+import net.cyberpunk042.log.Logging;
+import net.cyberpunk042.network.FieldDefinitionBinaryPayload;
+import net.cyberpunk042.network.FieldDefinitionManifestPayload;
+import net.cyberpunk042.network.FieldDefinitionRequestPayload;
+import net.cyberpunk042.network.JsonBinaryCodec;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.Util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Client side of field definition sync: a disk cache of binary definitions
+ * keyed by content hash.
+ *
+ * <p>On a manifest, cached entries are read and decoded on the IO pool and
+ * registered on the client thread; the hashes not on disk are requested from
+ * the server. Definitions that arrive are registered and written to the cache.
+ * A file whose contents no longer match its hash counts as missing.
+ */
+public final class FieldDefinitionCache {
+
+    private static final Path CACHE_DIR = FabricLoader.getInstance()
+        .getGameDir()
+        .resolve("the-virus-block-cache")
+        .resolve("field_definitions");
+
+    private FieldDefinitionCache() {}
+
+    private record Cached(String definitionId, JsonObject json) {}
+
+    private record Lookup(List<Cached> cached, long[] missing) {}
+
+    public static void handleManifest(FieldDefinitionManifestPayload payload, MinecraftClient client) {
+        CompletableFuture.supplyAsync(() -> lookup(payload.entries()), Util.getIoWorkerExecutor())
+            .thenAcceptAsync(lookup -> {
+                for (Cached cached : lookup.cached()) {
+                    register(cached.definitionId(), cached.json());
+                }
+                if (lookup.missing().length > 0) {
+                    ClientPlayNetworking.send(new FieldDefinitionRequestPayload(lookup.missing()));
+                }
+                Logging.GUI.topic("field").info("Definition manifest: {} cached, {} requested",
+                    lookup.cached().size(), lookup.missing().length);
+            }, client);
+    }
+
+    public static void handleBinary(FieldDefinitionBinaryPayload payload) {
+        byte[] data = payload.data();
+        if (FieldDefinitionBinaryPayload.hash(data) != payload.hash()) {
+            Logging.GUI.topic("field").warn("Definition {} failed its hash check, skipping", payload.definitionId());
+            return;
+        }
+        try {
+            register(payload.definitionId(), JsonBinaryCodec.decode(data).getAsJsonObject());
+        } catch (RuntimeException e) {
+            Logging.GUI.topic("field").error("Failed to decode definition {}: {}", payload.definitionId(), e.getMessage());
+            return;
+        }
+        Util.getIoWorkerExecutor().execute(() -> write(payload.hash(), data));
+    }
+
+    /**
+     * Parses and registers one definition; shared with the JSON fallback path.
+     */
+    public static void register(String definitionId, JsonObject json) {
+        try {
+            FieldRegistry.register(new FieldLoader().parseDefinition(json));
+            Logging.GUI.topic("field").info("Definition REGISTERED: {}", definitionId);
+        } catch (Exception e) {
+            Logging.GUI.topic("field").error("Failed to parse definition {}: {}", definitionId, e.getMessage());
+        }
+    }
+
+    private static Lookup lookup(List<FieldDefinitionManifestPayload.Entry> entries) {
+        List<Cached> cached = new ArrayList<>(entries.size());
+        long[] missing = new long[entries.size()];
+        int missingCount = 0;
+        for (FieldDefinitionManifestPayload.Entry entry : entries) {
+            JsonObject json = read(entry.hash());
+            if (json != null) {
+                cached.add(new Cached(entry.definitionId(), json));
+            } else {
+                missing[missingCount++] = entry.hash();
+            }
+        }
+        return new Lookup(cached, Arrays.copyOf(missing, missingCount));
+    }
+
+    private static JsonObject read(long hash) {
+        Path file = file(hash);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            byte[] data = Files.readAllBytes(file);
+            if (FieldDefinitionBinaryPayload.hash(data) != hash) {
+                return null;
+            }
+            return JsonBinaryCodec.decode(data).getAsJsonObject();
+        } catch (IOException | RuntimeException e) {
+            Logging.GUI.topic("field").debug("Ignoring unreadable cached definition {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void write(long hash, byte[] data) {
+        try {
+            Files.createDirectories(CACHE_DIR);
+            Path file = file(hash);
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, data);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Logging.GUI.topic("field").warn("Failed to cache definition {}: {}", Long.toHexString(hash), e.getMessage());
+        }
+    }
+
+    private static Path file(long hash) {
+        return CACHE_DIR.resolve(String.format("%016x.bin", hash));
+    }
+}
@@ -3,7 +3,6 @@ package net.cyberpunk042.client.field.render;
 import net.cyberpunk042.client.gui.state.PipelineTracer;
 import net.cyberpunk042.client.visual.animation.AnimationApplier;
 import net.cyberpunk042.client.visual.mesh.Mesh;
-import net.cyberpunk042.client.visual.mesh.Vertex;
 import net.cyberpunk042.client.visual.render.VertexEmitter;
 import net.cyberpunk042.log.Logging;
 import net.cyberpunk042.visual.animation.Animation;
@@ -56,7 +55,7 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
         // Get wave config for CPU deformation (if active)
         Animation anim = primitive.animation();
         WaveConfig wave = (anim != null) ? anim.wave() : null;
-        Mesh mesh = tessellate(primitive, wave, time);
+        Mesh mesh = tessellateCached(primitive, wave, time);
         if (mesh == null || mesh.isEmpty()) {
             Logging.FIELD.topic("render").warn(
                 "[APR_EXIT] Empty mesh for primitive '{}', skipping", primitive.id());
@@ -71,10 +70,10 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
         // CP4: ALL appearance segments
         if (app != null) {
             PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 4, "prim.color", app.color());
-            PipelineTracer.trace(PipelineTracer.A2_ALPHA, 4, "prim.alpha", app.alpha() != null ? String.valueOf(app.alpha().max()) : "1.0");
-            PipelineTracer.trace(PipelineTracer.A3_GLOW, 4, "prim.glow", String.valueOf(app.glow()));
-            PipelineTracer.trace(PipelineTracer.A4_EMISSIVE, 4, "prim.emissive", String.valueOf(app.emissive()));
-            PipelineTracer.trace(PipelineTracer.A5_SATURATION, 4, "prim.saturation", String.valueOf(app.saturation()));
+            PipelineTracer.trace(PipelineTracer.A2_ALPHA, 4, "prim.alpha", app.alpha() != null ? app.alpha().max() : 1.0f);
+            PipelineTracer.trace(PipelineTracer.A3_GLOW, 4, "prim.glow", app.glow());
+            PipelineTracer.trace(PipelineTracer.A4_EMISSIVE, 4, "prim.emissive", app.emissive());
+            PipelineTracer.trace(PipelineTracer.A5_SATURATION, 4, "prim.saturation", app.saturation());
             PipelineTracer.trace(PipelineTracer.A6_SECONDARY_COLOR, 4, "prim.secondary", app.secondaryColor());
         }
         
@@ -88,30 +87,30 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
         if (primitive.fill() != null) {
             var f = primitive.fill();
             PipelineTracer.trace(PipelineTracer.F1_FILL_MODE, 4, "prim.fill", f.mode().name());
-            PipelineTracer.trace(PipelineTracer.F2_WIRE_THICKNESS, 4, "prim.wire", String.valueOf(f.wireThickness()));
-            PipelineTracer.trace(PipelineTracer.F3_DOUBLE_SIDED, 4, "prim.double", String.valueOf(f.doubleSided()));
-            PipelineTracer.trace(PipelineTracer.F4_DEPTH_TEST, 4, "prim.depth", String.valueOf(f.depthTest()));
-            PipelineTracer.trace(PipelineTracer.F5_DEPTH_WRITE, 4, "prim.depthW", String.valueOf(f.depthWrite()));
+            PipelineTracer.trace(PipelineTracer.F2_WIRE_THICKNESS, 4, "prim.wire", f.wireThickness());
+            PipelineTracer.trace(PipelineTracer.F3_DOUBLE_SIDED, 4, "prim.double", f.doubleSided());
+            PipelineTracer.trace(PipelineTracer.F4_DEPTH_TEST, 4, "prim.depth", f.depthTest());
+            PipelineTracer.trace(PipelineTracer.F5_DEPTH_WRITE, 4, "prim.depthW", f.depthWrite());
             PipelineTracer.trace(PipelineTracer.F6_CAGE_OPTIONS, 4, "prim.cage", f.cage() != null ? "present" : "null");
         }
         
         // CP4: ALL transform segments (T1-T13)
         if (primitive.transform() != null && primitive.transform() != net.cyberpunk042.visual.transform.Transform.IDENTITY) {
             var t = primitive.transform();
-            PipelineTracer.trace(PipelineTracer.T1_OFFSET, 4, "prim.offset", t.offset() != null ? t.offset().toString() : "null");
-            PipelineTracer.trace(PipelineTracer.T2_ROTATION, 4, "prim.rotation", t.rotation() != null ? t.rotation().toString() : "null");
-            PipelineTracer.trace(PipelineTracer.T3_SCALE, 4, "prim.scale", String.valueOf(t.scale()));
-            PipelineTracer.trace(PipelineTracer.T4_SCALE_XYZ, 4, "prim.scaleXYZ", t.scaleXYZ() != null ? t.scaleXYZ().toString() : "null");
-            PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 4, "prim.anchor", t.anchor() != null ? t.anchor().name() : "null");
-            PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 4, "prim.billboard", t.billboard() != null ? t.billboard().name() : "null");
+            PipelineTracer.trace(PipelineTracer.T1_OFFSET, 4, "prim.offset", t.offset());
+            PipelineTracer.trace(PipelineTracer.T2_ROTATION, 4, "prim.rotation", t.rotation());
+            PipelineTracer.trace(PipelineTracer.T3_SCALE, 4, "prim.scale", t.scale());
+            PipelineTracer.trace(PipelineTracer.T4_SCALE_XYZ, 4, "prim.scaleXYZ", t.scaleXYZ());
+            PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 4, "prim.anchor", t.anchor());
+            PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 4, "prim.billboard", t.billboard());
             PipelineTracer.trace(PipelineTracer.T7_ORBIT, 4, "prim.orbit", t.orbit() != null ? "active" : "null");
-            PipelineTracer.trace(PipelineTracer.T8_INHERIT_ROTATION, 4, "prim.inheritRot", String.valueOf(t.inheritRotation()));
-            PipelineTracer.trace(PipelineTracer.T9_SCALE_WITH_RADIUS, 4, "prim.scaleWithRad", String.valueOf(t.scaleWithRadius()));
-            PipelineTracer.trace(PipelineTracer.T10_FACING, 4, "prim.facing", t.facing() != null ? t.facing().name() : "null");
-            PipelineTracer.trace(PipelineTracer.T11_UP_VECTOR, 4, "prim.up", t.up() != null ? t.up().name() : "null");
+            PipelineTracer.trace(PipelineTracer.T8_INHERIT_ROTATION, 4, "prim.inheritRot", t.inheritRotation());
+            PipelineTracer.trace(PipelineTracer.T9_SCALE_WITH_RADIUS, 4, "prim.scaleWithRad", t.scaleWithRadius());
+            PipelineTracer.trace(PipelineTracer.T10_FACING, 4, "prim.facing", t.facing());
+            PipelineTracer.trace(PipelineTracer.T11_UP_VECTOR, 4, "prim.up", t.up());
             if (t.orbit() != null) {
-                PipelineTracer.trace(PipelineTracer.T12_ORBIT_RADIUS, 4, "prim.orbitR", String.valueOf(t.orbit().radius()));
-                PipelineTracer.trace(PipelineTracer.T13_ORBIT_SPEED, 4, "prim.orbitS", String.valueOf(t.orbit().speed()));
+                PipelineTracer.trace(PipelineTracer.T12_ORBIT_RADIUS, 4, "prim.orbitR", t.orbit().radius());
+                PipelineTracer.trace(PipelineTracer.T13_ORBIT_SPEED, 4, "prim.orbitS", t.orbit().speed());
             }
         }
         
@@ -119,53 +118,53 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
         if (primitive.visibility() != null) {
             var v = primitive.visibility();
             PipelineTracer.trace(PipelineTracer.V1_MASK_TYPE, 4, "prim.mask", v.mask().name());
-            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 4, "prim.count", String.valueOf(v.count()));
-            PipelineTracer.trace(PipelineTracer.V3_MASK_THICKNESS, 4, "prim.thick", String.valueOf(v.thickness()));
-            PipelineTracer.trace(PipelineTracer.V4_MASK_OFFSET, 4, "prim.offset", String.valueOf(v.offset()));
-            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 4, "prim.anim", String.valueOf(v.animate()));
-            PipelineTracer.trace(PipelineTracer.V6_MASK_ANIM_SPEED, 4, "prim.speed", String.valueOf(v.animSpeed()));
-            PipelineTracer.trace(PipelineTracer.V7_MASK_INVERT, 4, "prim.invert", String.valueOf(v.invert()));
-            PipelineTracer.trace(PipelineTracer.V8_MASK_FEATHER, 4, "prim.feather", String.valueOf(v.feather()));
+            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 4, "prim.count", v.count());
+            PipelineTracer.trace(PipelineTracer.V3_MASK_THICKNESS, 4, "prim.thick", v.thickness());
+            PipelineTracer.trace(PipelineTracer.V4_MASK_OFFSET, 4, "prim.offset", v.offset());
+            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 4, "prim.anim", v.animate());
+            PipelineTracer.trace(PipelineTracer.V6_MASK_ANIM_SPEED, 4, "prim.speed", v.animSpeed());
+            PipelineTracer.trace(PipelineTracer.V7_MASK_INVERT, 4, "prim.invert", v.invert());
+            PipelineTracer.trace(PipelineTracer.V8_MASK_FEATHER, 4, "prim.feather", v.feather());
             PipelineTracer.trace(PipelineTracer.V9_MASK_DIRECTION, 4, "prim.dir", v.direction());
-            PipelineTracer.trace(PipelineTracer.V10_MASK_FALLOFF, 4, "prim.falloff", String.valueOf(v.falloff()));
-            PipelineTracer.trace(PipelineTracer.V11_GRADIENT_START, 4, "prim.gradStart", String.valueOf(v.gradientStart()));
-            PipelineTracer.trace(PipelineTracer.V12_GRADIENT_END, 4, "prim.gradEnd", String.valueOf(v.gradientEnd()));
-            PipelineTracer.trace(PipelineTracer.V13_CENTER_X, 4, "prim.centerX", String.valueOf(v.centerX()));
-            PipelineTracer.trace(PipelineTracer.V14_CENTER_Y, 4, "prim.centerY", String.valueOf(v.centerY()));
+            PipelineTracer.trace(PipelineTracer.V10_MASK_FALLOFF, 4, "prim.falloff", v.falloff());
+            PipelineTracer.trace(PipelineTracer.V11_GRADIENT_START, 4, "prim.gradStart", v.gradientStart());
+            PipelineTracer.trace(PipelineTracer.V12_GRADIENT_END, 4, "prim.gradEnd", v.gradientEnd());
+            PipelineTracer.trace(PipelineTracer.V13_CENTER_X, 4, "prim.centerX", v.centerX());
+            PipelineTracer.trace(PipelineTracer.V14_CENTER_Y, 4, "prim.centerY", v.centerY());
         }
         
         // CP4: ALL animation segments (reuse anim from line 55)
         if (anim != null) {
             if (anim.spin() != null) {
-                PipelineTracer.trace(PipelineTracer.N1_SPIN_SPEED, 4, "prim.spinY", String.valueOf(anim.spin().speedY()));
+                PipelineTracer.trace(PipelineTracer.N1_SPIN_SPEED, 4, "prim.spinY", anim.spin().speedY());
             }
             if (anim.pulse() != null) {
-                PipelineTracer.trace(PipelineTracer.N3_PULSE_SPEED, 4, "prim.pulse", String.valueOf(anim.pulse().speed()));
-                PipelineTracer.trace(PipelineTracer.N4_PULSE_SCALE, 4, "prim.pScale", String.valueOf(anim.pulse().scale()));
+                PipelineTracer.trace(PipelineTracer.N3_PULSE_SPEED, 4, "prim.pulse", anim.pulse().speed());
+                PipelineTracer.trace(PipelineTracer.N4_PULSE_SCALE, 4, "prim.pScale", anim.pulse().scale());
                 PipelineTracer.trace(PipelineTracer.N5_PULSE_MODE, 4, "prim.pMode", anim.pulse().mode().name());
             }
             if (anim.alphaPulse() != null) {
-                PipelineTracer.trace(PipelineTracer.N6_ALPHA_PULSE_SPEED, 4, "prim.aSpeed", String.valueOf(anim.alphaPulse().speed()));
-                PipelineTracer.trace(PipelineTracer.N7_ALPHA_PULSE_MIN, 4, "prim.aMin", String.valueOf(anim.alphaPulse().min()));
-                PipelineTracer.trace(PipelineTracer.N8_ALPHA_PULSE_MAX, 4, "prim.aMax", String.valueOf(anim.alphaPulse().max()));
+                PipelineTracer.trace(PipelineTracer.N6_ALPHA_PULSE_SPEED, 4, "prim.aSpeed", anim.alphaPulse().speed());
+                PipelineTracer.trace(PipelineTracer.N7_ALPHA_PULSE_MIN, 4, "prim.aMin", anim.alphaPulse().min());
+                PipelineTracer.trace(PipelineTracer.N8_ALPHA_PULSE_MAX, 4, "prim.aMax", anim.alphaPulse().max());
             }
             if (anim.wave() != null) {
-                PipelineTracer.trace(PipelineTracer.N9_WAVE_SPEED, 4, "prim.wFreq", String.valueOf(anim.wave().frequency()));
-                PipelineTracer.trace(PipelineTracer.N10_WAVE_AMPLITUDE, 4, "prim.wAmp", String.valueOf(anim.wave().amplitude()));
+                PipelineTracer.trace(PipelineTracer.N9_WAVE_SPEED, 4, "prim.wFreq", anim.wave().frequency());
+                PipelineTracer.trace(PipelineTracer.N10_WAVE_AMPLITUDE, 4, "prim.wAmp", anim.wave().amplitude());
             }
             if (anim.wobble() != null) {
-                PipelineTracer.trace(PipelineTracer.N11_WOBBLE_SPEED, 4, "prim.wobble", String.valueOf(anim.wobble().speed()));
+                PipelineTracer.trace(PipelineTracer.N11_WOBBLE_SPEED, 4, "prim.wobble", anim.wobble().speed());
             }
             if (anim.colorCycle() != null) {
                 PipelineTracer.trace(PipelineTracer.N12_COLOR_CYCLE, 4, "prim.cycle", anim.colorCycle().isActive() ? "active" : "inactive");
-                PipelineTracer.trace(PipelineTracer.N16_COLOR_CYCLE_SPEED, 4, "prim.cycleSpeed", String.valueOf(anim.colorCycle().speed()));
+                PipelineTracer.trace(PipelineTracer.N16_COLOR_CYCLE_SPEED, 4, "prim.cycleSpeed", anim.colorCycle().speed());
             }
         }
         
         int color = resolveColor(primitive, resolver, overrides, time);
         
         // CP5: Renderer resolved value
-        PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 5, "resolved", "0x" + Integer.toHexString(color));
+        PipelineTracer.traceColor(PipelineTracer.A1_PRIMARY_COLOR, 5, "resolved", color);
         
         // === PHASE 2.5: Apply Animated Mask Alpha ===
         // Note: For animated masks, we apply alpha modulation at render time
@@ -188,7 +187,7 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
         
         // CP5-CP6: Fill mode and emitter
         PipelineTracer.trace(PipelineTracer.F1_FILL_MODE, 5, "renderer.mode", mode.name());
-        PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 6, "emitColor", "0x" + Integer.toHexString(color));
+        PipelineTracer.traceColor(PipelineTracer.A1_PRIMARY_COLOR, 6, "emitColor", color);
         
         switch (mode) {
             case SOLID -> {
@@ -251,30 +250,56 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
      */
     protected abstract Mesh tessellate(Primitive primitive, WaveConfig wave, float time);
     
+    /**
+     * Whether this primitive's mesh depends only on shape, arrangement and
+     * visibility, so it can be reused from {@link MeshCache}.
+     * 
+     * <p>CPU-mode waves are baked into the vertices by the tessellators, so
+     * those meshes change every frame. GPU-mode and inactive waves are applied
+     * at emit time and do not affect the mesh. Renderers whose tessellation
+     * reads {@code time} for other reasons must override this.
+     */
+    protected boolean isTessellationCacheable(Primitive primitive, WaveConfig wave) {
+        return wave == null || !wave.isActive() || !wave.isCpuMode();
+    }
+    
+    /**
+     * Tessellates through {@link MeshCache} when the mesh is time-invariant.
+     */
+    protected final Mesh tessellateCached(Primitive primitive, WaveConfig wave, float time) {
+        if (!isTessellationCacheable(primitive, wave)) {
+            MeshCache.get().recordUncached();
+            return tessellate(primitive, wave, time);
+        }
+        MeshCache.Key key = new MeshCache.Key(getClass(), primitive.shape(),
+            primitive.arrangement(), primitive.visibility());
+        return MeshCache.get().getOrBuild(key, () -> tessellate(primitive, wave, time));
+    }
+    
     /**
      * Traces shape-specific values at CP4.
      */
     private void traceShapeAtCP4(net.cyberpunk042.visual.shape.Shape shape) {
         if (shape instanceof net.cyberpunk042.visual.shape.SphereShape s) {
-            PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "sphere.r", String.valueOf(s.radius()));
-            PipelineTracer.trace(PipelineTracer.S3_LAT_STEPS, 4, "sphere.lat", String.valueOf(s.latSteps()));
-            PipelineTracer.trace(PipelineTracer.S4_LON_STEPS, 4, "sphere.lon", String.valueOf(s.lonSteps()));
+            PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "sphere.r", s.radius());
+            PipelineTracer.trace(PipelineTracer.S3_LAT_STEPS, 4, "sphere.lat", s.latSteps());
+            PipelineTracer.trace(PipelineTracer.S4_LON_STEPS, 4, "sphere.lon", s.lonSteps());
             PipelineTracer.trace(PipelineTracer.S5_ALGORITHM, 4, "sphere.algo", s.algorithm().name());
         } else if (shape instanceof net.cyberpunk042.visual.shape.RingShape r) {
-            PipelineTracer.trace(PipelineTracer.S6_INNER_RADIUS, 4, "ring.inner", String.valueOf(r.innerRadius()));
-            PipelineTracer.trace(PipelineTracer.S7_OUTER_RADIUS, 4, "ring.outer", String.valueOf(r.outerRadius()));
-            PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 4, "ring.h", String.valueOf(r.height()));
-            PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 4, "ring.seg", String.valueOf(r.segments()));
+            PipelineTracer.trace(PipelineTracer.S6_INNER_RADIUS, 4, "ring.inner", r.innerRadius());
+            PipelineTracer.trace(PipelineTracer.S7_OUTER_RADIUS, 4, "ring.outer", r.outerRadius());
+            PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 4, "ring.h", r.height());
+            PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 4, "ring.seg", r.segments());
         } else if (shape instanceof net.cyberpunk042.visual.shape.CylinderShape c) {
-            PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "cyl.r", String.valueOf(c.radius()));
-            PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 4, "cyl.h", String.valueOf(c.height()));
-            PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 4, "cyl.seg", String.valueOf(c.segments()));
+            PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "cyl.r", c.radius());
+            PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 4, "cyl.h", c.height());
+            PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 4, "cyl.seg", c.segments());
         } else if (shape instanceof net.cyberpunk042.visual.shape.PrismShape p) {
-            PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "prism.r", String.valueOf(p.radius()));
-            PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 4, "prism.h", String.valueOf(p.height()));
-            PipelineTracer.trace(PipelineTracer.S10_SIDES, 4, "prism.sides", String.valueOf(p.sides()));
+            PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "prism.r", p.radius());
+            PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 4, "prism.h", p.height());
+            PipelineTracer.trace(PipelineTracer.S10_SIDES, 4, "prism.sides", p.sides());
         } else if (shape instanceof net.cyberpunk042.visual.shape.PolyhedronShape poly) {
-            PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "poly.r", String.valueOf(poly.radius()));
+            PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "poly.r", poly.radius());
             PipelineTracer.trace(PipelineTracer.S11_POLY_TYPE, 4, "poly.type", poly.polyType().name());
         }
     }
@@ -517,8 +542,8 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
         int vertexCount = mesh.vertexCount();
         
         // Appearance segments - trace actual vertex color
-        PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 7, "emitted", "0x" + Integer.toHexString(color));
-        PipelineTracer.trace(PipelineTracer.A2_ALPHA, 7, "emitted", String.valueOf((float)a / 255f));
+        PipelineTracer.traceColor(PipelineTracer.A1_PRIMARY_COLOR, 7, "emitted", color);
+        PipelineTracer.trace(PipelineTracer.A2_ALPHA, 7, "emitted", (float)a / 255f);
         PipelineTracer.trace(PipelineTracer.A3_GLOW, 7, "emitted", "post-process");
         PipelineTracer.trace(PipelineTracer.A4_EMISSIVE, 7, "emitted", "post-process");
         PipelineTracer.trace(PipelineTracer.A5_SATURATION, 7, "emitted", "applied");
@@ -735,7 +760,7 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
             net.cyberpunk042.visual.animation.WaveConfig waveConfig,
             float time) {
         
-        if (mesh.vertices().isEmpty()) return;
+        if (mesh.isEmpty()) return;
         
         Matrix4f matrix = matrices.peek().getPositionMatrix();
         Matrix3f normalMatrix = matrices.peek().getNormalMatrix();
@@ -750,10 +775,11 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
         boolean hasWave = waveConfig != null && waveConfig.isActive();
         
         // For each vertex, emit a tiny billboarded quad
-        for (Vertex v : mesh.vertices()) {
-            float x = v.x();
-            float y = v.y();
-            float z = v.z();
+        int vertexCount = mesh.vertexCount();
+        for (int i = 0; i < vertexCount; i++) {
+            float x = mesh.x(i);
+            float y = mesh.y(i);
+            float z = mesh.z(i);
             
             // Apply wave displacement if configured
             if (hasWave) {
@@ -783,7 +809,7 @@ public abstract class AbstractPrimitiveRenderer implements PrimitiveRenderer {
             emitBillboardVertex(consumer, matrix, normalMatrix, x - half, y + half, z, 0, 0, 1, r, g, b, a, light);
         }
         
-        Logging.FIELD.topic("render").trace("Emitted {} points as billboarded quads", mesh.vertices().size());
+        Logging.FIELD.topic("render").trace("Emitted {} points as billboarded quads", vertexCount);
     }
     
     /**
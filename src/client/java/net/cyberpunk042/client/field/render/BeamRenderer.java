@@ -58,12 +58,12 @@ public final class BeamRenderer {
             beam.innerRadius(), beam.outerRadius(), beam.height(), beam.color());
         
         // CP5: Beam values received by renderer
-        PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 5, "render", String.valueOf(beam.enabled()));
-        PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 5, "render", String.valueOf(beam.innerRadius()));
-        PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 5, "render", String.valueOf(beam.outerRadius()));
+        PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 5, "render", beam.enabled());
+        PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 5, "render", beam.innerRadius());
+        PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 5, "render", beam.outerRadius());
         PipelineTracer.trace(PipelineTracer.B4_BEAM_COLOR, 5, "render", beam.color());
-        PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 5, "render", String.valueOf(beam.height()));
-        PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 5, "render", String.valueOf(beam.glow()));
+        PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 5, "render", beam.height());
+        PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 5, "render", beam.glow());
         PipelineTracer.trace(PipelineTracer.B7_BEAM_PULSE, 5, "render", beam.pulse() != null ? "active" : "null");
         
         // Resolve colors (same color for inner/outer, inner is just more transparent)
@@ -102,12 +102,12 @@ public final class BeamRenderer {
         
         // CP6: Beam values to emitter
         PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 6, "emit", "rendering");
-        PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 6, "emit", String.valueOf(innerR));
-        PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 6, "emit", String.valueOf(outerR));
-        PipelineTracer.trace(PipelineTracer.B4_BEAM_COLOR, 6, "emit", "0x" + Integer.toHexString(outerColor));
-        PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 6, "emit", String.valueOf(height));
+        PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 6, "emit", innerR);
+        PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 6, "emit", outerR);
+        PipelineTracer.traceColor(PipelineTracer.B4_BEAM_COLOR, 6, "emit", outerColor);
+        PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 6, "emit", height);
         PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 6, "emit", "applied");
-        PipelineTracer.trace(PipelineTracer.B7_BEAM_PULSE, 6, "emit", "scale=" + pulseScale);
+        PipelineTracer.trace(PipelineTracer.B7_BEAM_PULSE, 6, "emit.scale", pulseScale);
         
         // Use BeaconBeamRenderer for actual rendering
         BeaconBeamRenderer.render(
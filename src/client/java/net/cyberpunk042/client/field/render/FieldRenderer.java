@@ -512,8 +512,8 @@ public final class FieldRenderer {
             
             if (mods != null) {
                 // CP5: Values reaching renderer
-                PipelineTracer.trace(PipelineTracer.D1_BOBBING, 5, "render", String.valueOf(mods.bobbing()));
-                PipelineTracer.trace(PipelineTracer.D2_BREATHING, 5, "render", String.valueOf(mods.breathing()));
+                PipelineTracer.trace(PipelineTracer.D1_BOBBING, 5, "render", mods.bobbing());
+                PipelineTracer.trace(PipelineTracer.D2_BREATHING, 5, "render", mods.breathing());
                 
                 // Apply modifiers if any value is non-zero
                 if (mods.bobbing() > 0 || mods.breathing() > 0) {
@@ -539,23 +539,23 @@ public final class FieldRenderer {
             // CP4: Layer-level segments (trace for first layer)
             if (!definition.layers().isEmpty()) {
                 FieldLayer firstLayer = definition.layers().get(0);
-                PipelineTracer.trace(PipelineTracer.L1_LAYER_ALPHA, 4, "layer", String.valueOf(firstLayer.alpha()));
-                PipelineTracer.trace(PipelineTracer.L2_LAYER_VISIBLE, 4, "layer", String.valueOf(firstLayer.visible()));
-                PipelineTracer.trace(PipelineTracer.L3_BLEND_MODE, 4, "layer", firstLayer.blendMode() != null ? firstLayer.blendMode().name() : "null");
+                PipelineTracer.trace(PipelineTracer.L1_LAYER_ALPHA, 4, "layer", firstLayer.alpha());
+                PipelineTracer.trace(PipelineTracer.L2_LAYER_VISIBLE, 4, "layer", firstLayer.visible());
+                PipelineTracer.trace(PipelineTracer.L3_BLEND_MODE, 4, "layer", firstLayer.blendMode());
             }
             
             // CP4: Field-level segments (D1-D4) - trace unconditionally
             if (mods != null) {
-                PipelineTracer.trace(PipelineTracer.D1_BOBBING, 4, "def", String.valueOf(mods.bobbing()));
-                PipelineTracer.trace(PipelineTracer.D2_BREATHING, 4, "def", String.valueOf(mods.breathing()));
+                PipelineTracer.trace(PipelineTracer.D1_BOBBING, 4, "def", mods.bobbing());
+                PipelineTracer.trace(PipelineTracer.D2_BREATHING, 4, "def", mods.breathing());
             }
             // Note: Follow affects field POSITIONING (before render),
             // not the rendering itself. It's used by the field tracking system to 
             // calculate the `position` parameter passed to this method.
             if (definition.follow() != null && definition.follow().enabled()) {
                 var f = definition.follow();
-                PipelineTracer.trace(PipelineTracer.D3_PREDICTION, 4, "def", "leadOffset=" + f.leadOffset());
-                PipelineTracer.trace(PipelineTracer.D4_FOLLOW_MODE, 4, "def", "responsiveness=" + f.responsiveness());
+                PipelineTracer.trace(PipelineTracer.D3_PREDICTION, 4, "def.leadOffset", f.leadOffset());
+                PipelineTracer.trace(PipelineTracer.D4_FOLLOW_MODE, 4, "def.responsiveness", f.responsiveness());
                 // Mark as complete - affects position calculation, not render
                 PipelineTracer.trace(PipelineTracer.D3_PREDICTION, 7, "position", "complete");
                 PipelineTracer.trace(PipelineTracer.D4_FOLLOW_MODE, 7, "position", "complete");
@@ -564,12 +564,12 @@ public final class FieldRenderer {
             // CP4-7: Beam segments (rendered separately if enabled)
             if (definition.beam() != null) {
                 var b = definition.beam();
-                PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 4, "def", String.valueOf(b.enabled()));
-                PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 4, "def", String.valueOf(b.innerRadius()));
-                PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 4, "def", String.valueOf(b.outerRadius()));
+                PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 4, "def", b.enabled());
+                PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 4, "def", b.innerRadius());
+                PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 4, "def", b.outerRadius());
                 PipelineTracer.trace(PipelineTracer.B4_BEAM_COLOR, 4, "def", b.color());
-                PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 4, "def", String.valueOf(b.height()));
-                PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 4, "def", String.valueOf(b.glow()));
+                PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 4, "def", b.height());
+                PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 4, "def", b.glow());
                 PipelineTracer.trace(PipelineTracer.B7_BEAM_PULSE, 4, "def", b.pulse() != null ? "active" : "null");
                 
                 // Actually render the beam (CP5-7 traces are inside BeamRenderer)
@@ -37,6 +37,12 @@ public final class KamehamehaRenderer extends AbstractPrimitiveRenderer {
         return "kamehameha";
     }
     
+    @Override
+    protected boolean isTessellationCacheable(Primitive primitive, WaveConfig wave) {
+        // Orb and beam geometry is animated inside the tessellator
+        return false;
+    }
+    
     @Override
     protected Mesh tessellate(Primitive primitive, WaveConfig wave, float time) {
         if (!(primitive.shape() instanceof KamehamehaShape shape)) {
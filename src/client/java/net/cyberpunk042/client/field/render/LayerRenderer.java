@@ -3,6 +3,7 @@ package net.cyberpunk042.client.field.render;
 import net.cyberpunk042.client.gui.state.PipelineTracer;
 import net.cyberpunk042.client.visual.animation.AnimationApplier;
 import net.cyberpunk042.field.FieldLayer;
+import net.cyberpunk042.field.primitive.LinkPlan;
 import net.cyberpunk042.field.primitive.LinkResolver;
 import net.cyberpunk042.field.primitive.PrimitiveLink;
 import net.cyberpunk042.log.Logging;
@@ -27,8 +28,6 @@ import net.minecraft.client.util.math.MatrixStack;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
-import java.util.Map;
-
 /**
  * Renders a single layer of a field definition.
  * 
@@ -59,35 +58,27 @@ public final class LayerRenderer {
     private LayerRenderer() {}
     
     /**
-     * Cache for primitive positions during rendering.
-     * Maps primitive ID -> computed world offset (including orbit displacement).
-     * Used for followDynamic linking where a primitive follows another's animated position.
+     * Primitive positions during rendering, three floats per primitive index.
+     * Holds each primitive's computed offset (including orbit displacement) for
+     * followDynamic linking where a primitive follows another's animated position.
+     * The layer's {@link LinkPlan} renders targets first, so a slot is always
+     * written before it is read and the table never needs clearing.
      * 
      * <p>Thread-local to avoid concurrency issues with multiple render threads.</p>
      */
-    private static final ThreadLocal<java.util.Map<String, Vector3f>> positionCache = 
-        ThreadLocal.withInitial(java.util.HashMap::new);
-    
-    /**
-     * Clears the position cache. Should be called at the start of each layer render.
-     */
-    private static void clearPositionCache() {
-        positionCache.get().clear();
-    }
-    
-    /**
-     * Stores a primitive's computed position in the cache.
-     */
-    private static void cachePosition(String primitiveId, Vector3f position) {
-        positionCache.get().put(primitiveId, new Vector3f(position));
-    }
+    private static final ThreadLocal<float[]> positionTable = 
+        ThreadLocal.withInitial(() -> new float[3 * 16]);
     
     /**
-     * Gets a cached primitive position.
-     * @return cached position or null if not found
+     * Gets the position table, grown to hold {@code primitives} entries.
      */
-    private static Vector3f getCachedPosition(String primitiveId) {
-        return positionCache.get().get(primitiveId);
+    private static float[] positionTable(int primitives) {
+        float[] table = positionTable.get();
+        if (table.length < 3 * primitives) {
+            table = new float[3 * Math.max(primitives, table.length / 3 * 2)];
+            positionTable.set(table);
+        }
+        return table;
     }
     
     /**
@@ -146,11 +137,10 @@ public final class LayerRenderer {
             int light = 0xF000F0; // Full bright for fields
             float effectiveAlpha = alpha * layer.alpha();
             
-            // Build primitive index for link resolution
-            Map<String, Primitive> primitiveIndex = LinkResolver.buildIndex(layer.primitives());
-            
-            // Clear position cache for dynamic follow
-            clearPositionCache();
+            // Links are compiled once per primitive list; positions go in a reused table
+            LinkPlan plan = layer.linkPlan();
+            float[] positions = positionTable(plan.size());
+            boolean traced = scope.isEnabled();
             
             // Check if ANY primitive in this layer needs see-through mode
             boolean anySeeThroughPrimitive = false;
@@ -173,17 +163,20 @@ public final class LayerRenderer {
             
             try {
                 int primCount = 0;
-                for (Primitive primitive : layer.primitives()) {
-                    ScopeNode primNode = scope.branch("prim:" + primCount);
-                    primNode.kv("type", primitive.type());
-                    
-                    if (primitive.shape() != null) {
-                        primNode.kv("shape", primitive.shape().getClass().getSimpleName());
-                    }
-                    if (primitive.appearance() != null) {
-                        primNode.kv("color", primitive.appearance().color());
-                        if (primitive.appearance().alpha() != null) {
-                            primNode.kv("alpha", primitive.appearance().alpha().max());
+                for (int index : plan.order()) {
+                    Primitive primitive = layer.primitives().get(index);
+                    if (traced) {
+                        ScopeNode primNode = scope.branch("prim:" + index);
+                        primNode.kv("type", primitive.type());
+                        
+                        if (primitive.shape() != null) {
+                            primNode.kv("shape", primitive.shape().getClass().getSimpleName());
+                        }
+                        if (primitive.appearance() != null) {
+                            primNode.kv("color", primitive.appearance().color());
+                            if (primitive.appearance().alpha() != null) {
+                                primNode.kv("alpha", primitive.appearance().alpha().max());
+                            }
                         }
                     }
                     
@@ -195,7 +188,7 @@ public final class LayerRenderer {
                     }
                     
                     VertexConsumer consumer = getConsumerForPrimitive(consumers, primitive);
-                    renderPrimitive(matrices, consumer, primitive, resolver, light, time, effectiveAlpha, overrides, primitiveIndex);
+                    renderPrimitive(matrices, consumer, primitive, resolver, light, time, effectiveAlpha, overrides, plan, index, positions);
                     
                     
                     // NOTE: Corona effect is now handled in the combined Fresnel shader
@@ -210,6 +203,9 @@ public final class LayerRenderer {
                 }
                 
                 scope.count("rendered", primCount);
+                if (plan.hasLinks()) {
+                    scope.count("links", plan.linkCount());
+                }
             } finally {
                 // Restore depth write if we changed it
                 if (anySeeThroughPrimitive) {
@@ -364,7 +360,9 @@ public final class LayerRenderer {
     /**
      * Renders a single primitive with its own transform and animation.
      * 
-     * @param primitiveIndex Index of all primitives in the layer for link resolution
+     * @param plan Compiled links of the layer
+     * @param index This primitive's index in the layer
+     * @param positions Position table shared by the layer's primitives
      */
     private static void renderPrimitive(
             MatrixStack matrices,
@@ -375,14 +373,16 @@ public final class LayerRenderer {
             float time,
             float alpha,
             RenderOverrides overrides,
-            Map<String, Primitive> primitiveIndex) {
+            LinkPlan plan,
+            int index,
+            float[] positions) {
         
         matrices.push();
         try {
         
         // === LINK RESOLUTION ===
         // Resolve links first - may provide orbit config, color, alpha, etc.
-        LinkResolver.ResolvedValues resolvedLinks = LinkResolver.resolveLinks(primitive, primitiveIndex);
+        LinkResolver.ResolvedValues resolvedLinks = plan.resolved(index);
         
         // Calculate effective time with orbit phase offset from links
         float orbitTime = time;
@@ -398,19 +398,16 @@ public final class LayerRenderer {
         Vector3f computedPosition = new Vector3f(0, 0, 0);
         
         // === DYNAMIC FOLLOW (follows target's animated position) ===
-        if (resolvedLinks.hasFollowDynamic()) {
-            // Get the target primitive's ID from the link
-            PrimitiveLink link = primitive.link();
-            if (link != null && link.target() != null) {
-                Vector3f targetPos = getCachedPosition(link.target());
-                if (targetPos != null) {
-                    matrices.translate(targetPos.x, targetPos.y, targetPos.z);
-                    computedPosition.add(targetPos);
-                    Logging.ANIMATION.topic("link").trace(
-                        "'{}' dynamic follow '{}' -> ({}, {}, {})", 
-                        primitive.id(), link.target(), targetPos.x, targetPos.y, targetPos.z);
-                }
-            }
+        int followTarget = plan.followTarget(index);
+        if (followTarget >= 0) {
+            // Target was rendered earlier in plan order, so its slot is current
+            int targetSlot = followTarget * 3;
+            float tx = positions[targetSlot], ty = positions[targetSlot + 1], tz = positions[targetSlot + 2];
+            matrices.translate(tx, ty, tz);
+            computedPosition.add(tx, ty, tz);
+            Logging.ANIMATION.topic("link").trace(
+                "'{}' dynamic follow #{} -> ({}, {}, {})", 
+                primitive.id(), followTarget, tx, ty, tz);
         }
         
         // === STATIC FOLLOW (follows target's base offset) ===
@@ -454,9 +451,10 @@ public final class LayerRenderer {
                 ovBuilder.alphaMultiplier(overrides.alphaMultiplier());
             }
             
-            // Scale from existing
+            // Scale and LOD from existing
             if (overrides != null) {
                 ovBuilder.scaleMultiplier(overrides.scaleMultiplier());
+                ovBuilder.lodMultiplier(overrides.lodMultiplier());
             }
             
             effectiveOverrides = ovBuilder.build();
@@ -466,12 +464,12 @@ public final class LayerRenderer {
         Transform transform = primitive.transform();
         if (transform != null && transform != Transform.IDENTITY) {
             // CP5: ALL transform segments applied
-            PipelineTracer.trace(PipelineTracer.T1_OFFSET, 5, "render", transform.offset() != null ? transform.offset().toString() : "null");
-            PipelineTracer.trace(PipelineTracer.T2_ROTATION, 5, "render", transform.rotation() != null ? transform.rotation().toString() : "null");
-            PipelineTracer.trace(PipelineTracer.T3_SCALE, 5, "render", String.valueOf(transform.scale()));
-            PipelineTracer.trace(PipelineTracer.T4_SCALE_XYZ, 5, "render", transform.scaleXYZ() != null ? transform.scaleXYZ().toString() : "null");
-            PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 5, "render", transform.anchor() != null ? transform.anchor().name() : "null");
-            PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 5, "render", transform.billboard() != null ? transform.billboard().name() : "null");
+            PipelineTracer.trace(PipelineTracer.T1_OFFSET, 5, "render", transform.offset());
+            PipelineTracer.trace(PipelineTracer.T2_ROTATION, 5, "render", transform.rotation());
+            PipelineTracer.trace(PipelineTracer.T3_SCALE, 5, "render", transform.scale());
+            PipelineTracer.trace(PipelineTracer.T4_SCALE_XYZ, 5, "render", transform.scaleXYZ());
+            PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 5, "render", transform.anchor());
+            PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 5, "render", transform.billboard());
             PipelineTracer.trace(PipelineTracer.T7_ORBIT, 5, "render", transform.orbit() != null ? "active" : "null");
             
             // Calculate orbit offset for position caching
@@ -517,14 +515,15 @@ public final class LayerRenderer {
             PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 6, "matrix", transform.anchor() != Anchor.CENTER ? "applied" : "default");
             PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 6, "matrix", transform.billboard() != Billboard.NONE ? "applied" : "none");
             PipelineTracer.trace(PipelineTracer.T7_ORBIT, 6, "matrix", transform.orbit() != null && transform.orbit().isActive() ? "applied" : "n/a");
-            PipelineTracer.trace(PipelineTracer.T10_FACING, 5, "render", transform.facing() != null ? transform.facing().name() : "null");
+            PipelineTracer.trace(PipelineTracer.T10_FACING, 5, "render", transform.facing());
             PipelineTracer.trace(PipelineTracer.T10_FACING, 6, "matrix", transform.facing() != Facing.FIXED ? "applied" : "fixed");
         }
         
-        // Cache this primitive's computed position for dynamic follow by other primitives
-        if (primitive.id() != null) {
-            cachePosition(primitive.id(), computedPosition);
-        }
+        // Store this primitive's computed position for dynamic follow by other primitives
+        int slot = index * 3;
+        positions[slot] = computedPosition.x;
+        positions[slot + 1] = computedPosition.y;
+        positions[slot + 2] = computedPosition.z;
         
         // F184: Apply primitive animation with link phase offset
         var anim = primitive.animation();
@@ -534,24 +533,24 @@ public final class LayerRenderer {
             
             // CP5: ALL animation segments applied
             if (anim.spin() != null) {
-                PipelineTracer.trace(PipelineTracer.N1_SPIN_SPEED, 5, "render.Y", String.valueOf(anim.spin().speedY()));
+                PipelineTracer.trace(PipelineTracer.N1_SPIN_SPEED, 5, "render.Y", anim.spin().speedY());
             }
             if (anim.pulse() != null) {
-                PipelineTracer.trace(PipelineTracer.N3_PULSE_SPEED, 5, "render", String.valueOf(anim.pulse().speed()));
-                PipelineTracer.trace(PipelineTracer.N4_PULSE_SCALE, 5, "render", String.valueOf(anim.pulse().scale()));
+                PipelineTracer.trace(PipelineTracer.N3_PULSE_SPEED, 5, "render", anim.pulse().speed());
+                PipelineTracer.trace(PipelineTracer.N4_PULSE_SCALE, 5, "render", anim.pulse().scale());
                 PipelineTracer.trace(PipelineTracer.N5_PULSE_MODE, 5, "render", anim.pulse().mode().name());
             }
             if (anim.alphaPulse() != null) {
-                PipelineTracer.trace(PipelineTracer.N6_ALPHA_PULSE_SPEED, 5, "render", String.valueOf(anim.alphaPulse().speed()));
-                PipelineTracer.trace(PipelineTracer.N7_ALPHA_PULSE_MIN, 5, "render", String.valueOf(anim.alphaPulse().min()));
-                PipelineTracer.trace(PipelineTracer.N8_ALPHA_PULSE_MAX, 5, "render", String.valueOf(anim.alphaPulse().max()));
+                PipelineTracer.trace(PipelineTracer.N6_ALPHA_PULSE_SPEED, 5, "render", anim.alphaPulse().speed());
+                PipelineTracer.trace(PipelineTracer.N7_ALPHA_PULSE_MIN, 5, "render", anim.alphaPulse().min());
+                PipelineTracer.trace(PipelineTracer.N8_ALPHA_PULSE_MAX, 5, "render", anim.alphaPulse().max());
             }
             if (anim.wave() != null) {
-                PipelineTracer.trace(PipelineTracer.N9_WAVE_SPEED, 5, "render", String.valueOf(anim.wave().frequency()));
-                PipelineTracer.trace(PipelineTracer.N10_WAVE_AMPLITUDE, 5, "render", String.valueOf(anim.wave().amplitude()));
+                PipelineTracer.trace(PipelineTracer.N9_WAVE_SPEED, 5, "render", anim.wave().frequency());
+                PipelineTracer.trace(PipelineTracer.N10_WAVE_AMPLITUDE, 5, "render", anim.wave().amplitude());
             }
             if (anim.wobble() != null) {
-                PipelineTracer.trace(PipelineTracer.N11_WOBBLE_SPEED, 5, "render", String.valueOf(anim.wobble().speed()));
+                PipelineTracer.trace(PipelineTracer.N11_WOBBLE_SPEED, 5, "render", anim.wobble().speed());
             }
             if (anim.colorCycle() != null && anim.colorCycle().isActive()) {
                 PipelineTracer.trace(PipelineTracer.N12_COLOR_CYCLE, 5, "render", "active");
@@ -578,49 +577,49 @@ public final class LayerRenderer {
         if (primitive.visibility() != null) {
             var v = primitive.visibility();
             PipelineTracer.trace(PipelineTracer.V1_MASK_TYPE, 5, "render", v.mask().name());
-            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 5, "render", String.valueOf(v.count()));
-            PipelineTracer.trace(PipelineTracer.V3_MASK_THICKNESS, 5, "render", String.valueOf(v.thickness()));
-            PipelineTracer.trace(PipelineTracer.V4_MASK_OFFSET, 5, "render", String.valueOf(v.offset()));
-            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 5, "render", String.valueOf(v.animate()));
-            PipelineTracer.trace(PipelineTracer.V6_MASK_ANIM_SPEED, 5, "render", String.valueOf(v.animSpeed()));
+            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 5, "render", v.count());
+            PipelineTracer.trace(PipelineTracer.V3_MASK_THICKNESS, 5, "render", v.thickness());
+            PipelineTracer.trace(PipelineTracer.V4_MASK_OFFSET, 5, "render", v.offset());
+            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 5, "render", v.animate());
+            PipelineTracer.trace(PipelineTracer.V6_MASK_ANIM_SPEED, 5, "render", v.animSpeed());
             // CP6: Visibility passed to primitive renderer
             PipelineTracer.trace(PipelineTracer.V1_MASK_TYPE, 6, "toRenderer", v.mask().name());
-            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 6, "toRenderer", String.valueOf(v.count()));
-            PipelineTracer.trace(PipelineTracer.V3_MASK_THICKNESS, 6, "toRenderer", String.valueOf(v.thickness()));
-            PipelineTracer.trace(PipelineTracer.V4_MASK_OFFSET, 6, "toRenderer", String.valueOf(v.offset()));
-            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 6, "toRenderer", String.valueOf(v.animate()));
-            PipelineTracer.trace(PipelineTracer.V6_MASK_ANIM_SPEED, 6, "toRenderer", String.valueOf(v.animSpeed()));
+            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 6, "toRenderer", v.count());
+            PipelineTracer.trace(PipelineTracer.V3_MASK_THICKNESS, 6, "toRenderer", v.thickness());
+            PipelineTracer.trace(PipelineTracer.V4_MASK_OFFSET, 6, "toRenderer", v.offset());
+            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 6, "toRenderer", v.animate());
+            PipelineTracer.trace(PipelineTracer.V6_MASK_ANIM_SPEED, 6, "toRenderer", v.animSpeed());
         }
         
         // CP5: ALL fill segments
         if (primitive.fill() != null) {
             var f = primitive.fill();
             PipelineTracer.trace(PipelineTracer.F1_FILL_MODE, 5, "render", f.mode().name());
-            PipelineTracer.trace(PipelineTracer.F2_WIRE_THICKNESS, 5, "render", String.valueOf(f.wireThickness()));
-            PipelineTracer.trace(PipelineTracer.F3_DOUBLE_SIDED, 5, "render", String.valueOf(f.doubleSided()));
-            PipelineTracer.trace(PipelineTracer.F4_DEPTH_TEST, 5, "render", String.valueOf(f.depthTest()));
+            PipelineTracer.trace(PipelineTracer.F2_WIRE_THICKNESS, 5, "render", f.wireThickness());
+            PipelineTracer.trace(PipelineTracer.F3_DOUBLE_SIDED, 5, "render", f.doubleSided());
+            PipelineTracer.trace(PipelineTracer.F4_DEPTH_TEST, 5, "render", f.depthTest());
             // CP6: Fill passed to primitive renderer
             PipelineTracer.trace(PipelineTracer.F1_FILL_MODE, 6, "toRenderer", f.mode().name());
-            PipelineTracer.trace(PipelineTracer.F2_WIRE_THICKNESS, 6, "toRenderer", String.valueOf(f.wireThickness()));
-            PipelineTracer.trace(PipelineTracer.F3_DOUBLE_SIDED, 6, "toRenderer", String.valueOf(f.doubleSided()));
-            PipelineTracer.trace(PipelineTracer.F4_DEPTH_TEST, 6, "toRenderer", String.valueOf(f.depthTest()));
+            PipelineTracer.trace(PipelineTracer.F2_WIRE_THICKNESS, 6, "toRenderer", f.wireThickness());
+            PipelineTracer.trace(PipelineTracer.F3_DOUBLE_SIDED, 6, "toRenderer", f.doubleSided());
+            PipelineTracer.trace(PipelineTracer.F4_DEPTH_TEST, 6, "toRenderer", f.depthTest());
         }
         
         // CP5-CP6: ALL appearance segments before passing to renderer
         if (primitive.appearance() != null) {
             var app = primitive.appearance();
             PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 5, "render", app.color());
-            PipelineTracer.trace(PipelineTracer.A2_ALPHA, 5, "render", app.alpha() != null ? String.valueOf(app.alpha().max()) : "1.0");
-            PipelineTracer.trace(PipelineTracer.A3_GLOW, 5, "render", String.valueOf(app.glow()));
-            PipelineTracer.trace(PipelineTracer.A4_EMISSIVE, 5, "render", String.valueOf(app.emissive()));
-            PipelineTracer.trace(PipelineTracer.A5_SATURATION, 5, "render", String.valueOf(app.saturation()));
+            PipelineTracer.trace(PipelineTracer.A2_ALPHA, 5, "render", app.alpha() != null ? app.alpha().max() : 1.0f);
+            PipelineTracer.trace(PipelineTracer.A3_GLOW, 5, "render", app.glow());
+            PipelineTracer.trace(PipelineTracer.A4_EMISSIVE, 5, "render", app.emissive());
+            PipelineTracer.trace(PipelineTracer.A5_SATURATION, 5, "render", app.saturation());
             PipelineTracer.trace(PipelineTracer.A6_SECONDARY_COLOR, 5, "render", app.secondaryColor());
             // CP6: Appearance passed to primitive renderer
             PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 6, "toRenderer", app.color());
-            PipelineTracer.trace(PipelineTracer.A2_ALPHA, 6, "toRenderer", app.alpha() != null ? String.valueOf(app.alpha().max()) : "1.0");
-            PipelineTracer.trace(PipelineTracer.A3_GLOW, 6, "toRenderer", String.valueOf(app.glow()));
-            PipelineTracer.trace(PipelineTracer.A4_EMISSIVE, 6, "toRenderer", String.valueOf(app.emissive()));
-            PipelineTracer.trace(PipelineTracer.A5_SATURATION, 6, "toRenderer", String.valueOf(app.saturation()));
+            PipelineTracer.trace(PipelineTracer.A2_ALPHA, 6, "toRenderer", app.alpha() != null ? app.alpha().max() : 1.0f);
+            PipelineTracer.trace(PipelineTracer.A3_GLOW, 6, "toRenderer", app.glow());
+            PipelineTracer.trace(PipelineTracer.A4_EMISSIVE, 6, "toRenderer", app.emissive());
+            PipelineTracer.trace(PipelineTracer.A5_SATURATION, 6, "toRenderer", app.saturation());
             PipelineTracer.trace(PipelineTracer.A6_SECONDARY_COLOR, 6, "toRenderer", app.secondaryColor());
         }
         
@@ -631,37 +630,37 @@ public final class LayerRenderer {
             PipelineTracer.trace(PipelineTracer.S1_SHAPE_TYPE, 6, "toRenderer", shape.getClass().getSimpleName());
             // Shape-specific segments traced in AbstractPrimitiveRenderer.traceShapeAtCP4
             if (shape instanceof net.cyberpunk042.visual.shape.SphereShape s) {
-                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 5, "render", String.valueOf(s.radius()));
-                PipelineTracer.trace(PipelineTracer.S3_LAT_STEPS, 5, "render", String.valueOf(s.latSteps()));
-                PipelineTracer.trace(PipelineTracer.S4_LON_STEPS, 5, "render", String.valueOf(s.lonSteps()));
+                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 5, "render", s.radius());
+                PipelineTracer.trace(PipelineTracer.S3_LAT_STEPS, 5, "render", s.latSteps());
+                PipelineTracer.trace(PipelineTracer.S4_LON_STEPS, 5, "render", s.lonSteps());
                 PipelineTracer.trace(PipelineTracer.S5_ALGORITHM, 5, "render", s.algorithm().name());
-                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 6, "toRenderer", String.valueOf(s.radius()));
-                PipelineTracer.trace(PipelineTracer.S3_LAT_STEPS, 6, "toRenderer", String.valueOf(s.latSteps()));
-                PipelineTracer.trace(PipelineTracer.S4_LON_STEPS, 6, "toRenderer", String.valueOf(s.lonSteps()));
+                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 6, "toRenderer", s.radius());
+                PipelineTracer.trace(PipelineTracer.S3_LAT_STEPS, 6, "toRenderer", s.latSteps());
+                PipelineTracer.trace(PipelineTracer.S4_LON_STEPS, 6, "toRenderer", s.lonSteps());
                 PipelineTracer.trace(PipelineTracer.S5_ALGORITHM, 6, "toRenderer", s.algorithm().name());
             } else if (shape instanceof net.cyberpunk042.visual.shape.RingShape r) {
-                PipelineTracer.trace(PipelineTracer.S6_INNER_RADIUS, 5, "render", String.valueOf(r.innerRadius()));
-                PipelineTracer.trace(PipelineTracer.S7_OUTER_RADIUS, 5, "render", String.valueOf(r.outerRadius()));
-                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 5, "render", String.valueOf(r.height()));
-                PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 5, "render", String.valueOf(r.segments()));
-                PipelineTracer.trace(PipelineTracer.S6_INNER_RADIUS, 6, "toRenderer", String.valueOf(r.innerRadius()));
-                PipelineTracer.trace(PipelineTracer.S7_OUTER_RADIUS, 6, "toRenderer", String.valueOf(r.outerRadius()));
-                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 6, "toRenderer", String.valueOf(r.height()));
-                PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 6, "toRenderer", String.valueOf(r.segments()));
+                PipelineTracer.trace(PipelineTracer.S6_INNER_RADIUS, 5, "render", r.innerRadius());
+                PipelineTracer.trace(PipelineTracer.S7_OUTER_RADIUS, 5, "render", r.outerRadius());
+                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 5, "render", r.height());
+                PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 5, "render", r.segments());
+                PipelineTracer.trace(PipelineTracer.S6_INNER_RADIUS, 6, "toRenderer", r.innerRadius());
+                PipelineTracer.trace(PipelineTracer.S7_OUTER_RADIUS, 6, "toRenderer", r.outerRadius());
+                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 6, "toRenderer", r.height());
+                PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 6, "toRenderer", r.segments());
             } else if (shape instanceof net.cyberpunk042.visual.shape.CylinderShape c) {
-                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 5, "render", String.valueOf(c.radius()));
-                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 5, "render", String.valueOf(c.height()));
-                PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 5, "render", String.valueOf(c.segments()));
-                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 6, "toRenderer", String.valueOf(c.radius()));
-                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 6, "toRenderer", String.valueOf(c.height()));
-                PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 6, "toRenderer", String.valueOf(c.segments()));
+                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 5, "render", c.radius());
+                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 5, "render", c.height());
+                PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 5, "render", c.segments());
+                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 6, "toRenderer", c.radius());
+                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 6, "toRenderer", c.height());
+                PipelineTracer.trace(PipelineTracer.S9_SEGMENTS, 6, "toRenderer", c.segments());
             } else if (shape instanceof net.cyberpunk042.visual.shape.PrismShape p) {
-                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 5, "render", String.valueOf(p.radius()));
-                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 5, "render", String.valueOf(p.height()));
-                PipelineTracer.trace(PipelineTracer.S10_SIDES, 5, "render", String.valueOf(p.sides()));
-                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 6, "toRenderer", String.valueOf(p.radius()));
-                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 6, "toRenderer", String.valueOf(p.height()));
-                PipelineTracer.trace(PipelineTracer.S10_SIDES, 6, "toRenderer", String.valueOf(p.sides()));
+                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 5, "render", p.radius());
+                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 5, "render", p.height());
+                PipelineTracer.trace(PipelineTracer.S10_SIDES, 5, "render", p.sides());
+                PipelineTracer.trace(PipelineTracer.S2_RADIUS, 6, "toRenderer", p.radius());
+                PipelineTracer.trace(PipelineTracer.S8_HEIGHT, 6, "toRenderer", p.height());
+                PipelineTracer.trace(PipelineTracer.S10_SIDES, 6, "toRenderer", p.sides());
             }
         }
         
@@ -672,8 +671,12 @@ public final class LayerRenderer {
         // Get renderer and render
         PrimitiveRenderer renderer = PrimitiveRenderers.get(primitive);
         if (renderer != null) {
+            // Distant fields tessellate with fewer segments
+            Primitive detailed = effectiveOverrides != null
+                ? ShapeLod.apply(primitive, effectiveOverrides.lodMultiplier())
+                : primitive;
             // Pass through effective overrides (includes link color/alpha)
-            renderer.render(primitive, matrices, consumer, light, time, resolver, effectiveOverrides);
+            renderer.render(detailed, matrices, consumer, light, time, resolver, effectiveOverrides);
         } else {
             Logging.FIELD.topic("render")
                 .reason("Missing renderer")
@@ -0,0 +1,119 @@
+package net.cyberpunk042.client.field.render;
+
+import net.cyberpunk042.client.visual.mesh.Mesh;
+import net.cyberpunk042.visual.pattern.ArrangementConfig;
+import net.cyberpunk042.visual.shape.Shape;
+import net.cyberpunk042.visual.visibility.VisibilityMask;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of tessellated meshes shared by all primitive renderers.
+ *
+ * <p>Shapes, arrangements and visibility masks are records, so a {@link Key}
+ * built from them is an immutable fingerprint of everything tessellation
+ * reads. Time-dependent effects (GPU wave, travel, color, mask animation) are
+ * applied by the emitter, so the cached mesh stays valid across frames.
+ * Renderers that bake time into the mesh opt out via
+ * {@link AbstractPrimitiveRenderer#isTessellationCacheable}.
+ *
+ * <p>Bounded by both entry count and {@link Mesh#estimatedBytes()}; the least
+ * recently used meshes are evicted first. Render-thread only.
+ *
+ * @see AbstractPrimitiveRenderer
+ */
+public final class MeshCache {
+
+    private static final int MAX_ENTRIES = 512;
+    private static final long MAX_BYTES = 32L * 1024 * 1024;
+
+    private static final MeshCache INSTANCE = new MeshCache();
+
+    /**
+     * Cache key. {@code renderer} keeps meshes apart when two renderers
+     * tessellate the same shape record differently.
+     */
+    public record Key(Class<?> renderer, Shape shape, ArrangementConfig arrangement, VisibilityMask visibility) {}
+
+    /** Counters since the last {@link #drainStats()}, plus current size. */
+    public record Stats(long hits, long misses, long uncached, long evictions, int entries, long bytes) {
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    private final LinkedHashMap<Key, Mesh> meshes = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long uncached;
+    private long evictions;
+
+    private MeshCache() {}
+
+    public static MeshCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached mesh for {@code key}, tessellating on a miss.
+     * Null or empty results are returned but not stored.
+     */
+    public Mesh getOrBuild(Key key, Supplier<Mesh> tessellator) {
+        Mesh mesh = meshes.get(key);
+        if (mesh != null) {
+            hits++;
+            return mesh;
+        }
+        misses++;
+        mesh = tessellator.get();
+        if (mesh == null || mesh.isEmpty()) {
+            return mesh;
+        }
+        long size = mesh.estimatedBytes();
+        if (size > MAX_BYTES / 4) {
+            // One huge mesh would flush everything else
+            return mesh;
+        }
+        meshes.put(key, mesh);
+        bytes += size;
+        trim();
+        return mesh;
+    }
+
+    /** Counts a tessellation that bypassed the cache (time-dependent mesh). */
+    public void recordUncached() {
+        uncached++;
+    }
+
+    public void clear() {
+        meshes.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Returns the interval counters and resets them. Size fields are current.
+     */
+    public Stats drainStats() {
+        Stats stats = new Stats(hits, misses, uncached, evictions, meshes.size(), bytes);
+        hits = 0;
+        misses = 0;
+        uncached = 0;
+        evictions = 0;
+        return stats;
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<Key, Mesh>> it = meshes.entrySet().iterator();
+        while ((meshes.size() > MAX_ENTRIES || bytes > MAX_BYTES) && it.hasNext()) {
+            Map.Entry<Key, Mesh> eldest = it.next();
+            bytes -= eldest.getValue().estimatedBytes();
+            it.remove();
+            evictions++;
+        }
+    }
+}
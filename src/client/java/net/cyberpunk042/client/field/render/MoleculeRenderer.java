@@ -52,7 +52,7 @@ public class MoleculeRenderer extends AbstractPrimitiveRenderer {
         if (mesh == null || mesh.isEmpty()) {
             Logging.FIELD.topic("render").warn("[MOLECULE] Tessellation returned empty mesh!");
         } else {
-            Logging.FIELD.topic("render").debug("[MOLECULE] Mesh: {} vertices", mesh.vertices().size());
+            Logging.FIELD.topic("render").debug("[MOLECULE] Mesh: {} vertices", mesh.vertexCount());
         }
         return mesh;
     }
@@ -392,13 +392,15 @@ public final class RaysRenderer extends AbstractPrimitiveRenderer {
         // Generate cage lines for each ray
         int count = shape.count();
         int layers = Math.max(1, shape.layers());
-        java.util.Random rng = new java.util.Random(42);
+        net.cyberpunk042.client.visual.mesh.ray.distribution.RayDistributionTable distribution =
+            net.cyberpunk042.client.visual.mesh.ray.distribution.RayDistributionTable.of(shape);
         
         for (int layer = 0; layer < layers; layer++) {
             for (int i = 0; i < count; i++) {
-                // Compute context for this ray
+                // Compute context for this ray (same offsets as the tessellated mesh)
                 net.cyberpunk042.client.visual.mesh.ray.RayContext context = 
-                    net.cyberpunk042.client.visual.mesh.ray.RayPositioner.computeContext(shape, i, layer, rng, waveConfig, time);
+                    net.cyberpunk042.client.visual.mesh.ray.RayPositioner.computeContext(
+                        shape, i, layer, distribution.get(layer, i), waveConfig, time, null, 0f);
                 
                 // Generate cage for this droplet
                 net.cyberpunk042.client.field.render.emit.RayCageGenerator.generateDropletCage(
@@ -10,6 +10,9 @@ import org.jetbrains.annotations.Nullable;
  * or scale modifications that need to be applied without modifying
  * the underlying primitive definition.
  * 
+ * <p>{@code lodMultiplier} scales tessellation segment counts for distant
+ * fields (see {@link ShapeLod}); 1.0 keeps the authored detail.
+ * 
  * <h2>Usage</h2>
  * <pre>
  * RenderOverrides overrides = RenderOverrides.builder()
@@ -26,26 +29,34 @@ public record RenderOverrides(
     @Nullable VertexPattern vertexPattern,
     @Nullable Integer colorOverride,
     float alphaMultiplier,
-    float scaleMultiplier
+    float scaleMultiplier,
+    float lodMultiplier
 ) {
     
     /**
      * Default overrides (no modifications).
      */
-    public static final RenderOverrides NONE = new RenderOverrides(null, null, 1.0f, 1.0f);
+    public static final RenderOverrides NONE = new RenderOverrides(null, null, 1.0f, 1.0f, 1.0f);
     
     /**
      * Creates overrides with just a pattern override.
      */
     public static RenderOverrides withPattern(VertexPattern pattern) {
-        return new RenderOverrides(pattern, null, 1.0f, 1.0f);
+        return new RenderOverrides(pattern, null, 1.0f, 1.0f, 1.0f);
     }
     
     /**
      * Creates overrides with just an alpha multiplier.
      */
     public static RenderOverrides withAlpha(float alpha) {
-        return new RenderOverrides(null, null, alpha, 1.0f);
+        return new RenderOverrides(null, null, alpha, 1.0f, 1.0f);
+    }
+    
+    /**
+     * Copy of these overrides with a different tessellation level of detail.
+     */
+    public RenderOverrides withLod(float lod) {
+        return new RenderOverrides(vertexPattern, colorOverride, alphaMultiplier, scaleMultiplier, lod);
     }
     
     /**
@@ -55,7 +66,8 @@ public record RenderOverrides(
         return vertexPattern != null 
             || colorOverride != null 
             || alphaMultiplier != 1.0f 
-            || scaleMultiplier != 1.0f;
+            || scaleMultiplier != 1.0f
+            || lodMultiplier != 1.0f;
     }
     
     /**
@@ -70,14 +82,16 @@ public record RenderOverrides(
         private Integer colorOverride = null;
         private float alphaMultiplier = 1.0f;
         private float scaleMultiplier = 1.0f;
+        private float lodMultiplier = 1.0f;
         
         public Builder vertexPattern(VertexPattern p) { this.vertexPattern = p; return this; }
         public Builder colorOverride(int c) { this.colorOverride = c; return this; }
         public Builder alphaMultiplier(float a) { this.alphaMultiplier = a; return this; }
         public Builder scaleMultiplier(float s) { this.scaleMultiplier = s; return this; }
+        public Builder lodMultiplier(float l) { this.lodMultiplier = l; return this; }
         
         public RenderOverrides build() {
-            return new RenderOverrides(vertexPattern, colorOverride, alphaMultiplier, scaleMultiplier);
+            return new RenderOverrides(vertexPattern, colorOverride, alphaMultiplier, scaleMultiplier, lodMultiplier);
         }
     }
 }
@@ -0,0 +1,110 @@
+package net.cyberpunk042.client.field.render;
+
+import net.cyberpunk042.field.loader.SimplePrimitive;
+import net.cyberpunk042.field.primitive.Primitive;
+import net.cyberpunk042.visual.shape.CapsuleShape;
+import net.cyberpunk042.visual.shape.ConeShape;
+import net.cyberpunk042.visual.shape.CylinderShape;
+import net.cyberpunk042.visual.shape.RaysShape;
+import net.cyberpunk042.visual.shape.RingShape;
+import net.cyberpunk042.visual.shape.Shape;
+import net.cyberpunk042.visual.shape.SphereShape;
+import net.cyberpunk042.visual.shape.TorusShape;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Distance level of detail for tessellated shapes.
+ *
+ * <p>A {@link RenderOverrides#lodMultiplier()} below 1 scales the segment
+ * counts the tessellators read (sphere lat/lon steps, ring, cylinder, cone
+ * and capsule segments, torus segments, ray count and line resolution).
+ * Counts never drop below a per-shape floor, and never rise above what the
+ * shape was authored with.
+ *
+ * <p>The multiplier is snapped to {@link #HALF} or {@link #QUARTER}, and the
+ * reduced primitive is kept per (primitive, level), so a distant field hands
+ * {@link MeshCache} the same shape instance every frame. Render-thread only.
+ */
+public final class ShapeLod {
+
+    public static final float FULL = 1.0f;
+    public static final float HALF = 0.5f;
+    public static final float QUARTER = 0.25f;
+
+    /** Reduced primitives are dropped wholesale once this many accumulate. */
+    private static final int MAX_ENTRIES = 512;
+
+    private static final Map<Primitive, Primitive[]> REDUCED = new IdentityHashMap<>();
+
+    private ShapeLod() {}
+
+    /**
+     * Returns {@code primitive} with its shape's segment counts scaled by
+     * {@code lod}, or {@code primitive} itself at full detail or for shapes
+     * without segment counts.
+     */
+    public static Primitive apply(Primitive primitive, float lod) {
+        if (lod >= FULL || !(primitive instanceof SimplePrimitive simple)) {
+            return primitive;
+        }
+        int level = lod > QUARTER ? 0 : 1;
+        Primitive[] levels = REDUCED.get(primitive);
+        if (levels == null) {
+            if (REDUCED.size() >= MAX_ENTRIES) {
+                REDUCED.clear();
+            }
+            levels = new Primitive[2];
+            REDUCED.put(primitive, levels);
+        }
+        Primitive reduced = levels[level];
+        if (reduced == null) {
+            Shape shape = reduce(simple.shape(), level == 0 ? HALF : QUARTER);
+            reduced = shape == simple.shape() ? primitive : simple.withShape(shape);
+            levels[level] = reduced;
+        }
+        return reduced;
+    }
+
+    private static Shape reduce(Shape shape, float lod) {
+        if (shape instanceof SphereShape s) {
+            return s.toBuilder()
+                .latSteps(scale(s.latSteps(), lod, 6))
+                .lonSteps(scale(s.lonSteps(), lod, 8))
+                .build();
+        }
+        if (shape instanceof RingShape r) {
+            return r.toBuilder().segments(scale(r.segments(), lod, 8)).build();
+        }
+        if (shape instanceof CylinderShape c) {
+            return c.toBuilder().segments(scale(c.segments(), lod, 8)).build();
+        }
+        if (shape instanceof ConeShape c) {
+            return c.toBuilder().segments(scale(c.segments(), lod, 8)).build();
+        }
+        if (shape instanceof CapsuleShape c) {
+            return c.toBuilder()
+                .segments(scale(c.segments(), lod, 8))
+                .rings(scale(c.rings(), lod, 2))
+                .build();
+        }
+        if (shape instanceof TorusShape t) {
+            return t.toBuilder()
+                .majorSegments(scale(t.majorSegments(), lod, 8))
+                .minorSegments(scale(t.minorSegments(), lod, 6))
+                .build();
+        }
+        if (shape instanceof RaysShape r) {
+            return r.toBuilder()
+                .count(scale(r.count(), lod, 8))
+                .lineResolution(scale(r.lineResolution(), lod, 4))
+                .build();
+        }
+        return shape;
+    }
+
+    private static int scale(int count, float lod, int floor) {
+        return Math.max(Math.min(count, floor), Math.round(count * lod));
+    }
+}
@@ -132,8 +132,8 @@ public final class SphereRenderer extends AbstractPrimitiveRenderer {
         // CP5: Visibility/Mask values at tessellation
         if (visibility != null) {
             PipelineTracer.trace(PipelineTracer.V1_MASK_TYPE, 5, "tessellate", visibility.mask().name());
-            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 5, "tessellate", String.valueOf(visibility.count()));
-            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 5, "tessellate", String.valueOf(visibility.animate()));
+            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 5, "tessellate", visibility.count());
+            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 5, "tessellate", visibility.animate());
         }
         
         // Tessellate with full config including wave deformation
@@ -141,14 +141,14 @@ public final class SphereRenderer extends AbstractPrimitiveRenderer {
         if (mesh == null || mesh.isEmpty()) {
             Logging.FIELD.topic("render").warn("[SPHERE] Tessellation returned empty mesh!");
         } else {
-            Logging.FIELD.topic("render").debug("[SPHERE] Mesh: {} vertices", mesh.vertices().size());
+            Logging.FIELD.topic("render").debug("[SPHERE] Mesh: {} vertices", mesh.vertexCount());
             // CP6-CP7: Visibility applied to mesh
             PipelineTracer.trace(PipelineTracer.V1_MASK_TYPE, 6, "mesh", "applied");
-            PipelineTracer.trace(PipelineTracer.V1_MASK_TYPE, 7, "vertices", String.valueOf(mesh.vertexCount()));
+            PipelineTracer.trace(PipelineTracer.V1_MASK_TYPE, 7, "vertices", mesh.vertexCount());
             PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 6, "mesh", "applied");
-            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 7, "vertices", String.valueOf(mesh.vertexCount()));
+            PipelineTracer.trace(PipelineTracer.V2_MASK_COUNT, 7, "vertices", mesh.vertexCount());
             PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 6, "mesh", "applied");
-            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 7, "vertices", String.valueOf(mesh.vertexCount()));
+            PipelineTracer.trace(PipelineTracer.V5_MASK_ANIMATE, 7, "vertices", mesh.vertexCount());
         }
         return mesh;
     }
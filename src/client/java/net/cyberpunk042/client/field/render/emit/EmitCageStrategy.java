@@ -2,9 +2,6 @@ package net.cyberpunk042.client.field.render.emit;
 
 import net.minecraft.client.render.VertexConsumer;
 import net.cyberpunk042.client.visual.mesh.Mesh;
-import net.cyberpunk042.client.visual.mesh.Vertex;
-
-import java.util.List;
 
 /**
  * Emit strategy for cage/wireframe rendering.
@@ -23,51 +20,50 @@ public final class EmitCageStrategy implements EmitStrategy {
             return;
         }
         
-        List<Vertex> vertices = mesh.vertices();
-        int[] indices = mesh.indices();
+        int indexCount = mesh.indexCount();
         int baseColor = ctx.color();
         
-        if (indices != null && indices.length > 0) {
+        if (indexCount > 0) {
             // Indexed triangles - emit edges
-            for (int i = 0; i < indices.length - 2; i += 3) {
-                int i0 = indices[i];
-                int i1 = indices[i + 1];
-                int i2 = indices[i + 2];
+            for (int i = 0; i < indexCount - 2; i += 3) {
+                int i0 = mesh.index(i);
+                int i1 = mesh.index(i + 1);
+                int i2 = mesh.index(i + 2);
                 
                 // Edge 0-1
-                emitEdge(consumer, vertices.get(i0), vertices.get(i1), baseColor, ctx);
+                emitEdge(consumer, mesh, i0, i1, baseColor, ctx);
                 // Edge 1-2
-                emitEdge(consumer, vertices.get(i1), vertices.get(i2), baseColor, ctx);
+                emitEdge(consumer, mesh, i1, i2, baseColor, ctx);
                 // Edge 2-0
-                emitEdge(consumer, vertices.get(i2), vertices.get(i0), baseColor, ctx);
+                emitEdge(consumer, mesh, i2, i0, baseColor, ctx);
             }
         } else {
             // Non-indexed triangles - emit edges
-            int vertexCount = vertices.size();
+            int vertexCount = mesh.vertexCount();
             for (int i = 0; i < vertexCount - 2; i += 3) {
                 // Edge i to i+1
-                emitEdge(consumer, vertices.get(i), vertices.get(i + 1), baseColor, ctx);
+                emitEdge(consumer, mesh, i, i + 1, baseColor, ctx);
                 // Edge i+1 to i+2
-                emitEdge(consumer, vertices.get(i + 1), vertices.get(i + 2), baseColor, ctx);
+                emitEdge(consumer, mesh, i + 1, i + 2, baseColor, ctx);
                 // Edge i+2 to i
-                emitEdge(consumer, vertices.get(i + 2), vertices.get(i), baseColor, ctx);
+                emitEdge(consumer, mesh, i + 2, i, baseColor, ctx);
             }
         }
     }
     
-    private void emitEdge(VertexConsumer consumer, Vertex v0, Vertex v1, int baseColor, EmitContext ctx) {
-        emitVertex(consumer, v0, baseColor, ctx);
-        emitVertex(consumer, v1, baseColor, ctx);
+    private void emitEdge(VertexConsumer consumer, Mesh mesh, int v0, int v1, int baseColor, EmitContext ctx) {
+        emitVertex(consumer, mesh, v0, baseColor, ctx);
+        emitVertex(consumer, mesh, v1, baseColor, ctx);
     }
     
-    private void emitVertex(VertexConsumer consumer, Vertex vertex, int baseColor, EmitContext ctx) {
+    private void emitVertex(VertexConsumer consumer, Mesh mesh, int v, int baseColor, EmitContext ctx) {
         // Apply vertex alpha and flicker alpha to base color
-        float vertexAlpha = vertex.alpha();
+        float vertexAlpha = mesh.alpha(v);
         float alpha = ((baseColor >> 24) & 0xFF) / 255f * vertexAlpha * ctx.flickerAlpha();
         int color = (baseColor & 0x00FFFFFF) | ((int)(alpha * 255) << 24);
         
-        consumer.vertex(vertex.x(), vertex.y(), vertex.z())
+        consumer.vertex(mesh.x(v), mesh.y(v), mesh.z(v))
             .color(color)
-            .normal(vertex.nx(), vertex.ny(), vertex.nz());
+            .normal(mesh.nx(v), mesh.ny(v), mesh.nz(v));
     }
 }
@@ -2,9 +2,6 @@ package net.cyberpunk042.client.field.render.emit;
 
 import net.minecraft.client.render.VertexConsumer;
 import net.cyberpunk042.client.visual.mesh.Mesh;
-import net.cyberpunk042.client.visual.mesh.Vertex;
-
-import java.util.List;
 
 /**
  * Emit strategy for line rendering.
@@ -23,27 +20,26 @@ public final class EmitLineStrategy implements EmitStrategy {
             return;
         }
         
-        List<Vertex> vertices = mesh.vertices();
-        int vertexCount = vertices.size();
+        int vertexCount = mesh.vertexCount();
         int baseColor = ctx.color();
         
         // Emit as line pairs
         for (int i = 0; i < vertexCount - 1; i += 2) {
             // First vertex
-            emitVertex(consumer, vertices.get(i), baseColor, ctx);
+            emitVertex(consumer, mesh, i, baseColor, ctx);
             // Second vertex
-            emitVertex(consumer, vertices.get(i + 1), baseColor, ctx);
+            emitVertex(consumer, mesh, i + 1, baseColor, ctx);
         }
     }
     
-    private void emitVertex(VertexConsumer consumer, Vertex vertex, int baseColor, EmitContext ctx) {
+    private void emitVertex(VertexConsumer consumer, Mesh mesh, int v, int baseColor, EmitContext ctx) {
         // Apply vertex alpha and flicker alpha to base color
-        float vertexAlpha = vertex.alpha();
+        float vertexAlpha = mesh.alpha(v);
         float alpha = ((baseColor >> 24) & 0xFF) / 255f * vertexAlpha * ctx.flickerAlpha();
         int color = (baseColor & 0x00FFFFFF) | ((int)(alpha * 255) << 24);
         
-        consumer.vertex(vertex.x(), vertex.y(), vertex.z())
+        consumer.vertex(mesh.x(v), mesh.y(v), mesh.z(v))
             .color(color)
-            .normal(vertex.nx(), vertex.ny(), vertex.nz());
+            .normal(mesh.nx(v), mesh.ny(v), mesh.nz(v));
     }
 }
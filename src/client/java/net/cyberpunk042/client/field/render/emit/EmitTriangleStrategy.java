@@ -2,9 +2,6 @@ package net.cyberpunk042.client.field.render.emit;
 
 import net.minecraft.client.render.VertexConsumer;
 import net.cyberpunk042.client.visual.mesh.Mesh;
-import net.cyberpunk042.client.visual.mesh.Vertex;
-
-import java.util.List;
 
 /**
  * Emit strategy for triangle/solid rendering.
@@ -23,36 +20,35 @@ public final class EmitTriangleStrategy implements EmitStrategy {
             return;
         }
         
-        List<Vertex> vertices = mesh.vertices();
-        int[] indices = mesh.indices();
+        int indexCount = mesh.indexCount();
         int baseColor = ctx.color();
         
-        if (indices != null && indices.length > 0) {
+        if (indexCount > 0) {
             // Indexed triangles
-            for (int i = 0; i < indices.length - 2; i += 3) {
-                emitVertex(consumer, vertices.get(indices[i]), baseColor, ctx);
-                emitVertex(consumer, vertices.get(indices[i + 1]), baseColor, ctx);
-                emitVertex(consumer, vertices.get(indices[i + 2]), baseColor, ctx);
+            for (int i = 0; i < indexCount - 2; i += 3) {
+                emitVertex(consumer, mesh, mesh.index(i), baseColor, ctx);
+                emitVertex(consumer, mesh, mesh.index(i + 1), baseColor, ctx);
+                emitVertex(consumer, mesh, mesh.index(i + 2), baseColor, ctx);
             }
         } else {
             // Non-indexed triangles
-            int vertexCount = vertices.size();
+            int vertexCount = mesh.vertexCount();
             for (int i = 0; i < vertexCount - 2; i += 3) {
-                emitVertex(consumer, vertices.get(i), baseColor, ctx);
-                emitVertex(consumer, vertices.get(i + 1), baseColor, ctx);
-                emitVertex(consumer, vertices.get(i + 2), baseColor, ctx);
+                emitVertex(consumer, mesh, i, baseColor, ctx);
+                emitVertex(consumer, mesh, i + 1, baseColor, ctx);
+                emitVertex(consumer, mesh, i + 2, baseColor, ctx);
             }
         }
     }
     
-    private void emitVertex(VertexConsumer consumer, Vertex vertex, int baseColor, EmitContext ctx) {
+    private void emitVertex(VertexConsumer consumer, Mesh mesh, int v, int baseColor, EmitContext ctx) {
         // Apply vertex alpha and flicker alpha to base color
-        float vertexAlpha = vertex.alpha();
+        float vertexAlpha = mesh.alpha(v);
         float alpha = ((baseColor >> 24) & 0xFF) / 255f * vertexAlpha * ctx.flickerAlpha();
         int color = (baseColor & 0x00FFFFFF) | ((int)(alpha * 255) << 24);
         
-        consumer.vertex(vertex.x(), vertex.y(), vertex.z())
+        consumer.vertex(mesh.x(v), mesh.y(v), mesh.z(v))
             .color(color)
-            .normal(vertex.nx(), vertex.ny(), vertex.nz());
+            .normal(mesh.nx(v), mesh.ny(v), mesh.nz(v));
     }
 }
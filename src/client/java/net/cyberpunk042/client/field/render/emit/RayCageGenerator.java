@@ -1,7 +1,6 @@
 package net.cyberpunk042.client.field.render.emit;
 
 import net.cyberpunk042.client.visual.mesh.MeshBuilder;
-import net.cyberpunk042.client.visual.mesh.Vertex;
 import net.cyberpunk042.client.visual.mesh.ray.RayContext;
 import net.cyberpunk042.client.visual.mesh.ray.RayGeometryUtils;
 import net.cyberpunk042.visual.shape.RayCurvature;
@@ -103,8 +102,8 @@ public final class RayCageGenerator {
                 float[] p1 = transformToWorld(center, u, direction, v, lx1, axialPos, lz1);
                 float[] p2 = transformToWorld(center, u, direction, v, lx2, axialPos, lz2);
                 
-                int idx1 = builder.addVertex(Vertex.pos(p1[0], p1[1], p1[2]));
-                int idx2 = builder.addVertex(Vertex.pos(p2[0], p2[1], p2[2]));
+                int idx1 = builder.vertex(p1[0], p1[1], p1[2]);
+                int idx2 = builder.vertex(p2[0], p2[1], p2[2]);
                 builder.line(idx1, idx2);
             }
         }
@@ -127,8 +126,8 @@ public final class RayCageGenerator {
                 float[] p1 = transformToWorld(center, u, direction, v, d1[0], d1[1], d1[2]);
                 float[] p2 = transformToWorld(center, u, direction, v, d2[0], d2[1], d2[2]);
                 
-                int idx1 = builder.addVertex(Vertex.pos(p1[0], p1[1], p1[2]));
-                int idx2 = builder.addVertex(Vertex.pos(p2[0], p2[1], p2[2]));
+                int idx1 = builder.vertex(p1[0], p1[1], p1[2]);
+                int idx2 = builder.vertex(p2[0], p2[1], p2[2]);
                 builder.line(idx1, idx2);
             }
         }
@@ -70,6 +70,10 @@ public final class RaysLineEmitter {
         // For each line segment
         // Segments are ordered: ray0-seg0, ray0-seg1, ..., ray1-seg0, ray1-seg1, ...
         final int lineResolution = raysShape != null ? Math.max(1, raysShape.lineResolution()) : 1;
+        
+        // Flicker only depends on the ray, so compute it once per ray rather than per vertex
+        final float[] rayFlicker = calculateRayFlicker(flowConfig, time, mesh.primitiveCount() / lineResolution + 1);
+        
         final int[] segmentIndex = {0};
         mesh.forEachLine((v0, v1) -> {
             int segIdx = segmentIndex[0]++;
@@ -113,11 +117,12 @@ public final class RaysLineEmitter {
             }
             
             // Emit both vertices of the line
+            float flickerAlpha = rayFlicker != null ? rayFlicker[actualRayIndex] : 1f;
             emitLineVertex(consumer, x0, y0, z0, x1, y1, z1, positionMatrix, normalMatrix,
-                          baseColor, baseAlpha, light, colorCtx, v0, flowConfig, time, actualRayIndex, rayCount,
+                          baseColor, baseAlpha, light, colorCtx, v0, flowConfig, flickerAlpha, actualRayIndex, rayCount,
                           travelOffset, fadeStart, fadeEnd, hasFade);
             emitLineVertex(consumer, x1, y1, z1, x0, y0, z0, positionMatrix, normalMatrix,
-                          baseColor, baseAlpha, light, colorCtx, v1, flowConfig, time, actualRayIndex, rayCount,
+                          baseColor, baseAlpha, light, colorCtx, v1, flowConfig, flickerAlpha, actualRayIndex, rayCount,
                           travelOffset, fadeStart, fadeEnd, hasFade);
         });
     }
@@ -131,7 +136,7 @@ public final class RaysLineEmitter {
                                  Matrix4f positionMatrix, Matrix3f normalMatrix,
                                  int baseColor, float baseAlpha, int light,
                                  ColorContext colorCtx, Vertex originalVertex,
-                                 RayFlowConfig flowConfig, float time, int rayIndex, int rayCount,
+                                 RayFlowConfig flowConfig, float flickerAlpha, int rayIndex, int rayCount,
                                  float travelOffset,
                                  float fadeStart, float fadeEnd, boolean hasFade) {
         
@@ -187,7 +192,7 @@ public final class RaysLineEmitter {
         alpha *= calculateTravelAlpha(flowConfig, t, travelOffset, rayIndex);
         
         // 3. Apply Flicker animation
-        alpha *= calculateFlickerAlpha(flowConfig, time, rayIndex);
+        alpha *= flickerAlpha;
         
         // Apply alpha to color
         int a = (int)(alpha * 255) & 0xFF;
@@ -245,21 +250,25 @@ public final class RaysLineEmitter {
     }
     
     /**
-     * Compute flicker alpha for a ray.
+     * Compute flicker alpha for rays {@code 0..rayCount-1}.
+     * 
+     * @return One alpha per ray, or null when flicker is off
      */
-    private static float calculateFlickerAlpha(RayFlowConfig config, float time, int rayIndex) {
+    private static float[] calculateRayFlicker(RayFlowConfig config, float time, int rayCount) {
         if (config == null || !config.hasFlicker()) {
-            return 1f;
+            return null;
         }
         net.cyberpunk042.visual.energy.EnergyFlicker mode = config.effectiveFlicker();
         if (mode == net.cyberpunk042.visual.energy.EnergyFlicker.NONE) {
-            return 1f;
+            return null;
         }
         
         float intensity = Math.max(0.1f, config.flickerIntensity());
         float freq = Math.max(0.5f, config.flickerFrequency());
         
-        return net.cyberpunk042.client.visual.mesh.ray.flow.FlowFlickerStage.computeFlickerAlpha(
-            mode, time, rayIndex, intensity, freq);
+        float[] alphas = new float[rayCount];
+        net.cyberpunk042.client.visual.mesh.ray.flow.FlowFlickerStage.fillFlickerAlpha(
+            alphas, rayCount, mode, time, intensity, freq);
+        return alphas;
     }
 }
@@ -12,7 +12,7 @@ import net.minecraft.client.gui.widget.CyclingButtonWidget;
 
 import java.util.ArrayList;
 import java.util.List;
-import net.cyberpunk042.client.network.GuiPacketSender;
+import net.cyberpunk042.client.network.DebugFieldSync;
 import net.cyberpunk042.client.gui.state.FieldEditStateHolder;
 
 /**
@@ -106,7 +106,7 @@ public class ActionPanel extends AbstractPanel {
     
     private void applyToShield() {
         // Apply current settings to the player's active shield
-        GuiPacketSender.updateDebugField(state.toStateJson());
+        DebugFieldSync.flush(state);
         state.clearDirty();
         ToastNotification.success("Applied to shield!");
         Logging.GUI.topic("action").info("Applied settings to shield");
@@ -65,7 +65,7 @@ public class FieldPreviewRenderer {
         }
         
         // Build definition from state
-        FieldDefinition definition = DefinitionBuilder.fromState(state);
+        FieldDefinition definition = DefinitionBuilder.cached(state);
         
         // Render via FBO renderer
         ensureRenderer();
@@ -84,7 +84,7 @@ public final class TestFieldRenderer {
         Vec3d renderPos = playerPos.subtract(camPos);
         
         // Build definition from current state
-        FieldDefinition definition = DefinitionBuilder.fromState(state);
+        FieldDefinition definition = DefinitionBuilder.cached(state);
         
         if (definition == null || definition.layers() == null || definition.layers().isEmpty()) {
             return;
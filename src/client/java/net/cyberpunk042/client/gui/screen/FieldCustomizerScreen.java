@@ -11,7 +11,7 @@ import net.cyberpunk042.client.gui.state.FieldEditStateHolder;
 import net.cyberpunk042.client.gui.widget.*;
 import net.cyberpunk042.client.gui.util.GuiConfigPersistence;
 import net.cyberpunk042.client.gui.util.WidgetVisibility;
-import net.cyberpunk042.client.network.GuiPacketSender;
+import net.cyberpunk042.client.network.DebugFieldSync;
 import net.cyberpunk042.log.Logging;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
@@ -266,7 +266,7 @@ public class FieldCustomizerScreen extends Screen {
     private void onStateChanged() {
         TestFieldRenderer.markDirty();
         if (state.getBool("livePreviewEnabled")) {
-            GuiPacketSender.updateDebugField(state.toStateJson());
+            DebugFieldSync.markChanged(state);
         }
     }
     
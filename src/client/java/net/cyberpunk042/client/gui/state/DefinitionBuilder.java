@@ -43,6 +43,10 @@ import net.cyberpunk042.log.LogLevel;
  * FieldRenderer.render(matrices, consumers, def, pos, scale, time, alpha);
  * </pre>
  * 
+ * <p>Renderers that ask every frame use {@link #cached(FieldEditState)}, which
+ * hands back the same instance until a {@link FieldEditState.Section} revision
+ * moves.</p>
+ * 
  * @see DefinitionField
  * @see PrimitiveComponent
  */
@@ -67,79 +71,115 @@ public final class DefinitionBuilder {
         }
     }
     
+    /**
+     * Returns the definition for the current state, memoized per state.
+     * 
+     * <p>The same instance comes back until one of the state's section
+     * revisions changes, so mesh caches downstream can key on identity. A
+     * rebuild only redoes the parts whose revisions moved; unchanged layers
+     * and primitives keep their instances.</p>
+     * 
+     * @param state The edit state to convert
+     * @return The cached FieldDefinition, rebuilt if the state changed
+     */
+    public static FieldDefinition cached(FieldEditState state) {
+        Cache cache = state.definitionCache();
+        try {
+            return cache.get(state);
+        } catch (Exception e) {
+            cache.clear();
+            Logging.GUI.topic("builder").error("Failed to build FieldDefinition from state: {} at {}", 
+                e.getMessage(), e.getStackTrace().length > 0 ? e.getStackTrace()[0] : "unknown");
+            e.printStackTrace();
+            return FieldDefinition.empty("error");
+        }
+    }
+    
     private static FieldDefinition buildDefinition(FieldEditState state) throws Exception {
         // Outer scope: batches all builder logging into single TRACE output
         try (LogScope scope = Logging.GUI.topic("builder").scope("build-definition", LogLevel.TRACE)) {
-            // Collect @DefinitionField values
-            Map<String, Object> defFields = collectDefinitionFields(state);
-            
-            // Build layers from state
-            List<FieldLayer> layers = buildLayers(state);
-            
-            // CP2-CP3: Field-level segments (D1-D4)
-            // Ensure modifiers is never null - use DEFAULT if not set
-            Modifiers modifiers = (Modifiers) defFields.getOrDefault("modifiers", Modifiers.DEFAULT);
-            net.cyberpunk042.field.instance.FollowConfig follow = 
-                (net.cyberpunk042.field.instance.FollowConfig) defFields.get("follow");
-            
-            // CP2: State values
-            PipelineTracer.trace(PipelineTracer.D1_BOBBING, 2, "state", String.valueOf(modifiers.bobbing()));
-            PipelineTracer.trace(PipelineTracer.D2_BREATHING, 2, "state", String.valueOf(modifiers.breathing()));
-            if (follow != null && follow.enabled()) {
-                PipelineTracer.trace(PipelineTracer.D4_FOLLOW_MODE, 2, "state", 
-                    "lead=" + follow.leadOffset() + " resp=" + follow.responsiveness());
-            }
-            
-            // CP2: Beam segments (B1-B7) from state
-            BeamConfig beam = (BeamConfig) defFields.get("beam");
-            if (beam != null) {
-                PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 2, "state", beam.enabled());
-                PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 2, "state", beam.innerRadius());
-                PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 2, "state", beam.outerRadius());
-                PipelineTracer.trace(PipelineTracer.B4_BEAM_COLOR, 2, "state", beam.color());
-                PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 2, "state", beam.height());
-                PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 2, "state", beam.glow());
-                PipelineTracer.trace(PipelineTracer.B7_BEAM_PULSE, 2, "state", beam.pulse() != null ? "active" : "null");
-                // CP3: Beam built
-                PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 3, "beam", beam.enabled());
-                PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 3, "beam", beam.innerRadius());
-                PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 3, "beam", beam.outerRadius());
-                PipelineTracer.trace(PipelineTracer.B4_BEAM_COLOR, 3, "beam", beam.color());
-                PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 3, "beam", beam.height());
-                PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 3, "beam", beam.glow());
-                PipelineTracer.trace(PipelineTracer.B7_BEAM_PULSE, 3, "beam", beam.pulse() != null ? "active" : "null");
-            }
-            
-            // Construct the definition
-            FieldDefinition def = new FieldDefinition(
-                "preview_" + System.currentTimeMillis(),
-                FieldType.SHIELD,
-                state.getFloat("sphere.radius") > 0 ? state.getFloat("sphere.radius") : 1.0f,
-                null, // themeId - could be added later
-                layers,
-                modifiers,
-                follow,
-                (BeamConfig) defFields.get("beam"),
-                buildBindings(state),
-                buildTriggers(state),
-                null, // lifecycle - handled separately
-                (net.cyberpunk042.field.force.ForceFieldConfig) defFields.get("forceConfig"),
-                state.shockwaveAdapter().toJson()  // Field-level shockwave FX config
-            );
-            
-            // CP3: Field-level in definition - modifiers should never be null now
-            var defMods = def.modifiers();
-            PipelineTracer.trace(PipelineTracer.D1_BOBBING, 3, "def", String.valueOf(defMods != null ? defMods.bobbing() : "null"));
-            PipelineTracer.trace(PipelineTracer.D2_BREATHING, 3, "def", String.valueOf(defMods != null ? defMods.breathing() : "null"));
-            if (def.follow() != null && def.follow().enabled()) {
-                PipelineTracer.trace(PipelineTracer.D4_FOLLOW_MODE, 3, "def", 
-                    "lead=" + def.follow().leadOffset() + " resp=" + def.follow().responsiveness());
-            }
-            
-            scope.kv("layers", layers.size()).kv("id", def.id());
-            
-            return def;
+            SimplePrimitive primitive = buildCurrentPrimitive(state, buildAppearance(state), buildAnimation(state));
+            List<FieldLayer> layers = buildLayers(state, primitive);
+            return assembleDefinition(state, "preview_" + System.currentTimeMillis(), layers, scope);
+        }
+    }
+    
+    /**
+     * Wraps built layers with the definition-level fields.
+     */
+    private static FieldDefinition assembleDefinition(FieldEditState state, String id, 
+                                                      List<FieldLayer> layers, LogScope scope) throws Exception {
+        // Collect @DefinitionField values
+        Map<String, Object> defFields = collectDefinitionFields(state);
+        
+        // CP2-CP3: Field-level segments (D1-D4)
+        // Ensure modifiers is never null - use DEFAULT if not set
+        Modifiers modifiers = (Modifiers) defFields.getOrDefault("modifiers", Modifiers.DEFAULT);
+        net.cyberpunk042.field.instance.FollowConfig follow = 
+            (net.cyberpunk042.field.instance.FollowConfig) defFields.get("follow");
+        
+        // CP2: State values
+        PipelineTracer.trace(PipelineTracer.D1_BOBBING, 2, "state", modifiers.bobbing());
+        PipelineTracer.trace(PipelineTracer.D2_BREATHING, 2, "state", modifiers.breathing());
+        if (follow != null && follow.enabled()) {
+            PipelineTracer.trace(PipelineTracer.D4_FOLLOW_MODE, 2, "state", 
+                "lead=" + follow.leadOffset() + " resp=" + follow.responsiveness());
+        }
+        
+        // CP2: Beam segments (B1-B7) from state
+        BeamConfig beam = (BeamConfig) defFields.get("beam");
+        if (beam != null) {
+            PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 2, "state", beam.enabled());
+            PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 2, "state", beam.innerRadius());
+            PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 2, "state", beam.outerRadius());
+            PipelineTracer.trace(PipelineTracer.B4_BEAM_COLOR, 2, "state", beam.color());
+            PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 2, "state", beam.height());
+            PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 2, "state", beam.glow());
+            PipelineTracer.trace(PipelineTracer.B7_BEAM_PULSE, 2, "state", beam.pulse() != null ? "active" : "null");
+            // CP3: Beam built
+            PipelineTracer.trace(PipelineTracer.B1_BEAM_ENABLED, 3, "beam", beam.enabled());
+            PipelineTracer.trace(PipelineTracer.B2_BEAM_INNER_RADIUS, 3, "beam", beam.innerRadius());
+            PipelineTracer.trace(PipelineTracer.B3_BEAM_OUTER_RADIUS, 3, "beam", beam.outerRadius());
+            PipelineTracer.trace(PipelineTracer.B4_BEAM_COLOR, 3, "beam", beam.color());
+            PipelineTracer.trace(PipelineTracer.B5_BEAM_HEIGHT, 3, "beam", beam.height());
+            PipelineTracer.trace(PipelineTracer.B6_BEAM_GLOW, 3, "beam", beam.glow());
+            PipelineTracer.trace(PipelineTracer.B7_BEAM_PULSE, 3, "beam", beam.pulse() != null ? "active" : "null");
+        }
+        
+        // Construct the definition
+        FieldDefinition def = new FieldDefinition(
+            id,
+            FieldType.SHIELD,
+            state.getFloat("sphere.radius") > 0 ? state.getFloat("sphere.radius") : 1.0f,
+            null, // themeId - could be added later
+            layers,
+            modifiers,
+            follow,
+            (BeamConfig) defFields.get("beam"),
+            buildBindings(state),
+            buildTriggers(state),
+            null, // lifecycle - handled separately
+            (net.cyberpunk042.field.force.ForceFieldConfig) defFields.get("forceConfig"),
+            state.shockwaveAdapter().toJson()  // Field-level shockwave FX config
+        );
+        
+        // CP3: Field-level in definition - modifiers should never be null now
+        var defMods = def.modifiers();
+        if (defMods != null) {
+            PipelineTracer.trace(PipelineTracer.D1_BOBBING, 3, "def", defMods.bobbing());
+            PipelineTracer.trace(PipelineTracer.D2_BREATHING, 3, "def", defMods.breathing());
+        } else {
+            PipelineTracer.trace(PipelineTracer.D1_BOBBING, 3, "def", "null");
+            PipelineTracer.trace(PipelineTracer.D2_BREATHING, 3, "def", "null");
         }
+        if (def.follow() != null && def.follow().enabled()) {
+            PipelineTracer.trace(PipelineTracer.D4_FOLLOW_MODE, 3, "def", 
+                "lead=" + def.follow().leadOffset() + " resp=" + def.follow().responsiveness());
+        }
+        
+        scope.kv("layers", layers.size()).kv("id", def.id());
+        
+        return def;
     }
     
     /**
@@ -166,16 +206,17 @@ public final class DefinitionBuilder {
     }
     
     /**
-     * Builds FieldLayers from the state's layer list.
+     * Builds FieldLayers from the state's layer list, with {@code primitive}
+     * standing in for the selected one.
      */
-    private static List<FieldLayer> buildLayers(FieldEditState state) throws Exception {
+    private static List<FieldLayer> buildLayers(FieldEditState state, SimplePrimitive primitive) throws Exception {
         List<FieldLayer> layers = new ArrayList<>();
         
         // Get layers from state
         var stateLayers = state.getFieldLayers();
         if (stateLayers == null || stateLayers.isEmpty()) {
             // Create a default layer with current primitive
-            layers.add(buildDefaultLayer(state));
+            layers.add(buildDefaultLayer(primitive));
         } else {
             // Convert each layer
             for (int i = 0; i < stateLayers.size(); i++) {
@@ -184,7 +225,7 @@ public final class DefinitionBuilder {
                 // In the future, we might need to rebuild primitives with current @PrimitiveComponent values
                 if (i == state.getSelectedLayerIndex()) {
                     // Rebuild selected layer with current editor values
-                    layers.add(rebuildLayerWithCurrentState(stateLayer, state));
+                    layers.add(rebuildLayerWithCurrentState(stateLayer, state, primitive));
                 } else {
                     layers.add(stateLayer);
                 }
@@ -197,15 +238,15 @@ public final class DefinitionBuilder {
     /**
      * Builds a default layer when no layers exist.
      */
-    private static FieldLayer buildDefaultLayer(FieldEditState state) throws Exception {
-        SimplePrimitive primitive = buildCurrentPrimitive(state);
+    private static FieldLayer buildDefaultLayer(SimplePrimitive primitive) {
         return FieldLayer.of("default_layer", List.of(primitive));
     }
     
     /**
      * Rebuilds a layer, replacing the selected primitive with current editor values.
      */
-    private static FieldLayer rebuildLayerWithCurrentState(FieldLayer original, FieldEditState state) throws Exception {
+    private static FieldLayer rebuildLayerWithCurrentState(FieldLayer original, FieldEditState state, 
+                                                           SimplePrimitive primitive) {
         List<Primitive> newPrimitives = new ArrayList<>();
         var origPrimitives = original.primitives();
         int selectedPrimIdx = state.getSelectedPrimitiveIndex();
@@ -213,16 +254,16 @@ public final class DefinitionBuilder {
         for (int i = 0; i < origPrimitives.size(); i++) {
             if (i == selectedPrimIdx) {
                 // Replace with current editor state
-                newPrimitives.add(buildCurrentPrimitive(state));
+                newPrimitives.add(primitive);
             } else {
                 newPrimitives.add(origPrimitives.get(i));
             }
         }
         
         // CP2-CP3: Layer-level segments
-        PipelineTracer.trace(PipelineTracer.L1_LAYER_ALPHA, 2, "state", String.valueOf(original.alpha()));
-        PipelineTracer.trace(PipelineTracer.L2_LAYER_VISIBLE, 2, "state", String.valueOf(original.visible()));
-        PipelineTracer.trace(PipelineTracer.L3_BLEND_MODE, 2, "state", original.blendMode() != null ? original.blendMode().name() : "null");
+        PipelineTracer.trace(PipelineTracer.L1_LAYER_ALPHA, 2, "state", original.alpha());
+        PipelineTracer.trace(PipelineTracer.L2_LAYER_VISIBLE, 2, "state", original.visible());
+        PipelineTracer.trace(PipelineTracer.L3_BLEND_MODE, 2, "state", original.blendMode());
         
         // Rebuild layer with new primitives
         FieldLayer rebuilt = new FieldLayer(
@@ -236,17 +277,19 @@ public final class DefinitionBuilder {
         );
         
         // CP3: Layer built
-        PipelineTracer.trace(PipelineTracer.L1_LAYER_ALPHA, 3, "layer", String.valueOf(rebuilt.alpha()));
-        PipelineTracer.trace(PipelineTracer.L2_LAYER_VISIBLE, 3, "layer", String.valueOf(rebuilt.visible()));
-        PipelineTracer.trace(PipelineTracer.L3_BLEND_MODE, 3, "layer", rebuilt.blendMode() != null ? rebuilt.blendMode().name() : "null");
+        PipelineTracer.trace(PipelineTracer.L1_LAYER_ALPHA, 3, "layer", rebuilt.alpha());
+        PipelineTracer.trace(PipelineTracer.L2_LAYER_VISIBLE, 3, "layer", rebuilt.visible());
+        PipelineTracer.trace(PipelineTracer.L3_BLEND_MODE, 3, "layer", rebuilt.blendMode());
         
         return rebuilt;
     }
     
     /**
-     * Builds a Primitive from current @PrimitiveComponent annotated fields.
+     * Builds a Primitive from current @PrimitiveComponent annotated fields,
+     * using the given appearance and animation.
      */
-    private static SimplePrimitive buildCurrentPrimitive(FieldEditState state) throws Exception {
+    private static SimplePrimitive buildCurrentPrimitive(FieldEditState state, Appearance appearance, 
+                                                         Animation animation) throws Exception {
         // Get current shape based on shapeType
         String shapeType = state.getString("shapeType");
         Shape shape = getCurrentShape(state, shapeType);
@@ -271,11 +314,6 @@ public final class DefinitionBuilder {
         // CP2-CP3: Visibility/Mask segments (ALL)
         traceVisibilityDetails(mask);
         
-        // Build appearance from adapter (convert AppearanceState to Appearance)
-        Appearance appearance = buildAppearance(state);
-        
-        // Build animation from adapter
-        Animation animation = buildAnimation(state);
         traceAnimationDetails(state, animation);
         
         // Get primitiveId from link adapter  
@@ -439,33 +477,33 @@ public final class DefinitionBuilder {
             return;
         }
         // CP2: State values
-        PipelineTracer.trace(PipelineTracer.T1_OFFSET, 2, "state", transform.offset() != null ? transform.offset().toString() : "null");
-        PipelineTracer.trace(PipelineTracer.T2_ROTATION, 2, "state", transform.rotation() != null ? transform.rotation().toString() : "null");
+        PipelineTracer.trace(PipelineTracer.T1_OFFSET, 2, "state", transform.offset());
+        PipelineTracer.trace(PipelineTracer.T2_ROTATION, 2, "state", transform.rotation());
         PipelineTracer.trace(PipelineTracer.T3_SCALE, 2, "state", transform.scale());
-        PipelineTracer.trace(PipelineTracer.T4_SCALE_XYZ, 2, "state", transform.scaleXYZ() != null ? transform.scaleXYZ().toString() : "null");
-        PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 2, "state", transform.anchor() != null ? transform.anchor().name() : "null");
-        PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 2, "state", transform.billboard() != null ? transform.billboard().name() : "null");
+        PipelineTracer.trace(PipelineTracer.T4_SCALE_XYZ, 2, "state", transform.scaleXYZ());
+        PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 2, "state", transform.anchor());
+        PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 2, "state", transform.billboard());
         PipelineTracer.trace(PipelineTracer.T7_ORBIT, 2, "state", transform.orbit() != null ? "active" : "null");
         PipelineTracer.trace(PipelineTracer.T8_INHERIT_ROTATION, 2, "state", transform.inheritRotation());
         PipelineTracer.trace(PipelineTracer.T9_SCALE_WITH_RADIUS, 2, "state", transform.scaleWithRadius());
-        PipelineTracer.trace(PipelineTracer.T10_FACING, 2, "state", transform.facing() != null ? transform.facing().name() : "null");
-        PipelineTracer.trace(PipelineTracer.T11_UP_VECTOR, 2, "state", transform.up() != null ? transform.up().name() : "null");
+        PipelineTracer.trace(PipelineTracer.T10_FACING, 2, "state", transform.facing());
+        PipelineTracer.trace(PipelineTracer.T11_UP_VECTOR, 2, "state", transform.up());
         if (transform.orbit() != null) {
             PipelineTracer.trace(PipelineTracer.T12_ORBIT_RADIUS, 2, "state", transform.orbit().radius());
             PipelineTracer.trace(PipelineTracer.T13_ORBIT_SPEED, 2, "state", transform.orbit().speed());
         }
         // CP3: Built values
-        PipelineTracer.trace(PipelineTracer.T1_OFFSET, 3, "transform", transform.offset() != null ? transform.offset().toString() : "null");
-        PipelineTracer.trace(PipelineTracer.T2_ROTATION, 3, "transform", transform.rotation() != null ? transform.rotation().toString() : "null");
+        PipelineTracer.trace(PipelineTracer.T1_OFFSET, 3, "transform", transform.offset());
+        PipelineTracer.trace(PipelineTracer.T2_ROTATION, 3, "transform", transform.rotation());
         PipelineTracer.trace(PipelineTracer.T3_SCALE, 3, "transform", transform.scale());
-        PipelineTracer.trace(PipelineTracer.T4_SCALE_XYZ, 3, "transform", transform.scaleXYZ() != null ? transform.scaleXYZ().toString() : "null");
-        PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 3, "transform", transform.anchor() != null ? transform.anchor().name() : "null");
-        PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 3, "transform", transform.billboard() != null ? transform.billboard().name() : "null");
+        PipelineTracer.trace(PipelineTracer.T4_SCALE_XYZ, 3, "transform", transform.scaleXYZ());
+        PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 3, "transform", transform.anchor());
+        PipelineTracer.trace(PipelineTracer.T6_BILLBOARD, 3, "transform", transform.billboard());
         PipelineTracer.trace(PipelineTracer.T7_ORBIT, 3, "transform", transform.orbit() != null ? "active" : "null");
         PipelineTracer.trace(PipelineTracer.T8_INHERIT_ROTATION, 3, "transform", transform.inheritRotation());
         PipelineTracer.trace(PipelineTracer.T9_SCALE_WITH_RADIUS, 3, "transform", transform.scaleWithRadius());
-        PipelineTracer.trace(PipelineTracer.T10_FACING, 3, "transform", transform.facing() != null ? transform.facing().name() : "null");
-        PipelineTracer.trace(PipelineTracer.T11_UP_VECTOR, 3, "transform", transform.up() != null ? transform.up().name() : "null");
+        PipelineTracer.trace(PipelineTracer.T10_FACING, 3, "transform", transform.facing());
+        PipelineTracer.trace(PipelineTracer.T11_UP_VECTOR, 3, "transform", transform.up());
         if (transform.orbit() != null) {
             PipelineTracer.trace(PipelineTracer.T12_ORBIT_RADIUS, 3, "transform", transform.orbit().radius());
             PipelineTracer.trace(PipelineTracer.T13_ORBIT_SPEED, 3, "transform", transform.orbit().speed());
@@ -592,12 +630,12 @@ public final class DefinitionBuilder {
         }
         
         // CP2: State values for ALL appearance segments
-        PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 2, "state", "0x" + Integer.toHexString(appState.primaryColor()));
+        PipelineTracer.traceColor(PipelineTracer.A1_PRIMARY_COLOR, 2, "state", appState.primaryColor());
         PipelineTracer.trace(PipelineTracer.A2_ALPHA, 2, "state", appState.alpha());
         PipelineTracer.trace(PipelineTracer.A3_GLOW, 2, "state", appState.glow());
         PipelineTracer.trace(PipelineTracer.A4_EMISSIVE, 2, "state", appState.emissive());
         PipelineTracer.trace(PipelineTracer.A5_SATURATION, 2, "state", appState.saturation());
-        PipelineTracer.trace(PipelineTracer.A6_SECONDARY_COLOR, 2, "state", "0x" + Integer.toHexString(appState.secondaryColor()));
+        PipelineTracer.traceColor(PipelineTracer.A6_SECONDARY_COLOR, 2, "state", appState.secondaryColor());
         
         // Convert int color to hex string format
         String colorHex = String.format("#%06X", appState.primaryColor() & 0xFFFFFF);
@@ -664,4 +702,118 @@ public final class DefinitionBuilder {
         // TODO: Implement when triggers are editable in GUI
         return List.of();
     }
+    
+    // ═══════════════════════════════════════════════════════════════════════════
+    // MEMOIZED BUILD
+    // ═══════════════════════════════════════════════════════════════════════════
+    
+    /**
+     * Last definition built for one {@link FieldEditState}, plus the parts it
+     * was built from and the section revisions they were current at.
+     * 
+     * <p>Appearance and animation are rebuilt only when their own sections
+     * move. The selected primitive is rebuilt when any primitive section
+     * moves, the selected layer when that primitive or its stored layer
+     * changes, and the definition wrapper whenever anything below it did.
+     * Unselected layers are the state's own instances either way.</p>
+     */
+    static final class Cache {
+        
+        private static final FieldEditState.Section[] SECTIONS = FieldEditState.Section.values();
+        
+        private final String id = "preview_" + System.currentTimeMillis();
+        private final long[] built = new long[SECTIONS.length];
+        
+        private Appearance appearance;
+        private Animation animation;
+        private SimplePrimitive primitive;
+        private FieldLayer selectedSource;
+        private FieldLayer selectedLayer;
+        private FieldDefinition definition;
+        
+        FieldDefinition get(FieldEditState state) throws Exception {
+            if (definition != null && !changed(state)) {
+                return definition;
+            }
+            
+            try (LogScope scope = Logging.GUI.topic("builder").scope("build-definition", LogLevel.TRACE)) {
+                boolean rebuildAll = definition == null;
+                boolean shapeChanged = rebuildAll || moved(state, FieldEditState.Section.SHAPE);
+                boolean transformChanged = rebuildAll || moved(state, FieldEditState.Section.TRANSFORM);
+                boolean appearanceChanged = rebuildAll || moved(state, FieldEditState.Section.APPEARANCE);
+                boolean animationChanged = rebuildAll || moved(state, FieldEditState.Section.ANIMATION);
+                
+                if (appearanceChanged) {
+                    appearance = buildAppearance(state);
+                }
+                if (animationChanged) {
+                    animation = buildAnimation(state);
+                }
+                boolean primitiveChanged = shapeChanged || transformChanged || appearanceChanged || animationChanged;
+                if (primitiveChanged) {
+                    primitive = buildCurrentPrimitive(state, appearance, animation);
+                }
+                
+                List<FieldLayer> layers = rebuildLayers(state, primitiveChanged);
+                definition = assembleDefinition(state, id, layers, scope);
+                scope.kv("primitive", primitiveChanged);
+            }
+            
+            for (int i = 0; i < SECTIONS.length; i++) {
+                built[i] = state.revision(SECTIONS[i]);
+            }
+            return definition;
+        }
+        
+        /**
+         * Layer list for the rebuilt definition. Only the selected layer is
+         * rebuilt, and only when its primitive or its stored source changed.
+         */
+        private List<FieldLayer> rebuildLayers(FieldEditState state, boolean primitiveChanged) {
+            var stateLayers = state.getFieldLayers();
+            if (stateLayers == null || stateLayers.isEmpty()) {
+                selectedSource = null;
+                selectedLayer = null;
+                return List.of(buildDefaultLayer(primitive));
+            }
+            
+            List<FieldLayer> layers = new ArrayList<>(stateLayers.size());
+            int selected = state.getSelectedLayerIndex();
+            for (int i = 0; i < stateLayers.size(); i++) {
+                FieldLayer stateLayer = stateLayers.get(i);
+                if (i != selected) {
+                    layers.add(stateLayer);
+                    continue;
+                }
+                if (primitiveChanged || selectedLayer == null || stateLayer != selectedSource) {
+                    selectedSource = stateLayer;
+                    selectedLayer = rebuildLayerWithCurrentState(stateLayer, state, primitive);
+                }
+                layers.add(selectedLayer);
+            }
+            return layers;
+        }
+        
+        private boolean changed(FieldEditState state) {
+            for (int i = 0; i < SECTIONS.length; i++) {
+                if (built[i] != state.revision(SECTIONS[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private boolean moved(FieldEditState state, FieldEditState.Section section) {
+            return built[section.ordinal()] != state.revision(section);
+        }
+        
+        void clear() {
+            appearance = null;
+            animation = null;
+            primitive = null;
+            selectedSource = null;
+            selectedLayer = null;
+            definition = null;
+        }
+    }
 }
@@ -69,6 +69,7 @@ public class FieldEditState {
     
     // Map includes BOTH primitive adapters AND field-level adapters for path routing
     private final Map<String, AbstractAdapter> adapterByCategory;
+    private final Map<AbstractAdapter, Section> sectionByAdapter = new IdentityHashMap<>();
     
     {
         Map<String, AbstractAdapter> map = new HashMap<>();
@@ -146,6 +147,18 @@ public class FieldEditState {
         map.put("orbit", transformAdapter);
         
         adapterByCategory = Collections.unmodifiableMap(map);
+        
+        // Revision bumped when a path routes to each adapter
+        sectionByAdapter.put(shapeAdapter, Section.SHAPE);
+        sectionByAdapter.put(fillAdapter, Section.SHAPE);
+        sectionByAdapter.put(visibilityAdapter, Section.SHAPE);
+        sectionByAdapter.put(arrangementAdapter, Section.SHAPE);
+        sectionByAdapter.put(linkAdapter, Section.SHAPE);
+        sectionByAdapter.put(appearanceAdapter, Section.APPEARANCE);
+        sectionByAdapter.put(transformAdapter, Section.TRANSFORM);
+        sectionByAdapter.put(animationAdapter, Section.ANIMATION);
+        sectionByAdapter.put(shockwaveAdapter, Section.FIELD);
+        sectionByAdapter.put(triggerAdapter, Section.FIELD);
     }
     
     // ═══════════════════════════════════════════════════════════════════════════
@@ -200,7 +213,8 @@ public class FieldEditState {
     private final List<Runnable> changeListeners = new ArrayList<>();
     
     public boolean isDirty() { return isDirty; }
-    public void markDirty() { isDirty = true; notifyListeners(); }
+    public void markDirty() { touchAll(); isDirty = true; notifyListeners(); }
+    public void markDirty(Section section) { touch(section); isDirty = true; notifyListeners(); }
     public void clearDirty() { isDirty = false; }
     
     public void addChangeListener(Runnable listener) { changeListeners.add(listener); }
@@ -226,6 +240,39 @@ public class FieldEditState {
         }
     }
     
+    // ═══════════════════════════════════════════════════════════════════════════
+    // REVISIONS (for DefinitionBuilder.cached)
+    // ═══════════════════════════════════════════════════════════════════════════
+    
+    /**
+     * Parts of the state that {@link DefinitionBuilder#cached} rebuilds separately.
+     * 
+     * <p>SHAPE also covers fill, mask, arrangement and link, which only feed the
+     * selected primitive. LAYERS covers the layer list and the selection; FIELD
+     * covers definition-level fields and the shockwave config.</p>
+     */
+    public enum Section { SHAPE, APPEARANCE, TRANSFORM, ANIMATION, LAYERS, FIELD }
+    
+    private final long[] revisions = new long[Section.values().length];
+    private final DefinitionBuilder.Cache definitionCache = new DefinitionBuilder.Cache();
+    
+    /** Increases every time the section changes; never reset. */
+    public long revision(Section section) { return revisions[section.ordinal()]; }
+    
+    /**
+     * Bumps a section without marking the state dirty.
+     * For loads that change what gets built but not what gets saved.
+     */
+    public void touch(Section section) { revisions[section.ordinal()]++; }
+    
+    public void touchAll() {
+        for (int i = 0; i < revisions.length; i++) {
+            revisions[i]++;
+        }
+    }
+    
+    DefinitionBuilder.Cache definitionCache() { return definitionCache; }
+    
     // ═══════════════════════════════════════════════════════════════════════════
     // STATE CHANGE LISTENERS (for GUI panel binding system)
     // ═══════════════════════════════════════════════════════════════════════════
@@ -307,11 +354,12 @@ public class FieldEditState {
         if (adapter != null) {
             // Pass the FULL path to the adapter - it handles internal navigation
             adapter.set(path, value);
+            markDirty(sectionByAdapter.get(adapter));
         } else {
             // Try direct field on this class
             StateAccessor.set(this, path, value);
+            markDirty(Section.FIELD);
         }
-        markDirty();
     }
     
     /**
@@ -504,6 +552,7 @@ public class FieldEditState {
         } else {
             shockwaveAdapter.reset();
         }
+        touch(Section.FIELD);
     }
     
     // JSON SERIALIZATION (delegates to SerializationManager)
@@ -515,6 +564,7 @@ public class FieldEditState {
     
     public void fromJson(JsonObject json) {
         serializationManager.fromJson(json);
+        touchAll();
         clearDirty();
     }
     
@@ -524,6 +574,7 @@ public class FieldEditState {
     
     public void fromStateJson(String jsonStr) {
         serializationManager.fromJsonString(jsonStr);
+        touchAll();
         clearDirty();
     }
     
@@ -576,7 +627,7 @@ public class FieldEditState {
     
     // shapeType accessor (used by many panels)
     public String getShapeType() { return shapeAdapter.shapeType(); }
-    public void setShapeType(String type) { shapeAdapter.setShapeType(type); markDirty(); }
+    public void setShapeType(String type) { shapeAdapter.setShapeType(type); markDirty(Section.SHAPE); }
     
     // shapeType field access (used by FillSubPanel) - MUST return live value from adapter!
     // This was a bug: it was a static field initialized to "sphere" that never updated
@@ -653,7 +704,10 @@ public class FieldEditState {
     public int findPrimitiveById(int layerIdx, String id) { return layerManager.findPrimitiveById(layerIdx, id); }
     public int addPrimitiveWithId(int layerIdx, String type) {
         int idx = addPrimitive(layerIdx);
-        if (idx >= 0) shapeAdapter.setShapeType(type);
+        if (idx >= 0) {
+            shapeAdapter.setShapeType(type);
+            touch(Section.SHAPE);
+        }
         return idx;
     }
     
@@ -4,7 +4,7 @@ import net.cyberpunk042.log.Logging;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import org.jetbrains.annotations.Nullable;
-import net.cyberpunk042.client.network.GuiPacketSender;
+import net.cyberpunk042.client.network.DebugFieldSync;
 
 /**
  * Client-side singleton holder for FieldEditState.
@@ -142,7 +142,7 @@ public final class FieldEditStateHolder {
         // Ensure state exists
         getOrCreate();
         Logging.GUI.topic("state").info("Test field spawned");
-        GuiPacketSender.spawnDebugField(getOrCreate().toStateJson());
+        DebugFieldSync.spawn(getOrCreate());
     }
     
     /**
@@ -151,7 +151,7 @@ public final class FieldEditStateHolder {
     public static void despawnTestField() {
         testFieldActive = false;
         Logging.GUI.topic("state").info("Test field despawned");
-        GuiPacketSender.despawnDebugField();
+        DebugFieldSync.despawn();
     }
     
     /**
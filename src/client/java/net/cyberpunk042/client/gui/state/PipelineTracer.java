@@ -14,23 +14,55 @@ import net.cyberpunk042.log.LogLevel;
  * <pre>
  * // At each checkpoint:
  * PipelineTracer.trace("A1", 1, "color=0xFFFF0000");  // GUI
- * PipelineTracer.trace("A1", 2, "primaryColor=0xFFFF0000");  // State
- * PipelineTracer.trace("A1", 3, "hex=#FF0000");  // Builder
+ * PipelineTracer.trace("A1", 2, "primaryColor", argb);  // State (typed, no string built)
+ * PipelineTracer.traceColor("A1", 5, "resolved", argb);  // Renderer, dumped as hex
  * // ...
  * 
  * // To verify:
  * PipelineTracer.verify("A1");  // Checks all 7 checkpoints reached
  * PipelineTracer.dump();  // Dumps all traces
  * </pre>
+ * 
+ * <p>The renderers trace every primitive every frame, so the hot path must
+ * cost nothing while tracing is off: every overload checks {@link #enabled}
+ * first and takes its value as a primitive or a plain reference, so callers
+ * never build strings. When tracing is on, entries go into a preallocated
+ * pending batch and are only formatted when the batch fills or a report
+ * ({@link #dump}, {@link #verify}, {@link #summary}) needs them. A full batch
+ * is flushed, never overwritten, so no checkpoint is dropped. Object values
+ * are formatted at that point, not when traced.
  */
 public final class PipelineTracer {
     
-    private static boolean enabled = false;
+    // Toggled from the GUI thread, read by the render and worker threads
+    private static volatile boolean enabled = false;
     private static final int CHECKPOINT_COUNT = 7;
-    
-    // segment -> checkpoint -> value
+    private static final int BATCH_CAPACITY = 4096;
+    
+    // Value kinds stored in the pending batch
+    private static final byte KIND_TEXT = 0;
+    private static final byte KIND_OBJECT = 1;
+    private static final byte KIND_INT = 2;
+    private static final byte KIND_LONG = 3;
+    private static final byte KIND_FLOAT = 4;
+    private static final byte KIND_DOUBLE = 5;
+    private static final byte KIND_BOOLEAN = 6;
+    private static final byte KIND_ENUM = 7;
+    private static final byte KIND_COLOR = 8;
+    
+    // segment -> checkpoint -> value (formatted, filled by flush())
     private static final Map<String, Map<Integer, String>> traces = new ConcurrentHashMap<>();
     
+    // Pending events, struct-of-arrays; guarded by LOCK
+    private static final Object LOCK = new Object();
+    private static final String[] pendingSegment = new String[BATCH_CAPACITY];
+    private static final String[] pendingKey = new String[BATCH_CAPACITY];
+    private static final Object[] pendingRef = new Object[BATCH_CAPACITY];
+    private static final long[] pendingBits = new long[BATCH_CAPACITY];
+    private static final byte[] pendingCheckpoint = new byte[BATCH_CAPACITY];
+    private static final byte[] pendingKind = new byte[BATCH_CAPACITY];
+    private static int pendingCount = 0;
+    
     // Checkpoint names for logging
     private static final String[] CHECKPOINT_NAMES = {
         "???",      // 0 (unused)
@@ -64,7 +96,11 @@ public final class PipelineTracer {
     }
     
     public static void clear() {
-        traces.clear();
+        synchronized (LOCK) {
+            Arrays.fill(pendingRef, 0, pendingCount, null);
+            pendingCount = 0;
+            traces.clear();
+        }
     }
     
     // =========================================================================
@@ -80,17 +116,101 @@ public final class PipelineTracer {
      */
     public static void trace(String segment, int checkpoint, String value) {
         if (!enabled) return;
-        if (checkpoint < 1 || checkpoint > CHECKPOINT_COUNT) return;
-        
-        traces.computeIfAbsent(segment, k -> new ConcurrentHashMap<>())
-              .put(checkpoint, value);
+        record(segment, checkpoint, null, KIND_TEXT, 0L, value);
     }
     
     /**
-     * Convenience method for tracing with auto-formatting.
+     * Records {@code key=value}; the value is formatted with
+     * {@link String#valueOf(Object)} when the trace is reported.
      */
     public static void trace(String segment, int checkpoint, String key, Object value) {
-        trace(segment, checkpoint, key + "=" + value);
+        if (!enabled) return;
+        record(segment, checkpoint, key, KIND_OBJECT, 0L, value);
+    }
+    
+    /** Records {@code key=NAME}; null enums read as "null". */
+    public static void trace(String segment, int checkpoint, String key, Enum<?> value) {
+        if (!enabled) return;
+        record(segment, checkpoint, key, KIND_ENUM, 0L, value);
+    }
+    
+    public static void trace(String segment, int checkpoint, String key, int value) {
+        if (!enabled) return;
+        record(segment, checkpoint, key, KIND_INT, value, null);
+    }
+    
+    public static void trace(String segment, int checkpoint, String key, long value) {
+        if (!enabled) return;
+        record(segment, checkpoint, key, KIND_LONG, value, null);
+    }
+    
+    public static void trace(String segment, int checkpoint, String key, float value) {
+        if (!enabled) return;
+        record(segment, checkpoint, key, KIND_FLOAT, Float.floatToRawIntBits(value), null);
+    }
+    
+    public static void trace(String segment, int checkpoint, String key, double value) {
+        if (!enabled) return;
+        record(segment, checkpoint, key, KIND_DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+    
+    public static void trace(String segment, int checkpoint, String key, boolean value) {
+        if (!enabled) return;
+        record(segment, checkpoint, key, KIND_BOOLEAN, value ? 1L : 0L, null);
+    }
+    
+    /**
+     * Records an ARGB color; reported as {@code key=0x<hex>}.
+     */
+    public static void traceColor(String segment, int checkpoint, String key, int argb) {
+        if (!enabled) return;
+        record(segment, checkpoint, key, KIND_COLOR, argb, null);
+    }
+    
+    private static void record(String segment, int checkpoint, String key, byte kind, long bits, Object ref) {
+        if (checkpoint < 1 || checkpoint > CHECKPOINT_COUNT) return;
+        synchronized (LOCK) {
+            if (pendingCount == BATCH_CAPACITY) {
+                flush();
+            }
+            int i = pendingCount++;
+            pendingSegment[i] = segment;
+            pendingCheckpoint[i] = (byte) checkpoint;
+            pendingKey[i] = key;
+            pendingKind[i] = kind;
+            pendingBits[i] = bits;
+            pendingRef[i] = ref;
+        }
+    }
+    
+    /**
+     * Formats pending events into {@link #traces}. Later events win, as with
+     * the direct map writes this batch replaces.
+     */
+    private static void flush() {
+        synchronized (LOCK) {
+            for (int i = 0; i < pendingCount; i++) {
+                traces.computeIfAbsent(pendingSegment[i], k -> new ConcurrentHashMap<>())
+                      .put((int) pendingCheckpoint[i], format(i));
+                pendingRef[i] = null;
+            }
+            pendingCount = 0;
+        }
+    }
+    
+    private static String format(int i) {
+        String value = switch (pendingKind[i]) {
+            case KIND_TEXT -> (String) pendingRef[i];
+            case KIND_INT -> Integer.toString((int) pendingBits[i]);
+            case KIND_LONG -> Long.toString(pendingBits[i]);
+            case KIND_FLOAT -> Float.toString(Float.intBitsToFloat((int) pendingBits[i]));
+            case KIND_DOUBLE -> Double.toString(Double.longBitsToDouble(pendingBits[i]));
+            case KIND_BOOLEAN -> Boolean.toString(pendingBits[i] != 0L);
+            case KIND_ENUM -> pendingRef[i] != null ? ((Enum<?>) pendingRef[i]).name() : "null";
+            case KIND_COLOR -> "0x" + Integer.toHexString((int) pendingBits[i]);
+            default -> String.valueOf(pendingRef[i]);
+        };
+        return pendingKey[i] == null ? value : pendingKey[i] + "=" + value;
     }
     
     // =========================================================================
@@ -103,6 +223,7 @@ public final class PipelineTracer {
      * @return true if all 7 checkpoints recorded
      */
     public static boolean verify(String segment) {
+        flush();
         Map<Integer, String> checkpoints = traces.get(segment);
         if (checkpoints == null) {
             Logging.GUI.topic("trace").warn("[{}] NO TRACES RECORDED", segment);
@@ -136,6 +257,7 @@ public final class PipelineTracer {
      * Gets the last reached checkpoint for a segment.
      */
     public static int lastCheckpoint(String segment) {
+        flush();
         Map<Integer, String> checkpoints = traces.get(segment);
         if (checkpoints == null) return 0;
         
@@ -176,6 +298,7 @@ public final class PipelineTracer {
      * @param clearAfter Whether to clear traces after dumping
      */
     public static void dump(boolean clearAfter) {
+        flush();
         if (traces.isEmpty()) {
             Logging.GUI.topic("trace").info("No traces recorded");
             return;
@@ -329,6 +452,7 @@ public final class PipelineTracer {
      * Gets a summary of all segments with accuracy check.
      */
     public static String summary() {
+        flush();
         if (traces.isEmpty()) return "No traces";
         
         int trueComplete = 0;
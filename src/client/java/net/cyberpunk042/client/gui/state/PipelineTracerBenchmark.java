@@ -0,0 +1,91 @@
+package net.cyberpunk042.client.gui.state;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * In-game micro benchmark for the disabled {@link PipelineTracer} path, run
+ * via {@code /tracebench}. Replays a renderer-sized batch of typed trace
+ * calls with tracing switched off and reports the bytes allocated per call,
+ * next to the old pattern of formatting the value before the call.
+ */
+public final class PipelineTracerBenchmark {
+
+    private static final int FRAMES = 20_000;
+    private static final int WARMUP_FRAMES = 5_000;
+    private static final int CALLS_PER_FRAME = 8;
+
+    private PipelineTracerBenchmark() {}
+
+    public record Result(double typedBytesPerCall, double eagerBytesPerCall, double typedNanosPerCall) {
+        public String describe() {
+            return String.format(Locale.ROOT, "tracer off: typed=%.2fB/call %.1fns/call  eager strings=%.2fB/call",
+                typedBytesPerCall, typedNanosPerCall, eagerBytesPerCall);
+        }
+    }
+
+    public static Result run() {
+        boolean wasEnabled = PipelineTracer.isEnabled();
+        if (wasEnabled) {
+            PipelineTracer.disable();
+        }
+        try {
+            float radius = 1.5f;
+            int color = 0xFF33CCFF;
+            for (int i = 0; i < WARMUP_FRAMES; i++) {
+                typedFrame(radius + i, color + i, i);
+                eagerFrame(radius + i, color + i, i);
+            }
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < FRAMES; i++) {
+                typedFrame(radius + i, color + i, i);
+            }
+            long typedNanos = System.nanoTime() - start;
+            long typedBytes = allocatedBytes() - bytes;
+
+            bytes = allocatedBytes();
+            for (int i = 0; i < FRAMES; i++) {
+                eagerFrame(radius + i, color + i, i);
+            }
+            long eagerBytes = allocatedBytes() - bytes;
+
+            double calls = (double) FRAMES * CALLS_PER_FRAME;
+            return new Result(typedBytes / calls, eagerBytes / calls, typedNanos / calls);
+        } finally {
+            if (wasEnabled) {
+                PipelineTracer.enable();
+            }
+        }
+    }
+
+    private static void typedFrame(float radius, int color, int steps) {
+        PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "sphere.r", radius);
+        PipelineTracer.trace(PipelineTracer.S3_LAT_STEPS, 4, "sphere.lat", steps);
+        PipelineTracer.trace(PipelineTracer.F3_DOUBLE_SIDED, 4, "prim.double", (steps & 1) == 0);
+        PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 4, "prim.anchor", Thread.State.RUNNABLE);
+        PipelineTracer.traceColor(PipelineTracer.A1_PRIMARY_COLOR, 5, "resolved", color);
+        PipelineTracer.traceColor(PipelineTracer.A1_PRIMARY_COLOR, 6, "emitColor", color);
+        PipelineTracer.trace(PipelineTracer.A2_ALPHA, 7, "emitted", radius / 255f);
+        PipelineTracer.trace(PipelineTracer.S1_SHAPE_TYPE, 7, "emitted", "mesh");
+    }
+
+    // What the call sites did before: format first, then let the tracer drop it
+    private static void eagerFrame(float radius, int color, int steps) {
+        PipelineTracer.trace(PipelineTracer.S2_RADIUS, 4, "sphere.r", String.valueOf(radius));
+        PipelineTracer.trace(PipelineTracer.S3_LAT_STEPS, 4, "sphere.lat", String.valueOf(steps));
+        PipelineTracer.trace(PipelineTracer.F3_DOUBLE_SIDED, 4, "prim.double", String.valueOf((steps & 1) == 0));
+        PipelineTracer.trace(PipelineTracer.T5_ANCHOR, 4, "prim.anchor", Thread.State.RUNNABLE.name());
+        PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 5, "resolved", "0x" + Integer.toHexString(color));
+        PipelineTracer.trace(PipelineTracer.A1_PRIMARY_COLOR, 6, "emitColor", "0x" + Integer.toHexString(color));
+        PipelineTracer.trace(PipelineTracer.A2_ALPHA, 7, "emitted", String.valueOf(radius / 255f));
+        PipelineTracer.trace(PipelineTracer.S1_SHAPE_TYPE, 7, "emitted", "mesh");
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0L;
+    }
+}
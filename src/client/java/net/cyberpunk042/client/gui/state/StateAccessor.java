@@ -28,6 +28,10 @@ import java.util.function.Consumer;
  * // Set by name
  * StateAccessor.set(state, "sphere", newSphere);
  * </pre>
+ *
+ * <p>Path-based {@link #get(Object, String)} and {@link #set(Object, String, Object)}
+ * go through {@link StatePath}, which compiles each (class, path) to method
+ * handles on first use.</p>
  */
 public final class StateAccessor {
     
@@ -111,11 +115,7 @@ public final class StateAccessor {
      * </pre>
      */
     public static Object get(Object state, String path) {
-        if (path.contains(".")) {
-            return getNestedProperty(state, path);
-        } else {
-            return getDirectField(state, path);
-        }
+        return StatePath.of(state.getClass(), path).get(state);
     }
     
     /**
@@ -180,70 +180,6 @@ public final class StateAccessor {
         throw new IllegalArgumentException("Field '" + path + "' is not of type " + type.getSimpleName() + ": " + value);
     }
     
-    private static Object getDirectField(Object state, String name) {
-        Field field = getStateFields(state.getClass()).get(name);
-        if (field == null) {
-            throw new IllegalArgumentException("No @StateField named: " + name);
-        }
-        try {
-            field.setAccessible(true);
-            return field.get(state);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Cannot access field: " + name, e);
-        }
-    }
-    
-    private static Object getNestedProperty(Object state, String path) {
-        String[] parts = path.split("\\.", 2);
-        String fieldName = parts[0];
-        String remaining = parts[1];
-        
-        // Get the record value
-        Field field = getStateFields(state.getClass()).get(fieldName);
-        if (field == null) {
-            throw new IllegalArgumentException("No @StateField named: " + fieldName);
-        }
-        
-        try {
-            field.setAccessible(true);
-            Object record = field.get(state);
-            if (record == null) {
-                return null;
-            }
-            
-            // Navigate the remaining path
-            return getRecordProperty(record, remaining);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Cannot access field: " + fieldName, e);
-        }
-    }
-    
-    private static Object getRecordProperty(Object record, String path) {
-        try {
-            if (path.contains(".")) {
-                // Nested: "pulse.speed" -> get pulse, then get speed
-                String[] parts = path.split("\\.", 2);
-                String propertyName = parts[0];
-                String remaining = parts[1];
-                
-                var getter = record.getClass().getMethod(propertyName);
-                Object nestedRecord = getter.invoke(record);
-                if (nestedRecord == null) {
-                    return null;
-                }
-                return getRecordProperty(nestedRecord, remaining);
-            } else {
-                // Direct property
-                var getter = record.getClass().getMethod(path);
-                return getter.invoke(record);
-            }
-        } catch (NoSuchMethodException e) {
-            throw new IllegalArgumentException("No property '" + path + "' on " + record.getClass().getSimpleName());
-        } catch (Exception e) {
-            throw new RuntimeException("Cannot get property: " + path, e);
-        }
-    }
-    
     // ═══════════════════════════════════════════════════════════════════════════
     // PATH-BASED SETTERS
     // ═══════════════════════════════════════════════════════════════════════════
@@ -259,122 +195,13 @@ public final class StateAccessor {
      * </pre>
      */
     public static void set(Object state, String path, Object value) {
-        if (path.contains(".")) {
-            setNestedProperty(state, path, value);
-        } else {
-            setDirectField(state, path, value);
-        }
-    }
-    
-    private static void setDirectField(Object state, String name, Object value) {
-        Field field = getStateFields(state.getClass()).get(name);
-        if (field == null) {
-            throw new IllegalArgumentException("No @StateField named: " + name);
-        }
-        try {
-            field.setAccessible(true);
-            field.set(state, value);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Cannot set field: " + name, e);
-        }
-    }
-    
-    /**
-     * Set a nested property using dot notation.
-     * Handles toBuilder()/build() chain automatically via reflection.
-     */
-    private static void setNestedProperty(Object state, String path, Object value) {
-        String[] parts = path.split("\\.", 2);
-        String fieldName = parts[0];
-        String remaining = parts[1];
-        
-        // Get the current record value
-        Field field = getStateFields(state.getClass()).get(fieldName);
-        if (field == null) {
-            throw new IllegalArgumentException("No @StateField named: " + fieldName);
-        }
-        
-        try {
-            field.setAccessible(true);
-            Object record = field.get(state);
-            
-            // Update the record (handles nested paths recursively)
-            Object updated = updateRecordProperty(record, remaining, value);
-            
-            // DEBUG: Log the update for fill-related changes
-            if (fieldName.equals("fill")) {
-                Logging.GUI.topic("accessor").debug("[FILL-DEBUG] StateAccessor updating '{}' from {} to {}", 
-                    path, record, updated);
-            }
-            
-            // Set the updated record back
-            field.set(state, updated);
-        } catch (Exception e) {
-            throw new RuntimeException("Cannot set nested property: " + path, e);
-        }
-    }
-    
-    /**
-     * Update a property on a record using toBuilder pattern.
-     * Supports nested paths like "pulse.speed" for records containing other records.
-     */
-    private static Object updateRecordProperty(Object record, String path, Object value) {
-        try {
-            // Special case: KamehamehaShape.combinedProgress uses withCombinedProgress() factory
-            if (record instanceof net.cyberpunk042.visual.shape.KamehamehaShape kamehameha
-                    && path.equals("combinedProgress")) {
-                float combined = (value instanceof Number num) ? num.floatValue() : 0f;
-                return kamehameha.withCombinedProgress(combined);
-            }
-            
-            // Get the builder
-            var toBuilderMethod = record.getClass().getMethod("toBuilder");
-            Object builder = toBuilderMethod.invoke(record);
-            
-            if (path.contains(".")) {
-                // Nested property: "pulse.speed" -> update pulse record, then set on builder
-                String[] parts = path.split("\\.", 2);
-                String propertyName = parts[0];
-                String remaining = parts[1];
-                
-                // Get current nested record from the outer record
-                var getter = record.getClass().getMethod(propertyName);
-                Object nestedRecord = getter.invoke(record);
-                
-                // If nested record is null, try to create a default instance
-                if (nestedRecord == null) {
-                    Class<?> nestedType = getter.getReturnType();
-                    nestedRecord = createDefaultRecord(nestedType);
-                    if (nestedRecord == null) {
-                        throw new RuntimeException("Cannot create default for null nested record: " + propertyName);
-                    }
-                }
-                
-                // Recursively update the nested record
-                Object updatedNested = updateRecordProperty(nestedRecord, remaining, value);
-                
-                // Set updated nested record on builder
-                var builderSetter = findBuilderMethod(builder.getClass(), propertyName);
-                builderSetter.invoke(builder, updatedNested);
-            } else {
-                // Direct property: find and call builder method
-                var builderSetter = findBuilderMethod(builder.getClass(), path);
-                Object convertedValue = convertToParameterType(value, builderSetter.getParameterTypes()[0]);
-                builderSetter.invoke(builder, convertedValue);
-            }
-            
-            // Build and return
-            var buildMethod = builder.getClass().getMethod("build");
-            return buildMethod.invoke(builder);
-        } catch (Exception e) {
-            throw new RuntimeException("Cannot update record property: " + path + " on " + record.getClass().getSimpleName(), e);
-        }
+        StatePath.of(state.getClass(), path).set(state, value);
     }
     
     /**
      * Creates a default instance of a record type if it has a NONE/DEFAULT/IDENTITY constant.
      */
-    private static Object createDefaultRecord(Class<?> recordType) {
+    static Object createDefaultRecord(Class<?> recordType) {
         // Try common default constant names
         String[] defaultNames = {"NONE", "DEFAULT", "IDENTITY", "EMPTY"};
         for (String name : defaultNames) {
@@ -393,23 +220,11 @@ public final class StateAccessor {
         return null;
     }
     
-    /**
-     * Find a builder method by name (handles primitive type matching).
-     */
-    private static java.lang.reflect.Method findBuilderMethod(Class<?> builderClass, String name) {
-        for (var method : builderClass.getMethods()) {
-            if (method.getName().equals(name) && method.getParameterCount() == 1) {
-                return method;
-            }
-        }
-        throw new IllegalArgumentException("No builder method: " + name + " on " + builderClass.getSimpleName());
-    }
-    
     /**
      * Convert a value to the expected parameter type (handles String-to-Enum, primitive boxing, etc.).
      */
     @SuppressWarnings("unchecked")
-    private static Object convertToParameterType(Object value, Class<?> targetType) {
+    static Object convertToParameterType(Object value, Class<?> targetType) {
         if (value == null) return null;
         
         // Already correct type
@@ -524,7 +339,7 @@ public final class StateAccessor {
     /**
      * Get all @StateField fields for a class (cached).
      */
-    private static Map<String, Field> getStateFields(Class<?> clazz) {
+    static Map<String, Field> getStateFields(Class<?> clazz) {
         return FIELD_CACHE.computeIfAbsent(clazz, c -> {
             Map<String, Field> fields = new HashMap<>();
             for (Field field : c.getDeclaredFields()) {
@@ -0,0 +1,267 @@
+package net.cyberpunk042.client.gui.state;
+
+import net.cyberpunk042.log.Logging;
+import net.cyberpunk042.visual.shape.KamehamehaShape;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A dotted {@link StateAccessor} path compiled to {@link MethodHandle}s.
+ *
+ * <p>The first segment is a {@code @StateField} on the root class; the rest
+ * are record accessors, and writes go back through {@code toBuilder()},
+ * the builder's setter and {@code build()}. Compiled paths are cached per
+ * (root class, path).
+ *
+ * <p>Record handles are resolved against the runtime class of the record,
+ * so a field declared as an interface still works. They are cached per
+ * (class, property) in {@link ClassValue} tables shared by all paths, and
+ * each segment also remembers the handles it used last. Reflection
+ * therefore only happens the first time a (class, property) pair is seen,
+ * even when the runtime class of a segment alternates.
+ */
+final class StatePath {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<String, StatePath>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, StatePath> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<String, Reader>> READERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Reader> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<String, Writer>> WRITERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Writer> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String path;
+    private final String fieldName;
+    private final Class<?> fieldType;
+    private final MethodHandle fieldGetter;
+    private final MethodHandle fieldSetter;
+    private final Segment[] segments;
+
+    private StatePath(String path, Field field, String fieldName, String[] properties) {
+        this.path = path;
+        this.fieldName = fieldName;
+        this.fieldType = field.getType();
+        try {
+            field.setAccessible(true);
+            this.fieldGetter = LOOKUP.unreflectGetter(field).asType(GETTER);
+            this.fieldSetter = LOOKUP.unreflectSetter(field).asType(SETTER);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot access field: " + fieldName, e);
+        }
+        this.segments = new Segment[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            segments[i] = new Segment(properties[i]);
+        }
+    }
+
+    /**
+     * Compiled path for {@code path} on instances of {@code rootType}.
+     *
+     * @throws IllegalArgumentException if the first segment is not a {@code @StateField}
+     */
+    static StatePath of(Class<?> rootType, String path) {
+        Map<String, StatePath> paths = CACHE.get(rootType);
+        StatePath compiled = paths.get(path);
+        if (compiled == null) {
+            compiled = compile(rootType, path);
+            paths.putIfAbsent(path, compiled);
+        }
+        return compiled;
+    }
+
+    private static StatePath compile(Class<?> rootType, String path) {
+        String[] parts = path.split("\\.");
+        Field field = StateAccessor.getStateFields(rootType).get(parts[0]);
+        if (field == null) {
+            throw new IllegalArgumentException("No @StateField named: " + parts[0]);
+        }
+        String[] properties = new String[parts.length - 1];
+        System.arraycopy(parts, 1, properties, 0, properties.length);
+        return new StatePath(path, field, parts[0], properties);
+    }
+
+    Object get(Object state) {
+        Object value;
+        try {
+            value = (Object) fieldGetter.invokeExact(state);
+        } catch (Throwable t) {
+            throw new RuntimeException("Cannot access field: " + fieldName, t);
+        }
+        for (Segment segment : segments) {
+            if (value == null) {
+                return null;
+            }
+            value = segment.read(value, path);
+        }
+        return value;
+    }
+
+    void set(Object state, Object value) {
+        if (segments.length == 0) {
+            try {
+                fieldSetter.invokeExact(state, StateAccessor.convertToParameterType(value, fieldType));
+            } catch (Throwable t) {
+                throw new RuntimeException("Cannot set field: " + fieldName, t);
+            }
+            return;
+        }
+        try {
+            Object record = (Object) fieldGetter.invokeExact(state);
+            Object updated = update(record, 0, value);
+            if (fieldName.equals("fill")) {
+                Logging.GUI.topic("accessor").debug("[FILL-DEBUG] StateAccessor updating '{}' from {} to {}",
+                    path, record, updated);
+            }
+            fieldSetter.invokeExact(state, updated);
+        } catch (Throwable t) {
+            throw new RuntimeException("Cannot set nested property: " + path, t);
+        }
+    }
+
+    /**
+     * Rebuilds {@code record} with the property at {@code depth} (and
+     * everything below it) replaced.
+     */
+    private Object update(Object record, int depth, Object value) {
+        Segment segment = segments[depth];
+        boolean leaf = depth == segments.length - 1;
+        if (leaf && record instanceof KamehamehaShape kamehameha && segment.name.equals("combinedProgress")) {
+            return kamehameha.withCombinedProgress(value instanceof Number num ? num.floatValue() : 0f);
+        }
+        try {
+            Writer writer = segment.writer(record.getClass());
+            Object builder = (Object) writer.toBuilder.invokeExact(record);
+            if (leaf) {
+                writer.setter.invokeExact(builder, StateAccessor.convertToParameterType(value, writer.parameterType));
+            } else {
+                Object nested = segment.read(record, path);
+                if (nested == null) {
+                    nested = StateAccessor.createDefaultRecord(segment.reader(record.getClass()).type);
+                    if (nested == null) {
+                        throw new RuntimeException("Cannot create default for null nested record: " + segment.name);
+                    }
+                }
+                writer.setter.invokeExact(builder, update(nested, depth + 1, value));
+            }
+            return (Object) writer.build.invokeExact(builder);
+        } catch (Throwable t) {
+            throw new RuntimeException("Cannot update record property: " + segment.name
+                + " on " + record.getClass().getSimpleName(), t);
+        }
+    }
+
+    /** Accessor handle plus its declared return type. */
+    private record Reader(Class<?> owner, MethodHandle getter, Class<?> type) {}
+
+    /** Handles for rebuilding one property through the owner's builder. */
+    private record Writer(Class<?> owner, MethodHandle toBuilder, MethodHandle setter,
+                          Class<?> parameterType, MethodHandle build) {}
+
+    /**
+     * One record property. Handles come from the shared per-class tables;
+     * the last ones used are kept per direction so the common case of an
+     * unchanged runtime class skips the table lookup.
+     */
+    private static final class Segment {
+        final String name;
+        private volatile Reader reader;
+        private volatile Writer writer;
+
+        Segment(String name) {
+            this.name = name;
+        }
+
+        Object read(Object record, String path) {
+            try {
+                return (Object) reader(record.getClass()).getter.invokeExact(record);
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException("Cannot get property: " + path, t);
+            }
+        }
+
+        Reader reader(Class<?> owner) {
+            Reader current = reader;
+            if (current == null || current.owner != owner) {
+                Map<String, Reader> readers = READERS.get(owner);
+                current = readers.get(name);
+                if (current == null) {
+                    Method method;
+                    try {
+                        method = owner.getMethod(name);
+                    } catch (NoSuchMethodException e) {
+                        throw new IllegalArgumentException("No property '" + name + "' on " + owner.getSimpleName());
+                    }
+                    current = new Reader(owner, unreflect(method).asType(GETTER), method.getReturnType());
+                    readers.putIfAbsent(name, current);
+                }
+                reader = current;
+            }
+            return current;
+        }
+
+        Writer writer(Class<?> owner) throws NoSuchMethodException {
+            Writer current = writer;
+            if (current == null || current.owner != owner) {
+                Map<String, Writer> writers = WRITERS.get(owner);
+                current = writers.get(name);
+                if (current == null) {
+                    Method toBuilder = owner.getMethod("toBuilder");
+                    Class<?> builderType = toBuilder.getReturnType();
+                    Method setter = findBuilderMethod(builderType, name);
+                    Method build = builderType.getMethod("build");
+                    current = new Writer(owner,
+                        unreflect(toBuilder).asType(GETTER),
+                        unreflect(setter).asType(SETTER),
+                        setter.getParameterTypes()[0],
+                        unreflect(build).asType(GETTER));
+                    writers.putIfAbsent(name, current);
+                }
+                writer = current;
+            }
+            return current;
+        }
+
+        private static Method findBuilderMethod(Class<?> builderClass, String name) {
+            for (Method method : builderClass.getMethods()) {
+                if (method.getName().equals(name) && method.getParameterCount() == 1) {
+                    return method;
+                }
+            }
+            throw new IllegalArgumentException("No builder method: " + name + " on " + builderClass.getSimpleName());
+        }
+
+        private static MethodHandle unreflect(Method method) {
+            try {
+                method.trySetAccessible();
+                return LOOKUP.unreflect(method);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Cannot access method: " + method, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package net.cyberpunk042.client.gui.state;
+
+import net.cyberpunk042.field.BeamConfig;
+import net.cyberpunk042.visual.animation.PulseConfig;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-game micro benchmark for {@link StateAccessor} paths, run via
+ * {@code /accessorbench}. Times a get plus a set on 1-, 2- and 3-segment
+ * paths through the compiled {@link StatePath} and through the per-call
+ * reflection ({@code getMethod}/{@code invoke}, reflective
+ * {@code toBuilder()}/{@code build()}) that it replaced.
+ */
+public final class StatePathBenchmark {
+
+    private static final int ITERATIONS = 200_000;
+    private static final int WARMUP = 50_000;
+    private static final String[] PATHS = {"radius", "beam.height", "beam.pulse.speed"};
+
+    private StatePathBenchmark() {}
+
+    /** Sample state with one plain field and a record two levels deep. */
+    private static final class Sample {
+        @StateField float radius = 1.0f;
+        @StateField BeamConfig beam = BeamConfig.NONE.toBuilder().pulse(PulseConfig.DEFAULT).build();
+    }
+
+    public record Result(String path, double compiledNanos, double reflectiveNanos) {
+        public String describe() {
+            return String.format(Locale.ROOT, "%-18s compiled=%.0fns  reflective=%.0fns  (%.1fx)",
+                path, compiledNanos, reflectiveNanos, reflectiveNanos / compiledNanos);
+        }
+    }
+
+    public static List<Result> run() {
+        Sample sample = new Sample();
+        List<Result> results = new ArrayList<>(PATHS.length);
+        for (String path : PATHS) {
+            for (int i = 0; i < WARMUP; i++) {
+                compiledRound(sample, path, i);
+                reflectiveRound(sample, path, i);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                compiledRound(sample, path, i);
+            }
+            long compiled = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                reflectiveRound(sample, path, i);
+            }
+            long reflective = System.nanoTime() - start;
+            results.add(new Result(path, (double) compiled / ITERATIONS, (double) reflective / ITERATIONS));
+        }
+        return results;
+    }
+
+    private static void compiledRound(Sample sample, String path, int i) {
+        float value = ((Number) StateAccessor.get(sample, path)).floatValue();
+        StateAccessor.set(sample, path, value + (i & 1));
+    }
+
+    private static void reflectiveRound(Sample sample, String path, int i) {
+        try {
+            String[] parts = path.split("\\.");
+            Field field = StateAccessor.getStateFields(Sample.class).get(parts[0]);
+            field.setAccessible(true);
+            Object root = field.get(sample);
+            float value = ((Number) reflectiveGet(root, parts, 1)).floatValue();
+            field.set(sample, parts.length == 1 ? (Object) (value + (i & 1)) : reflectiveSet(root, parts, 1, value + (i & 1)));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Object reflectiveGet(Object record, String[] parts, int depth) throws ReflectiveOperationException {
+        if (depth == parts.length) {
+            return record;
+        }
+        return reflectiveGet(record.getClass().getMethod(parts[depth]).invoke(record), parts, depth + 1);
+    }
+
+    private static Object reflectiveSet(Object record, String[] parts, int depth, Object value) throws ReflectiveOperationException {
+        Object builder = record.getClass().getMethod("toBuilder").invoke(record);
+        Object replacement = depth == parts.length - 1
+            ? value
+            : reflectiveSet(record.getClass().getMethod(parts[depth]).invoke(record), parts, depth + 1, value);
+        for (Method method : builder.getClass().getMethods()) {
+            if (method.getName().equals(parts[depth]) && method.getParameterCount() == 1) {
+                method.invoke(builder, replacement);
+                break;
+            }
+        }
+        return builder.getClass().getMethod("build").invoke(builder);
+    }
+}
@@ -51,6 +51,14 @@ public class LayerManager extends AbstractManager {
         if (selectionChangeCallback != null) selectionChangeCallback.run();
     }
     
+    /**
+     * Layer edits leave the adapters alone, so only the layer revision moves.
+     */
+    @Override
+    protected void markDirty() {
+        state.markDirty(FieldEditState.Section.LAYERS);
+    }
+    
     // ═══════════════════════════════════════════════════════════════════════════
     // PRIMITIVE SYNC (via adapters)
     // ═══════════════════════════════════════════════════════════════════════════
@@ -68,6 +76,7 @@ public class LayerManager extends AbstractManager {
         for (PrimitiveAdapter adapter : adapters) {
             adapter.loadFrom(prim);
         }
+        state.touchAll();
         
         Logging.GUI.topic("state").debug("Loaded primitive '{}' via adapters", prim.id());
     }
@@ -398,6 +407,7 @@ public class LayerManager extends AbstractManager {
         selectedLayerIndex = 0;
         selectedPrimitivePerLayer.clear();
         selectedPrimitivePerLayer.add(0);
+        state.touch(FieldEditState.Section.LAYERS);
     }
     
     /**
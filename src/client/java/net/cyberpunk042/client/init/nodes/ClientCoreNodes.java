@@ -43,7 +43,7 @@ public final class ClientCoreNodes {
                 ModBlocks.PROGRESSIVE_GROWTH_BLOCK);
             return 4;
         }
-    );
+    ).onMainThread();
     
     /**
      * Block entity renderers.
@@ -58,5 +58,5 @@ public final class ClientCoreNodes {
             net.cyberpunk042.client.render.item.ProgressiveGrowthItemRenderer.bootstrap();
             return 3;
         }
-    );
+    ).onMainThread();
 }
@@ -1,5 +1,9 @@
 package net.cyberpunk042.client.init.nodes;
 
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.cyberpunk042.client.field.FieldDefinitionCache;
 import net.cyberpunk042.client.field.JoinWarmupManager;
 import net.cyberpunk042.client.field.WarmupOverlay;
 import net.cyberpunk042.client.gui.render.TestFieldRenderer;
@@ -23,9 +27,13 @@ import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.Vec3d;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Client field system initialization nodes.
  * 
@@ -35,6 +43,10 @@ public final class ClientFieldNodes {
     
     private ClientFieldNodes() {}
     
+    // Delta stream state for this connection; see FieldDeltaPayload
+    private static final Long2ObjectMap<FieldDeltaPayload.Baseline> DELTA_BASELINES = new Long2ObjectOpenHashMap<>();
+    private static final List<String> DELTA_STRINGS = new ArrayList<>();
+    
     /**
      * Field registry defaults for client rendering.
      */
@@ -59,13 +71,22 @@ public final class ClientFieldNodes {
             
             // Field remove
             ClientPlayNetworking.registerGlobalReceiver(FieldRemovePayload.ID, (payload, context) ->
-                context.client().execute(() -> ClientFieldManager.get().remove(payload.id())));
+                context.client().execute(() -> {
+                    DELTA_BASELINES.remove(payload.id());
+                    ClientFieldManager.get().remove(payload.id());
+                }));
             
             // Field update
             ClientPlayNetworking.registerGlobalReceiver(FieldUpdatePayload.ID, (payload, context) ->
                 context.client().execute(() -> handleUpdate(payload)));
+            ClientPlayNetworking.registerGlobalReceiver(FieldDeltaPayload.ID, (payload, context) ->
+                context.client().execute(() -> handleDelta(payload)));
             
-            // Definition sync
+            // Definition sync: manifest + binary, JSON for older servers
+            ClientPlayNetworking.registerGlobalReceiver(FieldDefinitionManifestPayload.ID, (payload, context) ->
+                FieldDefinitionCache.handleManifest(payload, context.client()));
+            ClientPlayNetworking.registerGlobalReceiver(FieldDefinitionBinaryPayload.ID, (payload, context) ->
+                context.client().execute(() -> FieldDefinitionCache.handleBinary(payload)));
             ClientPlayNetworking.registerGlobalReceiver(FieldDefinitionSyncPayload.ID, (payload, context) ->
                 context.client().execute(() -> handleDefinitionSync(payload)));
             
@@ -76,7 +97,7 @@ public final class ClientFieldNodes {
                 context.client().execute(() -> ClientFieldManager.get().remove(payload.id())));
             
             Logging.GUI.topic("field").info("Registered field payload receivers");
-            return 6;
+            return 9;
         }
     );
     
@@ -114,7 +135,11 @@ public final class ClientFieldNodes {
         "field_disconnect_handler", "Field Disconnect Handler",
         () -> {
             ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> 
-                client.execute(() -> ClientFieldManager.get().clear()));
+                client.execute(() -> {
+                    DELTA_BASELINES.clear();
+                    DELTA_STRINGS.clear();
+                    ClientFieldManager.get().clear();
+                }));
             return 1;
         }
     );
@@ -238,7 +263,7 @@ public final class ClientFieldNodes {
             
             return 1;
         }
-    );
+    ).onMainThread();
     
     /**
      * Depth test shader for post-processing POC (used by Shockwave).
@@ -271,7 +296,7 @@ public final class ClientFieldNodes {
             
             return 1;
         }
-    );
+    ).onMainThread();
     
     // ═══════════════════════════════════════════════════════════════════════════
     // HELPER METHODS
@@ -308,7 +333,7 @@ public final class ClientFieldNodes {
         if (existing == null) return;
         
         Vec3d newPos = new Vec3d(payload.x(), payload.y(), payload.z());
-        existing.withPosition(newPos).withAlpha(payload.alpha());
+        existing.withPosition(newPos).withAlpha(payload.alpha()).withHidden(false);
         
         String shuffleType = payload.shuffleType();
         int shuffleIndex = payload.shuffleIndex();
@@ -322,6 +347,19 @@ public final class ClientFieldNodes {
                 payload.predictionVerticalBoost());
     }
     
+    private static void handleDelta(FieldDeltaPayload payload) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.wrappedBuffer(payload.data()));
+        FieldUpdatePayload update = FieldDeltaPayload.decode(buf, DELTA_BASELINES, DELTA_STRINGS, id -> {
+            ClientFieldState state = ClientFieldManager.get().get(id);
+            if (state != null) {
+                state.withHidden(true);
+            }
+        });
+        if (update != null) {
+            handleUpdate(update);
+        }
+    }
+    
     private static void handleDefinitionSync(FieldDefinitionSyncPayload payload) {
         Identifier id = payload.definitionIdentifier();
         if (id == null) {
@@ -331,10 +369,7 @@ public final class ClientFieldNodes {
         
         try {
             var json = com.google.gson.JsonParser.parseString(payload.definitionJson()).getAsJsonObject();
-            var loader = new net.cyberpunk042.field.loader.FieldLoader();
-            var definition = loader.parseDefinition(json);
-            FieldRegistry.register(definition);
-            Logging.GUI.topic("field").info("Definition REGISTERED: {}", id);
+            FieldDefinitionCache.register(payload.definitionId(), json);
         } catch (Exception e) {
             Logging.GUI.topic("field").error("Failed to parse definition {}: {}", id, e.getMessage());
         }
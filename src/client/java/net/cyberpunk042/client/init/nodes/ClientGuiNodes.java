@@ -1,5 +1,6 @@
 package net.cyberpunk042.client.init.nodes;
 
+import net.cyberpunk042.client.network.DebugFieldSync;
 import net.cyberpunk042.client.network.GuiClientHandlers;
 import net.cyberpunk042.client.screen.PurificationTotemScreen;
 import net.cyberpunk042.client.screen.VirusDifficultyScreen;
@@ -33,7 +34,8 @@ public final class ClientGuiNodes {
         "gui_handlers", "GUI Handlers",
         () -> {
             GuiClientHandlers.register();
-            return 1;
+            DebugFieldSync.register();
+            return 2;
         }
     );
 }
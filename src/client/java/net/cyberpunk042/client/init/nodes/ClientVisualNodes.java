@@ -26,7 +26,7 @@ public final class ClientVisualNodes {
             CorruptedColorProviders.register();
             return 1;
         }
-    );
+    ).onMainThread();
     
     /**
      * Fire texture overlays.
@@ -37,7 +37,7 @@ public final class ClientVisualNodes {
             CorruptedFireTextures.bootstrap();
             return 1;
         }
-    );
+    ).onMainThread();
     
     /**
      * Fluid renderers.
@@ -48,7 +48,7 @@ public final class ClientVisualNodes {
             VirusFluidRenderers.register();
             return 1;
         }
-    );
+    ).onMainThread();
     
     /**
      * Entity renderers.
@@ -62,5 +62,5 @@ public final class ClientVisualNodes {
             EntityRendererRegistry.register(ModEntities.VIRUS_FUSE, TntEntityRenderer::new);
             return 4;
         }
-    );
+    ).onMainThread();
 }
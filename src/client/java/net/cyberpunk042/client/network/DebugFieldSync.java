@@ -0,0 +1,157 @@
+package net.cyberpunk042.client.network;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.cyberpunk042.client.gui.state.FieldEditState;
+import net.cyberpunk042.log.Logging;
+import net.cyberpunk042.network.gui.DebugFieldC2SPayload;
+import net.cyberpunk042.network.gui.DebugFieldTracker;
+import net.cyberpunk042.util.json.JsonPatch;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+
+import java.util.TreeMap;
+
+/**
+ * Coalesced live-preview sync of the edit state to the server's debug field.
+ *
+ * <p>State changes only mark the state pending. The client tick sends it at
+ * most {@value #MAX_UPDATES_PER_SECOND} times per second, so a slider drag
+ * becomes a handful of packets rather than one per step.</p>
+ *
+ * <p>Each send gets a revision. Once the server acknowledges a revision,
+ * later sends are JSON patches against that document. Full documents go out
+ * for the first send, when too many revisions are unacknowledged for the
+ * server to still hold the base, and after the server asks for a resync.</p>
+ */
+@Environment(EnvType.CLIENT)
+public final class DebugFieldSync {
+
+    public static final int MAX_UPDATES_PER_SECOND = 10;
+    private static final long MIN_INTERVAL_MS = 1000L / MAX_UPDATES_PER_SECOND;
+
+    private static FieldEditState pending;
+    private static FieldEditState lastState;
+    private static long lastSentAt;
+
+    private static int lastRevision;
+    private static int fullRevision;
+    private static int ackedRevision = DebugFieldC2SPayload.NO_BASE;
+    private static JsonObject ackedDocument;
+    // Sent but unacknowledged documents by revision
+    private static final TreeMap<Integer, JsonObject> inFlight = new TreeMap<>();
+
+    private DebugFieldSync() {}
+
+    public static void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(client -> tick());
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(DebugFieldSync::reset));
+    }
+
+    /**
+     * Queues the state for the next send. Calls within one interval coalesce.
+     */
+    public static void markChanged(FieldEditState state) {
+        pending = state;
+    }
+
+    /**
+     * Sends the state now, ignoring the rate limit (explicit apply).
+     */
+    public static void flush(FieldEditState state) {
+        pending = null;
+        send(state);
+    }
+
+    /**
+     * Spawns the debug field with a full document, starting a new revision chain.
+     */
+    public static void spawn(FieldEditState state) {
+        reset();
+        JsonObject document = state.toJson();
+        int revision = ++lastRevision;
+        inFlight.put(revision, document);
+        fullRevision = revision;
+        lastState = state;
+        lastSentAt = System.currentTimeMillis();
+        GuiPacketSender.spawnDebugField(revision, document.toString());
+    }
+
+    public static void despawn() {
+        reset();
+        GuiPacketSender.despawnDebugField();
+    }
+
+    private static void tick() {
+        if (pending == null || System.currentTimeMillis() - lastSentAt < MIN_INTERVAL_MS) {
+            return;
+        }
+        FieldEditState state = pending;
+        pending = null;
+        send(state);
+    }
+
+    private static void send(FieldEditState state) {
+        JsonObject document = state.toJson();
+        boolean full = ackedDocument == null
+            || lastRevision - ackedRevision >= DebugFieldTracker.REVISION_HISTORY;
+        JsonArray patch = null;
+        if (!full) {
+            patch = JsonPatch.diff(ackedDocument, document);
+            if (patch.isEmpty() && lastRevision == ackedRevision) {
+                return; // Server already has exactly this
+            }
+        }
+
+        int revision = ++lastRevision;
+        inFlight.put(revision, document);
+        lastState = state;
+        lastSentAt = System.currentTimeMillis();
+        if (full) {
+            fullRevision = revision;
+            GuiPacketSender.updateDebugField(revision, document.toString());
+        } else {
+            GuiPacketSender.patchDebugField(revision, ackedRevision, patch.toString());
+        }
+    }
+
+    /**
+     * Server applied {@code revision}; later patches use it as their base.
+     */
+    public static void onAck(int revision) {
+        JsonObject document = inFlight.get(revision);
+        if (document == null || revision <= ackedRevision) {
+            return;
+        }
+        ackedRevision = revision;
+        ackedDocument = document;
+        inFlight.headMap(revision, true).clear();
+    }
+
+    /**
+     * Server could not apply {@code revision}; the next send is a full document.
+     */
+    public static void onResync(int revision) {
+        if (revision < fullRevision) {
+            return; // A full document already went out after it
+        }
+        Logging.GUI.topic("network").debug("Debug field resync requested at r{}", revision);
+        ackedRevision = DebugFieldC2SPayload.NO_BASE;
+        ackedDocument = null;
+        inFlight.clear();
+        if (pending == null) {
+            pending = lastState;
+        }
+    }
+
+    private static void reset() {
+        pending = null;
+        lastState = null;
+        ackedRevision = DebugFieldC2SPayload.NO_BASE;
+        ackedDocument = null;
+        fullRevision = lastRevision + 1;
+        inFlight.clear();
+    }
+}
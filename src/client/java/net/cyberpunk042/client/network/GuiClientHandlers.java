@@ -67,6 +67,13 @@ public final class GuiClientHandlers {
         // G134: Handle debug field response
         ClientPlayNetworking.registerGlobalReceiver(DebugFieldS2CPayload.ID, (payload, context) -> {
             context.client().execute(() -> {
+                if (payload.resync()) {
+                    DebugFieldSync.onResync(payload.revision());
+                    return;
+                }
+                if (payload.revision() != DebugFieldS2CPayload.NO_REVISION) {
+                    DebugFieldSync.onAck(payload.revision());
+                }
                 Logging.GUI.topic("network").debug("Debug field update: active={}", payload.active());
                 if (!payload.status().isEmpty()) {
                     ToastNotification.info(payload.status());
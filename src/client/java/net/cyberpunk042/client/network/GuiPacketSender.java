@@ -31,19 +31,28 @@ public final class GuiPacketSender {
     }
     
     /**
-     * G137: Send debug field update.
+     * G137: Send debug field update (full state document).
+     * Live preview goes through {@link DebugFieldSync}, which picks between this and a patch.
      */
-    public static void updateDebugField(String json) {
-        Logging.GUI.topic("network").trace("Sending debug field update");
-        ClientPlayNetworking.send(DebugFieldC2SPayload.updateField(json));
+    public static void updateDebugField(int revision, String json) {
+        Logging.GUI.topic("network").trace("Sending debug field update r{}", revision);
+        ClientPlayNetworking.send(DebugFieldC2SPayload.updateField(revision, json));
+    }
+    
+    /**
+     * Send debug field patch against an acknowledged revision.
+     */
+    public static void patchDebugField(int revision, int baseRevision, String patchJson) {
+        Logging.GUI.topic("network").trace("Sending debug field patch r{} on r{}", revision, baseRevision);
+        ClientPlayNetworking.send(DebugFieldC2SPayload.patchField(revision, baseRevision, patchJson));
     }
     
     /**
      * Spawn debug field.
      */
-    public static void spawnDebugField(String json) {
+    public static void spawnDebugField(int revision, String json) {
         Logging.GUI.topic("network").debug("Sending debug field spawn");
-        ClientPlayNetworking.send(DebugFieldC2SPayload.spawnField(json));
+        ClientPlayNetworking.send(DebugFieldC2SPayload.spawnField(revision, json));
     }
     
     /**
@@ -1,5 +1,7 @@
 package net.cyberpunk042.client.util;
 
+import net.cyberpunk042.client.field.render.MeshCache;
+import net.cyberpunk042.client.visual.FieldCulling;
 import net.cyberpunk042.log.Logging;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.minecraft.client.MinecraftClient;
@@ -217,6 +219,30 @@ public final class ClientProfiler {
             }
         }
         
+        // Tessellation cache
+        MeshCache.Stats mesh = MeshCache.get().drainStats();
+        if (mesh.hits() + mesh.misses() + mesh.uncached() > 0) {
+            sb.append("+------------------------------------------------------------------------+\n");
+            sb.append("| MESH CACHE                                                             |\n");
+            sb.append("+------------------------------------------------------------------------+\n");
+            sb.append(String.format("|   Hit rate: %5.1f%%  |  Hits: %-7d  |  Rebuilds: %-6d            |\n",
+                mesh.hitRate() * 100.0, mesh.hits(), mesh.misses()));
+            sb.append(String.format("|   Uncached: %-6d  |  Evicted: %-5d  |  %4d meshes, %6d KB       |\n",
+                mesh.uncached(), mesh.evictions(), mesh.entries(), mesh.bytes() / 1024));
+        }
+        
+        // Field frustum culling and distance LOD (per-frame averages)
+        FieldCulling.Stats culling = FieldCulling.drainStats();
+        if (culling.frames() > 0 && culling.rendered() + culling.culled() > 0) {
+            double frames = culling.frames();
+            sb.append("+------------------------------------------------------------------------+\n");
+            sb.append("| FIELD CULLING                                                          |\n");
+            sb.append("+------------------------------------------------------------------------+\n");
+            sb.append(String.format("|   %-69s|\n", String.format(
+                "Per frame: %.1f rendered  |  %.1f culled  |  %.1f reduced LOD",
+                culling.rendered() / frames, culling.culled() / frames, culling.reduced() / frames)));
+        }
+        
         // World diagnostics
         ClientWorld world = client.world;
         if (world != null) {
@@ -10,6 +10,7 @@ import net.cyberpunk042.log.Logging;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.Camera;
+import net.minecraft.client.render.Frustum;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
@@ -29,6 +30,10 @@ import java.util.concurrent.ConcurrentHashMap;
  *   <li>Managing personal field tracker</li>
  * </ul>
  * 
+ * <p>Synced fields outside the view frustum are skipped, and distant ones
+ * render at reduced tessellation detail (see {@link FieldCulling}). The
+ * personal field always renders at full detail.
+ * 
  * <p>Hook into WorldRenderEvents.AFTER_ENTITIES for rendering.
  */
 public final class ClientFieldManager {
@@ -309,10 +314,15 @@ public final class ClientFieldManager {
             .getRenderTickCounter()
             .getTickProgress(false);
         float worldTime = context.world().getTime() + tickDelta;
+        Frustum frustum = context.frustum();
+        FieldCulling.beginFrame();
         
         // Render synced states (includes fields spawned via /fieldtest)
         for (ClientFieldState state : states.values()) {
-            renderState(matrices, consumers, state, camPos, worldTime, tickDelta);
+            if (state.isHidden()) {
+                continue;
+            }
+            renderState(matrices, consumers, state, camPos, frustum, worldTime, tickDelta);
         }
         
         // Render personal field
@@ -326,6 +336,7 @@ public final class ClientFieldManager {
             VertexConsumerProvider consumers,
             ClientFieldState state,
             Vec3d camPos,
+            Frustum frustum,
             float worldTime,
             float tickDelta) {
         
@@ -369,6 +380,11 @@ public final class ClientFieldManager {
             fieldPos = state.position();
         }
         
+        float lod = FieldCulling.evaluate(def, state.scale(), fieldPos, camPos, frustum);
+        if (lod == FieldCulling.CULLED) {
+            return;
+        }
+        
         Vec3d pos = fieldPos.subtract(camPos);
         float alpha = state.effectiveAlpha();
         float time = worldTime + state.phase();
@@ -392,6 +408,9 @@ public final class ClientFieldManager {
                     pattern != null ? pattern.id() : "null");
             }
         }
+        if (lod < 1.0f) {
+            overrides = (overrides != null ? overrides : RenderOverrides.NONE).withLod(lod);
+        }
         
         // Use new FieldRenderer with optional overrides
         FieldRenderer.render(
@@ -460,7 +479,7 @@ public final class ClientFieldManager {
         if (net.cyberpunk042.client.gui.state.FieldEditStateHolder.isTestFieldActive()) {
             var state = net.cyberpunk042.client.gui.state.FieldEditStateHolder.get();
             def = state != null 
-                ? net.cyberpunk042.client.gui.state.DefinitionBuilder.fromState(state) 
+                ? net.cyberpunk042.client.gui.state.DefinitionBuilder.cached(state) 
                 : personalTracker.definition();
         } else {
             def = personalTracker.definition();
@@ -0,0 +1,157 @@
+package net.cyberpunk042.client.visual;
+
+import net.cyberpunk042.client.field.render.ShapeLod;
+import net.cyberpunk042.field.FieldDefinition;
+import net.cyberpunk042.field.FieldLayer;
+import net.cyberpunk042.field.primitive.Primitive;
+import net.cyberpunk042.visual.transform.AxisMotionConfig;
+import net.cyberpunk042.visual.transform.OrbitConfig3D;
+import net.cyberpunk042.visual.transform.Transform;
+import net.minecraft.client.render.Frustum;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import org.joml.Vector3f;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Frustum culling and distance level of detail for {@link ClientFieldManager}.
+ *
+ * <p>A definition's bounding radius is the furthest any primitive can reach
+ * from the field origin: layer and primitive offsets, orbit radii and motion
+ * amplitudes, plus the shape's extent times its transform scale, padded by
+ * {@link #ANIMATION_MARGIN} for pulse, breathing and scale animation. An
+ * enabled beam extends it by its height. Radii are cached per definition
+ * instance, so live edits (which build new definitions) are picked up.
+ *
+ * <p>Fields whose bounding box misses the frame frustum are skipped. The rest
+ * get a {@link ShapeLod} level from their distance in bounding radii. The
+ * counters since the last {@link #drainStats()} feed the profiler report.
+ * Render-thread only.
+ */
+public final class FieldCulling {
+
+    /** Returned by {@link #evaluate} for fields outside the frustum. */
+    public static final float CULLED = 0.0f;
+
+    /** Fields nearer than this many bounding radii keep full detail. */
+    private static final double FULL_DETAIL_RADII = 12.0;
+    /** Fields beyond this many bounding radii drop to quarter detail. */
+    private static final double QUARTER_DETAIL_RADII = 32.0;
+    private static final float ANIMATION_MARGIN = 1.5f;
+    private static final int MAX_CACHED_RADII = 256;
+
+    private static final Map<FieldDefinition, Float> RADII = new IdentityHashMap<>();
+
+    /** Counters since the last {@link #drainStats()}. */
+    public record Stats(long frames, long rendered, long culled, long reduced) {}
+
+    private static long frames;
+    private static long rendered;
+    private static long culled;
+    private static long reduced;
+
+    private FieldCulling() {}
+
+    static void beginFrame() {
+        frames++;
+    }
+
+    /**
+     * Decides how a field renders this frame.
+     *
+     * @param fieldPos world-space field origin
+     * @param camPos camera position
+     * @param frustum frame frustum, or null to skip the visibility test
+     * @return {@link #CULLED}, or the LOD multiplier to render with
+     */
+    static float evaluate(FieldDefinition def, float scale, Vec3d fieldPos, Vec3d camPos, Frustum frustum) {
+        double radius = Math.max(boundingRadius(def) * Math.abs(scale), 0.5);
+        if (frustum != null && !frustum.isVisible(new Box(
+                fieldPos.x - radius, fieldPos.y - radius, fieldPos.z - radius,
+                fieldPos.x + radius, fieldPos.y + radius, fieldPos.z + radius))) {
+            culled++;
+            return CULLED;
+        }
+        rendered++;
+        double radii = fieldPos.distanceTo(camPos) / radius;
+        if (radii < FULL_DETAIL_RADII) {
+            return ShapeLod.FULL;
+        }
+        reduced++;
+        return radii < QUARTER_DETAIL_RADII ? ShapeLod.HALF : ShapeLod.QUARTER;
+    }
+
+    public static Stats drainStats() {
+        Stats stats = new Stats(frames, rendered, culled, reduced);
+        frames = 0;
+        rendered = 0;
+        culled = 0;
+        reduced = 0;
+        return stats;
+    }
+
+    private static float boundingRadius(FieldDefinition def) {
+        Float cached = RADII.get(def);
+        if (cached != null) {
+            return cached;
+        }
+        if (RADII.size() >= MAX_CACHED_RADII) {
+            RADII.clear();
+        }
+        float radius = 0.0f;
+        if (def.layers() != null) {
+            for (FieldLayer layer : def.layers()) {
+                if (layer.primitives() == null) {
+                    continue;
+                }
+                float layerReach = reach(layer.transform());
+                float layerScale = scale(layer.transform());
+                for (Primitive primitive : layer.primitives()) {
+                    float extent = primitive.shape() != null ? primitive.shape().getBounds().length() : 1.0f;
+                    float primitiveReach = reach(primitive.transform()) + extent * scale(primitive.transform());
+                    radius = Math.max(radius, layerReach + primitiveReach * layerScale);
+                }
+            }
+        }
+        radius *= ANIMATION_MARGIN;
+        if (def.beam() != null && def.beam().enabled()) {
+            radius = Math.max(radius, def.beam().height());
+        }
+        RADII.put(def, radius);
+        return radius;
+    }
+
+    /** Furthest a transform can move its content from the parent origin. */
+    private static float reach(Transform transform) {
+        if (transform == null) {
+            return 0.0f;
+        }
+        float reach = transform.offset().length();
+        if (transform.orbit() != null && transform.orbit().isActive()) {
+            reach += transform.orbit().radius();
+        }
+        OrbitConfig3D orbit3d = transform.orbit3d();
+        if (orbit3d != null && orbit3d.isActive()) {
+            reach += amplitude(orbit3d.x()) + amplitude(orbit3d.y()) + amplitude(orbit3d.z());
+        }
+        return reach;
+    }
+
+    private static float amplitude(AxisMotionConfig motion) {
+        return motion != null ? Math.max(motion.amplitude(), motion.amplitude2()) : 0.0f;
+    }
+
+    private static float scale(Transform transform) {
+        if (transform == null) {
+            return 1.0f;
+        }
+        float scale = Math.abs(transform.scale());
+        Vector3f xyz = transform.scaleXYZ();
+        if (xyz != null) {
+            scale *= Math.max(Math.abs(xyz.x), Math.max(Math.abs(xyz.y), Math.abs(xyz.z)));
+        }
+        return scale;
+    }
+}
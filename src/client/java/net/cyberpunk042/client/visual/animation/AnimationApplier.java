@@ -463,7 +463,22 @@ public final class AnimationApplier {
             return new float[] {0, 0, 0};
         }
         
-        float amplitude = wave.amplitude();
+        float displacement = getWaveOffset(wave, x, y, z, time);
+        
+        // Apply displacement along the direction axis
+        return switch (wave.direction()) {
+            case X -> new float[] {displacement, 0, 0};
+            case Y -> new float[] {0, displacement, 0};
+            case Z -> new float[] {0, 0, displacement};
+            default -> new float[] {0, displacement, 0};
+        };
+    }
+    
+    /**
+     * Scalar wave displacement along {@code wave.direction()}.
+     * <p>Allocation-free form of {@link #getWaveDisplacement} for per-vertex emit loops.
+     */
+    public static float getWaveOffset(WaveConfig wave, float x, float y, float z, float time) {
         float frequency = wave.frequency();
         
         // Calculate wave phase based on position perpendicular to direction
@@ -476,15 +491,7 @@ public final class AnimationApplier {
         }
         
         // Calculate displacement using MathHelper.sin (fast lookup table)
-        float displacement = MathHelper.sin(phase) * amplitude;
-        
-        // Apply displacement along the direction axis
-        return switch (wave.direction()) {
-            case X -> new float[] {displacement, 0, 0};
-            case Y -> new float[] {0, displacement, 0};
-            case Z -> new float[] {0, 0, displacement};
-            default -> new float[] {0, displacement, 0};
-        };
+        return MathHelper.sin(phase) * wave.amplitude();
     }
     
     /**
@@ -1,5 +1,6 @@
 package net.cyberpunk042.client.visual.animation;
 
+import net.cyberpunk042.client.visual.mesh.MeshBuilder;
 import net.cyberpunk042.visual.animation.WaveConfig;
 import net.minecraft.util.math.MathHelper;
 
@@ -42,6 +43,57 @@ public final class WaveDeformer {
             return new float[]{x, y, z};
         }
         
+        // Apply displacement radially (perpendicular to wave direction)
+        return applyRadialDisplacement(x, y, z, displacement(x, y, z, wave, time), wave.direction());
+    }
+    
+    /**
+     * Applies wave deformation in place to a vertex already written to a builder.
+     * 
+     * <p>Allocation-free counterpart of {@link #apply} for tessellators. Only the
+     * position moves; normal, UV and alpha are left as written.</p>
+     * 
+     * @param builder Builder holding the vertex
+     * @param index Vertex index returned by the builder
+     * @param wave Wave configuration
+     * @param time Current time in ticks
+     */
+    public static void applyInPlace(MeshBuilder builder, int index, WaveConfig wave, float time) {
+        if (wave == null || !wave.isActive() || !wave.isCpuMode()) {
+            return;
+        }
+        
+        float x = builder.x(index);
+        float y = builder.y(index);
+        float z = builder.z(index);
+        float displacement = displacement(x, y, z, wave, time);
+        
+        switch (wave.direction()) {
+            case Y -> {
+                float distXZ = (float) Math.sqrt(x * x + z * z);
+                if (distXZ > 0.001f) {
+                    builder.setPosition(index, x + x / distXZ * displacement, y, z + z / distXZ * displacement);
+                }
+            }
+            case X -> {
+                float distYZ = (float) Math.sqrt(y * y + z * z);
+                if (distYZ > 0.001f) {
+                    builder.setPosition(index, x, y + y / distYZ * displacement, z + z / distYZ * displacement);
+                }
+            }
+            case Z -> {
+                float distXY = (float) Math.sqrt(x * x + y * y);
+                if (distXY > 0.001f) {
+                    builder.setPosition(index, x + x / distXY * displacement, y + y / distXY * displacement, z);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Computes the signed radial displacement of the wave at a position.
+     */
+    private static float displacement(float x, float y, float z, WaveConfig wave, float time) {
         // Use modulo to prevent sin overflow with large time values
         float safeTime = time % 1000f;
         
@@ -55,10 +107,7 @@ public final class WaveDeformer {
         
         // Calculate phase: position along wave direction × frequency + time × speed
         float phase = (x * dirX + y * dirY + z * dirZ) * wave.frequency() + safeTime * wave.speed();
-        float displacement = MathHelper.sin(phase) * wave.amplitude();
-        
-        // Apply displacement radially (perpendicular to wave direction)
-        return applyRadialDisplacement(x, y, z, displacement, wave.direction());
+        return MathHelper.sin(phase) * wave.amplitude();
     }
     
     /**
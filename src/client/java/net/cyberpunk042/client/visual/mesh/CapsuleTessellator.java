@@ -72,11 +72,10 @@ public final class CapsuleTessellator {
         // =================================================================
         // Top Hemisphere
         // =================================================================
-        Vertex topPoleV = new Vertex(0, topCapCenter + radius, 0, 0, 1, 0, 0.5f, 0, 1.0f);
+        int topPoleIdx = builder.vertex(0, topCapCenter + radius, 0, 0, 1, 0, 0.5f, 0, 1.0f);
         if (applyWave) {
-            topPoleV = WaveDeformer.applyToVertex(topPoleV, wave, time);
+            WaveDeformer.applyInPlace(builder, topPoleIdx, wave, time);
         }
-        int topPoleIdx = builder.addVertex(topPoleV);
         
         // Rings from near-pole to equator
         int[][] topHemiVerts = new int[rings][segments + 1];
@@ -99,11 +98,10 @@ public final class CapsuleTessellator {
                 float u = seg / (float) segments;
                 float v = (ring + 1) / (float) (rings * 2 + (cylinderHeight > 0 ? 2 : 0));
                 
-                Vertex vertex = new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+                topHemiVerts[ring][seg] = builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
                 if (applyWave) {
-                    vertex = WaveDeformer.applyToVertex(vertex, wave, time);
+                    WaveDeformer.applyInPlace(builder, topHemiVerts[ring][seg], wave, time);
                 }
-                topHemiVerts[ring][seg] = builder.addVertex(vertex);
             }
         }
         
@@ -158,11 +156,10 @@ public final class CapsuleTessellator {
                 float u = seg / (float) segments;
                 float v = 0.5f;
                 
-                Vertex vertex = new Vertex(x, bottomCapCenter, z, nx, 0, nz, u, v, 1.0f);
+                bottomRingVerts[seg] = builder.vertex(x, bottomCapCenter, z, nx, 0, nz, u, v, 1.0f);
                 if (applyWave) {
-                    vertex = WaveDeformer.applyToVertex(vertex, wave, time);
+                    WaveDeformer.applyInPlace(builder, bottomRingVerts[seg], wave, time);
                 }
-                bottomRingVerts[seg] = builder.addVertex(vertex);
             }
             
             // Cylinder quads
@@ -206,11 +203,10 @@ public final class CapsuleTessellator {
                 float u = seg / (float) segments;
                 float v = 0.5f + (ring + 1) / (float) (rings * 2);
                 
-                Vertex vertex = new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+                bottomHemiVerts[ring][seg] = builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
                 if (applyWave) {
-                    vertex = WaveDeformer.applyToVertex(vertex, wave, time);
+                    WaveDeformer.applyInPlace(builder, bottomHemiVerts[ring][seg], wave, time);
                 }
-                bottomHemiVerts[ring][seg] = builder.addVertex(vertex);
             }
         }
         
@@ -250,11 +246,10 @@ public final class CapsuleTessellator {
         }
         
         // Bottom pole triangles
-        Vertex bottomPoleV = new Vertex(0, bottomCapCenter - radius, 0, 0, -1, 0, 0.5f, 1, 1.0f);
+        int bottomPoleIdx = builder.vertex(0, bottomCapCenter - radius, 0, 0, -1, 0, 0.5f, 1, 1.0f);
         if (applyWave) {
-            bottomPoleV = WaveDeformer.applyToVertex(bottomPoleV, wave, time);
+            WaveDeformer.applyInPlace(builder, bottomPoleIdx, wave, time);
         }
-        int bottomPoleIdx = builder.addVertex(bottomPoleV);
         int[] lastBottomRing = bottomHemiVerts[rings - 1];
         
         for (int seg = 0; seg < segments; seg++) {
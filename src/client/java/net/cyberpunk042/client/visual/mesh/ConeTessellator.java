@@ -90,22 +90,20 @@ public final class ConeTessellator {
             float nz = normalXZScale * (float) Math.sin(phi);
             
             float u = seg / (float) segments;
-            Vertex v = new Vertex(x, bottomY, z, nx, ny, nz, u, 1, 1.0f);
+            bottomVerts[seg] = builder.vertex(x, bottomY, z, nx, ny, nz, u, 1, 1.0f);
             if (applyWave) {
-                v = WaveDeformer.applyToVertex(v, wave, time);
+                WaveDeformer.applyInPlace(builder, bottomVerts[seg], wave, time);
             }
-            bottomVerts[seg] = builder.addVertex(v);
         }
         
         if (isPointed) {
             // =============================================================
             // True Cone - triangles to apex
             // =============================================================
-            Vertex apexV = new Vertex(0, topY, 0, 0, 1, 0, 0.5f, 0, 1.0f);
+            int apexIdx = builder.vertex(0, topY, 0, 0, 1, 0, 0.5f, 0, 1.0f);
             if (applyWave) {
-                apexV = WaveDeformer.applyToVertex(apexV, wave, time);
+                WaveDeformer.applyInPlace(builder, apexIdx, wave, time);
             }
-            int apexIdx = builder.addVertex(apexV);
             
             for (int seg = 0; seg < segments; seg++) {
                 float segFrac = seg / (float) segments;
@@ -131,11 +129,10 @@ public final class ConeTessellator {
                 float nz = normalXZScale * (float) Math.sin(phi);
                 
                 float u = seg / (float) segments;
-                Vertex v = new Vertex(x, topY, z, nx, ny, nz, u, 0, 1.0f);
+                topVerts[seg] = builder.vertex(x, topY, z, nx, ny, nz, u, 0, 1.0f);
                 if (applyWave) {
-                    v = WaveDeformer.applyToVertex(v, wave, time);
+                    WaveDeformer.applyInPlace(builder, topVerts[seg], wave, time);
                 }
-                topVerts[seg] = builder.addVertex(v);
             }
             
             // Side quads
@@ -156,11 +153,10 @@ public final class ConeTessellator {
             
             // Top cap (if not open)
             if (!shape.openTop()) {
-                Vertex topCenterV = new Vertex(0, topY, 0, 0, 1, 0, 0.5f, 0.5f, 1.0f);
+                int topCenterIdx = builder.vertex(0, topY, 0, 0, 1, 0, 0.5f, 0.5f, 1.0f);
                 if (applyWave) {
-                    topCenterV = WaveDeformer.applyToVertex(topCenterV, wave, time);
+                    WaveDeformer.applyInPlace(builder, topCenterIdx, wave, time);
                 }
-                int topCenterIdx = builder.addVertex(topCenterV);
                 for (int seg = 0; seg < segments; seg++) {
                     float segFrac = seg / (float) segments;
                     if (visibility != null && !visibility.isVisible(0f, segFrac)) continue;
@@ -177,11 +173,10 @@ public final class ConeTessellator {
         // Bottom cap (if not open)
         // =================================================================
         if (!shape.openBottom()) {
-            Vertex bottomCenterV = new Vertex(0, bottomY, 0, 0, -1, 0, 0.5f, 0.5f, 1.0f);
+            int bottomCenterIdx = builder.vertex(0, bottomY, 0, 0, -1, 0, 0.5f, 0.5f, 1.0f);
             if (applyWave) {
-                bottomCenterV = WaveDeformer.applyToVertex(bottomCenterV, wave, time);
+                WaveDeformer.applyInPlace(builder, bottomCenterIdx, wave, time);
             }
-            int bottomCenterIdx = builder.addVertex(bottomCenterV);
             for (int seg = 0; seg < segments; seg++) {
                 float segFrac = seg / (float) segments;
                 if (visibility != null && !visibility.isVisible(1f, segFrac)) continue;
@@ -133,24 +133,19 @@ public final class CylinderTessellator {
                 float angle1 = ((s + 1) / (float) segments) * arc;
                 
                 // Four corners
-                Vertex v00 = GeometryMath.cylinderTaperedPoint(angle0, t0, bottomR, topR, height, yBase);
-                Vertex v10 = GeometryMath.cylinderTaperedPoint(angle1, t0, bottomR, topR, height, yBase);
-                Vertex v01 = GeometryMath.cylinderTaperedPoint(angle0, t1, bottomR, topR, height, yBase);
-                Vertex v11 = GeometryMath.cylinderTaperedPoint(angle1, t1, bottomR, topR, height, yBase);
+                int i00 = GeometryMath.cylinderTaperedPoint(builder, angle0, t0, bottomR, topR, height, yBase);
+                int i10 = GeometryMath.cylinderTaperedPoint(builder, angle1, t0, bottomR, topR, height, yBase);
+                int i01 = GeometryMath.cylinderTaperedPoint(builder, angle0, t1, bottomR, topR, height, yBase);
+                int i11 = GeometryMath.cylinderTaperedPoint(builder, angle1, t1, bottomR, topR, height, yBase);
                 
                 // Apply wave deformation
                 if (applyWave) {
-                    v00 = WaveDeformer.applyToVertex(v00, wave, time);
-                    v10 = WaveDeformer.applyToVertex(v10, wave, time);
-                    v01 = WaveDeformer.applyToVertex(v01, wave, time);
-                    v11 = WaveDeformer.applyToVertex(v11, wave, time);
+                    WaveDeformer.applyInPlace(builder, i00, wave, time);
+                    WaveDeformer.applyInPlace(builder, i10, wave, time);
+                    WaveDeformer.applyInPlace(builder, i01, wave, time);
+                    WaveDeformer.applyInPlace(builder, i11, wave, time);
                 }
                 
-                int i00 = builder.addVertex(v00);
-                int i10 = builder.addVertex(v10);
-                int i01 = builder.addVertex(v01);
-                int i11 = builder.addVertex(v11);
-                
                 // When viewed from OUTSIDE the cylinder, angle1 (s+1) is on LEFT, angle0 (s) is on RIGHT
                 // (because angles go CCW when viewed from above)
                 // So: TL=i11 (angle1,top), TR=i01 (angle0,top), BR=i00 (angle0,bot), BL=i10 (angle1,bot)
@@ -172,23 +167,21 @@ public final class CylinderTessellator {
         float ny = isTop ? 1 : -1;
         
         // Center vertex
-        Vertex center = GeometryMath.discCenter(y);
-        center = new Vertex(center.x(), center.y(), center.z(), 0, ny, 0, 0.5f, 0.5f, 1.0f);
+        int centerIdx = GeometryMath.discCenter(builder, y);
+        builder.setNormal(centerIdx, 0, ny, 0);
         if (applyWave) {
-            center = WaveDeformer.applyToVertex(center, wave, time);
+            WaveDeformer.applyInPlace(builder, centerIdx, wave, time);
         }
-        int centerIdx = builder.addVertex(center);
         
         // Edge vertices
         int[] edgeIndices = new int[segments + 1];
         for (int s = 0; s <= segments; s++) {
             float angle = (s / (float) segments) * arc;
-            Vertex v = GeometryMath.discPoint(angle, radius, y);
-            v = new Vertex(v.x(), v.y(), v.z(), 0, ny, 0, v.u(), v.v(), 1.0f);
+            edgeIndices[s] = GeometryMath.discPoint(builder, angle, radius, y);
+            builder.setNormal(edgeIndices[s], 0, ny, 0);
             if (applyWave) {
-                v = WaveDeformer.applyToVertex(v, wave, time);
+                WaveDeformer.applyInPlace(builder, edgeIndices[s], wave, time);
             }
-            edgeIndices[s] = builder.addVertex(v);
         }
         
         // Emit triangles
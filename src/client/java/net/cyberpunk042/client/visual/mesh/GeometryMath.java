@@ -6,8 +6,8 @@ import org.joml.Vector3f;
  * Pure geometry math utilities for tessellation.
  * 
  * <p>This class provides static methods for calculating vertex positions
- * on various geometric primitives. All methods return {@link Vertex} objects
- * with position, normal, and UV coordinates.</p>
+ * on various geometric primitives. Vertex methods write position, normal,
+ * and UV straight into a {@link MeshBuilder} and return the vertex index.</p>
  * 
  * <h2>Coordinate System</h2>
  * <ul>
@@ -19,13 +19,13 @@ import org.joml.Vector3f;
  * <h2>Usage</h2>
  * <pre>
  * // Ring vertex at 45 degrees
- * Vertex v = GeometryMath.ringPoint(Math.PI/4, 0.8f, 1.0f, 0f, 0.5f);
+ * int v = GeometryMath.ringPoint(builder, Math.PI/4, 0.8f, 1.0f, 0f, 0.5f);
  * 
  * // Disc center
- * Vertex center = GeometryMath.discCenter(0f);
+ * int center = GeometryMath.discCenter(builder, 0f);
  * </pre>
  * 
- * @see Vertex
+ * @see MeshBuilder
  * @see SphereTessellator
  * @see RingTessellator
  */
@@ -51,19 +51,20 @@ public final class GeometryMath {
     // =========================================================================
     
     /**
-     * Generates a vertex on a ring surface.
+     * Adds a vertex on a ring surface.
      * 
      * <p>A ring is defined by inner and outer radii. The {@code t} parameter
      * interpolates between inner (t=0) and outer (t=1) edges.</p>
      * 
+     * @param builder Builder to write the vertex to
      * @param angle Angle around Y axis in radians (0 = +X direction)
      * @param innerRadius Inner ring radius
      * @param outerRadius Outer ring radius
      * @param y Y position of the ring plane
      * @param t Interpolation factor (0 = inner edge, 1 = outer edge)
-     * @return Vertex with position, normal (pointing up), and UV
+     * @return Index of the vertex with position, normal (pointing up), and UV
      */
-    public static Vertex ringPoint(float angle, float innerRadius, float outerRadius, 
+    public static int ringPoint(MeshBuilder builder, float angle, float innerRadius, float outerRadius, 
                                     float y, float t) {
         float radius = lerp(innerRadius, outerRadius, t);
         float x = (float) Math.cos(angle) * radius;
@@ -76,21 +77,21 @@ public final class GeometryMath {
         float u = angle / TWO_PI;
         float v = t;
         
-        return new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+        return builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
     }
     
     /**
-     * Generates a vertex on the inner edge of a ring.
+     * Adds a vertex on the inner edge of a ring.
      */
-    public static Vertex ringInnerPoint(float angle, float innerRadius, float y) {
-        return ringPoint(angle, innerRadius, innerRadius, y, 0);
+    public static int ringInnerPoint(MeshBuilder builder, float angle, float innerRadius, float y) {
+        return ringPoint(builder, angle, innerRadius, innerRadius, y, 0);
     }
     
     /**
-     * Generates a vertex on the outer edge of a ring.
+     * Adds a vertex on the outer edge of a ring.
      */
-    public static Vertex ringOuterPoint(float angle, float outerRadius, float y) {
-        return ringPoint(angle, outerRadius, outerRadius, y, 1);
+    public static int ringOuterPoint(MeshBuilder builder, float angle, float outerRadius, float y) {
+        return ringPoint(builder, angle, outerRadius, outerRadius, y, 1);
     }
     
     // =========================================================================
@@ -98,16 +99,17 @@ public final class GeometryMath {
     // =========================================================================
     
     /**
-     * Generates a vertex on a disc surface.
+     * Adds a vertex on a disc surface.
      * 
      * <p>A disc is a filled circle. Vertices are positioned radially from center.</p>
      * 
+     * @param builder Builder to write the vertex to
      * @param angle Angle around Y axis in radians
      * @param radius Distance from center
      * @param y Y position of the disc plane
-     * @return Vertex with position, normal (pointing up), and UV
+     * @return Index of the vertex with position, normal (pointing up), and UV
      */
-    public static Vertex discPoint(float angle, float radius, float y) {
+    public static int discPoint(MeshBuilder builder, float angle, float radius, float y) {
         float x = (float) Math.cos(angle) * radius;
         float z = (float) Math.sin(angle) * radius;
         
@@ -118,14 +120,14 @@ public final class GeometryMath {
         float u = 0.5f + (float) Math.cos(angle) * 0.5f;
         float v = 0.5f + (float) Math.sin(angle) * 0.5f;
         
-        return new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+        return builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
     }
     
     /**
-     * Generates the center vertex of a disc.
+     * Adds the center vertex of a disc.
      */
-    public static Vertex discCenter(float y) {
-        return new Vertex(0, y, 0, 0, 1, 0, 0.5f, 0.5f, 1.0f);
+    public static int discCenter(MeshBuilder builder, float y) {
+        return builder.vertex(0, y, 0, 0, 1, 0, 0.5f, 0.5f, 1.0f);
     }
     
     // =========================================================================
@@ -133,16 +135,17 @@ public final class GeometryMath {
     // =========================================================================
     
     /**
-     * Generates a vertex on a cylinder wall.
+     * Adds a vertex on a cylinder wall.
      * 
+     * @param builder Builder to write the vertex to
      * @param angle Angle around Y axis in radians
      * @param y Y position along cylinder height
      * @param radius Cylinder radius at this height
      * @param height Total cylinder height (for UV calculation)
      * @param yOffset Y offset of cylinder base
-     * @return Vertex with position, outward-facing normal, and UV
+     * @return Index of the vertex with position, outward-facing normal, and UV
      */
-    public static Vertex cylinderPoint(float angle, float y, float radius, 
+    public static int cylinderPoint(MeshBuilder builder, float angle, float y, float radius, 
                                         float height, float yOffset) {
         float x = (float) Math.cos(angle) * radius;
         float z = (float) Math.sin(angle) * radius;
@@ -156,21 +159,22 @@ public final class GeometryMath {
         float u = angle / TWO_PI;
         float v = (y - yOffset) / height;
         
-        return new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+        return builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
     }
     
     /**
-     * Generates a vertex for a tapered cylinder (cone-like).
+     * Adds a vertex for a tapered cylinder (cone-like).
      * 
+     * @param builder Builder to write the vertex to
      * @param angle Angle around Y axis
      * @param t Height fraction (0 = bottom, 1 = top)
      * @param bottomRadius Radius at bottom
      * @param topRadius Radius at top
      * @param height Total height
      * @param yOffset Y offset of base
-     * @return Vertex with interpolated radius and adjusted normal
+     * @return Index of the vertex with interpolated radius and adjusted normal
      */
-    public static Vertex cylinderTaperedPoint(float angle, float t, 
+    public static int cylinderTaperedPoint(MeshBuilder builder, float angle, float t, 
                                                float bottomRadius, float topRadius,
                                                float height, float yOffset) {
         float radius = lerp(bottomRadius, topRadius, t);
@@ -195,7 +199,7 @@ public final class GeometryMath {
         float u = angle / TWO_PI;
         float v = t;
         
-        return new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+        return builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
     }
     
     // =========================================================================
@@ -203,8 +207,9 @@ public final class GeometryMath {
     // =========================================================================
     
     /**
-     * Generates a vertex on a prism edge.
+     * Adds a vertex on a prism edge.
      * 
+     * @param builder Builder to write the vertex to
      * @param side Side index (0 to sides-1)
      * @param totalSides Total number of sides
      * @param y Y position
@@ -212,9 +217,9 @@ public final class GeometryMath {
      * @param twist Twist angle in radians (applied proportionally with height)
      * @param height Total prism height (for twist calculation)
      * @param yBase Y position of prism base
-     * @return Vertex on prism corner
+     * @return Index of the vertex on the prism corner
      */
-    public static Vertex prismCorner(int side, int totalSides, float y, float radius,
+    public static int prismCorner(MeshBuilder builder, int side, int totalSides, float y, float radius,
                                       float twist, float height, float yBase) {
         // Base angle for this side
         float baseAngle = (side / (float) totalSides) * TWO_PI;
@@ -238,15 +243,15 @@ public final class GeometryMath {
         float u = side / (float) totalSides;
         float v = heightFrac;
         
-        return new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+        return builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
     }
     
     /**
-     * Calculates the center of a prism face (for triangulating polygonal caps).
+     * Adds the center of a prism face (for triangulating polygonal caps).
      */
-    public static Vertex prismFaceCenter(int totalSides, float y, float radius) {
+    public static int prismFaceCenter(MeshBuilder builder, int totalSides, float y, float radius) {
         // Center is at origin X/Z
-        return new Vertex(0, y, 0, 0, y > 0 ? 1 : -1, 0, 0.5f, 0.5f, 1.0f);
+        return builder.vertex(0, y, 0, 0, y > 0 ? 1 : -1, 0, 0.5f, 0.5f, 1.0f);
     }
     
     // =========================================================================
@@ -304,17 +309,17 @@ public final class GeometryMath {
     }
     
     /**
-     * Calculates face normal from 3 vertices (counter-clockwise winding).
+     * Calculates face normal from 3 builder vertices (counter-clockwise winding).
      */
-    public static Vector3f faceNormal(Vertex v0, Vertex v1, Vertex v2) {
+    public static Vector3f faceNormal(MeshBuilder builder, int v0, int v1, int v2) {
         // Edge vectors
-        float ax = v1.x() - v0.x();
-        float ay = v1.y() - v0.y();
-        float az = v1.z() - v0.z();
+        float ax = builder.x(v1) - builder.x(v0);
+        float ay = builder.y(v1) - builder.y(v0);
+        float az = builder.z(v1) - builder.z(v0);
         
-        float bx = v2.x() - v0.x();
-        float by = v2.y() - v0.y();
-        float bz = v2.z() - v0.z();
+        float bx = builder.x(v2) - builder.x(v0);
+        float by = builder.y(v2) - builder.y(v0);
+        float bz = builder.z(v2) - builder.z(v0);
         
         // Cross product
         float nx = ay * bz - az * by;
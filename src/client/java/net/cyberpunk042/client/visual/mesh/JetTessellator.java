@@ -251,11 +251,10 @@ public final class JetTessellator {
                 float u = s / (float) segments;
                 float v = t;
                 
-                Vertex vert = new Vertex(x, y, z, nx, ny, nz, u, v, alpha);
+                vertexIndices[h][s] = builder.vertex(x, y, z, nx, ny, nz, u, v, alpha);
                 if (applyWave) {
-                    vert = WaveDeformer.applyToVertex(vert, wave, time);
+                    WaveDeformer.applyInPlace(builder, vertexIndices[h][s], wave, time);
                 }
-                vertexIndices[h][s] = builder.addVertex(vert);
             }
         }
         
@@ -319,17 +318,14 @@ public final class JetTessellator {
             float angle = arcStart + t * arcRange;
             
             // Create vertices with ringVertex pattern (Ring line 362-368)
-            Vertex vInner = ringVertex(angle, innerR, y, 0, ny, 0);
-            Vertex vOuter = ringVertex(angle, outerR, y, 0, ny, 0);
+            inner[i] = ringVertex(builder, angle, innerR, y, 0, ny, 0);
+            outer[i] = ringVertex(builder, angle, outerR, y, 0, ny, 0);
             
             // Apply wave deformation (Ring line 219-225)
             if (applyWave) {
-                vInner = WaveDeformer.applyToVertex(vInner, wave, time);
-                vOuter = WaveDeformer.applyToVertex(vOuter, wave, time);
+                WaveDeformer.applyInPlace(builder, inner[i], wave, time);
+                WaveDeformer.applyInPlace(builder, outer[i], wave, time);
             }
-            
-            inner[i] = builder.addVertex(vInner);
-            outer[i] = builder.addVertex(vOuter);
         }
         
         // Generate quads (Ring pattern from line 237-254)
@@ -358,16 +354,16 @@ public final class JetTessellator {
     }
     
     /**
-     * Creates a vertex at a ring position with custom normal.
+     * Adds a vertex at a ring position with custom normal.
      * Copied from RingTessellator line 362-368.
      */
-    private static Vertex ringVertex(float angle, float radius, float y, 
-                                      float nx, float ny, float nz) {
+    private static int ringVertex(MeshBuilder builder, float angle, float radius, float y, 
+                                   float nx, float ny, float nz) {
         float x = (float) Math.cos(angle) * radius;
         float z = (float) Math.sin(angle) * radius;
         float u = angle / GeometryMath.TWO_PI;
         float v = (ny > 0) ? 1 : 0;  // Top = 1, bottom = 0
-        return new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+        return builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
     }
     
     // =========================================================================
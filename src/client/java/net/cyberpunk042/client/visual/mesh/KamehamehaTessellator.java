@@ -174,8 +174,8 @@ public final class KamehamehaTessellator {
                 float u = (float) lon / lonSteps;
                 float v = (float) lat / latSteps;
                 
-                indices[lat][lon] = builder.addVertex(new Vertex(
-                    pos.x, pos.y, pos.z, norm.x, norm.y, norm.z, u, v, alpha));
+                indices[lat][lon] = builder.vertex(
+                    pos.x, pos.y, pos.z, norm.x, norm.y, norm.z, u, v, alpha);
             }
         }
         
@@ -225,8 +225,8 @@ public final class KamehamehaTessellator {
                 Vector3f pos = axis.transformVertex(localX, localY, localZ, offset);
                 Vector3f norm = axis.transformNormal(lnx, lny, lnz);
                 
-                indices[lat][lon] = builder.addVertex(new Vertex(pos.x, pos.y, pos.z,
-                    norm.x, norm.y, norm.z, (float)lon / segments, (float)lat / latSteps, vertAlpha));
+                indices[lat][lon] = builder.vertex(pos.x, pos.y, pos.z,
+                    norm.x, norm.y, norm.z, (float)lon / segments, (float)lat / latSteps, vertAlpha);
             }
         }
         
@@ -251,8 +251,8 @@ public final class KamehamehaTessellator {
         
         Vector3f centerPos = axis.transformVertex(0, capPos, 0, offset);
         Vector3f centerNorm = axis.transformNormal(0, lny, 0);
-        int centerIdx = builder.addVertex(new Vertex(centerPos.x, centerPos.y, centerPos.z,
-            centerNorm.x, centerNorm.y, centerNorm.z, 0.5f, 0.5f, alpha));
+        int centerIdx = builder.vertex(centerPos.x, centerPos.y, centerPos.z,
+            centerNorm.x, centerNorm.y, centerNorm.z, 0.5f, 0.5f, alpha);
         
         int[] edgeIndices = new int[segments + 1];
         for (int s = 0; s <= segments; s++) {
@@ -263,8 +263,8 @@ public final class KamehamehaTessellator {
             Vector3f pos = axis.transformVertex(localX, capPos, localZ, offset);
             Vector3f norm = axis.transformNormal(0, lny, 0);
             
-            edgeIndices[s] = builder.addVertex(new Vertex(pos.x, pos.y, pos.z,
-                norm.x, norm.y, norm.z, (float)s / segments, 0, alpha));
+            edgeIndices[s] = builder.vertex(pos.x, pos.y, pos.z,
+                norm.x, norm.y, norm.z, (float)s / segments, 0, alpha);
         }
         
         // Fan pattern - triangles from center (pattern doesn't apply cleanly)
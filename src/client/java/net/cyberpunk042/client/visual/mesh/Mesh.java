@@ -1,7 +1,7 @@
 package net.cyberpunk042.client.visual.mesh;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -9,11 +9,17 @@ import java.util.List;
  * 
  * <h2>Structure</h2>
  * <ul>
- *   <li><b>Vertices</b>: List of {@link Vertex} objects (position, normal, UV)</li>
+ *   <li><b>Vertices</b>: packed float arrays (structure of arrays) - positions
+ *       and normals as xyz triples, UVs as pairs, one alpha per vertex</li>
  *   <li><b>Indices</b>: Array of integers pointing to vertices</li>
  *   <li><b>Primitive Type</b>: How indices are interpreted (triangles, lines, etc.)</li>
  * </ul>
  * 
+ * <p>Hot paths read components by index ({@link #x(int)}, {@link #nx(int)},
+ * {@link #index(int)}, ...) and never allocate. {@link #vertices()},
+ * {@link #vertex(int)} and the {@code forEach*} helpers still hand out
+ * {@link Vertex} records for code that prefers them.
+ * 
  * <h2>Creating Meshes</h2>
  * <p>Use {@link MeshBuilder} to create meshes:
  * <pre>
@@ -48,34 +54,48 @@ import java.util.List;
  */
 public final class Mesh {
     
+    private static final float[] NO_FLOATS = new float[0];
+    private static final int[] NO_INDICES = new int[0];
+    private static final Mesh EMPTY = new Mesh(NO_FLOATS, NO_FLOATS, NO_FLOATS, NO_FLOATS, 0, NO_INDICES, PrimitiveType.TRIANGLES);
+    
     // ─────────────────────────────────────────────────────────────────────────────
-    // Fields - All immutable
+    // Fields - All immutable (arrays are owned and never exposed)
     // ─────────────────────────────────────────────────────────────────────────────
     
-    private final List<Vertex> vertices;      // Immutable list (List.copyOf)
-    private final int[] indices;              // Cloned on construction
+    private final float[] positions;          // xyz per vertex
+    private final float[] normals;            // xyz per vertex
+    private final float[] uvs;                // uv per vertex
+    private final float[] alphas;             // one per vertex
+    private final int vertexCount;
+    private final int[] indices;
     private final PrimitiveType primitiveType;
+    private List<Vertex> vertexView;          // Lazily built by vertices()
     
     // ─────────────────────────────────────────────────────────────────────────────
     // Constructor - Package-private, use MeshBuilder
     // ─────────────────────────────────────────────────────────────────────────────
     
     /**
-     * Creates a mesh. Use {@link MeshBuilder} instead of calling directly.
+     * Creates a mesh that takes ownership of the given arrays.
+     * Use {@link MeshBuilder} instead of calling directly.
      */
-    Mesh(List<Vertex> vertices, int[] indices, PrimitiveType primitiveType) {
-        // Defensive copies for immutability
-        this.vertices = List.copyOf(vertices);
-        this.indices = indices.clone();
+    Mesh(float[] positions, float[] normals, float[] uvs, float[] alphas,
+         int vertexCount, int[] indices, PrimitiveType primitiveType) {
+        this.positions = positions;
+        this.normals = normals;
+        this.uvs = uvs;
+        this.alphas = alphas;
+        this.vertexCount = vertexCount;
+        this.indices = indices;
         this.primitiveType = primitiveType;
     }
     
     /**
-     * Creates an empty mesh (no vertices, no indices).
+     * Returns the shared empty mesh (no vertices, no indices).
      * <p>Useful as a fallback or placeholder.
      */
     public static Mesh empty() {
-        return new Mesh(Collections.emptyList(), new int[0], PrimitiveType.TRIANGLES);
+        return EMPTY;
     }
     
     // ─────────────────────────────────────────────────────────────────────────────
@@ -83,11 +103,21 @@ public final class Mesh {
     // ─────────────────────────────────────────────────────────────────────────────
     
     /**
-     * Returns the immutable list of vertices.
-     * <p>Safe to iterate - cannot be modified.
+     * Returns an immutable list of vertices.
+     * <p>Allocates one {@link Vertex} per vertex on the first call; render
+     * paths should prefer the component accessors.
      */
     public List<Vertex> vertices() {
-        return vertices;
+        List<Vertex> view = vertexView;
+        if (view == null) {
+            List<Vertex> list = new ArrayList<>(vertexCount);
+            for (int i = 0; i < vertexCount; i++) {
+                list.add(vertex(i));
+            }
+            view = List.copyOf(list);
+            vertexView = view;
+        }
+        return view;
     }
     
     /**
@@ -98,6 +128,13 @@ public final class Mesh {
         return indices.clone();  // Defensive copy
     }
     
+    /**
+     * Returns the vertex index stored at the given position of the index array.
+     */
+    public int index(int i) {
+        return indices[i];
+    }
+    
     /**
      * Returns the primitive type (how indices are interpreted).
      */
@@ -109,7 +146,7 @@ public final class Mesh {
      * Returns the number of vertices in this mesh.
      */
     public int vertexCount() {
-        return vertices.size();
+        return vertexCount;
     }
     
     /**
@@ -120,20 +157,46 @@ public final class Mesh {
     }
     
     /**
-     * Returns the vertex at the given index.
+     * Heap footprint of the packed arrays in bytes.
+     * <p>Used for cache budgeting, not exact accounting.
+     */
+    public long estimatedBytes() {
+        return 64L + (positions.length + normals.length + uvs.length + alphas.length) * 4L
+            + indices.length * 4L;
+    }
+    
+    /**
+     * Returns the vertex at the given index as a new {@link Vertex}.
      * @throws IndexOutOfBoundsException if index is out of range
      */
     public Vertex vertex(int index) {
-        return vertices.get(index);
+        if (index < 0 || index >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex " + index + " out of " + vertexCount);
+        }
+        int p = index * 3;
+        int t = index * 2;
+        return new Vertex(positions[p], positions[p + 1], positions[p + 2],
+            normals[p], normals[p + 1], normals[p + 2],
+            uvs[t], uvs[t + 1], alphas[index]);
     }
     
+    public float x(int index) { return positions[index * 3]; }
+    public float y(int index) { return positions[index * 3 + 1]; }
+    public float z(int index) { return positions[index * 3 + 2]; }
+    public float nx(int index) { return normals[index * 3]; }
+    public float ny(int index) { return normals[index * 3 + 1]; }
+    public float nz(int index) { return normals[index * 3 + 2]; }
+    public float u(int index) { return uvs[index * 2]; }
+    public float v(int index) { return uvs[index * 2 + 1]; }
+    public float alpha(int index) { return alphas[index]; }
+    
     /**
      * Returns the number of primitives (triangles, quads, or lines).
      * <p>Calculated from index count and primitive type.
      */
     public int primitiveCount() {
         if (!primitiveType.isIndexed()) {
-            return vertices.size();  // Non-indexed: one primitive per vertex
+            return vertexCount;  // Non-indexed: one primitive per vertex
         }
         return indices.length / primitiveType.verticesPerPrimitive();
     }
@@ -142,7 +205,7 @@ public final class Mesh {
      * Returns true if this mesh has no vertices.
      */
     public boolean isEmpty() {
-        return vertices.isEmpty();
+        return vertexCount == 0;
     }
     
     /**
@@ -159,13 +222,22 @@ public final class Mesh {
         return primitiveType == PrimitiveType.TRIANGLES;
     }
     
+    /**
+     * Appends this mesh's vertices and indices to a builder.
+     * Index values are offset by the builder's current vertex count.
+     */
+    void appendTo(MeshBuilder builder) {
+        builder.appendPacked(positions, normals, uvs, alphas, vertexCount, indices);
+    }
+    
     // ─────────────────────────────────────────────────────────────────────────────
     // Iteration - Functional interface for each primitive type
     // ─────────────────────────────────────────────────────────────────────────────
     
     /**
      * Iterates over each triangle in this mesh.
-     * <p>Only valid for {@link PrimitiveType#TRIANGLES} meshes.
+     * <p>Only valid for {@link PrimitiveType#TRIANGLES} meshes. Allocates a
+     * {@link Vertex} per corner; use {@link #index(int)} on hot paths.
      * 
      * <p>Usage:
      * <pre>
@@ -183,10 +255,7 @@ public final class Mesh {
         }
         // Process indices in groups of 3
         for (int i = 0; i < indices.length; i += 3) {
-            Vertex v0 = vertices.get(indices[i]);
-            Vertex v1 = vertices.get(indices[i + 1]);
-            Vertex v2 = vertices.get(indices[i + 2]);
-            consumer.accept(v0, v1, v2);
+            consumer.accept(vertex(indices[i]), vertex(indices[i + 1]), vertex(indices[i + 2]));
         }
     }
     
@@ -203,11 +272,8 @@ public final class Mesh {
         }
         // Process indices in groups of 4
         for (int i = 0; i < indices.length; i += 4) {
-            Vertex v0 = vertices.get(indices[i]);
-            Vertex v1 = vertices.get(indices[i + 1]);
-            Vertex v2 = vertices.get(indices[i + 2]);
-            Vertex v3 = vertices.get(indices[i + 3]);
-            consumer.accept(v0, v1, v2, v3);
+            consumer.accept(vertex(indices[i]), vertex(indices[i + 1]),
+                vertex(indices[i + 2]), vertex(indices[i + 3]));
         }
     }
     
@@ -224,9 +290,7 @@ public final class Mesh {
         }
         // Process indices in groups of 2
         for (int i = 0; i < indices.length; i += 2) {
-            Vertex v0 = vertices.get(indices[i]);
-            Vertex v1 = vertices.get(indices[i + 1]);
-            consumer.accept(v0, v1);
+            consumer.accept(vertex(indices[i]), vertex(indices[i + 1]));
         }
     }
     
@@ -242,12 +306,12 @@ public final class Mesh {
      * @return new scaled mesh
      */
     public Mesh scaled(float scale) {
-        List<Vertex> scaledVerts = new ArrayList<>(vertices.size());
-        for (Vertex v : vertices) {
-            scaledVerts.add(v.scaled(scale));
+        float[] scaled = Arrays.copyOf(positions, positions.length);
+        for (int i = 0; i < scaled.length; i++) {
+            scaled[i] *= scale;
         }
-        // Indices unchanged - still point to same relative positions
-        return new Mesh(scaledVerts, indices, primitiveType);
+        // Other arrays are never mutated, so they can be shared
+        return new Mesh(scaled, normals, uvs, alphas, vertexCount, indices, primitiveType);
     }
     
     /**
@@ -260,11 +324,13 @@ public final class Mesh {
      * @return new translated mesh
      */
     public Mesh translated(float dx, float dy, float dz) {
-        List<Vertex> translatedVerts = new ArrayList<>(vertices.size());
-        for (Vertex v : vertices) {
-            translatedVerts.add(v.translated(dx, dy, dz));
+        float[] moved = Arrays.copyOf(positions, positions.length);
+        for (int i = 0; i < moved.length; i += 3) {
+            moved[i] += dx;
+            moved[i + 1] += dy;
+            moved[i + 2] += dz;
         }
-        return new Mesh(translatedVerts, indices, primitiveType);
+        return new Mesh(moved, normals, uvs, alphas, vertexCount, indices, primitiveType);
     }
     
     // ─────────────────────────────────────────────────────────────────────────────
@@ -0,0 +1,139 @@
+package net.cyberpunk042.client.visual.mesh;
+
+import net.cyberpunk042.client.visual.render.VertexEmitter;
+import net.cyberpunk042.visual.shape.SphereShape;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.util.math.MatrixStack;
+import org.joml.Vector4f;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-game micro benchmark for mesh building and emission, run via
+ * {@code /meshbench}. Compares the packed-array {@link MeshBuilder} and
+ * {@link VertexEmitter#emit(Mesh)} against a replica of the old storage
+ * (a {@code List<Vertex>} plus boxed {@code List<Integer>} indices) and the
+ * old per-vertex emit path. Allocation is read from the per-thread counter
+ * of the HotSpot {@link com.sun.management.ThreadMXBean}.
+ */
+public final class MeshBenchmark {
+
+    private static final int ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 10;
+
+    private MeshBenchmark() {}
+
+    public record Result(String name, int vertices, double baselineBytes, double packedBytes,
+                         double baselineNanos, double packedNanos) {
+        public String describe() {
+            return String.format(Locale.ROOT, "%s (%d verts): old=%.0fB %.0fus  packed=%.0fB %.0fus",
+                name, vertices,
+                baselineBytes, baselineNanos / 1000.0,
+                packedBytes, packedNanos / 1000.0);
+        }
+    }
+
+    public static List<Result> run() {
+        SphereShape shape = SphereShape.builder().latSteps(64).lonSteps(64).build();
+        Mesh mesh = SphereTessellator.tessellate(shape);
+        List<Result> results = new ArrayList<>(2);
+        results.add(measure("build", mesh.vertexCount(),
+            () -> buildBoxed(mesh),
+            () -> buildPacked(mesh)));
+
+        MatrixStack matrices = new MatrixStack();
+        VertexEmitter emitter = new VertexEmitter(matrices, NullConsumer.INSTANCE);
+        results.add(measure("emit", mesh.vertexCount(),
+            () -> emitPerVertex(emitter, matrices.peek(), mesh),
+            () -> emitter.emit(mesh)));
+        return results;
+    }
+
+    private static Result measure(String name, int vertices, Runnable baseline, Runnable packed) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            baseline.run();
+            packed.run();
+        }
+        long[] baselineStats = sample(baseline);
+        long[] packedStats = sample(packed);
+        return new Result(name, vertices,
+            (double) baselineStats[0] / ROUNDS, (double) packedStats[0] / ROUNDS,
+            (double) baselineStats[1] / ROUNDS, (double) packedStats[1] / ROUNDS);
+    }
+
+    /** Returns {allocated bytes, elapsed nanos} over {@link #ROUNDS} runs. */
+    private static long[] sample(Runnable body) {
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            body.run();
+        }
+        long nanos = System.nanoTime() - start;
+        return new long[] { allocatedBytes() - bytes, nanos };
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0L;
+    }
+
+    // Old storage: one record per vertex and boxed indices, copied on build
+    private static Object buildBoxed(Mesh source) {
+        List<Vertex> vertices = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < source.vertexCount(); i++) {
+            vertices.add(new Vertex(source.x(i), source.y(i), source.z(i),
+                source.nx(i), source.ny(i), source.nz(i),
+                source.u(i), source.v(i), source.alpha(i)));
+        }
+        for (int i = 0; i < source.indexCount(); i++) {
+            indices.add(source.index(i));
+        }
+        int[] packed = new int[indices.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = indices.get(i);
+        }
+        return List.copyOf(vertices);
+    }
+
+    private static Object buildPacked(Mesh source) {
+        MeshBuilder builder = MeshBuilder.triangles();
+        for (int i = 0; i < source.vertexCount(); i++) {
+            builder.vertex(source.x(i), source.y(i), source.z(i),
+                source.nx(i), source.ny(i), source.nz(i),
+                source.u(i), source.v(i), source.alpha(i));
+        }
+        for (int i = 0; i + 2 < source.indexCount(); i += 3) {
+            builder.triangle(source.index(i), source.index(i + 1), source.index(i + 2));
+        }
+        return builder.build();
+    }
+
+    // Old emit path: a Vertex per index and a Vector4f per transform
+    private static void emitPerVertex(VertexEmitter emitter, MatrixStack.Entry entry, Mesh mesh) {
+        for (int i = 0; i < mesh.indexCount(); i++) {
+            Vertex vertex = mesh.vertex(mesh.index(i));
+            Vector4f pos = entry.getPositionMatrix().transform(new Vector4f(vertex.x(), vertex.y(), vertex.z(), 1.0f));
+            if (pos.w != 0.0f) {
+                emitter.emitVertex(vertex);
+            }
+        }
+    }
+
+    /** Discards everything; keeps the benchmark free of buffer costs. */
+    private enum NullConsumer implements VertexConsumer {
+        INSTANCE;
+
+        @Override public VertexConsumer vertex(float x, float y, float z) { return this; }
+        @Override public VertexConsumer color(int red, int green, int blue, int alpha) { return this; }
+        @Override public VertexConsumer texture(float u, float v) { return this; }
+        @Override public VertexConsumer overlay(int u, int v) { return this; }
+        @Override public VertexConsumer light(int u, int v) { return this; }
+        @Override public VertexConsumer normal(float x, float y, float z) { return this; }
+    }
+}
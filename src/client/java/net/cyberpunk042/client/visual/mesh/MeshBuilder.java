@@ -1,7 +1,6 @@
 package net.cyberpunk042.client.visual.mesh;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Builder for creating {@link Mesh} instances.
@@ -48,8 +47,15 @@ import java.util.List;
  *     .build();
  * </pre>
  * 
+ * <h2>Storage</h2>
+ * <p>Vertices are written straight into growable float arrays (positions,
+ * normals, UVs, alpha) and indices into an {@code int[]}, so building a mesh
+ * allocates no per-vertex objects. {@link #build()} copies the used part of
+ * each array into the immutable {@link Mesh}.
+ * 
  * <h2>Reusing Builder</h2>
- * <p>Call {@link #clear()} to reuse a builder for multiple meshes.
+ * <p>Call {@link #clear()} to reuse a builder for multiple meshes; the
+ * arrays keep their capacity.
  * 
  * @see Mesh
  * @see Vertex
@@ -61,8 +67,15 @@ public final class MeshBuilder {
     // State
     // ─────────────────────────────────────────────────────────────────────────────
     
-    private final List<Vertex> vertices = new ArrayList<>();
-    private final List<Integer> indices = new ArrayList<>();
+    private static final int INITIAL_VERTICES = 64;
+    
+    private float[] positions = new float[INITIAL_VERTICES * 3];
+    private float[] normals = new float[INITIAL_VERTICES * 3];
+    private float[] uvs = new float[INITIAL_VERTICES * 2];
+    private float[] alphas = new float[INITIAL_VERTICES];
+    private int vertexCount;
+    private int[] indices = new int[INITIAL_VERTICES * 3];
+    private int indexCount;
     private final PrimitiveType primitiveType;  // Set at construction, immutable
     
     // ─────────────────────────────────────────────────────────────────────────────
@@ -113,9 +126,9 @@ public final class MeshBuilder {
      * @return index of the added vertex (for use in triangle/line/quad calls)
      */
     public int addVertex(Vertex vertex) {
-        int index = vertices.size();
-        vertices.add(vertex);
-        return index;
+        return vertex(vertex.x(), vertex.y(), vertex.z(),
+            vertex.nx(), vertex.ny(), vertex.nz(),
+            vertex.u(), vertex.v(), vertex.alpha());
     }
     
     /**
@@ -125,7 +138,7 @@ public final class MeshBuilder {
      * @return index of the added vertex
      */
     public int vertex(float x, float y, float z) {
-        return addVertex(Vertex.pos(x, y, z));
+        return vertex(x, y, z, 0, 0, 0, 0, 0, 1.0f);
     }
     
     /**
@@ -135,7 +148,7 @@ public final class MeshBuilder {
      * @return index of the added vertex
      */
     public int vertex(float x, float y, float z, float nx, float ny, float nz) {
-        return addVertex(Vertex.posNormal(x, y, z, nx, ny, nz));
+        return vertex(x, y, z, nx, ny, nz, 0, 0, 1.0f);
     }
     
     /**
@@ -145,7 +158,7 @@ public final class MeshBuilder {
      * @return index of the added vertex
      */
     public int vertex(float x, float y, float z, float nx, float ny, float nz, float u, float v) {
-        return addVertex(new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f));
+        return vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
     }
     
     /**
@@ -163,7 +176,20 @@ public final class MeshBuilder {
      * @return index of the added vertex
      */
     public int vertex(float x, float y, float z, float nx, float ny, float nz, float u, float v, float alpha) {
-        return addVertex(new Vertex(x, y, z, nx, ny, nz, u, v, alpha));
+        int index = vertexCount;
+        ensureVertexCapacity(index + 1);
+        int p = index * 3;
+        positions[p] = x;
+        positions[p + 1] = y;
+        positions[p + 2] = z;
+        normals[p] = nx;
+        normals[p + 1] = ny;
+        normals[p + 2] = nz;
+        uvs[index * 2] = u;
+        uvs[index * 2 + 1] = v;
+        alphas[index] = alpha;
+        vertexCount = index + 1;
+        return index;
     }
     
     /**
@@ -175,7 +201,7 @@ public final class MeshBuilder {
      * @return index of the added vertex
      */
     public int sphericalVertex(float theta, float phi) {
-        return addVertex(Vertex.spherical(theta, phi));
+        return sphericalVertex(theta, phi, 1.0f);
     }
     
     /**
@@ -187,8 +213,42 @@ public final class MeshBuilder {
      * @return index of the added vertex
      */
     public int sphericalVertex(float theta, float phi, float radius) {
-        return addVertex(Vertex.spherical(theta, phi, radius));
+        float sinTheta = (float) Math.sin(theta);
+        float nx = sinTheta * (float) Math.cos(phi);
+        float ny = (float) Math.cos(theta);
+        float nz = sinTheta * (float) Math.sin(phi);
+        return vertex(nx * radius, ny * radius, nz * radius, nx, ny, nz,
+            phi / (float) (2 * Math.PI), theta / (float) Math.PI, 1.0f);
+    }
+    
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Editing Added Vertices
+    // ─────────────────────────────────────────────────────────────────────────────
+    
+    /**
+     * Overwrites the position of a vertex already added.
+     * <p>Used for in-place deformation (e.g. wave) after a helper wrote the vertex.
+     */
+    public void setPosition(int index, float x, float y, float z) {
+        checkVertex(index);
+        int p = index * 3;
+        positions[p] = x;
+        positions[p + 1] = y;
+        positions[p + 2] = z;
+    }
+    
+    /**
+     * Overwrites the normal of a vertex already added.
+     * <p>Used by cap faces that reuse a wall helper but need a flat normal.
+     */
+    public void setNormal(int index, float nx, float ny, float nz) {
+        checkVertex(index);
+        int p = index * 3;
+        normals[p] = nx;
+        normals[p + 1] = ny;
+        normals[p + 2] = nz;
     }
+
     
     // ─────────────────────────────────────────────────────────────────────────────
     // Adding Primitives (indices)
@@ -211,9 +271,10 @@ public final class MeshBuilder {
         if (primitiveType != PrimitiveType.TRIANGLES) {
             throw new IllegalStateException("Cannot add triangle to " + primitiveType + " mesh");
         }
-        indices.add(i0);
-        indices.add(i1);
-        indices.add(i2);
+        ensureIndexCapacity(indexCount + 3);
+        indices[indexCount++] = i0;
+        indices[indexCount++] = i1;
+        indices[indexCount++] = i2;
         return this;
     }
     
@@ -288,10 +349,11 @@ public final class MeshBuilder {
         if (primitiveType != PrimitiveType.QUADS) {
             throw new IllegalStateException("Cannot add quad to " + primitiveType + " mesh");
         }
-        indices.add(i0);
-        indices.add(i1);
-        indices.add(i2);
-        indices.add(i3);
+        ensureIndexCapacity(indexCount + 4);
+        indices[indexCount++] = i0;
+        indices[indexCount++] = i1;
+        indices[indexCount++] = i2;
+        indices[indexCount++] = i3;
         return this;
     }
     
@@ -308,8 +370,9 @@ public final class MeshBuilder {
         if (primitiveType != PrimitiveType.LINES) {
             throw new IllegalStateException("Cannot add line to " + primitiveType + " mesh");
         }
-        indices.add(i0);
-        indices.add(i1);
+        ensureIndexCapacity(indexCount + 2);
+        indices[indexCount++] = i0;
+        indices[indexCount++] = i1;
         return this;
     }
     
@@ -469,7 +532,7 @@ public final class MeshBuilder {
      * Returns the current number of vertices added.
      */
     public int vertexCount() {
-        return vertices.size();
+        return vertexCount;
     }
     
     /**
@@ -479,14 +542,42 @@ public final class MeshBuilder {
      * @throws IndexOutOfBoundsException if index is invalid
      */
     public Vertex getVertex(int index) {
-        return vertices.get(index);
+        checkVertex(index);
+        int p = index * 3;
+        return new Vertex(positions[p], positions[p + 1], positions[p + 2],
+            normals[p], normals[p + 1], normals[p + 2],
+            uvs[index * 2], uvs[index * 2 + 1], alphas[index]);
+    }
+    
+    /** Returns the X position of a vertex without allocating a {@link Vertex}. */
+    public float x(int index) {
+        checkVertex(index);
+        return positions[index * 3];
+    }
+    
+    /** Returns the Y position of a vertex without allocating a {@link Vertex}. */
+    public float y(int index) {
+        checkVertex(index);
+        return positions[index * 3 + 1];
+    }
+    
+    /** Returns the Z position of a vertex without allocating a {@link Vertex}. */
+    public float z(int index) {
+        checkVertex(index);
+        return positions[index * 3 + 2];
+    }
+    
+    private void checkVertex(int index) {
+        if (index < 0 || index >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex " + index + " out of " + vertexCount);
+        }
     }
     
     /**
      * Returns the current number of indices added.
      */
     public int indexCount() {
-        return indices.size();
+        return indexCount;
     }
     
     // ─────────────────────────────────────────────────────────────────────────────
@@ -500,8 +591,8 @@ public final class MeshBuilder {
      * @return this builder for chaining
      */
     public MeshBuilder clear() {
-        vertices.clear();
-        indices.clear();
+        vertexCount = 0;
+        indexCount = 0;
         return this;
     }
     
@@ -515,20 +606,45 @@ public final class MeshBuilder {
      */
     public MeshBuilder mergeMesh(Mesh mesh) {
         if (mesh == null) return this;
+        mesh.appendTo(this);
+        return this;
+    }
+    
+    /**
+     * Bulk-copies packed vertex data and offsets the copied indices by the
+     * current vertex count. Called by {@link Mesh#appendTo(MeshBuilder)}.
+     */
+    void appendPacked(float[] srcPositions, float[] srcNormals, float[] srcUvs, float[] srcAlphas,
+                      int srcVertexCount, int[] srcIndices) {
+        int vertexOffset = vertexCount;
+        ensureVertexCapacity(vertexOffset + srcVertexCount);
+        System.arraycopy(srcPositions, 0, positions, vertexOffset * 3, srcVertexCount * 3);
+        System.arraycopy(srcNormals, 0, normals, vertexOffset * 3, srcVertexCount * 3);
+        System.arraycopy(srcUvs, 0, uvs, vertexOffset * 2, srcVertexCount * 2);
+        System.arraycopy(srcAlphas, 0, alphas, vertexOffset, srcVertexCount);
+        vertexCount += srcVertexCount;
         
-        int vertexOffset = vertices.size();
-        
-        // Add all vertices from source mesh
-        for (Vertex v : mesh.vertices()) {
-            vertices.add(v);
+        ensureIndexCapacity(indexCount + srcIndices.length);
+        for (int idx : srcIndices) {
+            indices[indexCount++] = idx + vertexOffset;
         }
-        
-        // Add all indices, offset by existing vertex count
-        for (int idx : mesh.indices()) {
-            indices.add(idx + vertexOffset);
+    }
+    
+    private void ensureVertexCapacity(int required) {
+        if (required <= alphas.length) {
+            return;
+        }
+        int capacity = Math.max(required, alphas.length * 2);
+        positions = Arrays.copyOf(positions, capacity * 3);
+        normals = Arrays.copyOf(normals, capacity * 3);
+        uvs = Arrays.copyOf(uvs, capacity * 2);
+        alphas = Arrays.copyOf(alphas, capacity);
+    }
+    
+    private void ensureIndexCapacity(int required) {
+        if (required > indices.length) {
+            indices = Arrays.copyOf(indices, Math.max(required, indices.length * 2));
         }
-        
-        return this;
     }
     
     /**
@@ -538,11 +654,14 @@ public final class MeshBuilder {
      * @return new immutable Mesh containing all added vertices and indices
      */
     public Mesh build() {
-        // Convert List<Integer> to int[] for Mesh constructor
-        int[] indexArray = new int[indices.size()];
-        for (int i = 0; i < indices.size(); i++) {
-            indexArray[i] = indices.get(i);
-        }
-        return new Mesh(vertices, indexArray, primitiveType);
+        // Trimmed copies: the builder keeps its arrays for further use
+        return new Mesh(
+            Arrays.copyOf(positions, vertexCount * 3),
+            Arrays.copyOf(normals, vertexCount * 3),
+            Arrays.copyOf(uvs, vertexCount * 2),
+            Arrays.copyOf(alphas, vertexCount),
+            vertexCount,
+            Arrays.copyOf(indices, indexCount),
+            primitiveType);
     }
 }
@@ -273,7 +273,7 @@ public final class MoleculeTessellator {
             float theta = (float) Math.PI * lat / latSteps;
             for (int lon = 0; lon <= lonSteps; lon++) {
                 float phi = 2 * (float) Math.PI * lon / lonSteps;
-                indices[lat][lon] = builder.addVertex(sphereVertex(theta, phi, radius, pos));
+                indices[lat][lon] = sphereVertex(builder, theta, phi, radius, pos);
             }
         }
         
@@ -302,7 +302,7 @@ public final class MoleculeTessellator {
         }
     }
     
-    private static Vertex sphereVertex(float theta, float phi, float radius, Vector3f center) {
+    private static int sphereVertex(MeshBuilder builder, float theta, float phi, float radius, Vector3f center) {
         float sinTheta = (float) Math.sin(theta);
         float cosTheta = (float) Math.cos(theta);
         float sinPhi = (float) Math.sin(phi);
@@ -322,7 +322,7 @@ public final class MoleculeTessellator {
         float u = phi / (2 * (float) Math.PI);
         float v = theta / (float) Math.PI;
         
-        return new Vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
+        return builder.vertex(x, y, z, nx, ny, nz, u, v, 1.0f);
     }
     
     // =========================================================================
@@ -365,6 +365,7 @@ public final class MoleculeTessellator {
         // Default tube is along Y axis, we need to rotate to 'axis'
         Vector3f up = new Vector3f(0, 1, 0);
         Quaternionf rotation = new Quaternionf().rotationTo(up, axis);
+        Vector3f offset = new Vector3f();
         
         // Generate tube rings
         for (int ring = 0; ring < rings; ring++) {
@@ -385,15 +386,10 @@ public final class MoleculeTessellator {
                 float angle2 = 2 * (float) Math.PI * (seg + 1) / segments;
                 
                 // Four vertices of this quad
-                Vertex v00 = tubeVertex(ringPos1, rad1, angle1, axis, rotation);
-                Vertex v01 = tubeVertex(ringPos1, rad1, angle2, axis, rotation);
-                Vertex v10 = tubeVertex(ringPos2, rad2, angle1, axis, rotation);
-                Vertex v11 = tubeVertex(ringPos2, rad2, angle2, axis, rotation);
-                
-                int i00 = builder.addVertex(v00);
-                int i01 = builder.addVertex(v01);
-                int i10 = builder.addVertex(v10);
-                int i11 = builder.addVertex(v11);
+                int i00 = tubeVertex(builder, ringPos1, rad1, angle1, axis, rotation, offset);
+                int i01 = tubeVertex(builder, ringPos1, rad1, angle2, axis, rotation, offset);
+                int i10 = tubeVertex(builder, ringPos2, rad2, angle1, axis, rotation, offset);
+                int i11 = tubeVertex(builder, ringPos2, rad2, angle2, axis, rotation, offset);
                 
                 // Quad with pattern support: TL=i00, TR=i01, BR=i11, BL=i10
                 builder.quadAsTrianglesFromPattern(i00, i01, i11, i10, pattern);
@@ -413,17 +409,17 @@ public final class MoleculeTessellator {
     }
     
     /**
-     * Creates a vertex on the tube surface.
+     * Adds a vertex on the tube surface.
+     * <p>{@code localOffset} is scratch space reused across calls.
      */
-    private static Vertex tubeVertex(Vector3f center, float radius, float angle,
-                                      Vector3f axis, Quaternionf rotation) {
+    private static int tubeVertex(MeshBuilder builder, Vector3f center, float radius, float angle,
+                                   Vector3f axis, Quaternionf rotation, Vector3f localOffset) {
         // Local position in tube space (around Y axis)
         float lx = (float) Math.cos(angle) * radius;
         float lz = (float) Math.sin(angle) * radius;
         
         // Rotate to world orientation
-        Vector3f localOffset = new Vector3f(lx, 0, lz);
-        rotation.transform(localOffset);
+        rotation.transform(localOffset.set(lx, 0, lz));
         
         // World position
         float x = center.x + localOffset.x;
@@ -431,13 +427,14 @@ public final class MoleculeTessellator {
         float z = center.z + localOffset.z;
         
         // Normal points radially outward
-        Vector3f normal = new Vector3f(localOffset).normalize();
+        float invLength = 1.0f / localOffset.length();
         
         // UV coordinates
         float u = angle / (2 * (float) Math.PI);
         float v = 0.5f;  // Middle of texture
         
-        return new Vertex(x, y, z, normal.x, normal.y, normal.z, u, v, 1.0f);
+        return builder.vertex(x, y, z, localOffset.x * invLength, localOffset.y * invLength,
+            localOffset.z * invLength, u, v, 1.0f);
     }
     
     // =========================================================================
@@ -240,13 +240,11 @@ public final class PolyhedronTessellator implements Tessellator {
     // =========================================================================
     
     private int emitVertex(MeshBuilder builder, float[] pos, float[] normal, float u, float v) {
-        Vertex vertex = new Vertex(pos[0], pos[1], pos[2], normal[0], normal[1], normal[2], u, v, 1.0f);
+        int index = builder.vertex(pos[0], pos[1], pos[2], normal[0], normal[1], normal[2], u, v);
         if (wave != null && wave.isActive() && wave.isCpuMode()) {
-            vertex = WaveDeformer.applyToVertex(vertex, wave, waveTime);
+            WaveDeformer.applyInPlace(builder, index, wave, waveTime);
         }
-        return builder.vertex(vertex.x(), vertex.y(), vertex.z(),
-                              vertex.nx(), vertex.ny(), vertex.nz(),
-                              vertex.u(), vertex.v());
+        return index;
     }
     
     private float[] computeNormal(float[] v0, float[] v1, float[] v2) {
@@ -299,22 +297,16 @@ public final class PolyhedronTessellator implements Tessellator {
             MeshBuilder builder = MeshBuilder.triangles();
             
             // Copy front faces
-            mesh.forEachTriangle((v0, v1, v2) -> {
-                int i0 = builder.vertex(v0.x(), v0.y(), v0.z(), v0.nx(), v0.ny(), v0.nz(), v0.u(), v0.v());
-                int i1 = builder.vertex(v1.x(), v1.y(), v1.z(), v1.nx(), v1.ny(), v1.nz(), v1.u(), v1.v());
-                int i2 = builder.vertex(v2.x(), v2.y(), v2.z(), v2.nx(), v2.ny(), v2.nz(), v2.u(), v2.v());
-                builder.triangle(i0, i1, i2);
-            });
+            builder.mergeMesh(mesh);
             
             // Add back faces (reversed winding, inverted normals)
-            mesh.forEachTriangle((v0, v1, v2) -> {
+            for (int i = 0; i < mesh.indexCount(); i += 3) {
                 // Reversed vertex order for back face: v0, v2, v1
-                // Inverted normals
-                int j0 = builder.vertex(v0.x(), v0.y(), v0.z(), -v0.nx(), -v0.ny(), -v0.nz(), v0.u(), v0.v());
-                int j1 = builder.vertex(v2.x(), v2.y(), v2.z(), -v2.nx(), -v2.ny(), -v2.nz(), v2.u(), v2.v());
-                int j2 = builder.vertex(v1.x(), v1.y(), v1.z(), -v1.nx(), -v1.ny(), -v1.nz(), v1.u(), v1.v());
+                int j0 = copyVertex(builder, mesh, mesh.index(i), -1);
+                int j1 = copyVertex(builder, mesh, mesh.index(i + 2), -1);
+                int j2 = copyVertex(builder, mesh, mesh.index(i + 1), -1);
                 builder.triangle(j0, j1, j2);
-            });
+            }
             
             return builder.build();
         }
@@ -326,72 +318,76 @@ public final class PolyhedronTessellator implements Tessellator {
             
             // Handle QUADS by treating as 2 triangles
             if (mesh.primitiveType() == PrimitiveType.QUADS) {
-                mesh.forEachQuad((v0, v1, v2, v3) -> {
-                    subdivideTriangle(builder, v0, v1, v2, radius, wave, time, applyWave);
-                    subdivideTriangle(builder, v0, v2, v3, radius, wave, time, applyWave);
-                });
+                for (int i = 0; i < mesh.indexCount(); i += 4) {
+                    int a = mesh.index(i), b = mesh.index(i + 1);
+                    int c = mesh.index(i + 2), d = mesh.index(i + 3);
+                    subdivideTriangle(builder, mesh, a, b, c, radius, wave, time, applyWave);
+                    subdivideTriangle(builder, mesh, a, c, d, radius, wave, time, applyWave);
+                }
             } else {
-                mesh.forEachTriangle((v0, v1, v2) -> 
-                    subdivideTriangle(builder, v0, v1, v2, radius, wave, time, applyWave));
+                for (int i = 0; i < mesh.indexCount(); i += 3) {
+                    subdivideTriangle(builder, mesh, mesh.index(i), mesh.index(i + 1), mesh.index(i + 2),
+                        radius, wave, time, applyWave);
+                }
             }
             
             return builder.build();
         }
         
-        private static void subdivideTriangle(MeshBuilder builder, 
-                                              Vertex v0, Vertex v1, Vertex v2,
+        private static void subdivideTriangle(MeshBuilder builder, Mesh mesh,
+                                              int a, int b, int c,
                                               float radius, WaveConfig wave, 
                                               float time, boolean applyWave) {
-            // Edge midpoints
-            Vertex m01 = projectToSphere(midpoint(v0, v1), radius);
-            Vertex m12 = projectToSphere(midpoint(v1, v2), radius);
-            Vertex m20 = projectToSphere(midpoint(v2, v0), radius);
+            // Corners and edge midpoints (midpoints use the undeformed source positions)
+            int v0 = copyVertex(builder, mesh, a, 1);
+            int v1 = copyVertex(builder, mesh, b, 1);
+            int v2 = copyVertex(builder, mesh, c, 1);
+            int m01 = sphereMidpoint(builder, mesh, a, b, radius);
+            int m12 = sphereMidpoint(builder, mesh, b, c, radius);
+            int m20 = sphereMidpoint(builder, mesh, c, a, radius);
             
-            // Emit 4 new triangles
-            emitTriangle(builder, v0, m01, m20, wave, time, applyWave);
-            emitTriangle(builder, m01, v1, m12, wave, time, applyWave);
-            emitTriangle(builder, m01, m12, m20, wave, time, applyWave);
-            emitTriangle(builder, m20, m12, v2, wave, time, applyWave);
-        }
-        
-        private static void emitTriangle(MeshBuilder builder, 
-                                         Vertex v0, Vertex v1, Vertex v2,
-                                         WaveConfig wave, float time, boolean applyWave) {
             if (applyWave) {
-                v0 = WaveDeformer.applyToVertex(v0, wave, time);
-                v1 = WaveDeformer.applyToVertex(v1, wave, time);
-                v2 = WaveDeformer.applyToVertex(v2, wave, time);
+                for (int idx = v0; idx <= m20; idx++) {
+                    WaveDeformer.applyInPlace(builder, idx, wave, time);
+                }
             }
-            int i0 = builder.vertex(v0.x(), v0.y(), v0.z(), v0.nx(), v0.ny(), v0.nz(), v0.u(), v0.v());
-            int i1 = builder.vertex(v1.x(), v1.y(), v1.z(), v1.nx(), v1.ny(), v1.nz(), v1.u(), v1.v());
-            int i2 = builder.vertex(v2.x(), v2.y(), v2.z(), v2.nx(), v2.ny(), v2.nz(), v2.u(), v2.v());
-            builder.triangle(i0, i1, i2);
+            
+            // Emit 4 new triangles
+            builder.triangle(v0, m01, m20);
+            builder.triangle(m01, v1, m12);
+            builder.triangle(m01, m12, m20);
+            builder.triangle(m20, m12, v2);
         }
         
-        private static Vertex midpoint(Vertex a, Vertex b) {
-            return new Vertex(
-                (a.x() + b.x()) / 2, (a.y() + b.y()) / 2, (a.z() + b.z()) / 2,
-                0, 0, 0,  // Normal recalculated when projected
-                (a.u() + b.u()) / 2, (a.v() + b.v()) / 2,
-                1.0f
-            );
+        /**
+         * Copies a source vertex, optionally flipping its normal (normalSign = -1).
+         */
+        private static int copyVertex(MeshBuilder builder, Mesh mesh, int i, float normalSign) {
+            return builder.vertex(mesh.x(i), mesh.y(i), mesh.z(i),
+                mesh.nx(i) * normalSign, mesh.ny(i) * normalSign, mesh.nz(i) * normalSign,
+                mesh.u(i), mesh.v(i));
         }
         
-        private static Vertex projectToSphere(Vertex v, float radius) {
-            float length = (float) Math.sqrt(v.x() * v.x() + v.y() * v.y() + v.z() * v.z());
-            if (length < 0.0001f) return v;
+        /**
+         * Adds the midpoint of two source vertices projected onto the sphere.
+         */
+        private static int sphereMidpoint(MeshBuilder builder, Mesh mesh, int a, int b, float radius) {
+            float x = (mesh.x(a) + mesh.x(b)) / 2;
+            float y = (mesh.y(a) + mesh.y(b)) / 2;
+            float z = (mesh.z(a) + mesh.z(b)) / 2;
+            float u = (mesh.u(a) + mesh.u(b)) / 2;
+            float v = (mesh.v(a) + mesh.v(b)) / 2;
             
-            float scale = radius / length;
-            float px = v.x() * scale;
-            float py = v.y() * scale;
-            float pz = v.z() * scale;
+            float length = (float) Math.sqrt(x * x + y * y + z * z);
+            if (length < 0.0001f) {
+                // Degenerate midpoint at the origin: no direction to project along
+                return builder.vertex(x, y, z, 0, 0, 0, u, v);
+            }
             
             // Normal = direction from origin
-            float nx = v.x() / length;
-            float ny = v.y() / length;
-            float nz = v.z() / length;
-            
-            return new Vertex(px, py, pz, nx, ny, nz, v.u(), v.v(), 1.0f);
+            float scale = radius / length;
+            return builder.vertex(x * scale, y * scale, z * scale,
+                x / length, y / length, z / length, u, v);
         }
     }
     
@@ -147,24 +147,19 @@ public final class PrismTessellator {
                 }
                 
                 // Four corners of this quad
-                Vertex v00 = GeometryMath.prismCorner(s, sides, y0, r0, twist, height, yBase);
-                Vertex v10 = GeometryMath.prismCorner(s + 1, sides, y0, r0, twist, height, yBase);
-                Vertex v01 = GeometryMath.prismCorner(s, sides, y1, r1, twist, height, yBase);
-                Vertex v11 = GeometryMath.prismCorner(s + 1, sides, y1, r1, twist, height, yBase);
+                int i00 = GeometryMath.prismCorner(builder, s, sides, y0, r0, twist, height, yBase);
+                int i10 = GeometryMath.prismCorner(builder, s + 1, sides, y0, r0, twist, height, yBase);
+                int i01 = GeometryMath.prismCorner(builder, s, sides, y1, r1, twist, height, yBase);
+                int i11 = GeometryMath.prismCorner(builder, s + 1, sides, y1, r1, twist, height, yBase);
                 
                 // Apply wave deformation
                 if (applyWave) {
-                    v00 = WaveDeformer.applyToVertex(v00, wave, time);
-                    v10 = WaveDeformer.applyToVertex(v10, wave, time);
-                    v01 = WaveDeformer.applyToVertex(v01, wave, time);
-                    v11 = WaveDeformer.applyToVertex(v11, wave, time);
+                    WaveDeformer.applyInPlace(builder, i00, wave, time);
+                    WaveDeformer.applyInPlace(builder, i10, wave, time);
+                    WaveDeformer.applyInPlace(builder, i01, wave, time);
+                    WaveDeformer.applyInPlace(builder, i11, wave, time);
                 }
                 
-                int i00 = builder.addVertex(v00);
-                int i10 = builder.addVertex(v10);
-                int i01 = builder.addVertex(v01);
-                int i11 = builder.addVertex(v11);
-                
                 // Indices: i00=BL(bot,s), i10=BR(bot,s+1), i01=TL(top,s), i11=TR(top,s+1)
                 // TL=i01, TR=i11, BR=i10, BL=i00
                 builder.quadAsTrianglesFromPattern(i01, i11, i10, i00, pattern);
@@ -185,22 +180,20 @@ public final class PrismTessellator {
         float ny = isTop ? 1 : -1;
         
         // Center vertex
-        Vertex center = GeometryMath.prismFaceCenter(sides, y, radius);
-        center = new Vertex(center.x(), center.y(), center.z(), 0, ny, 0, 0.5f, 0.5f, 1.0f);
+        int centerIdx = GeometryMath.prismFaceCenter(builder, sides, y, radius);
+        builder.setNormal(centerIdx, 0, ny, 0);
         if (applyWave) {
-            center = WaveDeformer.applyToVertex(center, wave, time);
+            WaveDeformer.applyInPlace(builder, centerIdx, wave, time);
         }
-        int centerIdx = builder.addVertex(center);
         
         // Edge vertices
         int[] edgeIndices = new int[sides];
         for (int s = 0; s < sides; s++) {
-            Vertex v = GeometryMath.prismCorner(s, sides, y, radius, twist, height, yBase);
-            v = new Vertex(v.x(), v.y(), v.z(), 0, ny, 0, v.u(), v.v(), 1.0f);
+            edgeIndices[s] = GeometryMath.prismCorner(builder, s, sides, y, radius, twist, height, yBase);
+            builder.setNormal(edgeIndices[s], 0, ny, 0);
             if (applyWave) {
-                v = WaveDeformer.applyToVertex(v, wave, time);
+                WaveDeformer.applyInPlace(builder, edgeIndices[s], wave, time);
             }
-            edgeIndices[s] = builder.addVertex(v);
         }
         
         // Emit triangles with correct winding for front-face visibility
@@ -4,12 +4,16 @@ import net.cyberpunk042.client.visual.mesh.ray.RayContext;
 import net.cyberpunk042.client.visual.mesh.ray.RayPositioner;
 import net.cyberpunk042.client.visual.mesh.ray.RayTypeTessellator;
 import net.cyberpunk042.client.visual.mesh.ray.RayTypeTessellatorRegistry;
+import net.cyberpunk042.client.visual.mesh.ray.distribution.RayDistributionTable;
+import net.cyberpunk042.client.visual.mesh.ray.flow.FlowBatch;
+import net.cyberpunk042.client.visual.mesh.ray.flow.FlowPipeline;
 import net.cyberpunk042.log.Logging;
 import net.cyberpunk042.visual.animation.WaveConfig;
 import net.cyberpunk042.visual.shape.RayType;
 import net.cyberpunk042.visual.shape.RaysShape;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Tessellates rays shapes into meshes.
@@ -17,8 +21,10 @@ import java.util.Random;
  * <h2>Architecture</h2>
  * <p>This class is the main orchestrator that:
  * <ul>
+ *   <li>Evaluates flow animation for all rays at once into a {@link FlowBatch}</li>
  *   <li>Loops through all rays (count × layers)</li>
- *   <li>Computes position/context via {@link RayPositioner}</li>
+ *   <li>Computes position/context via {@link RayPositioner}, using per-ray
+ *       distribution offsets precomputed in a {@link RayDistributionTable}</li>
  *   <li>Delegates geometry generation to {@link RayTypeTessellator} implementations</li>
  * </ul>
  * 
@@ -45,6 +51,10 @@ import java.util.Random;
  */
 public final class RaysTessellator {
     
+    /** Reused per thread; tessellation does not nest. */
+    private static final ThreadLocal<FlowBatch> FLOW_BATCH = ThreadLocal.withInitial(FlowBatch::new);
+    private static final ThreadLocal<List<RayContext>> CONTEXTS = ThreadLocal.withInitial(() -> new ArrayList<>(4));
+    
     private RaysTessellator() {}
     
     /**
@@ -127,7 +137,17 @@ public final class RaysTessellator {
         int count = shape.count();
         int layers = Math.max(1, shape.layers());
         
-        Random rng = new Random(42); // Deterministic random for stable results
+        // Deterministic per-ray offsets, drawn once per shape
+        RayDistributionTable distribution = RayDistributionTable.of(shape);
+        
+        // Flow phase for every ray in one pass (phase does not depend on the layer)
+        FlowBatch flow = null;
+        if (flowConfig != null && flowConfig.isActive()) {
+            flow = FLOW_BATCH.get().configure(flowConfig, shape, count);
+            FlowPipeline.standard().computeBatch(flow, time);
+        }
+        
+        List<RayContext> contexts = CONTEXTS.get();
         
         Logging.FIELD.topic("tessellation").debug(
             "Tessellating rays: count={}, layers={}, arrangement={}, rayType={}, tessellator={}, meshType={}, pattern={}, hasFlow={}", 
@@ -140,8 +160,10 @@ public final class RaysTessellator {
         for (int layer = 0; layer < layers; layer++) {
             for (int i = 0; i < count; i++) {
                 // Compute contexts for this ray (may return multiple for multi-copy mode)
-                java.util.List<RayContext> contexts = RayPositioner.computeContexts(
-                    shape, i, layer, rng, wave, time, flowConfig);
+                contexts.clear();
+                float flowPhase = flow != null ? flow.phase(i) : 0f;
+                RayPositioner.computeContexts(
+                    shape, i, layer, distribution.get(layer, i), wave, time, flowConfig, flowPhase, contexts);
                 
                 // Tessellate each context (usually 1, but can be more for CONTINUOUS + waveCount > 1)
                 for (RayContext context : contexts) {
@@ -149,6 +171,7 @@ public final class RaysTessellator {
                 }
             }
         }
+        contexts.clear();
         
         return builder.build();
     }
@@ -117,17 +117,14 @@ public final class RingTessellator {
             float t = i / (float) segments;
             float angle = arcStart + t * arcRange;
             
-            Vertex inner = GeometryMath.ringInnerPoint(angle, innerR, y);
-            Vertex outer = GeometryMath.ringOuterPoint(angle, outerR, y);
+            innerIndices[i] = GeometryMath.ringInnerPoint(builder, angle, innerR, y);
+            outerIndices[i] = GeometryMath.ringOuterPoint(builder, angle, outerR, y);
             
             // Apply wave deformation
             if (applyWave) {
-                inner = WaveDeformer.applyToVertex(inner, wave, time);
-                outer = WaveDeformer.applyToVertex(outer, wave, time);
+                WaveDeformer.applyInPlace(builder, innerIndices[i], wave, time);
+                WaveDeformer.applyInPlace(builder, outerIndices[i], wave, time);
             }
-            
-            innerIndices[i] = builder.addVertex(inner);
-            outerIndices[i] = builder.addVertex(outer);
         }
         
         // Generate quads between inner and outer edges
@@ -218,24 +215,19 @@ public final class RingTessellator {
             float topAngle = baseAngle + twist;  // Apply twist to top
             
             // Bottom vertices (normal pointing down for bottom face)
-            Vertex bInner = ringVertex(baseAngle, innerR, yBottom, 0, -1, 0, orientation, originOffset, bottomAlpha);
-            Vertex bOuter = ringVertex(baseAngle, outerR, yBottom, 0, -1, 0, orientation, originOffset, bottomAlpha);
+            bottomInner[i] = ringVertex(builder, baseAngle, innerR, yBottom, 0, -1, 0, orientation, originOffset, bottomAlpha);
+            bottomOuter[i] = ringVertex(builder, baseAngle, outerR, yBottom, 0, -1, 0, orientation, originOffset, bottomAlpha);
             // Top vertices with tapered radii (normal pointing up for top face)
-            Vertex tInner = ringVertex(topAngle, topInnerR, yTop, 0, 1, 0, orientation, originOffset, topAlpha);
-            Vertex tOuter = ringVertex(topAngle, topOuterR, yTop, 0, 1, 0, orientation, originOffset, topAlpha);
+            topInner[i] = ringVertex(builder, topAngle, topInnerR, yTop, 0, 1, 0, orientation, originOffset, topAlpha);
+            topOuter[i] = ringVertex(builder, topAngle, topOuterR, yTop, 0, 1, 0, orientation, originOffset, topAlpha);
             
             // Apply wave deformation
             if (applyWave) {
-                bInner = WaveDeformer.applyToVertex(bInner, wave, time);
-                bOuter = WaveDeformer.applyToVertex(bOuter, wave, time);
-                tInner = WaveDeformer.applyToVertex(tInner, wave, time);
-                tOuter = WaveDeformer.applyToVertex(tOuter, wave, time);
+                WaveDeformer.applyInPlace(builder, bottomInner[i], wave, time);
+                WaveDeformer.applyInPlace(builder, bottomOuter[i], wave, time);
+                WaveDeformer.applyInPlace(builder, topInner[i], wave, time);
+                WaveDeformer.applyInPlace(builder, topOuter[i], wave, time);
             }
-            
-            bottomInner[i] = builder.addVertex(bInner);
-            bottomOuter[i] = builder.addVertex(bOuter);
-            topInner[i] = builder.addVertex(tInner);
-            topOuter[i] = builder.addVertex(tOuter);
         }
         
         // =====================================================================
@@ -286,13 +278,11 @@ public final class RingTessellator {
                 // Normal points outward (radial direction)
                 float nx = (float) Math.cos(angle);
                 float nz = (float) Math.sin(angle);
-                Vertex v = ringVertex(angle, radiusAtH, y, nx, 0, nz, orientation, originOffset, alpha);
+                outerWall[h][i] = ringVertex(builder, angle, radiusAtH, y, nx, 0, nz, orientation, originOffset, alpha);
                 
                 if (applyWave) {
-                    v = WaveDeformer.applyToVertex(v, wave, time);
+                    WaveDeformer.applyInPlace(builder, outerWall[h][i], wave, time);
                 }
-                
-                outerWall[h][i] = builder.addVertex(v);
             }
         }
         
@@ -337,13 +327,11 @@ public final class RingTessellator {
                     // Normal points inward (negative radial direction)
                     float nx = -(float) Math.cos(angle);
                     float nz = -(float) Math.sin(angle);
-                    Vertex v = ringVertex(angle, radiusAtH, y, nx, 0, nz, orientation, originOffset, alpha);
+                    innerWall[h][i] = ringVertex(builder, angle, radiusAtH, y, nx, 0, nz, orientation, originOffset, alpha);
                     
                     if (applyWave) {
-                        v = WaveDeformer.applyToVertex(v, wave, time);
+                        WaveDeformer.applyInPlace(builder, innerWall[h][i], wave, time);
                     }
-                    
-                    innerWall[h][i] = builder.addVertex(v);
                 }
             }
             
@@ -384,23 +372,23 @@ public final class RingTessellator {
     }
     
     /**
-     * Creates a vertex at a ring position with custom normal.
+     * Adds a vertex at a ring position with custom normal.
      * Local space is Y-up (ring plane is XZ, height extends along Y).
      */
-    private static Vertex ringVertex(float angle, float radius, float y, 
-                                      float nx, float ny, float nz,
-                                      float alpha) {
-        return ringVertex(angle, radius, y, nx, ny, nz, null, 0, alpha);
+    private static int ringVertex(MeshBuilder builder, float angle, float radius, float y, 
+                                   float nx, float ny, float nz,
+                                   float alpha) {
+        return ringVertex(builder, angle, radius, y, nx, ny, nz, null, 0, alpha);
     }
     
     /**
-     * Creates a vertex at a ring position with custom normal and orientation transform.
+     * Adds a vertex at a ring position with custom normal and orientation transform.
      * Local space is Y-up (ring plane is XZ, height extends along Y).
      * If orientation is provided, transforms from local space to oriented space.
      */
-    private static Vertex ringVertex(float angle, float radius, float y, 
-                                      float nx, float ny, float nz,
-                                      OrientationAxis orientation, float originOffset, float alpha) {
+    private static int ringVertex(MeshBuilder builder, float angle, float radius, float y, 
+                                   float nx, float ny, float nz,
+                                   OrientationAxis orientation, float originOffset, float alpha) {
         // Local Y-up coordinates
         float localX = (float) Math.cos(angle) * radius;
         float localZ = (float) Math.sin(angle) * radius;
@@ -413,10 +401,10 @@ public final class RingTessellator {
         if (orientation != null && orientation != OrientationAxis.POS_Y) {
             Vector3f pos = orientation.transformVertex(localX, localY, localZ, originOffset);
             Vector3f norm = orientation.transformNormal(nx, ny, nz);
-            return new Vertex(pos.x(), pos.y(), pos.z(), norm.x(), norm.y(), norm.z(), u, v, alpha);
+            return builder.vertex(pos.x(), pos.y(), pos.z(), norm.x(), norm.y(), norm.z(), u, v, alpha);
         }
         
-        return new Vertex(localX, localY, localZ, nx, ny, nz, u, v, alpha);
+        return builder.vertex(localX, localY, localZ, nx, ny, nz, u, v, alpha);
     }
     
     /**
@@ -444,15 +432,10 @@ public final class RingTessellator {
         float cosA = (float) Math.cos(angle);
         float sinA = (float) Math.sin(angle);
         
-        Vertex innerBottom = new Vertex(cosA * innerR, yBottom, sinA * innerR, nx, 0, nz, 0, 0, 1.0f);
-        Vertex outerBottom = new Vertex(cosA * outerR, yBottom, sinA * outerR, nx, 0, nz, 1, 0, 1.0f);
-        Vertex innerTop = new Vertex(cosA * innerR, yTop, sinA * innerR, nx, 0, nz, 0, 1, 1.0f);
-        Vertex outerTop = new Vertex(cosA * outerR, yTop, sinA * outerR, nx, 0, nz, 1, 1, 1.0f);
-        
-        int iIB = builder.addVertex(innerBottom);
-        int iOB = builder.addVertex(outerBottom);
-        int iIT = builder.addVertex(innerTop);
-        int iOT = builder.addVertex(outerTop);
+        int iIB = builder.vertex(cosA * innerR, yBottom, sinA * innerR, nx, 0, nz, 0, 0, 1.0f);
+        int iOB = builder.vertex(cosA * outerR, yBottom, sinA * outerR, nx, 0, nz, 1, 0, 1.0f);
+        int iIT = builder.vertex(cosA * innerR, yTop, sinA * innerR, nx, 0, nz, 0, 1, 1.0f);
+        int iOT = builder.vertex(cosA * outerR, yTop, sinA * outerR, nx, 0, nz, 1, 1, 1.0f);
         
         // Two triangles for the quad
         if (isStart) {
@@ -284,9 +284,8 @@ public final class SphereTessellator {
             y = y/len * radius;
             z = z/len * radius;
             
-            Vertex v = Vertex.pos(x, y, z).withNormal(x/radius, y/radius, z/radius);
-            if (applyWave) v = WaveDeformer.applyToVertex(v, wave, time);
-            vertexIndices[i] = builder.addVertex(v);
+            vertexIndices[i] = builder.vertex(x, y, z, x/radius, y/radius, z/radius);
+            if (applyWave) WaveDeformer.applyInPlace(builder, vertexIndices[i], wave, time);
         }
         
         // Icosahedron faces (20 triangles)
@@ -352,13 +351,10 @@ public final class SphereTessellator {
             return cached;
         }
         
-        Vertex vert0 = builder.getVertex(v0);
-        Vertex vert1 = builder.getVertex(v1);
-        
         // Midpoint
-        float mx = (vert0.x() + vert1.x()) / 2;
-        float my = (vert0.y() + vert1.y()) / 2;
-        float mz = (vert0.z() + vert1.z()) / 2;
+        float mx = (builder.x(v0) + builder.x(v1)) / 2;
+        float my = (builder.y(v0) + builder.y(v1)) / 2;
+        float mz = (builder.z(v0) + builder.z(v1)) / 2;
         
         // Project to sphere surface
         float len = (float) Math.sqrt(mx*mx + my*my + mz*mz);
@@ -366,8 +362,7 @@ public final class SphereTessellator {
         my = my/len * radius;
         mz = mz/len * radius;
         
-        int idx = builder.addVertex(
-            Vertex.pos(mx, my, mz).withNormal(mx/radius, my/radius, mz/radius));
+        int idx = builder.vertex(mx, my, mz, mx/radius, my/radius, mz/radius);
         cache.put(key, idx);
         return idx;
     }
@@ -387,14 +382,11 @@ public final class SphereTessellator {
             return cached;
         }
         
-        Vertex vert0 = builder.getVertex(v0);
-        Vertex vert1 = builder.getVertex(v1);
-        
         // Midpoint (use original sphere positions, not deformed ones)
         // We need the base positions before wave deformation
-        float mx = (vert0.x() + vert1.x()) / 2;
-        float my = (vert0.y() + vert1.y()) / 2;
-        float mz = (vert0.z() + vert1.z()) / 2;
+        float mx = (builder.x(v0) + builder.x(v1)) / 2;
+        float my = (builder.y(v0) + builder.y(v1)) / 2;
+        float mz = (builder.z(v0) + builder.z(v1)) / 2;
         
         // Project to sphere surface
         float len = (float) Math.sqrt(mx*mx + my*my + mz*mz);
@@ -402,12 +394,10 @@ public final class SphereTessellator {
         my = my/len * radius;
         mz = mz/len * radius;
         
-        Vertex v = Vertex.pos(mx, my, mz).withNormal(mx/radius, my/radius, mz/radius);
+        int idx = builder.vertex(mx, my, mz, mx/radius, my/radius, mz/radius);
         if (applyWave) {
-            v = WaveDeformer.applyToVertex(v, wave, time);
+            WaveDeformer.applyInPlace(builder, idx, wave, time);
         }
-        
-        int idx = builder.addVertex(v);
         cache.put(key, idx);
         return idx;
     }
@@ -102,14 +102,12 @@ public final class TorusTessellator {
                 float texU = i / (float) majorSegs;
                 float texV = j / (float) minorSegs;
                 
-                Vertex vtx = new Vertex(x, y, z, nx, ny, nz, texU, texV, 1.0f);
+                vertexIndices[i][j] = builder.vertex(x, y, z, nx, ny, nz, texU, texV, 1.0f);
                 
                 // Apply wave deformation
                 if (applyWave) {
-                    vtx = WaveDeformer.applyToVertex(vtx, wave, time);
+                    WaveDeformer.applyInPlace(builder, vertexIndices[i][j], wave, time);
                 }
-                
-                vertexIndices[i][j] = builder.addVertex(vtx);
             }
         }
         
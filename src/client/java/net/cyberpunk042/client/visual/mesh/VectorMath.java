@@ -129,10 +129,9 @@ public final class VectorMath {
         // Top pole vertex (theta = 0)
         float topRadiusMod = radiusFunc.apply(0);
         float[] topPos = add(center, scale(direction, baseRadius * topRadiusMod));
-        Vertex topPoleV = Vertex.pos(topPos[0], topPos[1], topPos[2])
-            .withNormal(direction[0], direction[1], direction[2]);
-        if (applyWave) topPoleV = WaveDeformer.applyToVertex(topPoleV, wave, time);
-        int topPole = builder.addVertex(topPoleV);
+        int topPole = builder.vertex(topPos[0], topPos[1], topPos[2],
+            direction[0], direction[1], direction[2]);
+        if (applyWave) WaveDeformer.applyInPlace(builder, topPole, wave, time);
         
         // Ring vertices (theta from nearly 0 to nearly π)
         int[] ringStartIndices = new int[rings - 1];
@@ -162,10 +161,9 @@ public final class VectorMath {
                 float[] toPoint = sub(pos, center);
                 float[] normal = normalize(toPoint);
                 
-                Vertex v = Vertex.pos(pos[0], pos[1], pos[2])
-                    .withNormal(normal[0], normal[1], normal[2]);
-                if (applyWave) v = WaveDeformer.applyToVertex(v, wave, time);
-                builder.addVertex(v);
+                int index = builder.vertex(pos[0], pos[1], pos[2],
+                    normal[0], normal[1], normal[2]);
+                if (applyWave) WaveDeformer.applyInPlace(builder, index, wave, time);
             }
         }
         
@@ -173,10 +171,9 @@ public final class VectorMath {
         float bottomRadiusMod = radiusFunc.apply(PI);
         float[] bottomPos = add(center, scale(direction, -baseRadius * bottomRadiusMod));
         float[] bottomNormal = scale(direction, -1);
-        Vertex bottomPoleV = Vertex.pos(bottomPos[0], bottomPos[1], bottomPos[2])
-            .withNormal(bottomNormal[0], bottomNormal[1], bottomNormal[2]);
-        if (applyWave) bottomPoleV = WaveDeformer.applyToVertex(bottomPoleV, wave, time);
-        int bottomPole = builder.addVertex(bottomPoleV);
+        int bottomPole = builder.vertex(bottomPos[0], bottomPos[1], bottomPos[2],
+            bottomNormal[0], bottomNormal[1], bottomNormal[2]);
+        if (applyWave) WaveDeformer.applyInPlace(builder, bottomPole, wave, time);
         
         // Connect top pole to first ring
         int firstRing = ringStartIndices[0];
@@ -316,15 +313,13 @@ public final class VectorMath {
                 float lonNorm = lonStart + (lon / (float) lonSteps) * lonRange;
                 float phi = lonNorm * TWO_PI;  // 0 to 2PI (around)
                 
-                // Use Vertex.spherical for vertex position (consistent with existing code)
-                Vertex v = Vertex.spherical(theta, phi, deformedRadius);
+                // Same spherical mapping as Vertex.spherical (consistent with existing code)
+                vertexIndices[lat][lon] = builder.sphericalVertex(theta, phi, deformedRadius);
                 
                 // Apply wave deformation if active
                 if (applyWave) {
-                    v = WaveDeformer.applyToVertex(v, wave, time);
+                    WaveDeformer.applyInPlace(builder, vertexIndices[lat][lon], wave, time);
                 }
-                
-                vertexIndices[lat][lon] = builder.addVertex(v);
             }
         }
         
@@ -421,15 +416,13 @@ public final class VectorMath {
                 float[] normal = normalize(pos);
                 
                 // Create vertex
-                Vertex v = Vertex.pos(pos[0], pos[1], pos[2])
-                    .withNormal(normal[0], normal[1], normal[2]);
+                vertexIndices[lat][lon] = builder.vertex(pos[0], pos[1], pos[2],
+                    normal[0], normal[1], normal[2]);
                 
                 // Apply wave deformation if active
                 if (applyWave) {
-                    v = WaveDeformer.applyToVertex(v, wave, time);
+                    WaveDeformer.applyInPlace(builder, vertexIndices[lat][lon], wave, time);
                 }
-                
-                vertexIndices[lat][lon] = builder.addVertex(v);
             }
         }
         
@@ -556,9 +549,8 @@ public final class VectorMath {
                         scale(v, lnz)));
                 normal = normalize(normal);
                 
-                vertexIndices[lat][lon] = builder.addVertex(
-                    Vertex.pos(pos[0], pos[1], pos[2])
-                        .withNormal(normal[0], normal[1], normal[2]));
+                vertexIndices[lat][lon] = builder.vertex(pos[0], pos[1], pos[2],
+                    normal[0], normal[1], normal[2]);
             }
         }
         
@@ -651,9 +643,8 @@ public final class VectorMath {
                 // Store alpha for later use in triangle emission
                 vertexAlphas[lat][lon] = alpha;
                 
-                vertexIndices[lat][lon] = builder.addVertex(
-                    Vertex.pos(pos[0], pos[1], pos[2])
-                        .withNormal(normal[0], normal[1], normal[2]));
+                vertexIndices[lat][lon] = builder.vertex(pos[0], pos[1], pos[2],
+                    normal[0], normal[1], normal[2]);
             }
         }
         
@@ -738,14 +729,12 @@ public final class VectorMath {
                 // Get position + normal (6 elements: x, y, z, nx, ny, nz)
                 float[] fullVertex = fullVertexFunc.apply(theta, phi, radius);
                 
-                Vertex v = Vertex.pos(fullVertex[0], fullVertex[1], fullVertex[2])
-                    .withNormal(fullVertex[3], fullVertex[4], fullVertex[5]);
+                vertexIndices[lat][lon] = builder.vertex(fullVertex[0], fullVertex[1], fullVertex[2],
+                    fullVertex[3], fullVertex[4], fullVertex[5]);
                 
                 if (applyWave) {
-                    v = WaveDeformer.applyToVertex(v, wave, time);
+                    WaveDeformer.applyInPlace(builder, vertexIndices[lat][lon], wave, time);
                 }
-                
-                vertexIndices[lat][lon] = builder.addVertex(v);
             }
         }
         
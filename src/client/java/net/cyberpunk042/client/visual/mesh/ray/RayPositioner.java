@@ -5,9 +5,6 @@ import net.cyberpunk042.client.visual.mesh.ray.arrangement.ArrangementStrategy;
 import net.cyberpunk042.client.visual.mesh.ray.distribution.DistributionFactory;
 import net.cyberpunk042.client.visual.mesh.ray.distribution.DistributionResult;
 import net.cyberpunk042.client.visual.mesh.ray.distribution.DistributionStrategy;
-import net.cyberpunk042.client.visual.mesh.ray.flow.AnimationState;
-import net.cyberpunk042.client.visual.mesh.ray.flow.FlowContext;
-import net.cyberpunk042.client.visual.mesh.ray.flow.FlowPipeline;
 import net.cyberpunk042.client.visual.mesh.ray.layer.LayerModeFactory;
 import net.cyberpunk042.client.visual.mesh.ray.layer.LayerModeStrategy;
 import net.cyberpunk042.client.visual.mesh.ray.layer.LayerOffset;
@@ -64,12 +61,10 @@ public final class RayPositioner {
     // ═══════════════════════════════════════════════════════════════════════════
     
     /** Computes common position data for a ray */
-    private static PositionData computePositionData(RaysShape shape, int index, int layerIndex, Random rng) {
+    private static PositionData computePositionData(RaysShape shape, int index, int layerIndex, DistributionResult dist) {
         int count = shape.count();
         float layerSpacing = shape.layerSpacing();
         
-        DistributionResult dist = computeDistribution(shape, index, count, rng);
-        
         float[] start = new float[3];
         float[] end = new float[3];
         computePosition(shape, index, count, layerIndex, layerSpacing, dist, start, end);
@@ -102,10 +97,7 @@ public final class RayPositioner {
     }
     
     /** Computes flow position offset for EMISSION/ABSORPTION */
-    private static float computeFlowOffset(
-            RaysShape shape, 
-            net.cyberpunk042.visual.animation.RayFlowConfig flowConfig,
-            int index, int count, float time, float[] direction) {
+    private static float computeFlowOffset(RaysShape shape, float phase) {
         
         net.cyberpunk042.visual.energy.RadiativeInteraction radiative = shape.effectiveRadiativeInteraction();
         if (radiative != net.cyberpunk042.visual.energy.RadiativeInteraction.EMISSION &&
@@ -115,7 +107,6 @@ public final class RayPositioner {
         
         // trajectorySpan = travel range (NOT the ray's actual length)
         float trajectorySpan = shape.outerRadius() - shape.innerRadius();
-        float phase = computeRayPhase(flowConfig, shape, index, count, time);
         
         if (radiative == net.cyberpunk042.visual.energy.RadiativeInteraction.EMISSION) {
             return phase * trajectorySpan;
@@ -124,20 +115,20 @@ public final class RayPositioner {
         }
     }
     
-    /** Computes animated ShapeState from flow config */
+    /**
+     * Computes animated ShapeState from flow config.
+     * 
+     * @param phase The ray's flow phase, as computed by the FlowPipeline
+     */
     private static ShapeState<RayFlowStage> computeAnimatedState(
             RaysShape shape,
             net.cyberpunk042.visual.animation.RayFlowConfig flowConfig,
-            int index, int count, float time) {
+            float phase) {
         
         ShapeState<RayFlowStage> userState = shape.effectiveShapeState();
         
         if (flowConfig != null && flowConfig.isActive()) {
-            // Use FlowContext.create to include wave distribution from shape
-            FlowContext flowCtx = FlowContext.create(
-                flowConfig, shape, index, count, time, shape.innerRadius(), shape.outerRadius());
-            AnimationState animResult = FlowPipeline.standard().compute(flowCtx);
-            return userState.withPhase(animResult.phase());
+            return userState.withPhase(phase);
         } else {
             return userState;
         }
@@ -197,6 +188,34 @@ public final class RayPositioner {
             net.cyberpunk042.visual.animation.RayFlowConfig flowConfig) {
         
         java.util.List<RayContext> result = new java.util.ArrayList<>(4);
+        DistributionResult dist = computeDistribution(shape, index, shape.count(), rng);
+        float flowPhase = computeRayPhase(flowConfig, shape, index, shape.count(), time);
+        computeContexts(shape, index, layerIndex, dist, wave, time, flowConfig, flowPhase, result);
+        return result;
+    }
+    
+    /**
+     * Computes contexts for a single ray from precomputed per-ray values.
+     * 
+     * <p>Batch entry point used by RaysTessellator: the distribution comes from a
+     * {@link net.cyberpunk042.client.visual.mesh.ray.distribution.RayDistributionTable}
+     * and the flow phase from a {@link net.cyberpunk042.client.visual.mesh.ray.flow.FlowBatch},
+     * so every context of the ray shares the same values.</p>
+     * 
+     * @param dist Distribution offsets for this ray
+     * @param flowPhase Flow phase for this ray (ignored when flow is inactive)
+     * @param result Receives 1 context normally, 2 during edge transitions
+     */
+    public static void computeContexts(
+            RaysShape shape, 
+            int index, 
+            int layerIndex, 
+            DistributionResult dist,
+            WaveConfig wave,
+            float time,
+            net.cyberpunk042.visual.animation.RayFlowConfig flowConfig,
+            float flowPhase,
+            java.util.List<RayContext> result) {
         
         // Check if we're using CONTINUOUS mode with waveCount > 1
         // In this case, we render multiple phase-offset copies of the same ray
@@ -229,10 +248,10 @@ public final class RayPositioner {
                 // Each copy uses its OWN phase for ShapeState, so edge effects are computed
                 // per-copy based on that copy's actual position in the animation cycle
                 RayContext ctx = computeContextWithPhaseForCopy(
-                    shape, index, layerIndex, rng, wave, time, flowConfig, copyPhase);
+                    shape, index, layerIndex, dist, wave, time, flowConfig, copyPhase);
                 result.add(ctx);
             }
-            return result;
+            return;
         }
         
         // Check if we're in edge transition (need two shapes) - only for 3D ray types
@@ -250,27 +269,26 @@ public final class RayPositioner {
                 float edgeWidth = 0.1f / sweepCopies;
                 edgeWidth = Math.max(0.01f, Math.min(0.1f, edgeWidth));
                 
-                // Compute the phase for this ray (includes wave distribution)
-                float rayPhase = computeRayPhase(flowConfig, shape, index, shape.count(), time);
+                // The phase for this ray (includes wave distribution)
+                float rayPhase = flowPhase;
                 
                 // During edge transitions, generate two shapes to prevent linking artifacts
                 if (rayPhase < edgeWidth || rayPhase > (1.0f - edgeWidth)) {
                     // Generate both the main shape AND the wrapped shape
                     RayContext primaryContext = computeContextWithPhase(
-                        shape, index, layerIndex, rng, wave, time, flowConfig, rayPhase, false);
+                        shape, index, layerIndex, dist, wave, time, flowConfig, rayPhase, false);
                     RayContext wrappedContext = computeContextWithPhase(
-                        shape, index, layerIndex, rng, wave, time, flowConfig, rayPhase, true);
+                        shape, index, layerIndex, dist, wave, time, flowConfig, rayPhase, true);
                     
                     result.add(primaryContext);
                     result.add(wrappedContext);
-                    return result;
+                    return;
                 }
             }
         }
         
         // Normal case: single context
-        result.add(computeContext(shape, index, layerIndex, rng, wave, time, flowConfig));
-        return result;
+        result.add(computeContext(shape, index, layerIndex, dist, wave, time, flowConfig, flowPhase));
     }
     
     /**
@@ -281,14 +299,14 @@ public final class RayPositioner {
             RaysShape shape,
             int index,
             int layerIndex,
-            Random rng,
+            DistributionResult dist,
             WaveConfig wave,
             float time,
             net.cyberpunk042.visual.animation.RayFlowConfig flowConfig,
             float copyPhase) {
         
         // Compute common position data
-        PositionData pos = computePositionData(shape, index, layerIndex, rng);
+        PositionData pos = computePositionData(shape, index, layerIndex, dist);
         
         int lineResolution = shape.effectivelineResolution();
         boolean hasWave = wave != null && wave.isActive() && wave.isCpuMode();
@@ -320,8 +338,26 @@ public final class RayPositioner {
             float time,
             net.cyberpunk042.visual.animation.RayFlowConfig flowConfig) {
         
+        DistributionResult dist = computeDistribution(shape, index, shape.count(), rng);
+        float flowPhase = computeRayPhase(flowConfig, shape, index, shape.count(), time);
+        return computeContext(shape, index, layerIndex, dist, wave, time, flowConfig, flowPhase);
+    }
+    
+    /**
+     * Computes the context for a single ray from precomputed distribution and flow phase.
+     */
+    public static RayContext computeContext(
+            RaysShape shape, 
+            int index, 
+            int layerIndex, 
+            DistributionResult dist,
+            WaveConfig wave,
+            float time,
+            net.cyberpunk042.visual.animation.RayFlowConfig flowConfig,
+            float flowPhase) {
+        
         // Compute common position data
-        PositionData pos = computePositionData(shape, index, layerIndex, rng);
+        PositionData pos = computePositionData(shape, index, layerIndex, dist);
         
         // Determine shape segments
         int lineResolution = shape.effectivelineResolution();
@@ -333,7 +369,7 @@ public final class RayPositioner {
         // Compute flow position offset
         float flowPositionOffset = 0.0f;
         if (flowConfig != null && flowConfig.isActive()) {
-            flowPositionOffset = computeFlowOffset(shape, flowConfig, index, pos.count, time, pos.direction);
+            flowPositionOffset = computeFlowOffset(shape, flowPhase);
             
             // Apply position offset (unless pathFollowing is enabled)
             boolean shouldTranslate = Math.abs(flowPositionOffset) > 0.001f && !flowConfig.pathFollowing();
@@ -344,7 +380,7 @@ public final class RayPositioner {
         }
         
         // Compute animated ShapeState
-        ShapeState<RayFlowStage> shapeState = computeAnimatedState(shape, flowConfig, index, pos.count, time);
+        ShapeState<RayFlowStage> shapeState = computeAnimatedState(shape, flowConfig, flowPhase);
         
         return RayContextBuilder.build(shape, pos.start, pos.end, pos.direction, pos.length,
             index, pos.count, layerIndex, pos.orientationVector, lineResolution, hasWave,
@@ -376,7 +412,7 @@ public final class RayPositioner {
             RaysShape shape,
             int index,
             int layerIndex,
-            Random rng,
+            DistributionResult dist,
             WaveConfig wave,
             float time,
             net.cyberpunk042.visual.animation.RayFlowConfig flowConfig,
@@ -384,7 +420,7 @@ public final class RayPositioner {
             boolean wrapped) {
         
         // Compute common position data
-        PositionData pos = computePositionData(shape, index, layerIndex, rng);
+        PositionData pos = computePositionData(shape, index, layerIndex, dist);
         
         int lineResolution = shape.lineResolution();
         boolean hasWave = wave != null && wave.isActive() && wave.isCpuMode();
@@ -0,0 +1,72 @@
+package net.cyberpunk042.client.visual.mesh.ray.distribution;
+
+import com.google.common.collect.MapMaker;
+import net.cyberpunk042.visual.shape.RaysShape;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Per-ray distribution offsets of a rays shape, drawn once per configuration.
+ *
+ * <p>Tessellation used to create a {@code new Random(42)} every frame and draw
+ * from it ray by ray, so a ray's jitter depended on how many contexts the rays
+ * before it produced. The table draws the same sequence once (layer by layer,
+ * one draw set per ray) and keeps the results, giving every ray a stable seed
+ * no matter how often or in what shape it is tessellated.</p>
+ *
+ * <p>Shapes are immutable, so tables are kept in a weak map keyed on shape
+ * identity; an edited shape gets a new table on first use.</p>
+ *
+ * @see DistributionStrategy
+ */
+public final class RayDistributionTable {
+
+    private static final long SEED = 42L;
+    // Weak keys compare by identity
+    private static final Map<RaysShape, RayDistributionTable> CACHE = new MapMaker().weakKeys().makeMap();
+
+    private final int count;
+    private final DistributionResult[] results;
+
+    private RayDistributionTable(int count, DistributionResult[] results) {
+        this.count = count;
+        this.results = results;
+    }
+
+    /**
+     * Returns the table for a shape, computing it on first use.
+     */
+    public static RayDistributionTable of(RaysShape shape) {
+        return CACHE.computeIfAbsent(shape, RayDistributionTable::compute);
+    }
+
+    /**
+     * Draws the distribution of every ray in every layer without caching.
+     */
+    public static RayDistributionTable compute(RaysShape shape) {
+        int count = Math.max(0, shape.count());
+        int layers = Math.max(1, shape.layers());
+        DistributionStrategy strategy = DistributionFactory.get(shape.distribution());
+        Random rng = new Random(SEED);
+
+        DistributionResult[] results = new DistributionResult[count * layers];
+        for (int layer = 0; layer < layers; layer++) {
+            for (int i = 0; i < count; i++) {
+                results[layer * count + i] = strategy.compute(shape, i, count, rng);
+            }
+        }
+        return new RayDistributionTable(count, results);
+    }
+
+    /**
+     * Distribution offsets of ray {@code index} in layer {@code layer}.
+     */
+    public DistributionResult get(int layer, int index) {
+        return results[layer * count + index];
+    }
+
+    public int count() { return count; }
+
+    public int layers() { return count > 0 ? results.length / count : 0; }
+}
@@ -0,0 +1,136 @@
+package net.cyberpunk042.client.visual.mesh.ray.flow;
+
+import net.cyberpunk042.visual.animation.RayFlowConfig;
+import net.cyberpunk042.visual.animation.WaveDistribution;
+import net.cyberpunk042.visual.shape.RaysShape;
+
+import java.util.Arrays;
+
+/**
+ * Flow animation state of all rays of a primitive, as parallel arrays.
+ *
+ * <p>Batch counterpart of {@link FlowContext} + {@link AnimationState}: instead
+ * of one context and three immutable states per ray, {@link FlowPipeline#computeBatch}
+ * runs each stage once as a loop over these arrays:</p>
+ * <ul>
+ *   <li><b>phase:</b> length-mode phase (0-1)</li>
+ *   <li><b>travel:</b> travel phase (0-1)</li>
+ *   <li><b>flicker:</b> flicker alpha multiplier (0-1)</li>
+ * </ul>
+ *
+ * <p>Per-ray phase offsets depend only on the wave parameters and ray count,
+ * so {@link #configure} recomputes them only when those change. A batch is
+ * reusable and not thread-safe.</p>
+ */
+public final class FlowBatch {
+
+    private float[] phase = new float[0];
+    private float[] travel = new float[0];
+    private float[] flicker = new float[0];
+    private float[] phaseOffsets = new float[0];
+    private int size;
+
+    private RayFlowConfig config;
+    private float time;
+    private float innerRadius;
+    private float outerRadius;
+
+    // Wave parameters the phase offsets were computed for
+    private WaveDistribution waveDistribution = WaveDistribution.CONTINUOUS;
+    private float waveArc = 1.0f;
+    private float waveCount = 2.0f;
+    private int offsetsSize = -1;
+
+    /**
+     * Sets up the batch for {@code rayCount} rays of a shape.
+     * Wave parameters come from the shape, as in {@link FlowContext#create}.
+     *
+     * @return this batch
+     */
+    public FlowBatch configure(RayFlowConfig config, RaysShape shape, int rayCount) {
+        this.config = config;
+        this.innerRadius = shape != null ? shape.innerRadius() : 0f;
+        this.outerRadius = shape != null ? shape.outerRadius() : 0f;
+
+        WaveDistribution dist = shape != null ? shape.effectiveWaveDistribution() : WaveDistribution.CONTINUOUS;
+        float arc = shape != null ? shape.effectiveWaveArc() : 1.0f;
+        float copies = shape != null ? shape.effectiveWaveCount() : 2.0f;
+
+        int n = Math.max(0, rayCount);
+        if (phase.length < n) {
+            phase = new float[n];
+            travel = new float[n];
+            flicker = new float[n];
+            phaseOffsets = new float[n];
+            offsetsSize = -1;
+        }
+        size = n;
+
+        if (offsetsSize != n || dist != waveDistribution || arc != waveArc || copies != waveCount) {
+            waveDistribution = dist;
+            waveArc = arc;
+            waveCount = copies;
+            offsetsSize = n;
+            float sweepCopies = Math.max(0.1f, copies);
+            for (int i = 0; i < n; i++) {
+                phaseOffsets[i] = FlowPhaseStage.computeRayAngle(dist, i, n) * arc * sweepCopies;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Resets every ray to {@link AnimationState#ZERO} at the given time.
+     */
+    void reset(float time) {
+        this.time = time;
+        Arrays.fill(phase, 0, size, AnimationState.ZERO.phase());
+        Arrays.fill(travel, 0, size, AnimationState.ZERO.travelPhase());
+        Arrays.fill(flicker, 0, size, AnimationState.ZERO.flickerAlpha());
+    }
+
+    public int size() { return size; }
+    public RayFlowConfig config() { return config; }
+    public float time() { return time; }
+    public WaveDistribution waveDistribution() { return waveDistribution; }
+
+    public float phase(int ray) { return phase[ray]; }
+    public float travelPhase(int ray) { return travel[ray]; }
+    public float flickerAlpha(int ray) { return flicker[ray]; }
+
+    /** Phase array, valid up to {@link #size()}. Stages write into it. */
+    public float[] phases() { return phase; }
+
+    /** Travel phase array, valid up to {@link #size()}. Stages write into it. */
+    public float[] travelPhases() { return travel; }
+
+    /** Flicker alpha array, valid up to {@link #size()}. Stages write into it. */
+    public float[] flickerAlphas() { return flicker; }
+
+    /** Per-ray phase offset (ray angle × waveArc × sweep copies). Do not modify. */
+    public float[] phaseOffsets() { return phaseOffsets; }
+
+    /**
+     * Context for one ray, for stages without a batch implementation.
+     */
+    public FlowContext context(int ray) {
+        return new FlowContext(config, ray, size, time, innerRadius, outerRadius,
+                               waveArc, waveDistribution, waveCount);
+    }
+
+    /**
+     * Current state of one ray.
+     */
+    public AnimationState state(int ray) {
+        return new AnimationState(phase[ray], travel[ray], flicker[ray]);
+    }
+
+    /**
+     * Stores the state of one ray.
+     */
+    public void set(int ray, AnimationState state) {
+        phase[ray] = state.phase();
+        travel[ray] = state.travelPhase();
+        flicker[ray] = state.flickerAlpha();
+    }
+}
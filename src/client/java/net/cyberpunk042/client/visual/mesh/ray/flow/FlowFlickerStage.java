@@ -3,6 +3,8 @@ package net.cyberpunk042.client.visual.mesh.ray.flow;
 import net.cyberpunk042.visual.animation.RayFlowConfig;
 import net.cyberpunk042.visual.energy.EnergyFlicker;
 
+import java.util.Arrays;
+
 /**
  * Applies flicker effects to the animation.
  * 
@@ -40,6 +42,62 @@ public final class FlowFlickerStage implements FlowStage {
         return state.withFlickerAlpha(flickerAlpha);
     }
     
+    @Override
+    public void processBatch(FlowBatch batch) {
+        RayFlowConfig config = batch.config();
+        if (config == null || !config.hasFlicker()) {
+            return;
+        }
+        
+        float intensity = config.flickerIntensity();
+        if (intensity <= 0.001f) {
+            return;
+        }
+        
+        float[] alphas = batch.flickerAlphas();
+        int n = batch.size();
+        fillFlickerAlpha(alphas, n, config.effectiveFlicker(), batch.time(), intensity, config.flickerFrequency());
+        for (int i = 0; i < n; i++) {
+            alphas[i] = Math.clamp(alphas[i], 0f, 1f);
+        }
+    }
+    
+    /**
+     * Compute flicker alpha for rays {@code 0..count-1} into {@code out}.
+     * 
+     * <p>Same values as {@link #computeFlickerAlpha} per ray. Modes that do
+     * not depend on the ray are computed once and filled.</p>
+     * 
+     * @param out Receives one alpha multiplier per ray
+     * @param count Number of rays
+     * @param mode EnergyFlicker type
+     * @param time Current time
+     * @param intensity Flicker intensity (0-1)
+     * @param freq Flicker frequency
+     */
+    public static void fillFlickerAlpha(float[] out, int count, EnergyFlicker mode, float time,
+                                        float intensity, float freq) {
+        if (mode == null) {
+            mode = EnergyFlicker.NONE;
+        }
+        switch (mode) {
+            case SCINTILLATION -> {
+                int bucket = (int)(time * freq);
+                for (int i = 0; i < count; i++) {
+                    float flicker = 0.5f + 0.5f * hash(i, bucket);
+                    out[i] = 1f - intensity * (1f - flicker);
+                }
+            }
+            case FLICKER, LIGHTNING -> {
+                for (int i = 0; i < count; i++) {
+                    out[i] = computeFlickerAlpha(mode, time, i, intensity, freq);
+                }
+            }
+            // NONE, STROBE, FADE_PULSE, HEARTBEAT: same for every ray
+            default -> Arrays.fill(out, 0, count, computeFlickerAlpha(mode, time, 0, intensity, freq));
+        }
+    }
+    
     /**
      * Compute flicker alpha based on EnergyFlicker mode.
      * 
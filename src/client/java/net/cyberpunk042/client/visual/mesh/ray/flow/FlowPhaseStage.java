@@ -4,6 +4,8 @@ import net.cyberpunk042.visual.animation.RayFlowConfig;
 import net.cyberpunk042.visual.animation.WaveDistribution;
 import net.cyberpunk042.visual.shape.RaysShape;
 
+import java.util.Arrays;
+
 /**
  * Computes the base phase from time, ray index, and config.
  * 
@@ -72,6 +74,33 @@ public final class FlowPhaseStage implements FlowStage {
         return state.withPhase(phase);
     }
     
+    @Override
+    public void processBatch(FlowBatch batch) {
+        RayFlowConfig config = batch.config();
+        if (config == null || !config.hasRadiative()) {
+            return;
+        }
+        
+        float basePhase = (batch.time() * config.radiativeSpeed()) % 1.0f;
+        if (basePhase < 0) basePhase += 1.0f;
+        
+        float[] phases = batch.phases();
+        int n = batch.size();
+        if (batch.waveDistribution() == WaveDistribution.CONTINUOUS) {
+            // CONTINUOUS: All rays have the same phase (uniform animation)
+            Arrays.fill(phases, 0, n, basePhase);
+            return;
+        }
+        
+        // SEQUENTIAL/RANDOM: per-ray offsets were computed when the batch was configured
+        float[] offsets = batch.phaseOffsets();
+        for (int i = 0; i < n; i++) {
+            float phase = (basePhase + offsets[i]) % 1.0f;
+            if (phase < 0) phase += 1.0f;
+            phases[i] = phase;
+        }
+    }
+    
     /**
      * Compute phase for a ray based on config, shape, ray index, ray count, and time.
      * 
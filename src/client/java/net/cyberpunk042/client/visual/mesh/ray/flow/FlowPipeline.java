@@ -22,9 +22,24 @@ import java.util.List;
  * AnimationState result = pipeline.compute(ctx);
  * shape.getShapeState().withPhase(result.phase());
  * </pre>
+ * 
+ * <h2>Batch Usage</h2>
+ * <p>For a whole primitive, {@link #computeBatch} runs each stage once over
+ * all rays stored in a {@link FlowBatch}:</p>
+ * <pre>
+ * FlowBatch batch = new FlowBatch().configure(config, shape, shape.count());
+ * FlowPipeline.standard().computeBatch(batch, time);
+ * float phase = batch.phase(rayIndex);
+ * </pre>
  */
 public final class FlowPipeline {
     
+    private static final FlowPipeline STANDARD = new FlowPipeline(List.of(
+        FlowPhaseStage.INSTANCE,
+        FlowTravelStage.INSTANCE,
+        FlowFlickerStage.INSTANCE
+    ));
+    
     private final List<FlowStage> stages;
     
     private FlowPipeline(List<FlowStage> stages) {
@@ -32,14 +47,10 @@ public final class FlowPipeline {
     }
     
     /**
-     * Creates the standard pipeline with all stages.
+     * Returns the standard pipeline with all stages.
      */
     public static FlowPipeline standard() {
-        return new FlowPipeline(List.of(
-            FlowPhaseStage.INSTANCE,
-            FlowTravelStage.INSTANCE,
-            FlowFlickerStage.INSTANCE
-        ));
+        return STANDARD;
     }
     
     /**
@@ -73,6 +84,30 @@ public final class FlowPipeline {
         return state;
     }
     
+    /**
+     * Compute the animation state of every ray in a batch.
+     * 
+     * <p>Equivalent to {@link #compute} per ray, but each stage runs once as
+     * a loop over the batch arrays. Stage configuration does not vary per ray,
+     * so {@link FlowStage#shouldRun} is checked once against the first ray.</p>
+     * 
+     * @param batch Configured batch; its arrays receive the results
+     * @param time Current animation time
+     */
+    public void computeBatch(FlowBatch batch, float time) {
+        batch.reset(time);
+        if (batch.size() == 0) {
+            return;
+        }
+        
+        FlowContext first = batch.context(0);
+        for (FlowStage stage : stages) {
+            if (stage.shouldRun(first)) {
+                stage.processBatch(batch);
+            }
+        }
+    }
+    
     /**
      * Convenience method to compute animation for a single ray.
      */
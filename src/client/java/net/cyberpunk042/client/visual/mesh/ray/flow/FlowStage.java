@@ -17,6 +17,21 @@ public interface FlowStage {
      */
     AnimationState process(AnimationState state, FlowContext ctx);
     
+    /**
+     * Process every ray of a batch in place.
+     * 
+     * <p>Called once per batch after {@link #shouldRun} passed for the batch's
+     * first ray. The default runs {@link #process} ray by ray; stages override
+     * it with a loop over the batch arrays.</p>
+     * 
+     * @param batch Rays to update
+     */
+    default void processBatch(FlowBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.set(i, process(batch.state(i), batch.context(i)));
+        }
+    }
+    
     /**
      * Whether this stage should run for the given context.
      * Override to skip stages based on config.
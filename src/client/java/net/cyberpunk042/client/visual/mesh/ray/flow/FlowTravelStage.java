@@ -4,6 +4,8 @@ import net.cyberpunk042.visual.animation.RayFlowConfig;
 import net.cyberpunk042.visual.energy.EnergyTravel;
 import net.cyberpunk042.visual.energy.TravelBlendMode;
 
+import java.util.Arrays;
+
 /**
  * Computes travel alpha for per-vertex modulation.
  * 
@@ -39,6 +41,21 @@ public final class FlowTravelStage implements FlowStage {
         return state.withTravelPhase(travelPhase);
     }
     
+    @Override
+    public void processBatch(FlowBatch batch) {
+        RayFlowConfig config = batch.config();
+        if (config == null || !config.hasTravel() || config.effectiveTravel() == EnergyTravel.NONE) {
+            return;
+        }
+        
+        // Travel phase does not vary per ray
+        float travelSpeed = Math.max(0.1f, config.travelSpeed());
+        float travelPhase = (batch.time() * travelSpeed * 0.3f) % 1.0f;
+        if (travelPhase < 0) travelPhase += 1.0f;
+        
+        Arrays.fill(batch.travelPhases(), 0, batch.size(), Math.clamp(travelPhase, 0f, 1f));
+    }
+    
     /**
      * Compute per-vertex travel alpha based on vertex position.
      * 
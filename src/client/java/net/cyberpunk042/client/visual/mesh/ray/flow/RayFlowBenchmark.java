@@ -0,0 +1,106 @@
+package net.cyberpunk042.client.visual.mesh.ray.flow;
+
+import net.cyberpunk042.client.visual.mesh.RaysTessellator;
+import net.cyberpunk042.visual.animation.RayFlowConfig;
+import net.cyberpunk042.visual.animation.WaveDistribution;
+import net.cyberpunk042.visual.energy.EnergyFlicker;
+import net.cyberpunk042.visual.energy.EnergyTravel;
+import net.cyberpunk042.visual.shape.RaysShape;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-game micro benchmark for ray flow evaluation, run via {@code /rayflowbench}.
+ *
+ * <p>At 100, 1k and 10k rays, compares the per-ray path ({@link FlowContext#create}
+ * plus {@link FlowPipeline#compute} for every ray) against one
+ * {@link FlowPipeline#computeBatch} over a reused {@link FlowBatch}, with
+ * radiative, travel and flicker all active. Also times a full
+ * {@link RaysTessellator} pass at each size for scale. Allocation is read
+ * from the per-thread counter of the HotSpot {@link com.sun.management.ThreadMXBean}.
+ */
+public final class RayFlowBenchmark {
+
+    private static final int[] RAY_COUNTS = { 100, 1_000, 10_000 };
+    private static final int ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 10;
+
+    private RayFlowBenchmark() {}
+
+    public record Result(int rays, double perRayBytes, double batchBytes,
+                         double perRayNanos, double batchNanos, double tessellateNanos) {
+        public String describe() {
+            return String.format(Locale.ROOT,
+                "%d rays: per-ray=%.0fB %.0fus  batch=%.0fB %.0fus  tessellate=%.0fus",
+                rays, perRayBytes, perRayNanos / 1000.0, batchBytes, batchNanos / 1000.0,
+                tessellateNanos / 1000.0);
+        }
+    }
+
+    public static List<Result> run() {
+        RayFlowConfig config = RayFlowConfig.builder()
+            .radiativeEnabled(true).radiativeSpeed(0.5f)
+            .travel(EnergyTravel.CHASE).travelEnabled(true)
+            .flicker(EnergyFlicker.SCINTILLATION).flickerEnabled(true)
+            .build();
+        List<Result> results = new ArrayList<>(RAY_COUNTS.length);
+        for (int rays : RAY_COUNTS) {
+            RaysShape shape = RaysShape.builder()
+                .count(rays)
+                .waveDistribution(WaveDistribution.SEQUENTIAL)
+                .build();
+            FlowBatch batch = new FlowBatch();
+            float[] sink = new float[1];
+            long[] perRay = measure(time -> sink[0] += perRay(config, shape, rays, time));
+            long[] batched = measure(time -> {
+                FlowPipeline.standard().computeBatch(batch.configure(config, shape, rays), time);
+                sink[0] += batch.phase(rays - 1);
+            });
+            long[] tessellate = measure(time -> RaysTessellator.tessellate(shape, null, null, null, time, config));
+            results.add(new Result(rays,
+                (double) perRay[0] / ROUNDS, (double) batched[0] / ROUNDS,
+                (double) perRay[1] / ROUNDS, (double) batched[1] / ROUNDS,
+                (double) tessellate[1] / ROUNDS));
+        }
+        return results;
+    }
+
+    /** The path RayPositioner took before batching: a context and pipeline run per ray. */
+    private static float perRay(RayFlowConfig config, RaysShape shape, int rays, float time) {
+        float sum = 0f;
+        for (int i = 0; i < rays; i++) {
+            FlowContext ctx = FlowContext.create(config, shape, i, rays, time, shape.innerRadius(), shape.outerRadius());
+            AnimationState state = FlowPipeline.standard().compute(ctx);
+            sum += state.phase() + state.flickerAlpha();
+        }
+        return sum;
+    }
+
+    private interface Body {
+        void run(float time);
+    }
+
+    /** Returns {allocated bytes, elapsed nanos} over {@link #ROUNDS} runs, after warmup. */
+    private static long[] measure(Body body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run(i * 0.05f);
+        }
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            body.run(i * 0.05f);
+        }
+        long nanos = System.nanoTime() - start;
+        return new long[] { allocatedBytes() - bytes, nanos };
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0L;
+    }
+}
@@ -191,17 +191,16 @@ public final class GlowRenderer {
         // Full bright for glow
         int fullBright = 15728880;
         
-        mesh.forEachTriangle((v0, v1, v2) -> {
-            emitVertex(consumer, matrix, v0.x(), v0.y(), v0.z(), 
-                       v0.nx(), v0.ny(), v0.nz(), v0.u(), v0.v(),
-                       r, g, b, a, fullBright);
-            emitVertex(consumer, matrix, v1.x(), v1.y(), v1.z(),
-                       v1.nx(), v1.ny(), v1.nz(), v1.u(), v1.v(),
-                       r, g, b, a, fullBright);
-            emitVertex(consumer, matrix, v2.x(), v2.y(), v2.z(),
-                       v2.nx(), v2.ny(), v2.nz(), v2.u(), v2.v(),
+        if (!mesh.isTriangles()) {
+            throw new IllegalStateException("Mesh is not TRIANGLES type, is: " + mesh.primitiveType());
+        }
+        int indexCount = mesh.indexCount();
+        for (int i = 0; i < indexCount; i++) {
+            int v = mesh.index(i);
+            emitVertex(consumer, matrix, mesh.x(v), mesh.y(v), mesh.z(v),
+                       mesh.nx(v), mesh.ny(v), mesh.nz(v), mesh.u(v), mesh.v(v),
                        r, g, b, a, fullBright);
-        });
+        }
     }
     
     private static void emitVertex(
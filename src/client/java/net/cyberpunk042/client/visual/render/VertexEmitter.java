@@ -35,6 +35,10 @@ public final class VertexEmitter {
     private final Matrix4f positionMatrix;
     private final Matrix3f normalMatrix;
     
+    // Scratch vectors reused for every vertex (emitters are single-threaded)
+    private final Vector3f scratchPos = new Vector3f();
+    private final Vector3f scratchNormal = new Vector3f();
+    
     private int color = 0xFFFFFFFF;
     private int light = LightmapTextureManager.MAX_LIGHT_COORDINATE;
     private int overlay = OverlayTexture.DEFAULT_UV;
@@ -283,36 +287,43 @@ public final class VertexEmitter {
     }
     
     private void emitTriangles(Mesh mesh) {
-        mesh.forEachTriangle((v0, v1, v2) -> {
-            emitVertex(v0);
-            emitVertex(v1);
-            emitVertex(v2);
+        int count = mesh.indexCount();
+        for (int i = 0; i + 2 < count; i += 3) {
+            emitVertex(mesh, mesh.index(i));
+            emitVertex(mesh, mesh.index(i + 1));
+            emitVertex(mesh, mesh.index(i + 2));
             cellIndex++; // Increment cell index for per-cell coloring
-        });
+        }
     }
     
     private void emitQuads(Mesh mesh) {
         // Render quads as 2 triangles (Minecraft expects triangles)
-        mesh.forEachQuad((v0, v1, v2, v3) -> {
+        int count = mesh.indexCount();
+        for (int i = 0; i + 3 < count; i += 4) {
+            int v0 = mesh.index(i);
+            int v2 = mesh.index(i + 2);
             // First triangle: v0, v1, v2
-            emitVertex(v0);
-            emitVertex(v1);
-            emitVertex(v2);
+            emitVertex(mesh, v0);
+            emitVertex(mesh, mesh.index(i + 1));
+            emitVertex(mesh, v2);
             // Second triangle: v0, v2, v3
-            emitVertex(v0);
-            emitVertex(v2);
-            emitVertex(v3);
+            emitVertex(mesh, v0);
+            emitVertex(mesh, v2);
+            emitVertex(mesh, mesh.index(i + 3));
             cellIndex++; // Increment cell index for per-cell coloring
-        });
+        }
     }
     
     private void emitLines(Mesh mesh) {
-        mesh.forEachLine((v0, v1) -> {
+        int count = mesh.indexCount();
+        for (int i = 0; i + 1 < count; i += 2) {
             // Lines in Minecraft require special handling
             // Each line vertex needs position, color, and normal
-            emitLineVertex(v0, v1);
-            emitLineVertex(v1, v0);
-        });
+            int v0 = mesh.index(i);
+            int v1 = mesh.index(i + 1);
+            emitLineVertex(mesh, v0, v1);
+            emitLineVertex(mesh, v1, v0);
+        }
     }
     
     // =========================================================================
@@ -326,32 +337,34 @@ public final class VertexEmitter {
      * the vertex position will be displaced before transformation.</p>
      */
     public void emitVertex(Vertex vertex) {
-        float vx = vertex.x();
-        float vy = vertex.y();
-        float vz = vertex.z();
-        
-        // Apply wave displacement if configured
-        if (waveConfig != null && waveConfig.isActive()) {
-            float[] displaced = AnimationApplier.applyWaveToVertex(
-                waveConfig, vx, vy, vz, waveTime);
-            vx = displaced[0];
-            vy = displaced[1];
-            vz = displaced[2];
-        }
-        
-        // Transform position
-        Vector4f pos = new Vector4f(vx, vy, vz, 1.0f);
-        pos.mul(positionMatrix);
+        emitVertex(vertex.x(), vertex.y(), vertex.z(),
+            vertex.nx(), vertex.ny(), vertex.nz(),
+            vertex.u(), vertex.v(), vertex.alpha());
+    }
+    
+    private void emitVertex(Mesh mesh, int i) {
+        emitVertex(mesh.x(i), mesh.y(i), mesh.z(i),
+            mesh.nx(i), mesh.ny(i), mesh.nz(i),
+            mesh.u(i), mesh.v(i), mesh.alpha(i));
+    }
+    
+    /**
+     * Allocation-free vertex emission. Transforms into the scratch vectors
+     * instead of creating a {@link Vector4f}/{@link Vector3f} per vertex.
+     */
+    private void emitVertex(float x, float y, float z, float nx, float ny, float nz,
+                            float u, float v, float alpha) {
+        // Transform position (wave displacement applied first if configured)
+        transformPosition(x, y, z);
         
         // Transform normal
-        Vector3f normal = new Vector3f(vertex.nx(), vertex.ny(), vertex.nz());
-        normal.mul(normalMatrix);
+        normalMatrix.transform(nx, ny, nz, scratchNormal);
         
         // Calculate color - use ColorContext for per-vertex coloring, otherwise use uniform color
         int vertexColor;
         if (colorContext != null && colorContext.isPerVertex()) {
             // Per-vertex color calculation using local (pre-transform) coordinates
-            vertexColor = colorContext.calculateColor(vertex.x(), vertex.y(), vertex.z(), cellIndex);
+            vertexColor = colorContext.calculateColor(x, y, z, cellIndex);
         } else {
             vertexColor = this.color;
         }
@@ -364,13 +377,13 @@ public final class VertexEmitter {
                 // Position-based t calculation (for jets, cylinders, etc.)
                 // Use the LOCAL (pre-transform) vertex position
                 t = TravelEffectComputer.computeT(
-                    vertex.x(), vertex.y(), vertex.z(),
+                    x, y, z,
                     travelEffect, travelBoundsMin, travelBoundsMax);
             } else {
                 // Normal-based t calculation (for spheres and centered shapes)
                 // Works because normals point radially outward from center
                 t = TravelEffectComputer.computeTForSphere(
-                    vertex.nx(), vertex.ny(), vertex.nz(), travelEffect);
+                    nx, ny, nz, travelEffect);
             }
             
             // Compute interpolated shape-level minAlpha floor
@@ -396,10 +409,9 @@ public final class VertexEmitter {
         
         // Apply per-vertex alpha from tessellator (e.g., Kamehameha alpha gradient)
         // This multiplies with the existing alpha from color/travel effect
-        float vertexAlpha = vertex.alpha();
-        if (vertexAlpha < 1.0f) {
+        if (alpha < 1.0f) {
             int currentAlpha = (vertexColor >> 24) & 0xFF;
-            int newAlpha = (int)(currentAlpha * vertexAlpha) & 0xFF;
+            int newAlpha = (int)(currentAlpha * alpha) & 0xFF;
             vertexColor = (vertexColor & 0x00FFFFFF) | (newAlpha << 24);
         }
         
@@ -409,65 +421,73 @@ public final class VertexEmitter {
         int g = (vertexColor >> 8) & 0xFF;
         int b = vertexColor & 0xFF;
         
-        consumer.vertex(pos.x(), pos.y(), pos.z())
+        consumer.vertex(scratchPos.x, scratchPos.y, scratchPos.z)
             .color(r, g, b, a)
-            .texture(vertex.u(), vertex.v())
+            .texture(u, v)
             .overlay(overlay)
             .light(light)
-            .normal(normal.x(), normal.y(), normal.z());
+            .normal(scratchNormal.x, scratchNormal.y, scratchNormal.z);
     }
     
     /**
      * Emits a line vertex (for LINES render layer).
      * <p>Supports ColorContext for per-vertex coloring, wave animation, and per-vertex alpha.
      */
-    private void emitLineVertex(Vertex v, Vertex other) {
-        float vx = v.x();
-        float vy = v.y();
-        float vz = v.z();
-        
-        // Apply wave displacement if configured
-        if (waveConfig != null && waveConfig.isActive()) {
-            float[] displaced = AnimationApplier.applyWaveToVertex(
-                waveConfig, vx, vy, vz, waveTime);
-            vx = displaced[0];
-            vy = displaced[1];
-            vz = displaced[2];
-        }
+    private void emitLineVertex(Mesh mesh, int vi, int otherIndex) {
+        float x = mesh.x(vi);
+        float y = mesh.y(vi);
+        float z = mesh.z(vi);
         
-        // Transform position
-        Vector4f pos = new Vector4f(vx, vy, vz, 1.0f);
-        pos.mul(positionMatrix);
+        transformPosition(x, y, z);
         
         // For lines, normal is the direction
-        Vector3f dir = new Vector3f(
-            other.x() - v.x(),
-            other.y() - v.y(),
-            other.z() - v.z()
-        );
-        dir.normalize();
-        dir.mul(normalMatrix);
+        float dx = mesh.x(otherIndex) - x;
+        float dy = mesh.y(otherIndex) - y;
+        float dz = mesh.z(otherIndex) - z;
+        float len = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (len > 0) {
+            dx /= len;
+            dy /= len;
+            dz /= len;
+        }
+        normalMatrix.transform(dx, dy, dz, scratchNormal);
         
         // Calculate color - use ColorContext for per-vertex coloring, otherwise use uniform color
         int vertexColor;
         if (colorContext != null && colorContext.isPerVertex()) {
             // Per-vertex color calculation using local (pre-transform) coordinates
-            vertexColor = colorContext.calculateColor(v.x(), v.y(), v.z(), cellIndex);
+            vertexColor = colorContext.calculateColor(x, y, z, cellIndex);
         } else {
             vertexColor = this.color;
         }
         
         // Apply per-vertex alpha from vertex (for FADE edge transition)
         int baseAlpha = (vertexColor >> 24) & 0xFF;
-        int finalAlpha = (int) (baseAlpha * v.alpha()) & 0xFF;
+        int finalAlpha = (int) (baseAlpha * mesh.alpha(vi)) & 0xFF;
         
         int r = (vertexColor >> 16) & 0xFF;
         int g = (vertexColor >> 8) & 0xFF;
         int b = vertexColor & 0xFF;
         
-        consumer.vertex(pos.x(), pos.y(), pos.z())
+        consumer.vertex(scratchPos.x, scratchPos.y, scratchPos.z)
             .color(r, g, b, finalAlpha)
-            .normal(dir.x(), dir.y(), dir.z());
+            .normal(scratchNormal.x, scratchNormal.y, scratchNormal.z);
+    }
+    
+    /**
+     * Applies the configured wave to a local position and transforms it into
+     * {@link #scratchPos}.
+     */
+    private void transformPosition(float x, float y, float z) {
+        if (waveConfig != null && waveConfig.isActive()) {
+            float offset = AnimationApplier.getWaveOffset(waveConfig, x, y, z, waveTime);
+            switch (waveConfig.direction()) {
+                case X -> x += offset;
+                case Z -> z += offset;
+                default -> y += offset;
+            }
+        }
+        positionMatrix.transformPosition(x, y, z, scratchPos);
     }
     
     // =========================================================================
@@ -573,22 +593,30 @@ public final class VertexEmitter {
         }
         
         PrimitiveType primType = mesh.primitiveType();
+        int count = mesh.indexCount();
         
         if (primType == PrimitiveType.QUADS) {
             // For quads, draw only the 4 edges (not the internal diagonal)
-            mesh.forEachQuad((v0, v1, v2, v3) -> {
-                emitEdge(v0, v1);
-                emitEdge(v1, v2);
-                emitEdge(v2, v3);
-                emitEdge(v3, v0);
-            });
+            for (int i = 0; i + 3 < count; i += 4) {
+                int v0 = mesh.index(i);
+                int v1 = mesh.index(i + 1);
+                int v2 = mesh.index(i + 2);
+                int v3 = mesh.index(i + 3);
+                emitEdge(mesh, v0, v1);
+                emitEdge(mesh, v1, v2);
+                emitEdge(mesh, v2, v3);
+                emitEdge(mesh, v3, v0);
+            }
         } else {
             // For triangles, draw all 3 edges per triangle
-            mesh.forEachTriangle((v0, v1, v2) -> {
-                emitEdge(v0, v1);
-                emitEdge(v1, v2);
-                emitEdge(v2, v0);
-            });
+            for (int i = 0; i + 2 < count; i += 3) {
+                int v0 = mesh.index(i);
+                int v1 = mesh.index(i + 1);
+                int v2 = mesh.index(i + 2);
+                emitEdge(mesh, v0, v1);
+                emitEdge(mesh, v1, v2);
+                emitEdge(mesh, v2, v0);
+            }
         }
     }
     
@@ -596,11 +624,14 @@ public final class VertexEmitter {
      * Emits a single edge (2 vertices = 1 line) with consistent normals.
      * Both vertices use the same normal direction (v0 toward v1).
      */
-    private void emitEdge(Vertex v0, Vertex v1) {
+    private void emitEdge(Mesh mesh, int i0, int i1) {
+        float x0 = mesh.x(i0), y0 = mesh.y(i0), z0 = mesh.z(i0);
+        float x1 = mesh.x(i1), y1 = mesh.y(i1), z1 = mesh.z(i1);
+        
         // Direction from v0 to v1 - CONSISTENT for both vertices
-        float dx = v1.x() - v0.x();
-        float dy = v1.y() - v0.y();
-        float dz = v1.z() - v0.z();
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        float dz = z1 - z0;
         float len = (float)Math.sqrt(dx * dx + dy * dy + dz * dz);
         if (len > 0) {
             dx /= len;
@@ -609,16 +640,15 @@ public final class VertexEmitter {
         }
         
         // Transform normal through matrix
-        Vector3f dir = new Vector3f(dx, dy, dz);
-        dir.mul(normalMatrix);
+        normalMatrix.transform(dx, dy, dz, scratchNormal);
         
         // Calculate color
         int vertexColor;
         if (colorContext != null && colorContext.isPerVertex()) {
             // Use midpoint for consistent color on both ends
-            float midX = (v0.x() + v1.x()) * 0.5f;
-            float midY = (v0.y() + v1.y()) * 0.5f;
-            float midZ = (v0.z() + v1.z()) * 0.5f;
+            float midX = (x0 + x1) * 0.5f;
+            float midY = (y0 + y1) * 0.5f;
+            float midZ = (z0 + z1) * 0.5f;
             vertexColor = colorContext.calculateColor(midX, midY, midZ, cellIndex);
         } else {
             vertexColor = this.color;
@@ -630,32 +660,16 @@ public final class VertexEmitter {
         int b = vertexColor & 0xFF;
         
         // Emit first vertex (v0)
-        float x0 = v0.x(), y0 = v0.y(), z0 = v0.z();
-        if (waveConfig != null && waveConfig.isActive()) {
-            float[] displaced = AnimationApplier.applyWaveToVertex(waveConfig, x0, y0, z0, waveTime);
-            x0 = displaced[0];
-            y0 = displaced[1];
-            z0 = displaced[2];
-        }
-        Vector4f pos0 = new Vector4f(x0, y0, z0, 1.0f);
-        pos0.mul(positionMatrix);
-        consumer.vertex(pos0.x(), pos0.y(), pos0.z())
+        transformPosition(x0, y0, z0);
+        consumer.vertex(scratchPos.x, scratchPos.y, scratchPos.z)
             .color(r, g, b, a)
-            .normal(dir.x(), dir.y(), dir.z());
+            .normal(scratchNormal.x, scratchNormal.y, scratchNormal.z);
         
         // Emit second vertex (v1)
-        float x1 = v1.x(), y1 = v1.y(), z1 = v1.z();
-        if (waveConfig != null && waveConfig.isActive()) {
-            float[] displaced = AnimationApplier.applyWaveToVertex(waveConfig, x1, y1, z1, waveTime);
-            x1 = displaced[0];
-            y1 = displaced[1];
-            z1 = displaced[2];
-        }
-        Vector4f pos1 = new Vector4f(x1, y1, z1, 1.0f);
-        pos1.mul(positionMatrix);
-        consumer.vertex(pos1.x(), pos1.y(), pos1.z())
+        transformPosition(x1, y1, z1);
+        consumer.vertex(scratchPos.x, scratchPos.y, scratchPos.z)
             .color(r, g, b, a)
-            .normal(dir.x(), dir.y(), dir.z());
+            .normal(scratchNormal.x, scratchNormal.y, scratchNormal.z);
     }
     
     
@@ -201,7 +201,8 @@ public class TheVirusBlock implements ModInitializer {
 				.add(net.cyberpunk042.init.nodes.RegistryNodes.ENTITIES)
 				.add(net.cyberpunk042.init.nodes.RegistryNodes.EFFECTS)
 				.add(net.cyberpunk042.init.nodes.RegistryNodes.ITEM_GROUPS)
-				.add(net.cyberpunk042.init.nodes.RegistryNodes.SCREEN_HANDLERS))
+				.add(net.cyberpunk042.init.nodes.RegistryNodes.SCREEN_HANDLERS)
+				.add(net.cyberpunk042.init.nodes.RegistryNodes.CHUNK_TICKETS))
 			
 			// Stage 3: Network (payloads + handlers)
 			.stage(net.cyberpunk042.init.InitStage.of("network", "Networking")
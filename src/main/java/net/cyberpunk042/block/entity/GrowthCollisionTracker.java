@@ -2,26 +2,32 @@ package net.cyberpunk042.block.entity;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Consumer;
 
+import net.cyberpunk042.collision.SectionSpatialIndex;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
 
+/**
+ * Per-world registry of growth blocks that contribute collision shapes.
+ * Each world keeps a chunk-section spatial hash keyed on the block's
+ * collision bounds, so collision queries only touch overlapping sections.
+ */
 public final class GrowthCollisionTracker {
-	private static final ConcurrentHashMap<RegistryKey<World>, CopyOnWriteArraySet<ProgressiveGrowthBlockEntity>> ACTIVE =
+	private static final ConcurrentHashMap<RegistryKey<World>, SectionSpatialIndex<ProgressiveGrowthBlockEntity>> ACTIVE =
 			new ConcurrentHashMap<>();
-	
+
 	// Ultra-fast global check - if this is 0, skip ALL collision logic
 	private static volatile int globalCount = 0;
 
 	private GrowthCollisionTracker() {
 	}
-	
+
 	/**
 	 * Returns true if ANY growth blocks with collision are registered anywhere.
 	 * This is an O(1) check suitable for hot paths like collision detection.
@@ -29,7 +35,7 @@ public final class GrowthCollisionTracker {
 	public static boolean hasAny() {
 		return globalCount > 0;
 	}
-	
+
 	/**
 	 * Returns true if any growth blocks with collision exist in the given world.
 	 * Slightly more expensive than hasAny() but still very fast.
@@ -37,19 +43,44 @@ public final class GrowthCollisionTracker {
 	public static boolean hasAnyInWorld(World world) {
 		if (globalCount == 0) return false;
 		if (!(world instanceof ServerWorld serverWorld)) return false;
-		Set<ProgressiveGrowthBlockEntity> set = ACTIVE.get(serverWorld.getRegistryKey());
-		return set != null && !set.isEmpty();
+		SectionSpatialIndex<ProgressiveGrowthBlockEntity> index = ACTIVE.get(serverWorld.getRegistryKey());
+		if (index == null) return false;
+		synchronized (index) {
+			return !index.isEmpty();
+		}
 	}
 
 	public static void register(ProgressiveGrowthBlockEntity entity) {
 		if (!(entity.getWorld() instanceof ServerWorld serverWorld)) {
 			return;
 		}
-		boolean added = ACTIVE
-			.computeIfAbsent(serverWorld.getRegistryKey(), key -> new CopyOnWriteArraySet<>())
-			.add(entity);
-		if (added) {
-			globalCount++;
+		SectionSpatialIndex<ProgressiveGrowthBlockEntity> index = ACTIVE
+			.computeIfAbsent(serverWorld.getRegistryKey(), key -> new SectionSpatialIndex<>());
+		synchronized (index) {
+			boolean added = !index.contains(entity);
+			index.put(entity, entity.collisionBounds());
+			if (added) {
+				globalCount++;
+			}
+		}
+	}
+
+	/**
+	 * Re-indexes a registered block after its collision bounds changed.
+	 * No-op for blocks that are not registered.
+	 */
+	public static void update(ProgressiveGrowthBlockEntity entity) {
+		if (!(entity.getWorld() instanceof ServerWorld serverWorld)) {
+			return;
+		}
+		SectionSpatialIndex<ProgressiveGrowthBlockEntity> index = ACTIVE.get(serverWorld.getRegistryKey());
+		if (index == null) {
+			return;
+		}
+		synchronized (index) {
+			if (index.contains(entity)) {
+				index.put(entity, entity.collisionBounds());
+			}
 		}
 	}
 
@@ -57,16 +88,48 @@ public final class GrowthCollisionTracker {
 		if (!(entity.getWorld() instanceof ServerWorld serverWorld)) {
 			return;
 		}
-		CopyOnWriteArraySet<ProgressiveGrowthBlockEntity> set = ACTIVE.get(serverWorld.getRegistryKey());
-		if (set == null) {
+		SectionSpatialIndex<ProgressiveGrowthBlockEntity> index = ACTIVE.get(serverWorld.getRegistryKey());
+		if (index == null) {
 			return;
 		}
-		boolean removed = set.remove(entity);
-		if (removed) {
-			globalCount--;
+		synchronized (index) {
+			if (index.remove(entity)) {
+				globalCount--;
+			}
+			if (index.isEmpty()) {
+				ACTIVE.remove(serverWorld.getRegistryKey(), index);
+			}
 		}
-		if (set.isEmpty()) {
-			ACTIVE.remove(serverWorld.getRegistryKey(), set);
+	}
+
+	/**
+	 * Returns the registered blocks whose collision bounds intersect {@code box}.
+	 */
+	public static List<ProgressiveGrowthBlockEntity> near(World world, Box box) {
+		if (globalCount == 0) return Collections.emptyList(); // Fast path
+		if (!(world instanceof ServerWorld serverWorld)) {
+			return Collections.emptyList();
+		}
+		SectionSpatialIndex<ProgressiveGrowthBlockEntity> index = ACTIVE.get(serverWorld.getRegistryKey());
+		if (index == null) {
+			return Collections.emptyList();
+		}
+		synchronized (index) {
+			return index.query(box);
+		}
+	}
+
+	public static int count(World world) {
+		if (globalCount == 0) return 0;
+		if (!(world instanceof ServerWorld serverWorld)) {
+			return 0;
+		}
+		SectionSpatialIndex<ProgressiveGrowthBlockEntity> index = ACTIVE.get(serverWorld.getRegistryKey());
+		if (index == null) {
+			return 0;
+		}
+		synchronized (index) {
+			return index.size();
 		}
 	}
 
@@ -75,16 +138,25 @@ public final class GrowthCollisionTracker {
 		if (!(world instanceof ServerWorld serverWorld)) {
 			return Collections.emptyList();
 		}
-		Set<ProgressiveGrowthBlockEntity> set = ACTIVE.get(serverWorld.getRegistryKey());
-		return set != null ? set : Collections.emptyList();
+		SectionSpatialIndex<ProgressiveGrowthBlockEntity> index = ACTIVE.get(serverWorld.getRegistryKey());
+		if (index == null) {
+			return Collections.emptyList();
+		}
+		synchronized (index) {
+			return index.values();
+		}
 	}
 
 	public static void forEachActive(Consumer<ProgressiveGrowthBlockEntity> consumer) {
 		if (consumer == null) {
 			return;
 		}
-		for (Map.Entry<RegistryKey<World>, CopyOnWriteArraySet<ProgressiveGrowthBlockEntity>> entry : ACTIVE.entrySet()) {
-			for (ProgressiveGrowthBlockEntity entity : entry.getValue()) {
+		for (Map.Entry<RegistryKey<World>, SectionSpatialIndex<ProgressiveGrowthBlockEntity>> entry : ACTIVE.entrySet()) {
+			List<ProgressiveGrowthBlockEntity> snapshot;
+			synchronized (entry.getValue()) {
+				snapshot = entry.getValue().values();
+			}
+			for (ProgressiveGrowthBlockEntity entity : snapshot) {
 				if (entity == null || entity.isRemoved()) {
 					continue;
 				}
@@ -93,4 +165,3 @@ public final class GrowthCollisionTracker {
 		}
 	}
 }
-
@@ -35,7 +35,7 @@ public class GrowthParticleEmitter {
         if (profile == null) {
             return;
         }
-        boolean spawnParticles = profile.sanitizedCount() > 0 && profile.particleId() != null;
+        boolean spawnParticles = spawnsParticles(profile);
         boolean playSound = profile.soundId() != null;
         if (!spawnParticles && !playSound) {
             state.ambientCooldown = 0;
@@ -62,6 +62,18 @@ public class GrowthParticleEmitter {
         }
     }
 
+    /**
+     * True when {@link #emitAmbientParticles} would neither spawn particles nor
+     * play a sound for {@code profile}.
+     */
+    public static boolean isInert(@Nullable GrowthParticleProfile profile) {
+        return profile == null || (!spawnsParticles(profile) && profile.soundId() == null);
+    }
+
+    private static boolean spawnsParticles(GrowthParticleProfile profile) {
+        return profile.sanitizedCount() > 0 && profile.particleId() != null;
+    }
+
     public static void spawnConfiguredParticles(ServerWorld world, BlockPos pos, GrowthParticleProfile profile, double currentScale) {
         ParticleEffect effect = resolveParticle(profile.particleId());
         if (effect == null) {
@@ -18,9 +18,9 @@ import net.cyberpunk042.growth.profile.GrowthForceProfile;
 import net.cyberpunk042.growth.profile.GrowthFuseProfile;
 import net.cyberpunk042.growth.profile.GrowthGlowProfile;
 import net.cyberpunk042.growth.GrowthBlockDefinition;
+import net.cyberpunk042.growth.GrowthProfiles;
 import net.cyberpunk042.growth.GrowthRegistry;
 import net.cyberpunk042.growth.profile.GrowthOpacityProfile;
-import net.cyberpunk042.growth.profile.GrowthParticleProfile;
 import net.cyberpunk042.growth.scheduler.GrowthMutation;
 import net.cyberpunk042.growth.scheduler.GrowthOverrides;
 import net.cyberpunk042.growth.profile.GrowthSpinProfile;
@@ -29,6 +29,8 @@ import net.cyberpunk042.infection.events.GrowthFuseEvent;
 import net.cyberpunk042.infection.service.InfectionServiceContainer;
 import net.cyberpunk042.infection.service.InfectionServices;
 import net.cyberpunk042.registry.ModBlockEntities;
+import net.cyberpunk042.util.Probe;
+import net.cyberpunk042.util.ProbeRegistry;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -62,9 +64,18 @@ import net.minecraft.util.shape.VoxelShapes;
  * Runtime state for {@link ProgressiveGrowthBlock}. Handles scale animation,
  * fuse timing, force fields, and touch damage. Rendering will read the synced
  * scale + profiles client-side.
+ *
+ * <p>Profiles are read from a cached {@link GrowthProfiles} bundle, dropped
+ * when the definition, overrides or registry change. A block whose last
+ * server tick changed nothing and whose profiles are inert (settled scale, no
+ * fuse or burst, no force, wobble, ambient FX or destruction) goes to sleep:
+ * its tick only runs the touch-damage query, which reads the tick snapshot's
+ * buckets for the few sections around the block, until a mutation, fuse,
+ * neighbour update, colliding entity or registry reload wakes it.
  */
 public class ProgressiveGrowthBlockEntity extends BlockEntity {
     private static final double MIN_SCALE_SPAN = 1.0E-4D;
+    private static final Probe TICK_PROBE = ProbeRegistry.register("Growth.tick");
     
     // Core state
     private Identifier definitionId = GrowthBlockDefinition.defaults().id();
@@ -112,6 +123,13 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
     // Tracking
     private boolean lastGrowthEnabled = GrowthBlockDefinition.defaults().growthEnabled();
     
+    // Resolved profiles and tick sleeping
+    @Nullable
+    private GrowthProfiles profiles;
+    @Nullable
+    private GrowthRegistry profilesRegistry;
+    private boolean sleeping;
+    
     // Delegated state
     private final GrowthExplosionHandler.BurstState burstState = new GrowthExplosionHandler.BurstState();
     private final GrowthParticleEmitter.EmitterState emitterState = new GrowthParticleEmitter.EmitterState();
@@ -137,7 +155,9 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         if (!(world instanceof ServerWorld serverWorld)) {
             return;
         }
+        long probeStart = TICK_PROBE.start();
         entity.tickServer(serverWorld);
+        TICK_PROBE.end(probeStart);
     }
 
     public static void clientTick(World world, BlockPos pos, BlockState state, ProgressiveGrowthBlockEntity entity) {
@@ -145,9 +165,14 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
     }
 
     private void tickServer(ServerWorld world) {
+        if (sleeping && profiles != null && profilesRegistry == registry()) {
+            applyVolumeTouchDamage(world, profiles.definition());
+            return;
+        }
+        sleeping = false;
+        GrowthProfiles resolved = resolveProfiles();
         GrowthBlockDefinition definition = resolveDefinition();
-        GrowthGlowProfile glowProfile = resolveGlowProfile();
-        updateBlockLightLevel(glowProfile.lightLevel());
+        updateBlockLightLevel(resolved.glow().lightLevel());
         boolean dirty = false;
         boolean shapeDirty = false;
         boolean growthEnabled = definition.growthEnabled();
@@ -175,7 +200,7 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
             scaleCooldown = definition.sanitizedRate();
         }
 
-        GrowthFuseProfile fuseProfile = resolveFuseProfile();
+        GrowthFuseProfile fuseProfile = resolved.fuse();
         if (!definition.hasFuse()) {
             if (fuseArmed || burstState.isActive()) {
                 disarmFuse();
@@ -199,8 +224,8 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
             shapeDirty = true;
         }
 
-        GrowthForceProfile pullProfile = resolveForceProfile(definition.pullProfileId(), false);
-        GrowthForceProfile pushProfile = resolveForceProfile(definition.pushProfileId(), true);
+        GrowthForceProfile pullProfile = resolved.pull();
+        GrowthForceProfile pushProfile = resolved.push();
 
         if (growthEnabled && GrowthForceHandler.isForceActive(pullProfile)) {
             if (pullCooldown-- <= 0) {
@@ -222,7 +247,7 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
             pushCooldown = Math.max(0, Math.min(pushCooldown, definition.sanitizedRate()));
         }
 
-        GrowthWobbleProfile wobbleProfile = resolveWobbleProfile(definition.wobbleProfileId());
+        GrowthWobbleProfile wobbleProfile = resolved.wobble();
         boolean wobbleEnabled = wobbleProfile.enabled();
         if (wobbleEnabled != lastWobbleEnabled) {
             wobbleOffsetX = 0.0D;
@@ -251,7 +276,7 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
             destroyIntersectingBlocks(world, definition);
         }
         
-        GrowthParticleEmitter.emitAmbientParticles(world, pos, resolveParticleProfile(), currentScale, emitterState);
+        GrowthParticleEmitter.emitAmbientParticles(world, pos, resolved.particle(), currentScale, emitterState);
         
         int[] chargesRef = { remainingCharges };
         if (GrowthExplosionHandler.tickPendingBursts(world, pos, burstState, chargesRef, this::markDirty, () -> { scheduleClientSync(); sync(); })) {
@@ -265,12 +290,46 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         if (dirty) {
             markDirty();
             sync();
+        } else {
+            sleeping = !shapeDirty && canSleep(resolved);
         }
     }
 
+    /**
+     * True when the next tick would repeat this one except for touch damage.
+     * The auto fuse needs no check: with the scale settled its progress
+     * cannot change, so it stays unarmed.
+     */
+    private boolean canSleep(GrowthProfiles resolved) {
+        GrowthBlockDefinition definition = resolved.definition();
+        if (fuseArmed || burstState.isActive() || definition.doesDestruction()) {
+            return false;
+        }
+        boolean growthEnabled = definition.growthEnabled();
+        if (growthEnabled && (Math.abs(targetScale - currentScale) > 1.0E-4 || Math.abs(previousScale - currentScale) > 1.0E-4)) {
+            return false;
+        }
+        if (growthEnabled && (GrowthForceHandler.isForceActive(resolved.pull()) || GrowthForceHandler.isForceActive(resolved.push()))) {
+            return false;
+        }
+        return !resolved.wobble().enabled() && GrowthParticleEmitter.isInert(resolved.particle());
+    }
+
+    /**
+     * Resumes full server ticking after sleep. Called for anything that can
+     * change what a tick does from outside the tick itself.
+     */
+    public void wake() {
+        sleeping = false;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
     private void tickClient() {
         GrowthBlockDefinition definition = resolveDefinition();
-        GrowthWobbleProfile wobbleProfile = resolveWobbleProfile(definition.wobbleProfileId());
+        GrowthWobbleProfile wobbleProfile = resolveProfiles().wobble();
         previousScale = currentScale;
         double before = currentScale;
         stepScaleTowardsTarget(definition);
@@ -304,6 +363,7 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
     // === Fuse Methods ===
 
     private void armFuse(ServerWorld world, GrowthBlockDefinition definition, GrowthFuseProfile profile) {
+        sleeping = false;
         fuseArmed = true;
         fuseTicks = profile.sanitizedExplosionDelay();
         collapseDuration = profile.sanitizedShellCollapse();
@@ -412,7 +472,10 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         if (world == null) {
             return Vec3d.ZERO;
         }
-        GrowthWobbleProfile wobble = resolveWobbleProfile(definition.wobbleProfileId());
+        GrowthProfiles resolved = resolveProfiles();
+        GrowthWobbleProfile wobble = resolved.definition() == definition
+                ? resolved.wobble()
+                : resolveWobbleProfile(definition.wobbleProfileId());
         if (!wobble.enabled()) {
             return Vec3d.ZERO;
         }
@@ -454,6 +517,9 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
             loggedEmptyShape = true;
             Logging.GROWTH.warn("[GrowthEntity] Outline shape empty for {} at {}", definition.id(), pos);
         }
+        if (collisionTrackerRegistered) {
+            GrowthCollisionTracker.update(this);
+        }
     }
 
     // === Damage Methods ===
@@ -464,7 +530,12 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
             return;
         }
         Box damageBox = outlineShape.getBoundingBox().offset(pos);
-        List<LivingEntity> targets = world.getEntitiesByClass(LivingEntity.class, damageBox, LivingEntity::isAlive);
+        // The tick snapshot fills a section's bucket on its first query of the
+        // tick, so growth blocks sharing sections share one entity lookup
+        InfectionServiceContainer c = InfectionServices.container();
+        List<LivingEntity> targets = c != null
+                ? c.worldSnapshot(world).entities(LivingEntity.class, damageBox, LivingEntity::isAlive)
+                : world.getEntitiesByClass(LivingEntity.class, damageBox, LivingEntity::isAlive);
         if (targets.isEmpty()) {
             return;
         }
@@ -537,6 +608,7 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
 
     public void onEntityCollision(Entity entity) {
         if (!(entity instanceof LivingEntity living) || world == null || world.isClient) return;
+        wake();
         GrowthBlockDefinition definition = resolveDefinition();
         damageLivingEntity((ServerWorld) world, living, definition);
     }
@@ -603,6 +675,24 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
 
     public Identifier getDefinitionId() { return definitionId; }
     @Nullable public List<Box> getCollisionPanels() { return collisionPanels; }
+
+    /**
+     * World-space union of the collision panels (or collision shape), used as
+     * the spatial index key. Falls back to the block cell when both are empty.
+     */
+    public Box collisionBounds() {
+        if (collisionPanels != null && !collisionPanels.isEmpty()) {
+            Box union = collisionPanels.get(0);
+            for (int i = 1; i < collisionPanels.size(); i++) {
+                union = union.union(collisionPanels.get(i));
+            }
+            return union;
+        }
+        if (collisionShape != null && !collisionShape.isEmpty()) {
+            return collisionShape.getBoundingBox().offset(pos);
+        }
+        return new Box(pos);
+    }
     public Box getRenderBounds() { return renderBounds; }
     public Box getInteractionBounds() { return outlineShape.isEmpty() ? Box.of(Vec3d.ofCenter(pos), 0.0D, 0.0D, 0.0D) : outlineShape.getBoundingBox(); }
     public Box getWorldRenderBounds() { return renderBounds.offset(pos); }
@@ -620,6 +710,7 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
     public void setDefinitionId(Identifier id) {
         if (id == null || id.equals(this.definitionId)) return;
         this.definitionId = id;
+        invalidateProfiles();
         GrowthBlockDefinition definition = resolveDefinition();
         resetTransientState(definition);
         rebuildShapes(definition);
@@ -630,10 +721,11 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
 
     public void replaceOverrides(GrowthOverrides newOverrides) {
         this.overrides = newOverrides == null ? GrowthOverrides.empty() : newOverrides;
+        invalidateProfiles();
         GrowthBlockDefinition definition = resolveDefinition();
         rebuildShapes(definition);
         lastGrowthEnabled = definition.growthEnabled();
-        lastWobbleEnabled = resolveWobbleProfile(definition.wobbleProfileId()).enabled();
+        lastWobbleEnabled = resolveProfiles().wobble().enabled();
         lastHasCollision = definition.hasCollision();
         markDirty();
         scheduleClientSync();
@@ -650,10 +742,11 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         if (overrides == null) overrides = GrowthOverrides.empty();
         boolean changed = overrides.applyMutation(mutation);
         if (!changed) return false;
+        invalidateProfiles();
         GrowthBlockDefinition definition = resolveDefinition();
         rebuildShapes(definition);
         lastGrowthEnabled = definition.growthEnabled();
-        lastWobbleEnabled = resolveWobbleProfile(definition.wobbleProfileId()).enabled();
+        lastWobbleEnabled = resolveProfiles().wobble().enabled();
         lastHasCollision = definition.hasCollision();
         markDirty();
         scheduleClientSync();
@@ -663,12 +756,35 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
 
     // === Profile Resolution ===
 
-    private GrowthBlockDefinition resolveDefinition() {
+    /**
+     * Cached profile bundle. Unmodified definitions share the registry's
+     * bundle; overridden ones resolve their own. Rebuilt after
+     * {@link #invalidateProfiles()} or when the registry instance changes.
+     */
+    private GrowthProfiles resolveProfiles() {
         GrowthRegistry registry = registry();
-        GrowthBlockDefinition definition = registry == null ? GrowthBlockDefinition.defaults() : registry.definition(definitionId);
-        if (overrides != null && !overrides.isEmpty()) {
-            definition = overrides.apply(definition, registry);
+        if (profiles == null || profilesRegistry != registry) {
+            if (overrides != null && !overrides.isEmpty()) {
+                GrowthBlockDefinition base = registry == null ? GrowthBlockDefinition.defaults() : registry.definition(definitionId);
+                profiles = GrowthProfiles.resolve(registry, overrides.apply(base, registry));
+            } else {
+                profiles = registry == null
+                        ? GrowthProfiles.resolve(null, GrowthBlockDefinition.defaults())
+                        : registry.profiles(definitionId);
+            }
+            profilesRegistry = registry;
+            sleeping = false;
         }
+        return profiles;
+    }
+
+    private void invalidateProfiles() {
+        profiles = null;
+        sleeping = false;
+    }
+
+    private GrowthBlockDefinition resolveDefinition() {
+        GrowthBlockDefinition definition = resolveProfiles().definition();
         double min = definition.minScale();
         double max = sanitizedMaxScale(definition);
         double baseTarget = MathHelper.clamp(definition.targetScale(), min, max);
@@ -685,30 +801,20 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         return MathHelper.clamp((currentScale - min) / span, 0.0D, 1.0D);
     }
 
-    private GrowthForceProfile resolveForceProfile(@Nullable Identifier id, boolean push) {
-        GrowthRegistry registry = registry();
-        GrowthForceProfile fallback = push ? GrowthForceProfile.defaultsPush() : GrowthForceProfile.defaultsPull();
-        return registry == null ? fallback : registry.forceProfile(id, fallback);
-    }
-
     public GrowthFieldProfile resolveFieldProfile() {
-        GrowthRegistry registry = registry();
-        return registry == null ? GrowthFieldProfile.defaults() : registry.fieldProfile(resolveDefinition().fieldProfileId());
+        return resolveProfiles().field();
     }
 
     public GrowthFuseProfile resolveFuseProfile() {
-        GrowthRegistry registry = registry();
-        return registry == null ? GrowthFuseProfile.defaults() : registry.fuseProfile(resolveDefinition().fuseProfileId());
+        return resolveProfiles().fuse();
     }
 
     public GrowthExplosionProfile resolveExplosionProfile() {
-        GrowthRegistry registry = registry();
-        return registry == null ? GrowthExplosionProfile.defaults() : registry.explosionProfile(resolveDefinition().explosionProfileId());
+        return resolveProfiles().explosion();
     }
 
     public GrowthGlowProfile resolveGlowProfile() {
-        GrowthRegistry registry = registry();
-        return registry == null ? GrowthGlowProfile.defaults() : registry.glowProfile(resolveDefinition().glowProfileId());
+        return resolveProfiles().glow();
     }
 
     private void updateBlockLightLevel(int desiredLevel) {
@@ -723,17 +829,15 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
     }
 
     public GrowthOpacityProfile resolveOpacityProfile() {
-        GrowthRegistry registry = registry();
-        return registry == null ? GrowthOpacityProfile.defaults() : registry.opacityProfile(resolveDefinition().opacityProfileId());
+        return resolveProfiles().opacity();
     }
 
     public GrowthSpinProfile resolveSpinProfile() {
-        GrowthRegistry registry = registry();
-        return registry == null ? GrowthSpinProfile.defaults() : registry.spinProfile(resolveDefinition().spinProfileId());
+        return resolveProfiles().spin();
     }
 
     public GrowthWobbleProfile resolveWobbleProfile() {
-        return resolveWobbleProfile(resolveDefinition().wobbleProfileId());
+        return resolveProfiles().wobble();
     }
 
     private GrowthWobbleProfile resolveWobbleProfile(@Nullable Identifier id) {
@@ -741,11 +845,6 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         return registry == null ? GrowthWobbleProfile.none() : registry.wobbleProfile(id);
     }
 
-    private GrowthParticleProfile resolveParticleProfile() {
-        GrowthRegistry registry = registry();
-        return registry == null ? GrowthParticleProfile.defaults() : registry.particleProfile(resolveDefinition().particleProfileId());
-    }
-
     @Nullable
     private GrowthRegistry registry() {
         InfectionServiceContainer c = InfectionServices.container();
@@ -775,7 +874,7 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         disarmFuse();
         forceDamageCooldowns.clear();
         lastGrowthEnabled = definition.growthEnabled();
-        lastWobbleEnabled = resolveWobbleProfile(definition.wobbleProfileId()).enabled();
+        lastWobbleEnabled = resolveProfiles().wobble().enabled();
         lastHasCollision = definition.hasCollision();
         collapseEndScale = currentScale;
         remainingCharges = resolveExplosionProfile().sanitizedCharges();
@@ -828,6 +927,7 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
     protected void readData(ReadView view) {
         super.readData(view);
         this.definitionId = Identifier.tryParse(view.getString("DefinitionId", definitionId.toString()));
+        invalidateProfiles();
         this.currentScale = view.getDouble("CurrentScale", currentScale);
         this.targetScale = view.getDouble("TargetScale", targetScale);
         this.fuseArmed = view.getBoolean("FuseArmed", false);
@@ -852,13 +952,14 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         this.burstState.burstDamageScaling = view.getDouble("BurstDamageScaling", 1.0D);
         String overridesRaw = view.getString("Overrides", "");
         this.overrides = GrowthOverrides.fromSnbt(overridesRaw);
+        invalidateProfiles();
         GrowthBlockDefinition definition = resolveDefinition();
         this.scaleCooldown = view.getInt("ScaleCooldown", definition.sanitizedRate());
         this.pullCooldown = view.getInt("PullCooldown", 0);
         this.pushCooldown = view.getInt("PushCooldown", 0);
         this.emitterState.ambientCooldown = view.getInt("AmbientCooldown", 0);
         lastGrowthEnabled = definition.growthEnabled();
-        lastWobbleEnabled = resolveWobbleProfile(definition.wobbleProfileId()).enabled();
+        lastWobbleEnabled = resolveProfiles().wobble().enabled();
         lastHasCollision = definition.hasCollision();
         rebuildShapes(definition);
     }
@@ -901,5 +1002,6 @@ public class ProgressiveGrowthBlockEntity extends BlockEntity {
         this.previousScale = clamped;
         this.targetScale = clamped;
         this.scaleCooldown = 0;
+        wake();
     }
 }
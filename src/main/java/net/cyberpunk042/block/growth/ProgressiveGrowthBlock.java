@@ -38,6 +38,7 @@ import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
 import net.minecraft.world.BlockView;
 import net.minecraft.world.World;
+import net.minecraft.world.block.WireOrientation;
 
 /**
  * Block wrapper for progressive growth profiles. Rendering/FX are handled by
@@ -105,6 +106,14 @@ public class ProgressiveGrowthBlock extends BlockWithEntity {
 		}
 	}
 
+	@Override
+	protected void neighborUpdate(BlockState state, World world, BlockPos pos, Block sourceBlock, @Nullable WireOrientation wireOrientation, boolean notify) {
+		super.neighborUpdate(state, world, pos, sourceBlock, wireOrientation, notify);
+		if (!world.isClient && world.getBlockEntity(pos) instanceof ProgressiveGrowthBlockEntity growth) {
+			growth.wake();
+		}
+	}
+
 	@Override
 	public VoxelShape getOutlineShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
 		return resolveShape(world, pos, ShapeType.OUTLINE);
@@ -0,0 +1,111 @@
+package net.cyberpunk042.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import net.minecraft.util.math.Box;
+
+/**
+ * In-game micro benchmark comparing the old linear growth-collision scan with
+ * the {@link SectionSpatialIndex} lookup. Uses synthetic growth bounds spread
+ * over a 256×64×256 area and player-sized query boxes, so it can be run on a
+ * live server via {@code /growthcollision bench} without placing blocks.
+ */
+public final class GrowthCollisionBenchmark {
+	private static final int[] SIZES = { 10, 100, 1000 };
+	private static final int QUERIES = 20_000;
+	private static final int WARMUP_ROUNDS = 3;
+	// Matches the pre-check radius the linear scan used
+	private static final double MAX_GROWTH_RADIUS = 4.0D;
+
+	private GrowthCollisionBenchmark() {
+	}
+
+	public record Result(int activeBlocks, double linearNanosPerQuery, double indexedNanosPerQuery, long hits) {
+		public String describe() {
+			return String.format(Locale.ROOT, "active=%d linear=%.1fns/query indexed=%.1fns/query speedup=%.1fx hits=%d",
+					activeBlocks,
+					linearNanosPerQuery,
+					indexedNanosPerQuery,
+					indexedNanosPerQuery > 0.0D ? linearNanosPerQuery / indexedNanosPerQuery : 0.0D,
+					hits);
+		}
+	}
+
+	public static List<Result> run() {
+		List<Result> results = new ArrayList<>(SIZES.length);
+		for (int size : SIZES) {
+			results.add(run(size));
+		}
+		return results;
+	}
+
+	public static Result run(int activeBlocks) {
+		Random random = new Random(42L);
+		List<Box> growth = new ArrayList<>(activeBlocks);
+		SectionSpatialIndex<Object> index = new SectionSpatialIndex<>();
+		for (int i = 0; i < activeBlocks; i++) {
+			double x = random.nextInt(256);
+			double y = random.nextInt(64);
+			double z = random.nextInt(256);
+			double scale = 0.5D + random.nextDouble() * 1.5D;
+			Box bounds = new Box(x + 0.5D - scale / 2.0D, y, z + 0.5D - scale / 2.0D,
+					x + 0.5D + scale / 2.0D, y + scale, z + 0.5D + scale / 2.0D);
+			growth.add(bounds);
+			index.put(new Object(), bounds);
+		}
+		Box[] queries = new Box[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			double x = random.nextDouble() * 256.0D;
+			double y = random.nextDouble() * 64.0D;
+			double z = random.nextDouble() * 256.0D;
+			queries[i] = new Box(x - 0.3D, y, z - 0.3D, x + 0.3D, y + 1.8D, z + 0.3D);
+		}
+
+		long hits = 0;
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			hits = linear(growth, queries) + indexed(index, queries);
+		}
+		long start = System.nanoTime();
+		long linearHits = linear(growth, queries);
+		long linearNanos = System.nanoTime() - start;
+		start = System.nanoTime();
+		long indexedHits = indexed(index, queries);
+		long indexedNanos = System.nanoTime() - start;
+		hits = Math.max(linearHits, indexedHits);
+		return new Result(activeBlocks,
+				(double) linearNanos / QUERIES,
+				(double) indexedNanos / QUERIES,
+				hits);
+	}
+
+	private static long linear(List<Box> growth, Box[] queries) {
+		long hits = 0;
+		for (Box query : queries) {
+			for (Box bounds : growth) {
+				double cx = (bounds.minX + bounds.maxX) * 0.5D;
+				double cy = (bounds.minY + bounds.maxY) * 0.5D;
+				double cz = (bounds.minZ + bounds.maxZ) * 0.5D;
+				if (cx + MAX_GROWTH_RADIUS < query.minX || cx - MAX_GROWTH_RADIUS > query.maxX
+						|| cy + MAX_GROWTH_RADIUS < query.minY || cy - MAX_GROWTH_RADIUS > query.maxY
+						|| cz + MAX_GROWTH_RADIUS < query.minZ || cz - MAX_GROWTH_RADIUS > query.maxZ) {
+					continue;
+				}
+				if (bounds.intersects(query)) {
+					hits++;
+				}
+			}
+		}
+		return hits;
+	}
+
+	private static long indexed(SectionSpatialIndex<Object> index, Box[] queries) {
+		long hits = 0;
+		for (Box query : queries) {
+			hits += index.query(query).size();
+		}
+		return hits;
+	}
+}
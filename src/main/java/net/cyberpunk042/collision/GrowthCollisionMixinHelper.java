@@ -36,8 +36,7 @@ public final class GrowthCollisionMixinHelper {
 	 * Used for diagnostics.
 	 */
 	public static int countActiveGrowth(World world) {
-		Collection<ProgressiveGrowthBlockEntity> actives = GrowthCollisionTracker.active(world);
-		return actives != null ? actives.size() : 0;
+		return GrowthCollisionTracker.count(world);
 	}
 
 	public static void appendGrowthCollisions(
@@ -64,47 +63,23 @@ public final class GrowthCollisionMixinHelper {
 			return Collections.emptyList();
 		}
 
-		Collection<ProgressiveGrowthBlockEntity> actives = GrowthCollisionTracker.active(world);
-		if (actives.isEmpty()) {
+		// Spatial index lookup: only growth blocks whose collision bounds overlap the query
+		List<ProgressiveGrowthBlockEntity> nearby = GrowthCollisionTracker.near(world, queryBox);
+		if (nearby.isEmpty()) {
 			return Collections.emptyList();
 		}
 		
 		// Profile the expensive collision gathering
-		net.cyberpunk042.util.SuperProfiler.start("Mixin:GrowthCollision");
-
-		// Pre-compute query bounds for fast rejection
-		double queryMinX = queryBox.minX;
-		double queryMaxX = queryBox.maxX;
-		double queryMinY = queryBox.minY;
-		double queryMaxY = queryBox.maxY;
-		double queryMinZ = queryBox.minZ;
-		double queryMaxZ = queryBox.maxZ;
-		
-		// Maximum possible radius of a growth block (with scale and wobble)
-		// Growth blocks can scale up to ~2x and wobble, so use generous bounds
-		final double MAX_GROWTH_RADIUS = 4.0;
+		long probeStart = net.cyberpunk042.util.MixinProfiler.GROWTH_COLLISION.start();
 
 		List<VoxelShape> extras = null; // Lazy init - most checks find nothing
 		int appended = 0;
 		
-		for (ProgressiveGrowthBlockEntity growth : actives) {
+		for (ProgressiveGrowthBlockEntity growth : nearby) {
 			if (growth == null || growth.isRemoved() || growth.getWorld() != world || !growth.hasCollision()) {
 				continue;
 			}
-			
-			// FAST PRE-CHECK: Skip if growth block center is too far from query box
-			// This avoids expensive worldShape() and getCollisionPanels() calls
 			net.minecraft.util.math.BlockPos pos = growth.getPos();
-			double cx = pos.getX() + 0.5;
-			double cy = pos.getY() + 0.5;
-			double cz = pos.getZ() + 0.5;
-			
-			// Quick AABB distance check
-			if (cx + MAX_GROWTH_RADIUS < queryMinX || cx - MAX_GROWTH_RADIUS > queryMaxX ||
-				cy + MAX_GROWTH_RADIUS < queryMinY || cy - MAX_GROWTH_RADIUS > queryMaxY ||
-				cz + MAX_GROWTH_RADIUS < queryMinZ || cz - MAX_GROWTH_RADIUS > queryMaxZ) {
-				continue; // Too far away, skip expensive shape computation
-			}
 			
 			// Only now do the expensive shape retrieval
 			List<Box> panelBoxes = growth.getCollisionPanels();
@@ -128,9 +103,9 @@ public final class GrowthCollisionMixinHelper {
 		}
 
 		if (GrowthCollisionDebug.isEnabled() && appended > 0) {
-			logCollision(entity, actives.size(), appended, queryBox);
+			logCollision(entity, nearby.size(), appended, queryBox);
 		}
-		net.cyberpunk042.util.SuperProfiler.end("Mixin:GrowthCollision");
+		net.cyberpunk042.util.MixinProfiler.GROWTH_COLLISION.end(probeStart);
 		return extras != null ? extras : Collections.emptyList();
 	}
 
@@ -0,0 +1,208 @@
+package net.cyberpunk042.collision;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Chunk-section keyed spatial hash for a small number of boxed values.
+ * Each value is stored in every 16³ section its bounds overlap, so a query
+ * only visits the sections its own box overlaps instead of every value.
+ *
+ * <p>Cells hold small plain arrays; inserts and removals copy the array,
+ * which is cheap at the handful of entries a section usually holds and keeps
+ * queries allocation-free. Not thread-safe; callers synchronize.
+ */
+public final class SectionSpatialIndex<T> {
+	private static final Object[] EMPTY = new Object[0];
+
+	private final Long2ObjectOpenHashMap<Object[]> cells = new Long2ObjectOpenHashMap<>();
+	private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+	private static final class Entry<T> {
+		final T value;
+		Box bounds;
+		int minX, minY, minZ, maxX, maxY, maxZ;
+
+		Entry(T value) {
+			this.value = value;
+		}
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public boolean contains(T value) {
+		return entries.containsKey(value);
+	}
+
+	/**
+	 * Snapshot of all indexed values.
+	 */
+	public List<T> values() {
+		return new ArrayList<>(entries.keySet());
+	}
+
+	/**
+	 * Inserts a value or moves it to new bounds. Cells are only rewritten when
+	 * the covered section range actually changes.
+	 */
+	public void put(T value, Box bounds) {
+		Entry<T> entry = entries.get(value);
+		int minX = cellCoord(bounds.minX);
+		int minY = cellCoord(bounds.minY);
+		int minZ = cellCoord(bounds.minZ);
+		int maxX = cellCoord(bounds.maxX);
+		int maxY = cellCoord(bounds.maxY);
+		int maxZ = cellCoord(bounds.maxZ);
+		if (entry == null) {
+			entry = new Entry<>(value);
+			entries.put(value, entry);
+		} else if (entry.minX == minX && entry.minY == minY && entry.minZ == minZ
+				&& entry.maxX == maxX && entry.maxY == maxY && entry.maxZ == maxZ) {
+			entry.bounds = bounds;
+			return;
+		} else {
+			unlink(entry);
+		}
+		entry.bounds = bounds;
+		entry.minX = minX;
+		entry.minY = minY;
+		entry.minZ = minZ;
+		entry.maxX = maxX;
+		entry.maxY = maxY;
+		entry.maxZ = maxZ;
+		link(entry);
+	}
+
+	public boolean remove(T value) {
+		Entry<T> entry = entries.remove(value);
+		if (entry == null) {
+			return false;
+		}
+		unlink(entry);
+		return true;
+	}
+
+	public void clear() {
+		cells.clear();
+		entries.clear();
+	}
+
+	/**
+	 * Returns every value whose bounds intersect {@code box}. Returns a shared
+	 * empty list when nothing matches, so the common miss allocates nothing.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> query(Box box) {
+		if (entries.isEmpty()) {
+			return Collections.emptyList();
+		}
+		int minX = cellCoord(box.minX);
+		int minY = cellCoord(box.minY);
+		int minZ = cellCoord(box.minZ);
+		int maxX = cellCoord(box.maxX);
+		int maxY = cellCoord(box.maxY);
+		int maxZ = cellCoord(box.maxZ);
+		List<T> result = null;
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				for (int y = minY; y <= maxY; y++) {
+					Object[] cell = cells.get(ChunkSectionPos.asLong(x, y, z));
+					if (cell == null) {
+						continue;
+					}
+					for (Object raw : cell) {
+						Entry<T> entry = (Entry<T>) raw;
+						// Report each entry once: from the first cell where its range meets the query range
+						if (x != Math.max(entry.minX, minX)
+								|| y != Math.max(entry.minY, minY)
+								|| z != Math.max(entry.minZ, minZ)) {
+							continue;
+						}
+						if (!entry.bounds.intersects(box)) {
+							continue;
+						}
+						if (result == null) {
+							result = new ArrayList<>(4);
+						}
+						result.add(entry.value);
+					}
+				}
+			}
+		}
+		return result != null ? result : Collections.emptyList();
+	}
+
+	private void link(Entry<T> entry) {
+		for (int x = entry.minX; x <= entry.maxX; x++) {
+			for (int y = entry.minY; y <= entry.maxY; y++) {
+				for (int z = entry.minZ; z <= entry.maxZ; z++) {
+					long key = ChunkSectionPos.asLong(x, y, z);
+					Object[] cell = cells.get(key);
+					if (cell == null) {
+						cells.put(key, new Object[] { entry });
+						continue;
+					}
+					Object[] grown = new Object[cell.length + 1];
+					System.arraycopy(cell, 0, grown, 0, cell.length);
+					grown[cell.length] = entry;
+					cells.put(key, grown);
+				}
+			}
+		}
+	}
+
+	private void unlink(Entry<T> entry) {
+		for (int x = entry.minX; x <= entry.maxX; x++) {
+			for (int y = entry.minY; y <= entry.maxY; y++) {
+				for (int z = entry.minZ; z <= entry.maxZ; z++) {
+					long key = ChunkSectionPos.asLong(x, y, z);
+					Object[] cell = cells.get(key);
+					if (cell == null) {
+						continue;
+					}
+					Object[] shrunk = without(cell, entry);
+					if (shrunk.length == 0) {
+						cells.remove(key);
+					} else if (shrunk != cell) {
+						cells.put(key, shrunk);
+					}
+				}
+			}
+		}
+	}
+
+	private static Object[] without(Object[] cell, Object target) {
+		for (int i = 0; i < cell.length; i++) {
+			if (cell[i] != target) {
+				continue;
+			}
+			if (cell.length == 1) {
+				return EMPTY;
+			}
+			Object[] shrunk = new Object[cell.length - 1];
+			System.arraycopy(cell, 0, shrunk, 0, i);
+			System.arraycopy(cell, i + 1, shrunk, i, cell.length - i - 1);
+			return shrunk;
+		}
+		return cell;
+	}
+
+	private static int cellCoord(double value) {
+		return ChunkSectionPos.getSectionCoord(MathHelper.floor(value));
+	}
+}
@@ -7,6 +7,7 @@ import com.mojang.brigadier.context.CommandContext;
 import net.cyberpunk042.block.entity.GrowthCollisionTracker;
 import net.cyberpunk042.block.entity.ProgressiveGrowthBlockEntity;
 import net.cyberpunk042.block.growth.ProgressiveGrowthBlock;
+import net.cyberpunk042.collision.GrowthCollisionBenchmark;
 import net.cyberpunk042.collision.GrowthCollisionDebug;
 import net.cyberpunk042.collision.GrowthCollisionDebug.ShapeMode;
 import net.cyberpunk042.command.util.CommandFeedback;
@@ -34,7 +35,9 @@ public final class GrowthCollisionCommand {
         var cmd = CommandManager.literal("growthcollision")
             .requires(source -> source.hasPermissionLevel(2))
             .then(CommandManager.literal("dump")
-                .executes(GrowthCollisionCommand::dumpActiveBlocks));
+                .executes(GrowthCollisionCommand::dumpActiveBlocks))
+            .then(CommandManager.literal("bench")
+                .executes(GrowthCollisionCommand::runBenchmark));
         
         // Shape mode enum knob
         CommandKnob.enumValue("collision.shape_mode", "Collision shape mode", ShapeMode.class)
@@ -72,6 +75,14 @@ public final class GrowthCollisionCommand {
         return 1;
     }
 
+    private static int runBenchmark(CommandContext<ServerCommandSource> ctx) {
+        CommandFeedback.info(ctx.getSource(), "Benchmarking growth collision queries (linear scan vs section index)...");
+        for (GrowthCollisionBenchmark.Result result : GrowthCollisionBenchmark.run()) {
+            CommandFeedback.info(ctx.getSource(), result.describe());
+        }
+        return 1;
+    }
+
     private static int dumpActiveBlocks(CommandContext<ServerCommandSource> ctx) {
         final int[] count = {0};
         GrowthCollisionTracker.forEachActive(block -> {
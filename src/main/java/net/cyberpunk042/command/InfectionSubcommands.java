@@ -9,6 +9,7 @@ import net.cyberpunk042.command.util.CommandProtection;
 import net.cyberpunk042.command.util.ListFormatter;
 import net.cyberpunk042.infection.VirusWorldState;
 import net.cyberpunk042.infection.api.SimpleVirusScheduler;
+import net.cyberpunk042.infection.api.VirusSchedulerMetrics;
 import net.cyberpunk042.infection.command.CommandFacade;
 import net.cyberpunk042.infection.service.InfectionServices;
 import net.minecraft.command.argument.IdentifierArgumentType;
@@ -192,7 +193,19 @@ public final class InfectionSubcommands {
             diagnostics.backlog(),
             diagnostics.usingFallback() ? " [default]" : "");
         CommandFeedback.info(source, label);
-        
+        if (diagnostics.metricsAvailable()) {
+            CommandFeedback.info(source, String.format(Locale.ROOT,
+                "Last tick: executed=%d overdue=%d",
+                diagnostics.executedLastTick(),
+                diagnostics.overdueLastTick()));
+            String histogram = formatRunTimeHistogram(diagnostics.runTimeHistogram());
+            if (!histogram.isEmpty()) {
+                CommandFeedback.info(source, "Task run time: " + histogram);
+            }
+        } else {
+            CommandFeedback.info(source, "Last tick: metrics unavailable for " + diagnostics.implementation());
+        }
+
         List<SimpleVirusScheduler.TaskSnapshot> persisted = diagnostics.persistedTasks();
         if (persisted.isEmpty()) {
             CommandFeedback.info(source, "No persisted tasks queued.");
@@ -213,6 +226,21 @@ public final class InfectionSubcommands {
         }
         return diagnostics.backlog();
     }
+
+    private static String formatRunTimeHistogram(long[] histogram) {
+        StringBuilder builder = new StringBuilder();
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            if (histogram[bucket] == 0L) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            long floorMicros = VirusSchedulerMetrics.bucketFloorNanos(bucket) / 1_000L;
+            builder.append(">=").append(floorMicros).append("us:").append(histogram[bucket]);
+        }
+        return builder.toString();
+    }
     
     private static CommandFacade commandFacade(ServerCommandSource source) {
         return new CommandFacade(VirusWorldState.get(source.getWorld()));
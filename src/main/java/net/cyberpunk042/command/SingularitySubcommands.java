@@ -11,11 +11,13 @@ import net.cyberpunk042.command.util.ReportBuilder;
 import net.cyberpunk042.infection.VirusWorldState;
 import net.cyberpunk042.infection.command.CommandFacade;
 import net.cyberpunk042.infection.profile.CollapseBroadcastMode;
+import net.cyberpunk042.infection.profile.CollapseFillEngine;
 import net.cyberpunk042.infection.profile.CollapseFillMode;
 import net.cyberpunk042.infection.profile.CollapseFillShape;
 import net.cyberpunk042.infection.profile.CollapseSyncProfile;
 import net.cyberpunk042.infection.profile.DimensionProfile;
 import net.cyberpunk042.infection.profile.WaterDrainMode;
+import net.cyberpunk042.infection.singularity.SingularityDiagnostics;
 import net.minecraft.command.argument.EntityArgumentType;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
@@ -235,6 +237,14 @@ public final class SingularitySubcommands {
             .handler((src, v) -> getFacade(src).setFillShape(null, v))
             .attach(cmd);
         
+        CommandKnob.enumValue("erosion.fill_engine", "Collapse fill engine", CollapseFillEngine.class)
+            .idMapper(CollapseFillEngine::id)
+            .parser(CollapseFillEngine::fromId)
+            .defaultValue(CollapseFillEngine.BLOCK)
+            .scenarioRequired(SingularitySubcommands::checkScenario)
+            .handler((src, v) -> getFacade(src).setFillEngine(null, v))
+            .attach(cmd);
+        
         return cmd;
     }
     
@@ -293,6 +303,10 @@ public final class SingularitySubcommands {
         VirusWorldState state = VirusWorldState.get(world);
         CommandFeedback.info(source, "Singularity state: " + state.singularityState().singularityState
             + " (ticks=" + state.singularityState().singularityTicks + ")");
+        SingularityDiagnostics.chunkLoad(world.getRegistryKey()).ifPresent(loads ->
+            CommandFeedback.info(source, String.format(Locale.ROOT,
+                "Chunk loading (%s): inFlight=%d rate=%.1f/s completed=%d failed=%d",
+                loads.phase(), loads.inFlight(), loads.chunksPerSecond(), loads.completed(), loads.failed())));
         return 1;
     }
     
@@ -323,6 +337,7 @@ public final class SingularitySubcommands {
                 .kv("fill_shape", collapse.fillShape().id())
                 .kv("outline_thickness", collapse.outlineThickness())
                 .kv("use_native_fill", collapse.useNativeFill())
+                .kv("fill_engine", collapse.fillEngine().id())
                 .kv("respect_protected_blocks", collapse.respectProtectedBlocks())
                 .send(source);
         });
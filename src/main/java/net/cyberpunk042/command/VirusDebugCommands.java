@@ -16,6 +16,7 @@ import net.cyberpunk042.infection.InfectionTier;
 import net.cyberpunk042.infection.TierCookbook;
 import net.cyberpunk042.infection.TierFeature;
 import net.cyberpunk042.infection.VirusWorldState;
+import net.cyberpunk042.infection.mutation.MutationBenchmark;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
@@ -63,9 +64,29 @@ public final class VirusDebugCommands {
                 .requires(source -> source.hasPermissionLevel(2))
                 .executes(ctx -> testFallingBlockTick(ctx.getSource()));
             dispatcher.register(testFallingBlock);
+
+            // Block mutation benchmark (decides targets without writing)
+            var mutationBench = CommandManager.literal("virusmutationbench")
+                .requires(source -> source.hasPermissionLevel(2))
+                .executes(ctx -> benchmarkMutation(ctx.getSource(), 32))
+                .then(CommandManager.argument("radius", IntegerArgumentType.integer(4, 256))
+                    .executes(ctx -> benchmarkMutation(ctx.getSource(),
+                        IntegerArgumentType.getInteger(ctx, "radius"))));
+            dispatcher.register(mutationBench);
         });
     }
 
+    private static int benchmarkMutation(ServerCommandSource source, int radius) {
+        ServerWorld world = source.getWorld();
+        VirusWorldState state = VirusWorldState.get(world);
+        BlockPos center = BlockPos.ofFloored(source.getPosition());
+        CommandFeedback.info(source, "Benchmarking block mutation attempts (per-attempt checks vs replacement table)...");
+        MutationBenchmark.Result result = MutationBenchmark.run(world, center, radius,
+            state.tiers().currentTier(), state.tiers().isApocalypseMode());
+        CommandFeedback.info(source, result.describe());
+        return 1;
+    }
+
     /**
      * TEST COMMAND: Spawn a fresh FallingBlockEntity to verify if newly spawned entities tick.
      * This helps distinguish between "entities don't tick at all" vs "only loaded entities don't tick".
@@ -11,14 +11,44 @@ import net.cyberpunk042.command.util.CommandFormatters;
 import net.cyberpunk042.command.util.CommandProtection;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.cyberpunk042.util.ProbeRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public final class VirusStatsCommand {
+	private static final int PROBE_LINES = 15;
+
 	private VirusStatsCommand() {
 	}
 
 	public static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
 		dispatcher.register(CommandManager.literal("virusstats")
-				.executes(ctx -> report(ctx.getSource())));
+				.executes(ctx -> report(ctx.getSource()))
+				.then(CommandManager.literal("probes")
+						.executes(ctx -> probes(ctx.getSource()))));
+	}
+
+	/**
+	 * Lists the busiest probes of the current profiler interval (reset with
+	 * each periodic report) by total recorded time.
+	 */
+	private static int probes(ServerCommandSource source) {
+		if (!CommandProtection.checkAndWarn(source, "stats.view")) {
+			return 0;
+		}
+		if (!ProbeRegistry.isEnabled()) {
+			source.sendFeedback(() -> Text.literal("Probes are disabled.").formatted(Formatting.RED), false);
+			return 0;
+		}
+		List<ProbeRegistry.Stats> stats = new ArrayList<>(ProbeRegistry.snapshot());
+		stats.sort((a, b) -> Long.compare(b.total(), a.total()));
+		source.sendFeedback(() -> Text.literal("Probes (" + stats.size() + " active)").formatted(Formatting.AQUA), false);
+		for (int i = 0; i < Math.min(PROBE_LINES, stats.size()); i++) {
+			String line = stats.get(i).describe();
+			source.sendFeedback(() -> Text.literal(line).formatted(Formatting.GRAY), false);
+		}
+		return stats.size();
 	}
 
 	private static int report(ServerCommandSource source) {
@@ -60,6 +90,13 @@ public final class VirusStatsCommand {
 				"command.the-virus-block.stats.chunks_alive",
 				trackedChunks
 		).formatted(Formatting.DARK_GREEN), false);
+		int pendingCleanse = GlobalTerrainCorruption.getPendingCleanseCount(world);
+		if (pendingCleanse > 0) {
+			source.sendFeedback(() -> Text.translatable(
+					"command.the-virus-block.stats.cleanse_pending",
+					pendingCleanse
+			).formatted(Formatting.AQUA), false);
+		}
 
 		SingularityState singularityState = state.singularityState().singularityState;
 		switch (singularityState) {
@@ -48,6 +48,7 @@ public final class ClientFieldState {
     private float scale;
     private float phase;
     private boolean removed;
+    private boolean hidden;  // outside the server's view radius
     
     // Shuffle override (for live editing)
     private String shuffleType;
@@ -128,6 +129,7 @@ public final class ClientFieldState {
     public float scale() { return scale; }
     public float phase() { return phase; }
     public boolean isRemoved() { return removed; }
+    public boolean isHidden() { return hidden; }
     public @Nullable String shuffleType() { return shuffleType; }
     public int shuffleIndex() { return shuffleIndex; }
     public boolean hasShuffleOverride() { return shuffleType != null && !shuffleType.isEmpty(); }
@@ -189,6 +191,11 @@ public final class ClientFieldState {
         return this;
     }
     
+    public ClientFieldState withHidden(boolean hidden) {
+        this.hidden = hidden;
+        return this;
+    }
+    
     public ClientFieldState withPhase(float phase) {
         this.phase = phase;
         return this;
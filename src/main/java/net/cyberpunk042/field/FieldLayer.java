@@ -2,6 +2,7 @@ package net.cyberpunk042.field;
 
 import com.google.gson.JsonObject;
 
+import net.cyberpunk042.field.primitive.LinkPlan;
 import net.cyberpunk042.field.primitive.Primitive;
 import net.cyberpunk042.util.json.JsonField;
 import net.cyberpunk042.util.json.JsonSerializer;
@@ -70,6 +71,13 @@ public record FieldLayer(
         return new FieldLayer(id, primitives, transform, Animation.NONE, 1.0f, true, BlendMode.NORMAL);
     }
     
+    /**
+     * Compiled links of this layer's primitives, built once per primitive list.
+     */
+    public LinkPlan linkPlan() {
+        return LinkPlan.of(primitives);
+    }
+    
     /**
      * Builder for complex layers.
      */
@@ -0,0 +1,144 @@
+package net.cyberpunk042.field.primitive;
+
+import com.google.common.collect.MapMaker;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Links of one primitive list compiled to indices, so renderers resolve them
+ * without maps or string lookups.
+ *
+ * <p>A plan holds, per primitive index:
+ * <ul>
+ *   <li>{@link #order()} - render order; targets come before the primitives
+ *       that link to them, otherwise declaration order is kept</li>
+ *   <li>{@link #target(int)} - index of the link target, or -1</li>
+ *   <li>{@link #followTarget(int)} - target whose animated position is
+ *       followed, or -1 when the link would form a cycle</li>
+ *   <li>{@link #resolved(int)} - the static {@link LinkResolver#resolveLinks}
+ *       result, which only depends on the primitives themselves</li>
+ * </ul>
+ *
+ * <p>Primitives are immutable, so a plan stays valid for as long as its list
+ * lives. {@link #of(List)} keeps plans in a weak map keyed on list identity,
+ * which is what {@link net.cyberpunk042.field.FieldLayer#linkPlan()} uses; a
+ * list that is rebuilt gets a new plan on first use, and the old plan goes
+ * away with its list.
+ *
+ * @see LinkResolver
+ */
+public final class LinkPlan {
+
+    // Weak keys compare by identity, so lookups never hash the primitives
+    private static final Map<List<Primitive>, LinkPlan> CACHE = new MapMaker().weakKeys().makeMap();
+
+    public static final LinkPlan EMPTY = new LinkPlan(new int[0], new int[0], new int[0], new LinkResolver.ResolvedValues[0], 0);
+
+    private final int[] order;
+    private final int[] targets;
+    private final int[] followTargets;
+    private final LinkResolver.ResolvedValues[] resolved;
+    private final int linkCount;
+
+    private LinkPlan(int[] order, int[] targets, int[] followTargets, LinkResolver.ResolvedValues[] resolved, int linkCount) {
+        this.order = order;
+        this.targets = targets;
+        this.followTargets = followTargets;
+        this.resolved = resolved;
+        this.linkCount = linkCount;
+    }
+
+    /**
+     * Returns the plan for a primitive list, compiling it on first use.
+     */
+    public static LinkPlan of(List<Primitive> primitives) {
+        if (primitives == null || primitives.isEmpty()) {
+            return EMPTY;
+        }
+        return CACHE.computeIfAbsent(primitives, LinkPlan::compile);
+    }
+
+    /**
+     * Compiles the links of a primitive list without caching.
+     */
+    public static LinkPlan compile(List<Primitive> primitives) {
+        int n = primitives.size();
+        Map<String, Primitive> index = LinkResolver.buildIndex(primitives);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            String id = primitives.get(i).id();
+            if (id != null) {
+                positions.put(id, i);
+            }
+        }
+
+        int[] targets = new int[n];
+        LinkResolver.ResolvedValues[] resolved = new LinkResolver.ResolvedValues[n];
+        int linkCount = 0;
+        for (int i = 0; i < n; i++) {
+            Primitive primitive = primitives.get(i);
+            PrimitiveLink link = primitive.link();
+            targets[i] = -1;
+            if (link != null && link.isValid() && link.hasAnyLinkType()) {
+                Integer target = positions.get(link.target());
+                if (target != null && target != i) {
+                    targets[i] = target;
+                    linkCount++;
+                }
+            }
+            resolved[i] = LinkResolver.resolveLinks(primitive, index);
+        }
+
+        // Stable topological sort: each primitive goes right after its target
+        // has been placed, lowest declaration index first
+        int[] order = new int[n];
+        int[] rank = new int[n];
+        Arrays.fill(rank, -1);
+        int placed = 0;
+        boolean progress = true;
+        while (placed < n && progress) {
+            progress = false;
+            for (int i = 0; i < n; i++) {
+                if (rank[i] < 0 && (targets[i] < 0 || rank[targets[i]] >= 0)) {
+                    rank[i] = placed;
+                    order[placed++] = i;
+                    progress = true;
+                    break;
+                }
+            }
+        }
+        // Whatever is left links in a cycle; keep declaration order
+        for (int i = 0; placed < n && i < n; i++) {
+            if (rank[i] < 0) {
+                rank[i] = placed;
+                order[placed++] = i;
+            }
+        }
+
+        int[] followTargets = new int[n];
+        for (int i = 0; i < n; i++) {
+            int target = targets[i];
+            followTargets[i] = target >= 0 && rank[target] < rank[i] && resolved[i].hasFollowDynamic() ? target : -1;
+        }
+        return new LinkPlan(order, targets, followTargets, resolved, linkCount);
+    }
+
+    /** Primitive indices in render order. Do not modify. */
+    public int[] order() { return order; }
+
+    public int size() { return order.length; }
+
+    public int target(int primitive) { return targets[primitive]; }
+
+    public int followTarget(int primitive) { return followTargets[primitive]; }
+
+    public LinkResolver.ResolvedValues resolved(int primitive) { return resolved[primitive]; }
+
+    /** Number of primitives whose link points at another primitive in the list. */
+    public int linkCount() { return linkCount; }
+
+    public boolean hasLinks() { return linkCount > 0; }
+}
@@ -0,0 +1,67 @@
+package net.cyberpunk042.growth;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.cyberpunk042.growth.profile.GrowthExplosionProfile;
+import net.cyberpunk042.growth.profile.GrowthFieldProfile;
+import net.cyberpunk042.growth.profile.GrowthForceProfile;
+import net.cyberpunk042.growth.profile.GrowthFuseProfile;
+import net.cyberpunk042.growth.profile.GrowthGlowProfile;
+import net.cyberpunk042.growth.profile.GrowthOpacityProfile;
+import net.cyberpunk042.growth.profile.GrowthParticleProfile;
+import net.cyberpunk042.growth.profile.GrowthSpinProfile;
+import net.cyberpunk042.growth.profile.GrowthWobbleProfile;
+
+/**
+ * A growth definition together with every profile it references, resolved
+ * once. {@link GrowthRegistry#profiles} keeps one bundle per definition id;
+ * a reload builds a new registry, so bundles never outlive the profiles they
+ * were resolved from. Definitions with per-block overrides resolve their own
+ * bundle through {@link #resolve}.
+ */
+public record GrowthProfiles(
+		GrowthBlockDefinition definition,
+		GrowthGlowProfile glow,
+		GrowthFuseProfile fuse,
+		GrowthExplosionProfile explosion,
+		GrowthForceProfile pull,
+		GrowthForceProfile push,
+		GrowthWobbleProfile wobble,
+		GrowthParticleProfile particle,
+		GrowthFieldProfile field,
+		GrowthOpacityProfile opacity,
+		GrowthSpinProfile spin) {
+
+	/**
+	 * Resolves the profiles {@code definition} references. Without a
+	 * registry every profile falls back to its defaults.
+	 */
+	public static GrowthProfiles resolve(@Nullable GrowthRegistry registry, GrowthBlockDefinition definition) {
+		if (registry == null) {
+			return new GrowthProfiles(
+					definition,
+					GrowthGlowProfile.defaults(),
+					GrowthFuseProfile.defaults(),
+					GrowthExplosionProfile.defaults(),
+					GrowthForceProfile.defaultsPull(),
+					GrowthForceProfile.defaultsPush(),
+					GrowthWobbleProfile.none(),
+					GrowthParticleProfile.defaults(),
+					GrowthFieldProfile.defaults(),
+					GrowthOpacityProfile.defaults(),
+					GrowthSpinProfile.defaults());
+		}
+		return new GrowthProfiles(
+				definition,
+				registry.glowProfile(definition.glowProfileId()),
+				registry.fuseProfile(definition.fuseProfileId()),
+				registry.explosionProfile(definition.explosionProfileId()),
+				registry.forceProfile(definition.pullProfileId(), GrowthForceProfile.defaultsPull()),
+				registry.forceProfile(definition.pushProfileId(), GrowthForceProfile.defaultsPush()),
+				registry.wobbleProfile(definition.wobbleProfileId()),
+				registry.particleProfile(definition.particleProfileId()),
+				registry.fieldProfile(definition.fieldProfileId()),
+				registry.opacityProfile(definition.opacityProfileId()),
+				registry.spinProfile(definition.spinProfileId()));
+	}
+}
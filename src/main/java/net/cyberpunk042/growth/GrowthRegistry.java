@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.cyberpunk042.infection.service.ConfigService;
 import net.minecraft.util.Identifier;
@@ -33,6 +34,8 @@ public final class GrowthRegistry {
     private final Map<Identifier, GrowthProfile> growthProfiles;
     private final Map<Identifier, GrowthBlockDefinition> definitions;
     private final GrowthBlockDefinition defaultDefinition;
+    private final Map<Identifier, GrowthProfiles> resolvedProfiles = new ConcurrentHashMap<>();
+    private final GrowthProfiles defaultProfiles;
 
     private GrowthRegistry(Map<Identifier, GrowthGlowProfile> glowProfiles,
             Map<Identifier, GrowthParticleProfile> particleProfiles,
@@ -58,6 +61,7 @@ public final class GrowthRegistry {
         this.growthProfiles = growthProfiles;
         this.definitions = definitions;
         this.defaultDefinition = defaultDefinition;
+        this.defaultProfiles = GrowthProfiles.resolve(this, defaultDefinition);
     }
 
     public static GrowthRegistry load(ConfigService config) {
@@ -229,6 +233,17 @@ public final class GrowthRegistry {
         return defaultDefinition;
     }
 
+    /**
+     * Definition {@code id} with its profiles resolved, built once per id.
+     * Unknown ids share the default definition's bundle.
+     */
+    public GrowthProfiles profiles(Identifier id) {
+        if (id == null || !definitions.containsKey(id)) {
+            return defaultProfiles;
+        }
+        return resolvedProfiles.computeIfAbsent(id, key -> GrowthProfiles.resolve(this, definitions.get(key)));
+    }
+
     // ========================================================================
     // ID Listings
     // ========================================================================
@@ -6,9 +6,12 @@ import java.util.WeakHashMap;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.cyberpunk042.TheVirusBlock;
 import net.cyberpunk042.registry.ModBlocks;
+import net.cyberpunk042.util.Probe;
+import net.cyberpunk042.util.ProbeRegistry;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.minecraft.block.BedBlock;
 import net.minecraft.block.Block;
@@ -27,6 +30,8 @@ public final class GlobalTerrainCorruption {
 	private static final int CLEANSE_CHUNKS_PER_TICK = 3;
 	private static final int PROCESS_INTERVAL_TICKS = 5;
 	
+	private static final ProbeRegistry.WorldProbes TICK_PROBES = ProbeRegistry.perWorld("Terrain");
+	
 	private static volatile boolean initialized = false;
 
 	private GlobalTerrainCorruption() {
@@ -36,10 +41,10 @@ public final class GlobalTerrainCorruption {
 		if (initialized) return;
 		initialized = true;
 		ServerTickEvents.END_WORLD_TICK.register(world -> {
-			String dim = world.getRegistryKey().getValue().getPath();
-			net.cyberpunk042.util.SuperProfiler.start("Terrain:" + dim);
+			Probe probe = TICK_PROBES.of(world);
+			long probeStart = probe.start();
 			tickWorld(world);
-			net.cyberpunk042.util.SuperProfiler.end("Terrain:" + dim);
+			probe.end(probeStart);
 		});
 	}
 
@@ -62,22 +67,29 @@ public final class GlobalTerrainCorruption {
 		state.infectionLifecycle().beginCleansing();
 		ChunkWorkTracker tracker = tracker(world);
 		tracker.startCleansingPhase();
+		// Full-range scans go through the section pipeline; recorded mutations are replayed directly
+		LongLinkedOpenHashSet queue = state.infectionState().cleanseQueue();
 		long[] snapshot = tracker.snapshotChunks();
 		for (long chunkLong : snapshot) {
-			cleanseActiveChunk(world, tracker, new ChunkPos(chunkLong), true);
+			if (!cleanseActiveChunk(world, tracker, new ChunkPos(chunkLong), false)) {
+				queue.add(chunkLong);
+			}
 		}
 		for (ServerPlayerEntity player : world.getPlayers()) {
-			ChunkPos pos = new ChunkPos(player.getBlockPos());
-			cleanseActiveChunk(world, tracker, pos, true);
+			queue.add(new ChunkPos(player.getBlockPos()).toLong());
 		}
-		ChunkPos spawn = new ChunkPos(new BlockPos(0, world.getSeaLevel(), 0));
-		cleanseActiveChunk(world, tracker, spawn, true);
+		queue.add(new ChunkPos(new BlockPos(0, world.getSeaLevel(), 0)).toLong());
+		state.markDirty();
 	}
 
 	public static int getTrackedChunkCount(ServerWorld world) {
 		return tracker(world).trackedChunkCount();
 	}
 
+	public static int getPendingCleanseCount(ServerWorld world) {
+		return VirusWorldState.get(world).infectionState().cleanseQueue().size();
+	}
+
 	private static BlockState cleanseBlock(BlockState state) {
 		Block block = state.getBlock();
 		if (isPortalCriticalBlock(block)) {
@@ -121,6 +133,10 @@ public final class GlobalTerrainCorruption {
 			if (tracker != null) {
 				tracker.reset();
 			}
+			if (!state.infectionState().cleanseQueue().isEmpty()) {
+				state.infectionState().cleanseQueue().clear();
+				state.markDirty();
+			}
 			return;
 		}
 		tracker = tracker(world);
@@ -137,6 +153,12 @@ public final class GlobalTerrainCorruption {
 				}
 				cleanseActiveChunk(world, tracker, new ChunkPos(chunk), true);
 			}
+			LongLinkedOpenHashSet queue = state.infectionState().cleanseQueue();
+			int pendingBefore = queue.size();
+			tracker.pipeline.tick(world, queue);
+			if (queue.size() != pendingBefore) {
+				state.markDirty();
+			}
 			for (ServerPlayerEntity player : world.getPlayers()) {
 				cleanseActiveChunk(world, tracker, new ChunkPos(player.getBlockPos()), false);
 			}
@@ -147,25 +169,29 @@ public final class GlobalTerrainCorruption {
 		return TRACKERS.computeIfAbsent(world, w -> new ChunkWorkTracker());
 	}
 
-	private static void cleanseActiveChunk(ServerWorld world, ChunkWorkTracker tracker, ChunkPos pos, boolean forceLoad) {
+	/**
+	 * Replays recorded mutations for a chunk. Chunks without a record are
+	 * handed to the section pipeline when {@code forceLoad} is set.
+	 *
+	 * @return true if the chunk was handled here
+	 */
+	private static boolean cleanseActiveChunk(ServerWorld world, ChunkWorkTracker tracker, ChunkPos pos, boolean forceLoad) {
 		long chunkLong = pos.toLong();
 		LongOpenHashSet recorded = tracker.getMutations(chunkLong);
-		if ((recorded == null || recorded.isEmpty()) && !forceLoad) {
-			return;
+		if (recorded == null || recorded.isEmpty()) {
+			if (forceLoad) {
+				VirusWorldState.get(world).infectionState().cleanseQueue().add(chunkLong);
+			}
+			return false;
 		}
 		if (!world.isChunkLoaded(chunkLong) && !forceLoad) {
-			return;
+			return false;
 		}
 		WorldChunk chunk = world.getChunk(pos.x, pos.z);
-		boolean changed;
-		if (recorded == null || recorded.isEmpty()) {
-			changed = cleanseRange(world, chunk, world.getBottomY(), worldTop(world));
-		} else {
-			changed = cleanseRecorded(world, chunk, recorded);
-		}
-		if (changed) {
+		if (cleanseRecorded(world, chunk, recorded)) {
 			tracker.clearMutations(chunkLong);
 		}
+		return true;
 	}
 
 	private static boolean cleanseRecorded(ServerWorld world, WorldChunk chunk, LongOpenHashSet recorded) {
@@ -174,13 +200,13 @@ public final class GlobalTerrainCorruption {
 		}
 		Mutable mutable = new Mutable();
 		int conversions = 0;
-		// Cache shield service to avoid repeated VirusWorldState.get() lookups
-		var shieldService = VirusWorldState.get(world).shieldFieldService();
+		// Section-caching probe avoids repeated VirusWorldState.get() lookups and per-shield math
+		var shields = VirusWorldState.get(world).shieldFieldService().probe();
 		LongIterator iterator = recorded.iterator();
 		while (iterator.hasNext()) {
 			long posLong = iterator.nextLong();
 			mutable.set(BlockPos.fromLong(posLong));
-			if (shieldService.isShielding(mutable)) {
+			if (shields.isShielding(mutable)) {
 				continue;
 			}
 			BlockState replacement = cleanseBlock(chunk.getBlockState(mutable));
@@ -197,36 +223,6 @@ public final class GlobalTerrainCorruption {
 		return false;
 	}
 
-	private static boolean cleanseRange(ServerWorld world, WorldChunk chunk, int minY, int maxY) {
-		Mutable mutable = new Mutable();
-		int startX = chunk.getPos().getStartX();
-		int startZ = chunk.getPos().getStartZ();
-		int conversions = 0;
-		// Cache shield service to avoid repeated VirusWorldState.get() lookups
-		var shieldService = VirusWorldState.get(world).shieldFieldService();
-		for (int x = 0; x < 16; x++) {
-			for (int z = 0; z < 16; z++) {
-				for (int y = minY; y < maxY; y++) {
-					mutable.set(startX + x, y, startZ + z);
-					if (shieldService.isShielding(mutable)) {
-						continue;
-					}
-					BlockState replacement = cleanseBlock(chunk.getBlockState(mutable));
-					if (replacement != null) {
-						world.setBlockState(mutable, replacement, Block.NOTIFY_LISTENERS);
-						world.getChunkManager().markForUpdate(mutable);
-						conversions++;
-					}
-				}
-			}
-		}
-		if (conversions > 0) {
-			CorruptionProfiler.logChunkRewrite(world, chunk.getPos(), conversions, true);
-			return true;
-		}
-		return false;
-	}
-
 	private static boolean isPortalCriticalBlock(Block block) {
 		return block == Blocks.OBSIDIAN
 				|| block == Blocks.CRYING_OBSIDIAN
@@ -239,14 +235,12 @@ public final class GlobalTerrainCorruption {
 				|| block instanceof BedBlock;
 	}
 
-	private static int worldTop(ServerWorld world) {
-		return world.getBottomY() + world.getDimension().height();
-	}
-
 	private static final class ChunkWorkTracker {
 
 		static final long NO_CHUNK = Long.MIN_VALUE;
 
+		final TerrainCleansePipeline pipeline = new TerrainCleansePipeline(GlobalTerrainCorruption::cleanseBlock);
+
 		private final Long2LongOpenHashMap nextProcessTick = new Long2LongOpenHashMap();
 		private final Long2ObjectOpenHashMap<LongOpenHashSet> mutatedBlocks = new Long2ObjectOpenHashMap<>();
 		private long[] cleanseSnapshot = new long[0];
@@ -254,6 +248,7 @@ public final class GlobalTerrainCorruption {
 		private boolean cleansingPrimed = false;
 
 		void startCorruptionPhase() {
+			pipeline.cancel();
 			nextProcessTick.clear();
 			mutatedBlocks.clear();
 			cleansingPrimed = false;
@@ -306,6 +301,7 @@ public final class GlobalTerrainCorruption {
 		}
 
 		void reset() {
+			pipeline.cancel();
 			nextProcessTick.clear();
 			mutatedBlocks.clear();
 			cleansingPrimed = false;
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import net.cyberpunk042.infection.service.AmbientPressureService;
 import net.cyberpunk042.infection.service.CollapseSnapshotService;
+import net.cyberpunk042.infection.service.CollapseSnapshotService.CollapseProcessorSnapshot;
 import net.cyberpunk042.infection.service.CollapseSnapshotService.SingularitySnapshot;
 import net.cyberpunk042.infection.service.InfectionLifecycleService;
 import net.cyberpunk042.infection.service.InfectionTierService;
@@ -55,6 +56,14 @@ public final class InfectionOperations {
 		snapshotService.applySingularitySnapshot(snapshot);
 	}
 
+	public Optional<CollapseProcessorSnapshot> getCollapseProcessorSnapshot() {
+		return snapshotService.buildCollapseProcessorSnapshot();
+	}
+
+	public void applyCollapseProcessorSnapshot(CollapseProcessorSnapshot snapshot) {
+		snapshotService.applyCollapseProcessorSnapshot(snapshot);
+	}
+
 	public boolean spawnVoidTearForCommand(ServerWorld world, BlockPos center) {
 		return voidTearService.spawnViaCommand(center);
 	}
@@ -0,0 +1,247 @@
+package net.cyberpunk042.infection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.cyberpunk042.infection.service.ShieldFieldService;
+import net.cyberpunk042.log.Logging;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Bulk cleanse pipeline used by {@link GlobalTerrainCorruption}.
+ * <ol>
+ *   <li><b>Scan</b> (main thread): load a queued chunk and test each section's
+ *       palette for corrupted blocks. Clean sections are skipped outright;
+ *       dirty ones have their block container copied.</li>
+ *   <li><b>Plan</b> (worker): walk the copied containers and build the
+ *       replacement list for each dirty section.</li>
+ *   <li><b>Apply</b> (main thread): write replacements within a per-tick time
+ *       budget, skipping blocks that changed since the snapshot or sit inside
+ *       a shield.</li>
+ * </ol>
+ * The chunk queue lives in {@link net.cyberpunk042.infection.state.InfectionState#cleanseQueue()}
+ * and a chunk only leaves it once fully applied, so a restart resumes where it stopped.
+ */
+final class TerrainCleansePipeline {
+	private static final int SCAN_CHUNKS_PER_TICK = 4;
+	private static final int MAX_IN_FLIGHT = 32;
+	private static final long APPLY_BUDGET_NANOS = 2_000_000L;
+
+	private final Function<BlockState, BlockState> cleanser;
+	private final ConcurrentLinkedQueue<ChunkPlan> completed = new ConcurrentLinkedQueue<>();
+	private final LongOpenHashSet inFlight = new LongOpenHashSet();
+	private ChunkPlan applying;
+	private int generation;
+
+	TerrainCleansePipeline(Function<BlockState, BlockState> cleanser) {
+		this.cleanser = cleanser;
+	}
+
+	boolean idle() {
+		return inFlight.isEmpty() && applying == null && completed.isEmpty();
+	}
+
+	/**
+	 * Drops queued work and any plans still being computed.
+	 */
+	void cancel() {
+		generation++;
+		inFlight.clear();
+		completed.clear();
+		applying = null;
+	}
+
+	void tick(ServerWorld world, LongLinkedOpenHashSet queue) {
+		if (queue.isEmpty() && idle()) {
+			return;
+		}
+		apply(world, queue);
+		scan(world, queue);
+	}
+
+	private void scan(ServerWorld world, LongLinkedOpenHashSet queue) {
+		int scanned = 0;
+		List<Long> finished = null;
+		LongIterator iterator = queue.iterator();
+		while (iterator.hasNext() && scanned < SCAN_CHUNKS_PER_TICK && inFlight.size() < MAX_IN_FLIGHT) {
+			long chunkLong = iterator.nextLong();
+			if (inFlight.contains(chunkLong)) {
+				continue;
+			}
+			scanned++;
+			List<SectionSnapshot> dirty = snapshotDirtySections(world, world.getChunk(ChunkPos.getPackedX(chunkLong), ChunkPos.getPackedZ(chunkLong)));
+			if (dirty.isEmpty()) {
+				if (finished == null) {
+					finished = new ArrayList<>();
+				}
+				finished.add(chunkLong);
+				continue;
+			}
+			inFlight.add(chunkLong);
+			int submittedGeneration = generation;
+			CompletableFuture.supplyAsync(() -> plan(chunkLong, dirty), Util.getMainWorkerExecutor())
+					.whenComplete((plan, error) -> {
+						ChunkPlan result = plan;
+						if (error != null) {
+							Logging.CONFIG.error("[Cleanse] planning failed for chunk {}", new ChunkPos(chunkLong), error);
+							result = new ChunkPlan(chunkLong, List.of());
+						}
+						result.generation = submittedGeneration;
+						completed.add(result);
+					});
+		}
+		if (finished != null) {
+			for (long chunkLong : finished) {
+				queue.remove(chunkLong);
+			}
+		}
+	}
+
+	private List<SectionSnapshot> snapshotDirtySections(ServerWorld world, WorldChunk chunk) {
+		ChunkSection[] sections = chunk.getSectionArray();
+		ChunkPos pos = chunk.getPos();
+		ShieldFieldService shieldService = VirusWorldState.get(world).shieldFieldService();
+		List<SectionSnapshot> dirty = new ArrayList<>();
+		for (int index = 0; index < sections.length; index++) {
+			ChunkSection section = sections[index];
+			if (section.isEmpty() || !section.hasAny(state -> cleanser.apply(state) != null)) {
+				continue;
+			}
+			int sectionY = chunk.sectionIndexToCoord(index);
+			// Fully shielded sections would be skipped block by block anyway
+			if (shieldService.isShielding(ChunkSectionPos.from(pos.x, sectionY, pos.z))) {
+				continue;
+			}
+			dirty.add(new SectionSnapshot(sectionY, section.getBlockStateContainer().copy()));
+		}
+		return dirty;
+	}
+
+	private ChunkPlan plan(long chunkLong, List<SectionSnapshot> dirty) {
+		List<SectionPlan> sections = new ArrayList<>(dirty.size());
+		for (SectionSnapshot snapshot : dirty) {
+			short[] cells = new short[64];
+			BlockState[] from = new BlockState[64];
+			BlockState[] to = new BlockState[64];
+			int count = 0;
+			for (int y = 0; y < 16; y++) {
+				for (int z = 0; z < 16; z++) {
+					for (int x = 0; x < 16; x++) {
+						BlockState state = snapshot.blocks().get(x, y, z);
+						BlockState replacement = cleanser.apply(state);
+						if (replacement == null) {
+							continue;
+						}
+						if (count == cells.length) {
+							cells = Arrays.copyOf(cells, count * 2);
+							from = Arrays.copyOf(from, count * 2);
+							to = Arrays.copyOf(to, count * 2);
+						}
+						cells[count] = (short) ((y << 8) | (z << 4) | x);
+						from[count] = state;
+						to[count] = replacement;
+						count++;
+					}
+				}
+			}
+			if (count > 0) {
+				sections.add(new SectionPlan(snapshot.sectionY(), cells, from, to, count));
+			}
+		}
+		return new ChunkPlan(chunkLong, sections);
+	}
+
+	private void apply(ServerWorld world, LongLinkedOpenHashSet queue) {
+		long deadline = System.nanoTime() + APPLY_BUDGET_NANOS;
+		ShieldFieldService.SectionProbe shields = VirusWorldState.get(world).shieldFieldService().probe();
+		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		while (System.nanoTime() < deadline) {
+			if (applying == null) {
+				applying = completed.poll();
+				if (applying == null) {
+					return;
+				}
+				if (applying.generation != generation) {
+					applying = null;
+					continue;
+				}
+			}
+			ChunkPlan plan = applying;
+			int startX = ChunkPos.getPackedX(plan.chunkLong) << 4;
+			int startZ = ChunkPos.getPackedZ(plan.chunkLong) << 4;
+			WorldChunk chunk = world.getChunk(startX >> 4, startZ >> 4);
+			// Check the clock every handful of writes rather than every block
+			int batch = 0;
+			while (plan.sectionCursor < plan.sections.size()) {
+				SectionPlan section = plan.sections.get(plan.sectionCursor);
+				int baseY = section.sectionY() << 4;
+				while (plan.cellCursor < section.count()) {
+					int cell = section.cells()[plan.cellCursor];
+					BlockState expected = section.from()[plan.cellCursor];
+					BlockState replacement = section.to()[plan.cellCursor];
+					plan.cellCursor++;
+					mutable.set(startX + (cell & 15), baseY + (cell >> 8), startZ + ((cell >> 4) & 15));
+					if (chunk.getBlockState(mutable) != expected || shields.isShielding(mutable)) {
+						continue;
+					}
+					world.setBlockState(mutable, replacement, Block.NOTIFY_LISTENERS);
+					plan.conversions++;
+					if (++batch >= 32) {
+						batch = 0;
+						if (System.nanoTime() >= deadline) {
+							return;
+						}
+					}
+				}
+				plan.sectionCursor++;
+				plan.cellCursor = 0;
+			}
+			if (plan.conversions > 0) {
+				CorruptionProfiler.logChunkRewrite(world, new ChunkPos(plan.chunkLong), plan.conversions, true);
+			}
+			inFlight.remove(plan.chunkLong);
+			queue.remove(plan.chunkLong);
+			applying = null;
+		}
+	}
+
+	private record SectionSnapshot(int sectionY, PalettedContainer<BlockState> blocks) {
+	}
+
+	/**
+	 * Replacement list for one section. {@code cells} hold packed
+	 * {@code (y << 8) | (z << 4) | x} local coordinates.
+	 */
+	private record SectionPlan(int sectionY, short[] cells, BlockState[] from, BlockState[] to, int count) {
+	}
+
+	private static final class ChunkPlan {
+		final long chunkLong;
+		final List<SectionPlan> sections;
+		int generation;
+		int sectionCursor;
+		int cellCursor;
+		int conversions;
+
+		ChunkPlan(long chunkLong, List<SectionPlan> sections) {
+			this.chunkLong = chunkLong;
+			this.sections = sections;
+		}
+	}
+}
@@ -9,6 +9,7 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 
 import net.cyberpunk042.infection.api.SimpleVirusScheduler;
+import net.cyberpunk042.infection.service.CollapseSnapshotService.CollapseProcessorSnapshot;
 import net.cyberpunk042.infection.service.CollapseSnapshotService.SingularitySnapshot;
 import net.cyberpunk042.infection.service.ShieldFieldService;
 import net.minecraft.util.math.BlockPos;
@@ -86,7 +87,9 @@ public final class VirusWorldPersistence {
 						state.infection().getSingularitySnapshot(),
 						state.singularity().chunkPreparationState().preGenComplete,
 						state.singularity().chunkPreparationState().preGenMissingChunks,
-						captureDamageAdaptation(state)));
+						captureDamageAdaptation(state),
+						List.copyOf(state.infectionState().cleanseQueue()),
+						state.infection().getCollapseProcessorSnapshot()));
 	}
 
 	private static Optional<BoobytrapDefaults> createBoobytrapSnapshot(VirusWorldState state) {
@@ -175,7 +178,9 @@ public final class VirusWorldPersistence {
 			Optional<SingularitySnapshot> snapshot,
 			boolean preGenComplete,
 			int preGenMissing,
-			Map<String, Integer> damageAdaptation) {
+			Map<String, Integer> damageAdaptation,
+			List<Long> cleanseQueue,
+			Optional<CollapseProcessorSnapshot> collapseProcessor) {
 	}
 
 	record ProfilesAndScheduler(
@@ -222,7 +227,9 @@ public final class VirusWorldPersistence {
 					SingularitySnapshot.CODEC.optionalFieldOf("singularity").forGetter((VirusWorldSnapshot snapshot) -> snapshot.persistenceTail().snapshot()),
 					Codec.BOOL.optionalFieldOf("singularityPreGenComplete", false).forGetter((VirusWorldSnapshot snapshot) -> snapshot.persistenceTail().preGenComplete()),
 					Codec.INT.optionalFieldOf("singularityPreGenMissing", 0).forGetter((VirusWorldSnapshot snapshot) -> snapshot.persistenceTail().preGenMissing()),
-					Codec.unboundedMap(Codec.STRING, Codec.INT).optionalFieldOf("damageAdaptation", Map.of()).forGetter((VirusWorldSnapshot snapshot) -> snapshot.persistenceTail().damageAdaptation())
+					Codec.unboundedMap(Codec.STRING, Codec.INT).optionalFieldOf("damageAdaptation", Map.of()).forGetter((VirusWorldSnapshot snapshot) -> snapshot.persistenceTail().damageAdaptation()),
+					Codec.LONG.listOf().optionalFieldOf("cleanseQueue", List.of()).forGetter((VirusWorldSnapshot snapshot) -> snapshot.persistenceTail().cleanseQueue()),
+					CollapseProcessorSnapshot.CODEC.optionalFieldOf("collapseProcessor").forGetter((VirusWorldSnapshot snapshot) -> snapshot.persistenceTail().collapseProcessor())
 			).apply(instance, SingularityPersistenceTail::new)
 		).apply(instance, VirusWorldSnapshot::new));
 
@@ -259,6 +266,7 @@ public final class VirusWorldPersistence {
 					state.infectionState().recordDamageExposure(key);
 				}
 			});
+			persistenceTail.cleanseQueue().forEach(chunk -> state.infectionState().cleanseQueue().add(chunk.longValue()));
 			state.presentationCoord().applyProfileSnapshot(profilesAndScheduler.profiles());
 			state.orchestrator().services().schedulerService().loadSnapshot(profilesAndScheduler.schedulerTasks());
 			state.shieldFieldService().restoreSnapshot(persistenceTail.shields());
@@ -266,6 +274,7 @@ public final class VirusWorldPersistence {
 			state.singularity().barrier().setActive(false);
 			persistenceTail.snapshot().ifPresentOrElse(state.infection()::applySingularitySnapshot,
 					() -> state.singularity().phase().clearSingularityState());
+			persistenceTail.collapseProcessor().ifPresent(state.infection()::applyCollapseProcessorSnapshot);
 			state.singularity().chunkPreparationState().preGenComplete = persistenceTail.preGenComplete();
 			state.singularity().chunkPreparationState().preGenMissingChunks = persistenceTail.preGenMissing();
 		}
@@ -47,6 +47,7 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.PersistentState;
+import net.minecraft.world.PersistentStateManager;
 import net.minecraft.world.PersistentStateType;
 
 /**
@@ -160,8 +161,27 @@ public class VirusWorldState extends PersistentState {
 
 	// ========== Static Factory ==========
 
+	/**
+	 * Returns the world's state. The resolved instance is kept on the world
+	 * itself ({@link VirusWorldStateHolder}) and only looked up again when the
+	 * world's {@link PersistentStateManager} changes or after {@link #detach}.
+	 */
 	public static VirusWorldState get(ServerWorld world) {
-		return world.getPersistentStateManager().getOrCreate(TYPE);
+		PersistentStateManager manager = world.getPersistentStateManager();
+		VirusWorldStateHolder holder = (VirusWorldStateHolder) world;
+		VirusWorldState state = holder.theVirusBlock$getVirusState();
+		if (state == null || holder.theVirusBlock$getVirusStateSource() != manager) {
+			state = manager.getOrCreate(TYPE);
+			holder.theVirusBlock$setVirusState(state, manager);
+		}
+		return state;
+	}
+
+	/**
+	 * Drops the world's cached state handle; called on world unload.
+	 */
+	public static void detach(ServerWorld world) {
+		((VirusWorldStateHolder) world).theVirusBlock$setVirusState(null, null);
 	}
 
 	// ========== World Access ==========
@@ -0,0 +1,23 @@
+package net.cyberpunk042.infection;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.world.PersistentStateManager;
+
+/**
+ * Duck interface mixed into {@link net.minecraft.server.world.ServerWorld}
+ * (see {@code ServerWorldVirusStateMixin}). Holds the world's resolved
+ * {@link VirusWorldState} together with the state manager it came from, so
+ * {@link VirusWorldState#get} is a field read instead of a
+ * {@link PersistentStateManager} lookup. Use {@link VirusWorldState#get} and
+ * {@link VirusWorldState#detach} rather than calling these directly.
+ */
+public interface VirusWorldStateHolder {
+	@Nullable
+	VirusWorldState theVirusBlock$getVirusState();
+
+	@Nullable
+	PersistentStateManager theVirusBlock$getVirusStateSource();
+
+	void theVirusBlock$setVirusState(@Nullable VirusWorldState state, @Nullable PersistentStateManager source);
+}
@@ -0,0 +1,352 @@
+package net.cyberpunk042.infection.api;
+
+import net.cyberpunk042.log.Logging;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hierarchical timing-wheel scheduler. Tasks are hashed by absolute deadline
+ * into one of four wheels (256 one-tick slots, then 3 × 64 coarser slots) and
+ * cascade down as their deadline approaches. Inserts are O(1) and a tick only
+ * touches the slot that is due plus an occasional cascade, so tick cost no
+ * longer grows with the number of pending tasks.
+ * <p>
+ * Behaves like {@link SimpleVirusScheduler}: delay-0 tasks run inline,
+ * exceptions are logged and {@link VirusScheduler.PersistedTask}s are
+ * snapshotted as {@link SimpleVirusScheduler.TaskSnapshot} so persistence is
+ * unchanged. Due tasks are detached under the lock and run outside it.
+ */
+public final class TimingWheelVirusScheduler implements VirusScheduler, VirusSchedulerMetrics {
+	private static final int LEVEL0_BITS = 8;
+	private static final int LEVELN_BITS = 6;
+	private static final int LEVEL0_SIZE = 1 << LEVEL0_BITS;
+	private static final int LEVELN_SIZE = 1 << LEVELN_BITS;
+	private static final int LEVELS = 4;
+	/** Deadlines further out than this wait in {@link #overflow} until the top wheel wraps. */
+	private static final long MAX_WHEEL_SPAN = 1L << (LEVEL0_BITS + LEVELN_BITS * (LEVELS - 1));
+
+	private final Slot[][] wheels = new Slot[LEVELS][];
+	private final List<ScheduledTask> overflow = new ArrayList<>();
+	private final ArrayDeque<ScheduledTask> carry = new ArrayDeque<>();
+	private final long[] runTimeHistogram = new long[HISTOGRAM_BUCKETS];
+	private long now;
+	private int pending;
+	private int maxTasksPerTick;
+	private int executedLastTick;
+	private int overdueLastTick;
+
+	public TimingWheelVirusScheduler() {
+		this(0);
+	}
+
+	/**
+	 * @param maxTasksPerTick execution budget per tick; {@code <= 0} means unlimited.
+	 *                        Due tasks over budget carry into the next tick and count as overdue.
+	 */
+	public TimingWheelVirusScheduler(int maxTasksPerTick) {
+		this.maxTasksPerTick = maxTasksPerTick;
+		wheels[0] = newLevel(LEVEL0_SIZE);
+		for (int level = 1; level < LEVELS; level++) {
+			wheels[level] = newLevel(LEVELN_SIZE);
+		}
+	}
+
+	public synchronized void setMaxTasksPerTick(int maxTasksPerTick) {
+		this.maxTasksPerTick = maxTasksPerTick;
+	}
+
+	@Override
+	public void schedule(int delayTicks, Runnable task) {
+		Objects.requireNonNull(task, "task");
+		int clampedDelay = Math.max(0, delayTicks);
+		if (clampedDelay == 0) {
+			runSafely(task);
+			return;
+		}
+		VirusScheduler.PersistedTask persisted = task instanceof VirusScheduler.PersistedTask pt ? pt : null;
+		synchronized (this) {
+			place(new ScheduledTask(now + clampedDelay, task, persisted));
+			pending++;
+		}
+	}
+
+	@Override
+	public void tick() {
+		List<ScheduledTask> due;
+		synchronized (this) {
+			now++;
+			executedLastTick = 0;
+			overdueLastTick = 0;
+			if (pending == 0) {
+				return;
+			}
+			int index = (int) (now & (LEVEL0_SIZE - 1));
+			if (index == 0) {
+				cascade(1);
+			}
+			Slot slot = wheels[0][index];
+			if (carry.isEmpty() && slot.isEmpty()) {
+				return;
+			}
+			slot.drainTo(carry);
+			int budget = maxTasksPerTick > 0 ? Math.min(maxTasksPerTick, carry.size()) : carry.size();
+			due = new ArrayList<>(budget);
+			for (int i = 0; i < budget; i++) {
+				ScheduledTask task = carry.poll();
+				if (task.deadline < now) {
+					overdueLastTick++;
+				}
+				due.add(task);
+			}
+			// Anything left over is now late
+			overdueLastTick += carry.size();
+			pending -= due.size();
+		}
+		for (ScheduledTask scheduled : due) {
+			long start = System.nanoTime();
+			runSafely(scheduled.task);
+			recordRunTime(System.nanoTime() - start);
+		}
+		synchronized (this) {
+			executedLastTick = due.size();
+		}
+	}
+
+	@Override
+	public synchronized void clear() {
+		for (Slot[] level : wheels) {
+			for (Slot slot : level) {
+				slot.clear();
+			}
+		}
+		overflow.clear();
+		carry.clear();
+		pending = 0;
+	}
+
+	@Override
+	public synchronized boolean isEmpty() {
+		return pending == 0;
+	}
+
+	@Override
+	public synchronized List<SimpleVirusScheduler.TaskSnapshot> snapshot() {
+		if (pending == 0) {
+			return List.of();
+		}
+		List<SimpleVirusScheduler.TaskSnapshot> snapshots = new ArrayList<>();
+		for (ScheduledTask scheduled : carry) {
+			appendSnapshot(snapshots, scheduled);
+		}
+		for (Slot[] level : wheels) {
+			for (Slot slot : level) {
+				for (int i = 0; i < slot.size; i++) {
+					appendSnapshot(snapshots, slot.tasks[i]);
+				}
+			}
+		}
+		for (ScheduledTask scheduled : overflow) {
+			appendSnapshot(snapshots, scheduled);
+		}
+		return snapshots.isEmpty() ? List.of() : Collections.unmodifiableList(snapshots);
+	}
+
+	@Override
+	public synchronized void loadSnapshot(List<? extends PersistedTaskSnapshot> snapshots) {
+		if (snapshots == null || snapshots.isEmpty()) {
+			return;
+		}
+		for (PersistedTaskSnapshot raw : snapshots) {
+			if (!(raw instanceof SimpleVirusScheduler.TaskSnapshot snapshot)) {
+				continue;
+			}
+			Optional<VirusScheduler.PersistedTask> task = VirusSchedulerTaskRegistry.decode(snapshot.type(), snapshot.payload());
+			if (task.isEmpty()) {
+				Logging.CONFIG.warn("[VirusScheduler] Missing task factory for {}", snapshot.type());
+				continue;
+			}
+			// Restored tasks that were already due run on the next tick, like the linear scheduler
+			long deadline = now + Math.max(1, snapshot.remainingTicks());
+			place(new ScheduledTask(deadline, task.get(), task.get()));
+			pending++;
+		}
+	}
+
+	@Override
+	public synchronized int pendingTasks() {
+		return pending;
+	}
+
+	@Override
+	public synchronized int executedLastTick() {
+		return executedLastTick;
+	}
+
+	@Override
+	public synchronized int overdueLastTick() {
+		return overdueLastTick;
+	}
+
+	@Override
+	public long[] runTimeHistogram() {
+		synchronized (runTimeHistogram) {
+			return runTimeHistogram.clone();
+		}
+	}
+
+	@Override
+	public void resetRunTimeHistogram() {
+		synchronized (runTimeHistogram) {
+			Arrays.fill(runTimeHistogram, 0L);
+		}
+	}
+
+	private void appendSnapshot(List<SimpleVirusScheduler.TaskSnapshot> out, ScheduledTask scheduled) {
+		if (scheduled.persisted == null) {
+			return;
+		}
+		int remaining = (int) Math.max(0L, Math.min(Integer.MAX_VALUE, scheduled.deadline - now));
+		out.add(new SimpleVirusScheduler.TaskSnapshot(scheduled.persisted.type(), remaining, scheduled.persisted.save()));
+	}
+
+	/**
+	 * Hashes a task into the wheel matching its distance from {@link #now}.
+	 */
+	private void place(ScheduledTask task) {
+		long delta = task.deadline - now;
+		if (delta < 0L) {
+			carry.add(task);
+			return;
+		}
+		if (delta < LEVEL0_SIZE) {
+			wheels[0][(int) (task.deadline & (LEVEL0_SIZE - 1))].add(task);
+			return;
+		}
+		if (delta >= MAX_WHEEL_SPAN) {
+			overflow.add(task);
+			return;
+		}
+		int shift = LEVEL0_BITS;
+		for (int level = 1; level < LEVELS; level++) {
+			if (delta < 1L << (shift + LEVELN_BITS)) {
+				wheels[level][(int) ((task.deadline >> shift) & (LEVELN_SIZE - 1))].add(task);
+				return;
+			}
+			shift += LEVELN_BITS;
+		}
+		overflow.add(task);
+	}
+
+	/**
+	 * Re-hashes the current slot of {@code level} into the finer wheels,
+	 * recursing upward when this level has wrapped as well.
+	 */
+	private void cascade(int level) {
+		if (level >= LEVELS) {
+			if (!overflow.isEmpty()) {
+				List<ScheduledTask> waiting = new ArrayList<>(overflow);
+				overflow.clear();
+				for (ScheduledTask task : waiting) {
+					place(task);
+				}
+			}
+			return;
+		}
+		int shift = LEVEL0_BITS + LEVELN_BITS * (level - 1);
+		int index = (int) ((now >> shift) & (LEVELN_SIZE - 1));
+		if (index == 0) {
+			cascade(level + 1);
+		}
+		Slot slot = wheels[level][index];
+		if (slot.isEmpty()) {
+			return;
+		}
+		ScheduledTask[] moving = slot.detach();
+		for (ScheduledTask task : moving) {
+			if (task != null) {
+				place(task);
+			}
+		}
+	}
+
+	private void recordRunTime(long nanos) {
+		synchronized (runTimeHistogram) {
+			runTimeHistogram[VirusSchedulerMetrics.histogramBucket(nanos)]++;
+		}
+	}
+
+	private static Slot[] newLevel(int size) {
+		Slot[] slots = new Slot[size];
+		for (int i = 0; i < size; i++) {
+			slots[i] = new Slot();
+		}
+		return slots;
+	}
+
+	private static void runSafely(Runnable task) {
+		try {
+			task.run();
+		} catch (Throwable error) {
+			Logging.CONFIG.error("[VirusScheduler] task failed", error);
+		}
+	}
+
+	private static final class ScheduledTask {
+		private final long deadline;
+		private final Runnable task;
+		@Nullable
+		private final VirusScheduler.PersistedTask persisted;
+
+		private ScheduledTask(long deadline, Runnable task, @Nullable VirusScheduler.PersistedTask persisted) {
+			this.deadline = deadline;
+			this.task = task;
+			this.persisted = persisted;
+		}
+	}
+
+	/**
+	 * Growable array bucket; avoids a linked node per task.
+	 */
+	private static final class Slot {
+		private static final ScheduledTask[] EMPTY = new ScheduledTask[0];
+		private ScheduledTask[] tasks = EMPTY;
+		private int size;
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		void add(ScheduledTask task) {
+			if (size == tasks.length) {
+				tasks = Arrays.copyOf(tasks, Math.max(4, size * 2));
+			}
+			tasks[size++] = task;
+		}
+
+		void drainTo(ArrayDeque<ScheduledTask> out) {
+			for (int i = 0; i < size; i++) {
+				out.add(tasks[i]);
+				tasks[i] = null;
+			}
+			size = 0;
+		}
+
+		ScheduledTask[] detach() {
+			ScheduledTask[] detached = Arrays.copyOf(tasks, size);
+			clear();
+			return detached;
+		}
+
+		void clear() {
+			Arrays.fill(tasks, 0, size, null);
+			size = 0;
+		}
+	}
+}
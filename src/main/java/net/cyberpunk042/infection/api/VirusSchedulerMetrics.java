@@ -6,10 +6,57 @@ package net.cyberpunk042.infection.api;
  * without knowing the concrete implementation details.
  */
 public interface VirusSchedulerMetrics {
+	/**
+	 * Number of buckets in {@link #runTimeHistogram()}. Bucket {@code i} counts
+	 * tasks that ran for {@code [2^(i+9), 2^(i+10))} ns; bucket 0 also holds
+	 * anything under ~1µs and the last bucket everything above ~1s.
+	 */
+	int HISTOGRAM_BUCKETS = 22;
+
 	/**
 	 * @return the number of scheduled tasks that have yet to execute.
 	 */
 	int pendingTasks();
-}
 
+	/**
+	 * @return tasks executed during the most recent {@code tick()}.
+	 */
+	default int executedLastTick() {
+		return 0;
+	}
+
+	/**
+	 * @return tasks that were due but ran late (or are still waiting) as of the most recent {@code tick()}.
+	 */
+	default int overdueLastTick() {
+		return 0;
+	}
 
+	/**
+	 * @return copy of the task run-time histogram, {@link #HISTOGRAM_BUCKETS} long; empty when not tracked.
+	 */
+	default long[] runTimeHistogram() {
+		return new long[0];
+	}
+
+	default void resetRunTimeHistogram() {
+	}
+
+	/**
+	 * Maps a run time in nanoseconds to its {@link #runTimeHistogram()} bucket.
+	 */
+	static int histogramBucket(long nanos) {
+		if (nanos < 1024L) {
+			return 0;
+		}
+		int bucket = 63 - Long.numberOfLeadingZeros(nanos) - 9;
+		return Math.min(HISTOGRAM_BUCKETS - 1, bucket);
+	}
+
+	/**
+	 * Lower bound in nanoseconds of a histogram bucket.
+	 */
+	static long bucketFloorNanos(int bucket) {
+		return bucket <= 0 ? 0L : 1L << (bucket + 9);
+	}
+}
@@ -8,6 +8,7 @@ import java.util.function.Function;
 import net.cyberpunk042.infection.VirusWorldState;
 import net.cyberpunk042.infection.api.ScenarioRegistry;
 import net.cyberpunk042.infection.profile.CollapseBroadcastMode;
+import net.cyberpunk042.infection.profile.CollapseFillEngine;
 import net.cyberpunk042.infection.profile.CollapseFillMode;
 import net.cyberpunk042.infection.profile.CollapseFillShape;
 import net.cyberpunk042.infection.profile.CollapseSyncProfile;
@@ -126,6 +127,10 @@ public final class CommandFacade {
 		return withScenario(world, id -> DimensionProfileRegistry.setUseNativeFill(id, enabled));
 	}
 
+	public boolean setFillEngine(ServerWorld world, CollapseFillEngine engine) {
+		return withScenario(world, id -> DimensionProfileRegistry.setFillEngine(id, engine));
+	}
+
 	public boolean setRespectProtectedBlocks(ServerWorld world, boolean enabled) {
 		return withScenario(world, id -> DimensionProfileRegistry.setRespectProtectedBlocks(id, enabled));
 	}
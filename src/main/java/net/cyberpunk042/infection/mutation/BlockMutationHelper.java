@@ -6,36 +6,49 @@ import java.util.Set;
 
 import org.jetbrains.annotations.Nullable;
 
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongComparator;
 import net.cyberpunk042.TheVirusBlock;
-import net.cyberpunk042.block.corrupted.CorruptedGlassBlock;
-import net.cyberpunk042.block.corrupted.CorruptedStoneBlock;
-import net.cyberpunk042.block.corrupted.CorruptionStage;
 import net.cyberpunk042.infection.BoobytrapHelper;
 import net.cyberpunk042.infection.BoobytrapHelper.TrapSelection;
 import net.cyberpunk042.infection.InfectionTier;
 import net.cyberpunk042.infection.TierCookbook;
 import net.cyberpunk042.infection.TierFeature;
 import net.cyberpunk042.infection.VirusWorldState;
+import net.cyberpunk042.infection.service.InfectionServices;
+import net.cyberpunk042.infection.service.ShieldFieldService;
 import net.cyberpunk042.registry.ModBlocks;
+import net.cyberpunk042.util.Probe;
+import net.cyberpunk042.util.ProbeRegistry;
 import net.minecraft.block.Block;
-import net.minecraft.block.BedBlock;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
-import net.minecraft.block.PaneBlock;
-import net.minecraft.block.TransparentBlock;
 import net.minecraft.registry.tag.BlockTags;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.random.Random;
 import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.WorldChunk;
 
 public final class BlockMutationHelper {
+	private static final Probe MUTATE_PROBE = ProbeRegistry.register("Mutation.anchors");
+	static final LongComparator BY_SECTION = (a, b) ->
+			Long.compare(ChunkSectionPos.fromBlockPos(a), ChunkSectionPos.fromBlockPos(b));
+
 	private BlockMutationHelper() {
 	}
 
+	/**
+	 * Drops the cached replacement tables; block tags may have changed.
+	 */
+	public static void invalidateReplacementTables() {
+		ReplacementTable.invalidate();
+	}
+
 	public static void mutateAroundSources(ServerWorld world, Set<BlockPos> sources, InfectionTier tier, boolean apocalypseMode) {
 		Random random = world.getRandom();
 		VirusWorldState state = VirusWorldState.get(world);
@@ -46,8 +59,9 @@ public final class BlockMutationHelper {
 		double difficultyScale = state.tiers().difficulty().getCorruptionSpreadMultiplier();
 		double tierScale = tier.getCorruptionSpreadMultiplier();
 		double combinedScale = difficultyScale * tierScale;
+		ReplacementTable table = ReplacementTable.forTier(world, tier, apocalypseMode);
 
-		List<ServerPlayerEntity> players = world.getPlayers(ServerPlayerEntity::isAlive);
+		List<ServerPlayerEntity> players = InfectionServices.get().worldSnapshot(world).players();
 		int surfaceAttemptsRule = MathHelper.clamp(world.getGameRules().getInt(TheVirusBlock.VIRUS_SURFACE_CORRUPT_ATTEMPTS), 0, 4096);
 		// Apply combined scaling to surface attempts
 		int scaledSurfaceAttempts = Math.max(1, (int) Math.round(surfaceAttemptsRule * combinedScale));
@@ -58,7 +72,7 @@ public final class BlockMutationHelper {
 			// Apply combined difficulty+tier scaling
 			int scaledAttempts = Math.max(1, (int) Math.round(attemptsRule * combinedScale));
 			int radiusRule = MathHelper.clamp(world.getGameRules().getInt(TheVirusBlock.VIRUS_SPREAD_PLAYER_RADIUS), 4, 256);
-			mutated |= mutateFromAnchors(world, playerAnchors, scaledAttempts, radiusRule, tier, apocalypseMode, random, state);
+			mutated |= mutateFromAnchors(world, playerAnchors, scaledAttempts, radiusRule, tier, apocalypseMode, random, state, table);
 			mutated |= mutateSurfaceLayers(world, playerAnchors, radiusRule, scaledSurfaceAttempts, tier, apocalypseMode, random, state);
 		}
 
@@ -68,35 +82,60 @@ public final class BlockMutationHelper {
 			// Apply combined difficulty+tier scaling
 			int scaledAttempts = Math.max(1, (int) Math.round(attemptsRule * combinedScale));
 			int radiusRule = MathHelper.clamp(world.getGameRules().getInt(TheVirusBlock.VIRUS_SPREAD_SOURCE_RADIUS), 4, 256);
-			mutated |= mutateFromAnchors(world, sourceAnchors, scaledAttempts, radiusRule, tier, apocalypseMode, random, state);
+			mutated |= mutateFromAnchors(world, sourceAnchors, scaledAttempts, radiusRule, tier, apocalypseMode, random, state, table);
 			mutated |= mutateSurfaceLayers(world, sourceAnchors, radiusRule, scaledSurfaceAttempts, tier, apocalypseMode, random, state);
 		}
 
 		if (!mutated && !sources.isEmpty()) {
 			// Fallback also scaled by difficulty+tier
 			int fallbackAttempts = Math.max(8, (int) Math.round(32 * combinedScale));
-			mutateFromAnchors(world, new ArrayList<>(sources), fallbackAttempts, 16, tier, apocalypseMode, random, state);
+			mutateFromAnchors(world, new ArrayList<>(sources), fallbackAttempts, 16, tier, apocalypseMode, random, state, table);
 		}
 	}
 
-	private static boolean mutateFromAnchors(ServerWorld world, List<BlockPos> anchors, int attemptsRule, int radiusRule, InfectionTier tier, boolean apocalypseMode, Random random, VirusWorldState state) {
+	/**
+	 * Picks all targets first, then visits them grouped by chunk section: the
+	 * chunk is resolved and the shield coverage looked up once per section,
+	 * and the block writes for a section happen together.
+	 */
+	private static boolean mutateFromAnchors(ServerWorld world, List<BlockPos> anchors, int attemptsRule, int radiusRule, InfectionTier tier, boolean apocalypseMode, Random random, VirusWorldState state, ReplacementTable table) {
 		if (anchors.isEmpty() || attemptsRule <= 0 || radiusRule <= 0) {
 			return false;
 		}
 
+		long probeStart = MUTATE_PROBE.start();
 		int attempts = scaleAttempts(attemptsRule, tier, apocalypseMode);
 		int radius = scaleRadius(radiusRule, tier, apocalypseMode);
-		boolean mutated = false;
+		long[] targets = new long[attempts];
+		int count = 0;
 		for (int i = 0; i < attempts; i++) {
 			BlockPos origin = anchors.get(random.nextInt(anchors.size()));
 			BlockPos target = randomOffset(world, origin, radius, random);
-			if (target == null) {
+			if (target != null) {
+				targets[count++] = target.asLong();
+			}
+		}
+		LongArrays.quickSort(targets, 0, count, BY_SECTION);
+
+		ShieldFieldService.SectionProbe shields = state.shieldFieldService().probe();
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+		long section = Long.MIN_VALUE;
+		WorldChunk chunk = null;
+		for (int i = 0; i < count; i++) {
+			long target = targets[i];
+			long targetSection = ChunkSectionPos.fromBlockPos(target);
+			pos.set(target);
+			if (targetSection != section) {
+				section = targetSection;
+				chunk = world.getChunkManager().getWorldChunk(pos.getX() >> 4, pos.getZ() >> 4);
+			}
+			if (chunk == null || shields.isShielding(pos)) {
 				continue;
 			}
-			mutateBlock(world, target, random, tier, apocalypseMode, state);
-			mutated = true;
+			mutateBlock(world, chunk, pos, random, table, apocalypseMode);
 		}
-		return mutated;
+		MUTATE_PROBE.end(probeStart);
+		return count > 0;
 	}
 
 	private static int scaleAttempts(int base, InfectionTier tier, boolean apocalypseMode) {
@@ -116,7 +155,7 @@ public final class BlockMutationHelper {
 	}
 
 	@Nullable
-	private static BlockPos randomOffset(ServerWorld world, BlockPos origin, int radius, Random random) {
+	static BlockPos randomOffset(ServerWorld world, BlockPos origin, int radius, Random random) {
 		for (int attempt = 0; attempt < 5; attempt++) {
 			int x = origin.getX() + random.nextBetween(-radius, radius);
 			int y = origin.getY() + random.nextBetween(-radius, radius);
@@ -135,126 +174,25 @@ public final class BlockMutationHelper {
 		return null;
 	}
 
-	private static void mutateBlock(ServerWorld world, BlockPos pos, Random random, InfectionTier tier, boolean apocalypseMode, VirusWorldState state) {
-		if (!isChunkLoaded(world, pos)) {
-			return;
-		}
-		if (state.shieldFieldService().isShielding(pos)) {
-			return;
-		}
-
-		BlockState original = world.getBlockState(pos);
-		if (original.isAir()) {
-			return;
-		}
-		if (!original.getFluidState().isEmpty()) {
-			return;
-		}
-		if (isPortalCriticalBlock(original)) {
-			return;
-		}
-
-		if (original.isOf(ModBlocks.VIRUS_BLOCK)
-				|| original.isOf(ModBlocks.SINGULARITY_BLOCK)
-				|| original.isOf(ModBlocks.INFECTED_BLOCK)
-				|| original.isOf(ModBlocks.INFECTIOUS_CUBE)
-				|| original.isOf(ModBlocks.CURED_INFECTIOUS_CUBE)
-				|| original.isOf(ModBlocks.BACTERIA)) {
-			return;
-		}
-
-		BlockState replacement = pickReplacement(world, original, random, tier, apocalypseMode);
+	private static void mutateBlock(ServerWorld world, WorldChunk chunk, BlockPos.Mutable pos, Random random, ReplacementTable table, boolean apocalypseMode) {
+		BlockState replacement = table.replacementFor(chunk.getBlockState(pos), random);
 		if (replacement == null) {
 			return;
 		}
-		replacement = applyStage(replacement, tier);
 
 		if (apocalypseMode && random.nextFloat() < 0.1F) {
-			world.breakBlock(pos, false);
+			world.breakBlock(pos.toImmutable(), false);
 			return;
 		}
 
 		TrapSelection trap = BoobytrapHelper.selectTrap(world);
 		if (trap != null) {
-			BoobytrapHelper.applyTrap(world, pos, trap);
+			BoobytrapHelper.applyTrap(world, pos.toImmutable(), trap);
 			return;
 		}
 		world.setBlockState(pos, replacement, Block.NOTIFY_ALL);
 	}
 
-	private static BlockState pickReplacement(ServerWorld world, BlockState original, Random random, InfectionTier tier, boolean apocalypseMode) {
-		boolean corruptSand = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_SAND);
-		boolean corruptIce = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_ICE);
-		boolean corruptSnow = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_SNOW);
-
-		if (original.isIn(BlockTags.LOGS) || original.isIn(BlockTags.PLANKS)) {
-			return ModBlocks.CORRUPTED_WOOD.getDefaultState();
-		}
-
-		if (original.isOf(Blocks.GRASS_BLOCK)) {
-			return ModBlocks.INFECTED_GRASS.getDefaultState();
-		}
-
-		if (original.isIn(BlockTags.DIRT) || original.isOf(Blocks.FARMLAND) || original.isOf(Blocks.PODZOL)) {
-			return ModBlocks.CORRUPTED_DIRT.getDefaultState();
-		}
-
-		if (isGlassLike(original) || original.isIn(BlockTags.IMPERMEABLE)) {
-			return ModBlocks.CORRUPTED_GLASS.getDefaultState();
-		}
-
-		if (corruptIce && original.isOf(Blocks.ICE)) {
-			return ModBlocks.CORRUPTED_ICE.getDefaultState();
-		}
-		if (corruptIce && (original.isOf(Blocks.PACKED_ICE) || original.isOf(Blocks.BLUE_ICE))) {
-			return ModBlocks.CORRUPTED_PACKED_ICE.getDefaultState();
-		}
-		if (corruptSand && (original.isOf(Blocks.SAND) || original.isOf(Blocks.RED_SAND))) {
-			return ModBlocks.CORRUPTED_SAND.getDefaultState();
-		}
-		if (corruptSnow && (original.isOf(Blocks.SNOW_BLOCK) || original.isOf(Blocks.POWDER_SNOW))) {
-			return ModBlocks.CORRUPTED_SNOW_BLOCK.getDefaultState();
-		}
-		if (corruptSnow && original.isOf(Blocks.SNOW)) {
-			return ModBlocks.CORRUPTED_SNOW.getDefaultState();
-		}
-
-		if (original.isIn(BlockTags.BASE_STONE_OVERWORLD) || original.isIn(BlockTags.DEEPSLATE_ORE_REPLACEABLES)) {
-			return ModBlocks.CORRUPTED_STONE.getDefaultState();
-		}
-
-		if (original.isOf(Blocks.IRON_BLOCK) || original.isOf(Blocks.ANVIL)) {
-			return ModBlocks.CORRUPTED_IRON.getDefaultState();
-		}
-
-		if (original.isOf(Blocks.OBSIDIAN) || original.isOf(Blocks.CRYING_OBSIDIAN)) {
-			return ModBlocks.CORRUPTED_CRYING_OBSIDIAN.getDefaultState();
-		}
-
-		if (original.isOf(Blocks.DIAMOND_BLOCK) || original.isIn(BlockTags.DIAMOND_ORES)) {
-			return ModBlocks.CORRUPTED_DIAMOND.getDefaultState();
-		}
-
-		if (original.isOf(Blocks.GOLD_BLOCK) || original.isIn(BlockTags.GOLD_ORES)) {
-			return ModBlocks.CORRUPTED_GOLD.getDefaultState();
-		}
-
-		if (original.isIn(BlockTags.LEAVES)) {
-			return Blocks.SCULK.getDefaultState();
-		}
-
-		return switch (random.nextInt(8)) {
-			case 0 -> ModBlocks.CORRUPTED_STONE.getDefaultState();
-			case 1 -> ModBlocks.CORRUPTED_DIRT.getDefaultState();
-			case 2 -> ModBlocks.CORRUPTED_WOOD.getDefaultState();
-			case 3 -> ModBlocks.CORRUPTED_GLASS.getDefaultState();
-			case 4 -> ModBlocks.CORRUPTED_IRON.getDefaultState();
-			case 5 -> ModBlocks.CORRUPTED_CRYING_OBSIDIAN.getDefaultState();
-			case 6 -> ModBlocks.CORRUPTED_DIAMOND.getDefaultState();
-			default -> ModBlocks.CORRUPTED_GOLD.getDefaultState();
-		};
-	}
-
 	private static boolean mutateSurfaceLayers(ServerWorld world, List<BlockPos> anchors, int radiusRule, int attemptsRule, InfectionTier tier, boolean apocalypseMode, Random random, VirusWorldState state) {
 		if (anchors.isEmpty() || attemptsRule <= 0) {
 			return false;
@@ -373,13 +311,6 @@ public final class BlockMutationHelper {
 		}
 	}
 
-	private static boolean isGlassLike(BlockState state) {
-		return state.isOf(Blocks.GLASS)
-				|| state.isOf(Blocks.TINTED_GLASS)
-				|| state.getBlock() instanceof TransparentBlock
-				|| state.getBlock() instanceof PaneBlock;
-	}
-
 	private static boolean isChunkLoaded(ServerWorld world, BlockPos pos) {
 		return world.isChunkLoaded(ChunkPos.toLong(pos));
 	}
@@ -389,43 +320,11 @@ public final class BlockMutationHelper {
 		return world.isChunkLoaded(ChunkPos.toLong(x >> 4, z >> 4));
 	}
 
-	private static BlockState applyStage(BlockState state, InfectionTier tier) {
-		CorruptionStage stage = tier.getIndex() >= 2 ? CorruptionStage.STAGE_2 : CorruptionStage.STAGE_1;
-		if (state.contains(CorruptedStoneBlock.STAGE)) {
-			return state.with(CorruptedStoneBlock.STAGE, stage);
-		}
-		if (state.contains(CorruptedGlassBlock.STAGE)) {
-			return state.with(CorruptedGlassBlock.STAGE, stage);
-		}
-		return state;
-	}
-
-	private static boolean isPortalCriticalBlock(BlockState state) {
-		Block block = state.getBlock();
-		return block == Blocks.OBSIDIAN
-				|| block == Blocks.CRYING_OBSIDIAN
-				|| block == Blocks.NETHER_PORTAL
-				|| block == Blocks.END_PORTAL
-				|| block == Blocks.END_PORTAL_FRAME
-				|| block == Blocks.END_GATEWAY
-				|| block == Blocks.RESPAWN_ANCHOR
-				|| block == Blocks.CRAFTING_TABLE
-				|| block instanceof BedBlock;
-	}
-
 	/**
 	 * Returns a corruption-staged block state based on tier index.
 	 */
 	public static BlockState stageState(Block block, int tierIndex) {
-		BlockState state = block.getDefaultState();
-		CorruptionStage stage = tierIndex >= 2 ? CorruptionStage.STAGE_2 : CorruptionStage.STAGE_1;
-		if (state.contains(CorruptedStoneBlock.STAGE)) {
-			return state.with(CorruptedStoneBlock.STAGE, stage);
-		}
-		if (state.contains(CorruptedGlassBlock.STAGE)) {
-			return state.with(CorruptedGlassBlock.STAGE, stage);
-		}
-		return state;
+		return ReplacementTable.staged(block.getDefaultState(), ReplacementTable.stageFor(tierIndex));
 	}
 }
 
@@ -0,0 +1,131 @@
+package net.cyberpunk042.infection.mutation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import net.cyberpunk042.infection.InfectionTier;
+import net.cyberpunk042.infection.TierCookbook;
+import net.cyberpunk042.infection.TierFeature;
+import net.cyberpunk042.infection.VirusWorldState;
+import net.cyberpunk042.infection.service.ShieldFieldService;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * In-game micro benchmark for the block mutation pass, run via
+ * {@code /virusmutationbench}. Picks random targets around a position the
+ * same way {@link BlockMutationHelper} does and decides each one without
+ * writing anything. It compares the old per-attempt path with the sectioned
+ * table path. The old path does a chunk check, a shield check, three tier
+ * feature lookups and the tag/isOf chain for every attempt.
+ */
+public final class MutationBenchmark {
+	private static final int ATTEMPTS = 4096;
+	private static final int ROUNDS = 20;
+	private static final int WARMUP_ROUNDS = 5;
+
+	private MutationBenchmark() {
+	}
+
+	public record Result(int attempts, double perAttemptPerMs, double tablePerMs, int mutable) {
+		public String describe() {
+			return String.format(Locale.ROOT, "attempts=%d per-attempt=%.0f/ms table=%.0f/ms speedup=%.1fx mutable=%d",
+					attempts,
+					perAttemptPerMs,
+					tablePerMs,
+					perAttemptPerMs > 0.0D ? tablePerMs / perAttemptPerMs : 0.0D,
+					mutable);
+		}
+	}
+
+	public static Result run(ServerWorld world, BlockPos center, int radius, InfectionTier tier, boolean apocalypseMode) {
+		Random random = Random.create(42L);
+		long[] targets = new long[ATTEMPTS];
+		int count = 0;
+		for (int i = 0; i < ATTEMPTS; i++) {
+			BlockPos target = BlockMutationHelper.randomOffset(world, center, radius, random);
+			if (target != null) {
+				targets[count++] = target.asLong();
+			}
+		}
+		VirusWorldState state = VirusWorldState.get(world);
+		int mutable = 0;
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			mutable = perAttempt(world, state, targets, count, tier, apocalypseMode)
+					+ sectioned(world, state, targets, count, tier, apocalypseMode);
+		}
+		long start = System.nanoTime();
+		for (int round = 0; round < ROUNDS; round++) {
+			mutable = perAttempt(world, state, targets, count, tier, apocalypseMode);
+		}
+		long perAttemptNanos = System.nanoTime() - start;
+		start = System.nanoTime();
+		for (int round = 0; round < ROUNDS; round++) {
+			sectioned(world, state, targets, count, tier, apocalypseMode);
+		}
+		long tableNanos = System.nanoTime() - start;
+		double total = (double) count * ROUNDS;
+		return new Result(count,
+				total / Math.max(1.0D, perAttemptNanos / 1_000_000.0D),
+				total / Math.max(1.0D, tableNanos / 1_000_000.0D),
+				mutable);
+	}
+
+	private static int perAttempt(ServerWorld world, VirusWorldState state, long[] targets, int count, InfectionTier tier, boolean apocalypseMode) {
+		int mutable = 0;
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+		for (int i = 0; i < count; i++) {
+			pos.set(targets[i]);
+			if (!world.isChunkLoaded(ChunkPos.toLong(pos)) || state.shieldFieldService().isShielding(pos)) {
+				continue;
+			}
+			BlockState original = world.getBlockState(pos);
+			if (ReplacementTable.isProtected(original)) {
+				continue;
+			}
+			boolean sand = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_SAND);
+			boolean ice = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_ICE);
+			boolean snow = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_SNOW);
+			BlockState replacement = ReplacementTable.classify(original, sand, ice, snow);
+			if (replacement != null) {
+				ReplacementTable.staged(replacement, ReplacementTable.stageFor(tier.getIndex()));
+			}
+			mutable++;
+		}
+		return mutable;
+	}
+
+	private static int sectioned(ServerWorld world, VirusWorldState state, long[] targets, int count, InfectionTier tier, boolean apocalypseMode) {
+		ReplacementTable table = ReplacementTable.forTier(world, tier, apocalypseMode);
+		long[] sorted = Arrays.copyOf(targets, count);
+		LongArrays.quickSort(sorted, 0, count, BlockMutationHelper.BY_SECTION);
+		Random random = Random.create(7L);
+		ShieldFieldService.SectionProbe shields = state.shieldFieldService().probe();
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+		long section = Long.MIN_VALUE;
+		WorldChunk chunk = null;
+		int mutable = 0;
+		for (int i = 0; i < count; i++) {
+			long target = sorted[i];
+			long targetSection = ChunkSectionPos.fromBlockPos(target);
+			pos.set(target);
+			if (targetSection != section) {
+				section = targetSection;
+				chunk = world.getChunkManager().getWorldChunk(pos.getX() >> 4, pos.getZ() >> 4);
+			}
+			if (chunk == null || shields.isShielding(pos)) {
+				continue;
+			}
+			if (table.replacementFor(chunk.getBlockState(pos), random) != null) {
+				mutable++;
+			}
+		}
+		return mutable;
+	}
+}
@@ -0,0 +1,238 @@
+package net.cyberpunk042.infection.mutation;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.cyberpunk042.block.corrupted.CorruptedGlassBlock;
+import net.cyberpunk042.block.corrupted.CorruptedStoneBlock;
+import net.cyberpunk042.block.corrupted.CorruptionStage;
+import net.cyberpunk042.infection.InfectionTier;
+import net.cyberpunk042.infection.TierCookbook;
+import net.cyberpunk042.infection.TierFeature;
+import net.cyberpunk042.registry.ModBlocks;
+import net.minecraft.block.BedBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.PaneBlock;
+import net.minecraft.block.TransparentBlock;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.random.Random;
+
+/**
+ * Corruption replacement for every block state, indexed by raw state id.
+ *
+ * <p>What {@link BlockMutationHelper} turns a block into depends only on the
+ * block state, the three terrain features ({@link TierFeature#CORRUPT_SAND},
+ * {@link TierFeature#CORRUPT_ICE}, {@link TierFeature#CORRUPT_SNOW}) and the
+ * corruption stage. Tier, difficulty and gamerules matter only through those
+ * four flags, so one table is built per flag combination the first time it is
+ * needed. Tables are dropped when data packs reload or the server stops,
+ * because block tags feed the classification.
+ *
+ * <p>A {@code null} entry marks a block that is never mutated (air, fluids,
+ * portal-critical and virus blocks). Blocks without a specific mapping draw
+ * one of eight staged corrupted blocks at random. Server thread only.
+ */
+final class ReplacementTable {
+	private static final ReplacementTable[] TABLES = new ReplacementTable[16];
+
+	private final BlockState[] replacements;
+	private final BitSet randomFallback;
+	private final BlockState[] randomPicks;
+	private final boolean corruptSand;
+	private final boolean corruptIce;
+	private final boolean corruptSnow;
+	private final CorruptionStage stage;
+
+	private ReplacementTable(boolean corruptSand, boolean corruptIce, boolean corruptSnow, CorruptionStage stage) {
+		this.corruptSand = corruptSand;
+		this.corruptIce = corruptIce;
+		this.corruptSnow = corruptSnow;
+		this.stage = stage;
+		this.randomPicks = new BlockState[] {
+				staged(ModBlocks.CORRUPTED_STONE.getDefaultState(), stage),
+				staged(ModBlocks.CORRUPTED_DIRT.getDefaultState(), stage),
+				staged(ModBlocks.CORRUPTED_WOOD.getDefaultState(), stage),
+				staged(ModBlocks.CORRUPTED_GLASS.getDefaultState(), stage),
+				staged(ModBlocks.CORRUPTED_IRON.getDefaultState(), stage),
+				staged(ModBlocks.CORRUPTED_CRYING_OBSIDIAN.getDefaultState(), stage),
+				staged(ModBlocks.CORRUPTED_DIAMOND.getDefaultState(), stage),
+				staged(ModBlocks.CORRUPTED_GOLD.getDefaultState(), stage)
+		};
+		int size = Block.STATE_IDS.size();
+		this.replacements = new BlockState[size];
+		this.randomFallback = new BitSet(size);
+		for (int id = 0; id < size; id++) {
+			BlockState state = Block.STATE_IDS.get(id);
+			if (state == null || isProtected(state)) {
+				continue;
+			}
+			BlockState replacement = classify(state, corruptSand, corruptIce, corruptSnow);
+			if (replacement == null) {
+				randomFallback.set(id);
+			} else {
+				replacements[id] = staged(replacement, stage);
+			}
+		}
+	}
+
+	/**
+	 * Table for the features currently enabled for {@code tier}.
+	 */
+	static ReplacementTable forTier(ServerWorld world, InfectionTier tier, boolean apocalypseMode) {
+		boolean sand = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_SAND);
+		boolean ice = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_ICE);
+		boolean snow = TierCookbook.isEnabled(world, tier, apocalypseMode, TierFeature.CORRUPT_SNOW);
+		CorruptionStage stage = stageFor(tier.getIndex());
+		int key = (sand ? 1 : 0) | (ice ? 2 : 0) | (snow ? 4 : 0) | (stage == CorruptionStage.STAGE_2 ? 8 : 0);
+		ReplacementTable table = TABLES[key];
+		if (table == null) {
+			table = new ReplacementTable(sand, ice, snow, stage);
+			TABLES[key] = table;
+		}
+		return table;
+	}
+
+	static void invalidate() {
+		Arrays.fill(TABLES, null);
+	}
+
+	/**
+	 * Staged replacement for {@code original}, or null when it must be left
+	 * alone. Consumes one {@code nextInt(8)} for blocks without a mapping.
+	 */
+	@Nullable
+	BlockState replacementFor(BlockState original, Random random) {
+		int id = Block.getRawIdFromState(original);
+		if (id < 0 || id >= replacements.length) {
+			// State registered after the table was built; classify directly
+			if (isProtected(original)) {
+				return null;
+			}
+			BlockState replacement = classify(original, corruptSand, corruptIce, corruptSnow);
+			return replacement != null ? staged(replacement, stage) : randomPicks[random.nextInt(8)];
+		}
+		BlockState replacement = replacements[id];
+		if (replacement == null && randomFallback.get(id)) {
+			return randomPicks[random.nextInt(8)];
+		}
+		return replacement;
+	}
+
+	/**
+	 * Blocks {@link BlockMutationHelper} never mutates.
+	 */
+	static boolean isProtected(BlockState state) {
+		return state.isAir()
+				|| !state.getFluidState().isEmpty()
+				|| isPortalCriticalBlock(state)
+				|| state.isOf(ModBlocks.VIRUS_BLOCK)
+				|| state.isOf(ModBlocks.SINGULARITY_BLOCK)
+				|| state.isOf(ModBlocks.INFECTED_BLOCK)
+				|| state.isOf(ModBlocks.INFECTIOUS_CUBE)
+				|| state.isOf(ModBlocks.CURED_INFECTIOUS_CUBE)
+				|| state.isOf(ModBlocks.BACTERIA);
+	}
+
+	/**
+	 * Unstaged replacement for an unprotected block, or null when the block
+	 * has no specific mapping and should get a random corrupted block.
+	 */
+	@Nullable
+	static BlockState classify(BlockState original, boolean corruptSand, boolean corruptIce, boolean corruptSnow) {
+		if (original.isIn(BlockTags.LOGS) || original.isIn(BlockTags.PLANKS)) {
+			return ModBlocks.CORRUPTED_WOOD.getDefaultState();
+		}
+
+		if (original.isOf(Blocks.GRASS_BLOCK)) {
+			return ModBlocks.INFECTED_GRASS.getDefaultState();
+		}
+
+		if (original.isIn(BlockTags.DIRT) || original.isOf(Blocks.FARMLAND) || original.isOf(Blocks.PODZOL)) {
+			return ModBlocks.CORRUPTED_DIRT.getDefaultState();
+		}
+
+		if (isGlassLike(original) || original.isIn(BlockTags.IMPERMEABLE)) {
+			return ModBlocks.CORRUPTED_GLASS.getDefaultState();
+		}
+
+		if (corruptIce && original.isOf(Blocks.ICE)) {
+			return ModBlocks.CORRUPTED_ICE.getDefaultState();
+		}
+		if (corruptIce && (original.isOf(Blocks.PACKED_ICE) || original.isOf(Blocks.BLUE_ICE))) {
+			return ModBlocks.CORRUPTED_PACKED_ICE.getDefaultState();
+		}
+		if (corruptSand && (original.isOf(Blocks.SAND) || original.isOf(Blocks.RED_SAND))) {
+			return ModBlocks.CORRUPTED_SAND.getDefaultState();
+		}
+		if (corruptSnow && (original.isOf(Blocks.SNOW_BLOCK) || original.isOf(Blocks.POWDER_SNOW))) {
+			return ModBlocks.CORRUPTED_SNOW_BLOCK.getDefaultState();
+		}
+		if (corruptSnow && original.isOf(Blocks.SNOW)) {
+			return ModBlocks.CORRUPTED_SNOW.getDefaultState();
+		}
+
+		if (original.isIn(BlockTags.BASE_STONE_OVERWORLD) || original.isIn(BlockTags.DEEPSLATE_ORE_REPLACEABLES)) {
+			return ModBlocks.CORRUPTED_STONE.getDefaultState();
+		}
+
+		if (original.isOf(Blocks.IRON_BLOCK) || original.isOf(Blocks.ANVIL)) {
+			return ModBlocks.CORRUPTED_IRON.getDefaultState();
+		}
+
+		if (original.isOf(Blocks.OBSIDIAN) || original.isOf(Blocks.CRYING_OBSIDIAN)) {
+			return ModBlocks.CORRUPTED_CRYING_OBSIDIAN.getDefaultState();
+		}
+
+		if (original.isOf(Blocks.DIAMOND_BLOCK) || original.isIn(BlockTags.DIAMOND_ORES)) {
+			return ModBlocks.CORRUPTED_DIAMOND.getDefaultState();
+		}
+
+		if (original.isOf(Blocks.GOLD_BLOCK) || original.isIn(BlockTags.GOLD_ORES)) {
+			return ModBlocks.CORRUPTED_GOLD.getDefaultState();
+		}
+
+		if (original.isIn(BlockTags.LEAVES)) {
+			return Blocks.SCULK.getDefaultState();
+		}
+		return null;
+	}
+
+	static CorruptionStage stageFor(int tierIndex) {
+		return tierIndex >= 2 ? CorruptionStage.STAGE_2 : CorruptionStage.STAGE_1;
+	}
+
+	static BlockState staged(BlockState state, CorruptionStage stage) {
+		if (state.contains(CorruptedStoneBlock.STAGE)) {
+			return state.with(CorruptedStoneBlock.STAGE, stage);
+		}
+		if (state.contains(CorruptedGlassBlock.STAGE)) {
+			return state.with(CorruptedGlassBlock.STAGE, stage);
+		}
+		return state;
+	}
+
+	private static boolean isGlassLike(BlockState state) {
+		return state.isOf(Blocks.GLASS)
+				|| state.isOf(Blocks.TINTED_GLASS)
+				|| state.getBlock() instanceof TransparentBlock
+				|| state.getBlock() instanceof PaneBlock;
+	}
+
+	private static boolean isPortalCriticalBlock(BlockState state) {
+		Block block = state.getBlock();
+		return block == Blocks.OBSIDIAN
+				|| block == Blocks.CRYING_OBSIDIAN
+				|| block == Blocks.NETHER_PORTAL
+				|| block == Blocks.END_PORTAL
+				|| block == Blocks.END_PORTAL_FRAME
+				|| block == Blocks.END_GATEWAY
+				|| block == Blocks.RESPAWN_ANCHOR
+				|| block == Blocks.CRAFTING_TABLE
+				|| block instanceof BedBlock;
+	}
+}
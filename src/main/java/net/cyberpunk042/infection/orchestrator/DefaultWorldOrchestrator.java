@@ -7,6 +7,8 @@ import net.cyberpunk042.infection.VirusWorldState;
 import net.cyberpunk042.infection.api.*;
 import net.cyberpunk042.infection.collapse.CollapseBroadcastManager;
 import net.cyberpunk042.infection.service.InfectionServiceContainer;
+import net.cyberpunk042.util.Probe;
+import net.cyberpunk042.util.ProbeRegistry;
 import net.minecraft.server.world.ServerWorld;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,6 +30,9 @@ import java.util.Objects;
 public class DefaultWorldOrchestrator implements WorldOrchestrator, OrchestratorDependencies.ServiceAccessor {
 
 	private static final org.slf4j.Logger LOGGER = TheVirusBlock.LOGGER;
+	private static final Probe SERVICES_PROBE = ProbeRegistry.register("Orch.services");
+	private static final Probe SCENARIOS_PROBE = ProbeRegistry.register("Orch.scenarios");
+	private static final Probe PHASES_PROBE = ProbeRegistry.register("Orch.phases");
 
 	private volatile OrchestratorState state = OrchestratorState.INITIALIZING;
 
@@ -129,23 +134,23 @@ public class DefaultWorldOrchestrator implements WorldOrchestrator, Orchestrator
 		}
 
 		// Tick services (scheduler, broadcasts)
-		net.cyberpunk042.util.SuperProfiler.start("Orch.services");
+		long probeStart = SERVICES_PROBE.start();
 		services.tick(world);
-		net.cyberpunk042.util.SuperProfiler.end("Orch.services");
+		SERVICES_PROBE.end(probeStart);
 
 		// Tick scenario
-		net.cyberpunk042.util.SuperProfiler.start("Orch.scenarios");
+		probeStart = SCENARIOS_PROBE.start();
 		scenarios.tick(world);
-		net.cyberpunk042.util.SuperProfiler.end("Orch.scenarios");
+		SCENARIOS_PROBE.end(probeStart);
 	}
 
 	/**
 	 * Tick phases - called by VirusWorldState which has access to state.
 	 */
 	public void tickPhases(ServerWorld world, VirusWorldState state) {
-		net.cyberpunk042.util.SuperProfiler.start("Orch.phases");
+		long probeStart = PHASES_PROBE.start();
 		phases.tick(world, state);
-		net.cyberpunk042.util.SuperProfiler.end("Orch.phases");
+		PHASES_PROBE.end(probeStart);
 	}
 
 	@Override
@@ -0,0 +1,48 @@
+package net.cyberpunk042.infection.profile;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Selects how collapse fills write blocks into the world.
+ * <ul>
+ *   <li>{@link #BLOCK} - per-block {@code setBlockState} (legacy default)</li>
+ *   <li>{@link #NATIVE} - vanilla {@code /fill} commands (legacy {@code use_native_fill})</li>
+ *   <li>{@link #SECTION} - writes straight into chunk section palettes and
+ *       syncs once per section</li>
+ * </ul>
+ */
+public enum CollapseFillEngine {
+	BLOCK("block"),
+	NATIVE("native"),
+	SECTION("section");
+
+	private final String id;
+
+	CollapseFillEngine(String id) {
+		this.id = id;
+	}
+
+	public String id() {
+		return id;
+	}
+
+	/**
+	 * Maps the legacy {@code use_native_fill} toggle onto an engine.
+	 */
+	public static CollapseFillEngine fromLegacy(boolean useNativeFill) {
+		return useNativeFill ? NATIVE : BLOCK;
+	}
+
+	@Nullable
+	public static CollapseFillEngine fromId(String id) {
+		if (id == null || id.isBlank()) {
+			return null;
+		}
+		for (CollapseFillEngine engine : values()) {
+			if (engine.id.equalsIgnoreCase(id)) {
+				return engine;
+			}
+		}
+		return null;
+	}
+}
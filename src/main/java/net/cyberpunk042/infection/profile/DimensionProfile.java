@@ -5,6 +5,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.cyberpunk042.TheVirusBlock;
 import net.cyberpunk042.infection.scenario.OverworldInfectionScenario;
 import net.minecraft.util.Identifier;
@@ -113,6 +115,7 @@ public final class DimensionProfile {
 		private final CollapseFillShape fillShape;
 		private final int outlineThickness;
 		private final boolean useNativeFill;
+		private final CollapseFillEngine fillEngine;
 		private final boolean respectProtectedBlocks;
 		private final int maxOperationsPerTick;
 		private final boolean collapseInward;
@@ -149,6 +152,7 @@ public final class DimensionProfile {
 					DEFAULT_FILL_SHAPE,
 					DEFAULT_OUTLINE_THICKNESS,
 				DEFAULT_USE_NATIVE_FILL,
+				null,
 				DEFAULT_RESPECT_PROTECTED,
 				PreCollapseWaterDrainage.disabled());
 		}
@@ -189,6 +193,7 @@ public final class DimensionProfile {
 					DEFAULT_FILL_SHAPE,
 					DEFAULT_OUTLINE_THICKNESS,
 				DEFAULT_USE_NATIVE_FILL,
+				null,
 				DEFAULT_RESPECT_PROTECTED,
 				PreCollapseWaterDrainage.disabled());
 		}
@@ -223,6 +228,7 @@ public final class DimensionProfile {
 				CollapseFillShape fillShape,
 				int outlineThickness,
 				boolean useNativeFill,
+				@Nullable CollapseFillEngine fillEngine,
 				boolean respectProtectedBlocks,
 				PreCollapseWaterDrainage preCollapseWaterDrainage) {
 			this.columnsPerTick = Math.max(1, columnsPerTick);
@@ -256,6 +262,7 @@ public final class DimensionProfile {
 			this.fillShape = fillShape != null ? fillShape : DEFAULT_FILL_SHAPE;
 			this.outlineThickness = Math.max(1, outlineThickness);
 			this.useNativeFill = useNativeFill;
+			this.fillEngine = fillEngine != null ? fillEngine : CollapseFillEngine.fromLegacy(useNativeFill);
 			this.respectProtectedBlocks = respectProtectedBlocks;
 			this.maxOperationsPerTick = DEFAULT_MAX_OPERATIONS_PER_TICK;
 			this.collapseInward = DEFAULT_COLLAPSE_INWARD;
@@ -394,6 +401,10 @@ public final class DimensionProfile {
 			return useNativeFill;
 		}
 
+		public CollapseFillEngine fillEngine() {
+			return fillEngine;
+		}
+
 		public boolean respectProtectedBlocks() {
 			return respectProtectedBlocks;
 		}
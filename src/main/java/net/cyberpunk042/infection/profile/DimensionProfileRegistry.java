@@ -138,7 +138,18 @@ public final class DimensionProfileRegistry {
 	}
 
 	public static boolean setUseNativeFill(Identifier scenarioId, boolean enabled) {
-		return updateCollapseJson(scenarioId, collapse -> collapse.addProperty("use_native_fill", enabled));
+		return updateCollapseJson(scenarioId, collapse -> {
+			collapse.addProperty("use_native_fill", enabled);
+			collapse.addProperty("fill_engine", CollapseFillEngine.fromLegacy(enabled).id());
+		});
+	}
+
+	public static boolean setFillEngine(Identifier scenarioId, CollapseFillEngine engine) {
+		CollapseFillEngine resolved = engine != null ? engine : CollapseFillEngine.BLOCK;
+		return updateCollapseJson(scenarioId, collapse -> {
+			collapse.addProperty("fill_engine", resolved.id());
+			collapse.addProperty("use_native_fill", resolved == CollapseFillEngine.NATIVE);
+		});
 	}
 
 	public static boolean setRespectProtectedBlocks(Identifier scenarioId, boolean enabled) {
@@ -223,6 +234,7 @@ public final class DimensionProfileRegistry {
 				CollapseFillShape.OUTLINE,
 				2,
 				true,
+				null,
 				true,
 				DimensionProfile.Collapse.PreCollapseWaterDrainage.disabled());
 		DimensionProfile.Effects effects = new DimensionProfile.Effects("#FF6A00FF",
@@ -323,6 +335,7 @@ public final class DimensionProfileRegistry {
 		node.addProperty("fill_shape", collapse.fillShape().id());
 		node.addProperty("outline_thickness", collapse.outlineThickness());
 		node.addProperty("use_native_fill", collapse.useNativeFill());
+		node.addProperty("fill_engine", collapse.fillEngine().id());
 		node.addProperty("respect_protected_blocks", collapse.respectProtectedBlocks());
 		JsonObject preDrain = new JsonObject();
 		preDrain.addProperty("enabled", collapse.preCollapseWaterDrainage().enabled());
@@ -446,6 +459,10 @@ public final class DimensionProfileRegistry {
 				: defaults.outlineThickness();
 		boolean useNativeFill = node.has("use_native_fill") ? node.get("use_native_fill").getAsBoolean()
 				: defaults.useNativeFill();
+		// Absent fill_engine falls back to the legacy use_native_fill toggle
+		CollapseFillEngine fillEngine = node.has("fill_engine")
+				? CollapseFillEngine.fromId(node.get("fill_engine").getAsString())
+				: null;
 		boolean respectProtectedBlocks = node.has("respect_protected_blocks")
 				? node.get("respect_protected_blocks").getAsBoolean()
 				: defaults.respectProtectedBlocks();
@@ -503,6 +520,7 @@ public final class DimensionProfileRegistry {
 				fillShape,
 				outlineThickness,
 				useNativeFill,
+				fillEngine,
 				respectProtectedBlocks,
 				preDrainage);
 	}
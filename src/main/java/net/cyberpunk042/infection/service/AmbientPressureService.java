@@ -1,5 +1,6 @@
 package net.cyberpunk042.infection.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import net.cyberpunk042.TheVirusBlock;
@@ -15,7 +16,6 @@ import net.minecraft.entity.attribute.EntityAttributeModifier;
 import net.minecraft.entity.attribute.EntityAttributeModifier.Operation;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
@@ -96,9 +96,12 @@ public final class AmbientPressureService {
 		int attempts = Math.max(1, Math.min(4, Math.round(scaledAttempts))); // Cap at 4
 		
 		Random random = world.getRandom();
-		List<ServerPlayerEntity> anchors = world.getPlayers(player -> player.isAlive()
-				&& !player.isSpectator()
-				&& host.combat().isWithinAura(player.getBlockPos()));
+		List<ServerPlayerEntity> anchors = new ArrayList<>();
+		for (ServerPlayerEntity player : InfectionServices.get().worldSnapshot(world).players()) {
+			if (!player.isSpectator() && host.combat().isWithinAura(player.getBlockPos())) {
+				anchors.add(player);
+			}
+		}
 		if (anchors.isEmpty()) {
 			return;
 		}
@@ -194,7 +197,7 @@ public final class AmbientPressureService {
 		} else {
 			// Only clear if we might have applied penalties before
 			// Check first player to avoid iterating if no modifiers exist
-			List<ServerPlayerEntity> players = world.getPlayers(PlayerEntity::isAlive);
+			List<ServerPlayerEntity> players = InfectionServices.get().worldSnapshot(world).players();
 			if (!players.isEmpty()) {
 				ServerPlayerEntity first = players.get(0);
 				EntityAttributeInstance attr = first.getAttributeInstance(EntityAttributes.MAX_HEALTH);
@@ -211,7 +214,7 @@ public final class AmbientPressureService {
 			clearExtremeHealthPenalty(world);
 			return;
 		}
-		for (ServerPlayerEntity player : world.getPlayers(PlayerEntity::isAlive)) {
+		for (ServerPlayerEntity player : InfectionServices.get().worldSnapshot(world).players()) {
 			EntityAttributeInstance attribute = player.getAttributeInstance(EntityAttributes.MAX_HEALTH);
 			if (attribute == null) {
 				continue;
@@ -226,7 +229,7 @@ public final class AmbientPressureService {
 	}
 
 	private void clearExtremeHealthPenalty(ServerWorld world) {
-		for (ServerPlayerEntity player : world.getPlayers(PlayerEntity::isAlive)) {
+		for (ServerPlayerEntity player : InfectionServices.get().worldSnapshot(world).players()) {
 			EntityAttributeInstance attribute = player.getAttributeInstance(EntityAttributes.MAX_HEALTH);
 			if (attribute != null) {
 				attribute.removeModifier(EXTREME_HEALTH_MODIFIER_ID);
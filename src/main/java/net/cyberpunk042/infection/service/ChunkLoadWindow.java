@@ -0,0 +1,154 @@
+package net.cyberpunk042.infection.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.cyberpunk042.infection.singularity.SingularityDiagnostics;
+import net.cyberpunk042.registry.ModChunkTickets;
+import net.minecraft.server.world.OptionalChunk;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkStatus;
+
+/**
+ * Bounded window of asynchronous chunk loads. Each request adds a
+ * {@link ModChunkTickets#SINGULARITY_LOAD} ticket (so the load is not dropped
+ * when the short-lived ticket from the future lookup expires) and keeps the
+ * chunk-holder future. Completed futures are drained on the server thread by
+ * {@link #poll}, which also refreshes the tickets of loads still in flight.
+ * The ticket type is not persisted and expires on its own, so loads
+ * abandoned by a server stop or a dropped window never stay force-loaded;
+ * callers that want to keep a chunk pin it themselves.
+ *
+ * <p>Not thread-safe; only touch it from the server thread.
+ */
+final class ChunkLoadWindow {
+	private static final int RATE_WINDOW_TICKS = 20;
+
+	interface Listener {
+		void loaded(ChunkPos pos);
+
+		void failed(ChunkPos pos, String reason);
+	}
+
+	private final String phase;
+	private final Long2ObjectLinkedOpenHashMap<CompletableFuture<OptionalChunk<Chunk>>> inFlight = new Long2ObjectLinkedOpenHashMap<>();
+	private final long[] rateNanos = new long[RATE_WINDOW_TICKS];
+	private final long[] rateCompleted = new long[RATE_WINDOW_TICKS];
+	private int rateCursor;
+	private long completed;
+	private long failed;
+
+	ChunkLoadWindow(String phase) {
+		this.phase = phase;
+	}
+
+	int inFlight() {
+		return inFlight.size();
+	}
+
+	boolean isEmpty() {
+		return inFlight.isEmpty();
+	}
+
+	boolean contains(long packed) {
+		return inFlight.containsKey(packed);
+	}
+
+	/**
+	 * Issues a ticket for the chunk and starts loading it to {@link ChunkStatus#FULL}.
+	 */
+	void request(ServerWorld world, ChunkPos pos) {
+		long packed = pos.toLong();
+		if (inFlight.containsKey(packed)) {
+			return;
+		}
+		world.getChunkManager().addTicket(ModChunkTickets.SINGULARITY_LOAD, pos, 0);
+		inFlight.put(packed, world.getChunkManager().getChunkFutureSyncOnMainThread(pos.x, pos.z, ChunkStatus.FULL, true));
+	}
+
+	/**
+	 * Hands finished loads to {@code listener} and releases their tickets
+	 * once the listener has run; pending loads get their ticket refreshed.
+	 */
+	void poll(ServerWorld world, Listener listener) {
+		if (!inFlight.isEmpty()) {
+			ObjectIterator<Long2ObjectMap.Entry<CompletableFuture<OptionalChunk<Chunk>>>> iterator =
+					inFlight.long2ObjectEntrySet().fastIterator();
+			while (iterator.hasNext()) {
+				Long2ObjectMap.Entry<CompletableFuture<OptionalChunk<Chunk>>> entry = iterator.next();
+				CompletableFuture<OptionalChunk<Chunk>> future = entry.getValue();
+				ChunkPos pos = new ChunkPos(entry.getLongKey());
+				if (!future.isDone()) {
+					// Re-adding an existing ticket resets its expiry
+					world.getChunkManager().addTicket(ModChunkTickets.SINGULARITY_LOAD, pos, 0);
+					continue;
+				}
+				iterator.remove();
+				String error = failure(future);
+				if (error == null) {
+					completed++;
+					listener.loaded(pos);
+				} else {
+					failed++;
+					listener.failed(pos, error);
+				}
+				release(world, pos);
+			}
+		}
+		rateNanos[rateCursor] = System.nanoTime();
+		rateCompleted[rateCursor] = completed;
+		rateCursor = (rateCursor + 1) % RATE_WINDOW_TICKS;
+	}
+
+	/**
+	 * Drops every pending load and releases its ticket.
+	 */
+	void cancel(ServerWorld world) {
+		for (long packed : inFlight.keySet().toLongArray()) {
+			CompletableFuture<OptionalChunk<Chunk>> future = inFlight.remove(packed);
+			if (future != null) {
+				future.cancel(false);
+			}
+			release(world, new ChunkPos(packed));
+		}
+	}
+
+	private static void release(ServerWorld world, ChunkPos pos) {
+		world.getChunkManager().removeTicket(ModChunkTickets.SINGULARITY_LOAD, pos, 0);
+	}
+
+	/**
+	 * Completions per second over the last {@value #RATE_WINDOW_TICKS} polls.
+	 */
+	double chunksPerSecond() {
+		int oldest = rateCursor;
+		int newest = (rateCursor + RATE_WINDOW_TICKS - 1) % RATE_WINDOW_TICKS;
+		long elapsed = rateNanos[newest] - rateNanos[oldest];
+		if (rateNanos[oldest] == 0L || elapsed <= 0L) {
+			return 0.0D;
+		}
+		return (rateCompleted[newest] - rateCompleted[oldest]) * 1_000_000_000.0D / elapsed;
+	}
+
+	SingularityDiagnostics.ChunkLoadStats stats() {
+		return new SingularityDiagnostics.ChunkLoadStats(phase, inFlight.size(), chunksPerSecond(), completed, failed);
+	}
+
+	private static String failure(CompletableFuture<OptionalChunk<Chunk>> future) {
+		if (future.isCancelled()) {
+			return "cancelled";
+		}
+		if (future.isCompletedExceptionally()) {
+			return future.exceptionNow().toString();
+		}
+		OptionalChunk<Chunk> result = future.getNow(null);
+		if (result == null || !result.isPresent()) {
+			return result == null ? "missingChunk" : result.getError();
+		}
+		return null;
+	}
+}
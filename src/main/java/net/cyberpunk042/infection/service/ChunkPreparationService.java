@@ -14,6 +14,7 @@ import net.cyberpunk042.infection.SingularityState;
 import net.cyberpunk042.infection.VirusWorldState;
 import net.cyberpunk042.infection.singularity.SingularityChunkContext;
 import net.cyberpunk042.infection.singularity.SingularityDiagnostics;
+import net.cyberpunk042.infection.singularity.SingularityExecutionSettings;
 import net.minecraft.server.world.ServerChunkManager;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
@@ -45,6 +46,8 @@ public final class ChunkPreparationService {
 
 	private final VirusWorldState host;
 	private final State state;
+	private final ChunkLoadWindow preloadWindow = new ChunkLoadWindow("preload");
+	private final ChunkLoadWindow preGenWindow = new ChunkLoadWindow("preGen");
 
 	public ChunkPreparationService(VirusWorldState host, State state) {
 		this.host = Objects.requireNonNull(host, "host");
@@ -74,16 +77,21 @@ public final class ChunkPreparationService {
 			return;
 		}
 		// Populate preload queue from preGen results if empty
-		if (state.preloadQueue.isEmpty() && state.preGenCenter != null) {
+		if (state.preloadQueue.isEmpty() && preloadWindow.isEmpty() && state.preGenCenter != null) {
 			populatePreloadQueue();
 		}
-		if (state.preloadQueue.isEmpty()) {
+		if (state.preloadQueue.isEmpty() && preloadWindow.isEmpty()) {
 			finishChunkPreload(world);
 			return;
 		}
-		ServerChunkManager chunkManager = world.getChunkManager();
 		boolean allowGeneration = host.collapseConfig().configuredChunkGenerationAllowed(world);
 		int budget = host.collapseConfig().configuredPreloadChunksPerTick();
+		// Disk-only mode relies on the chunk-manager guard, which only sees synchronous loads
+		if (allowGeneration && SingularityExecutionSettings.asyncChunkLoading()) {
+			tickAsyncPreload(world, budget);
+			return;
+		}
+		ServerChunkManager chunkManager = world.getChunkManager();
 		int before = state.preloadQueue.size();
 	try (LogScope scope = Logging.SINGULARITY.scope("preload-chunks", LogLevel.INFO)) {
 		while (budget-- > 0 && !state.preloadQueue.isEmpty()) {
@@ -129,6 +137,85 @@ public final class ChunkPreparationService {
 		}
 	}
 
+	/**
+	 * Async preload: keeps up to {@code chunkLoadMaxInFlight} chunk futures
+	 * pending and pins each chunk only once its future completes, so chunk
+	 * generation and disk loads never block the tick.
+	 */
+	private void tickAsyncPreload(ServerWorld world, int budget) {
+		int before = state.preloadQueue.size() + preloadWindow.inFlight();
+		preloadWindow.poll(world, new ChunkLoadWindow.Listener() {
+			@Override
+			public void loaded(ChunkPos pos) {
+				host.singularity().phase().pinSingularityChunk(pos);
+				if (SingularityDiagnostics.logChunkSamples()) {
+					Logging.SINGULARITY.topic("preload").info("chunk {} status=loaded mode=async", pos);
+				}
+			}
+
+			@Override
+			public void failed(ChunkPos pos, String reason) {
+				handlePreloadFailure(pos, true, reason);
+			}
+		});
+		int maxInFlight = SingularityExecutionSettings.chunkLoadMaxInFlight();
+		while (budget-- > 0 && !state.preloadQueue.isEmpty() && preloadWindow.inFlight() < maxInFlight) {
+			long packed = state.preloadQueue.pollFirst();
+			ChunkPos pos = new ChunkPos(packed);
+			if (world.isChunkLoaded(packed)) {
+				host.singularity().phase().pinSingularityChunk(pos);
+				continue;
+			}
+			preloadWindow.request(world, pos);
+		}
+		SingularityDiagnostics.recordChunkLoad(world.getRegistryKey(), preloadWindow.stats());
+		int remaining = state.preloadQueue.size() + preloadWindow.inFlight();
+		logPreloadProgress(before - remaining, remaining);
+		if (state.preloadQueue.isEmpty() && preloadWindow.isEmpty()) {
+			finishChunkPreload(world);
+		}
+	}
+
+	/**
+	 * Async counterpart of the pre-generation loop. Tickets are released as
+	 * soon as each chunk has been generated; preload pins them later.
+	 */
+	private void tickAsyncPreGeneration(ServerWorld world, int budget) {
+		preGenWindow.poll(world, new ChunkLoadWindow.Listener() {
+			@Override
+			public void loaded(ChunkPos pos) {
+			}
+
+			@Override
+			public void failed(ChunkPos pos, String reason) {
+				state.preGenMissingChunks++;
+				if (SingularityDiagnostics.enabled()) {
+					Logging.SINGULARITY.warn("[Singularity] chunk pre-generation failed for {} (reason={})", pos, reason);
+				}
+			}
+		});
+		int maxInFlight = SingularityExecutionSettings.chunkLoadMaxInFlight();
+		while (budget-- > 0 && !state.preGenQueue.isEmpty() && preGenWindow.inFlight() < maxInFlight) {
+			long packed = state.preGenQueue.pollFirst();
+			if (world.isChunkLoaded(packed)) {
+				continue;
+			}
+			preGenWindow.request(world, new ChunkPos(packed));
+		}
+		SingularityDiagnostics.recordChunkLoad(world.getRegistryKey(), preGenWindow.stats());
+	}
+
+	/**
+	 * Drops outstanding async loads and releases their tickets. Called when
+	 * the preparation state is reset.
+	 */
+	public void cancelPendingLoads() {
+		ServerWorld world = host.world();
+		preloadWindow.cancel(world);
+		preGenWindow.cancel(world);
+		SingularityDiagnostics.clearChunkLoad(world.getRegistryKey());
+	}
+
 	public void tickPreGeneration() {
 		ServerWorld world = host.world();
 		if (!host.collapseConfig().configuredPreGenEnabled()) {
@@ -152,27 +239,32 @@ public final class ChunkPreparationService {
 		if (center == null) {
 			return;
 		}
-		if (state.preGenQueue.isEmpty()) {
+		if (state.preGenQueue.isEmpty() && preGenWindow.isEmpty()) {
 			rebuildPreGenQueue(center);
 		}
-		if (state.preGenQueue.isEmpty()) {
+		if (state.preGenQueue.isEmpty() && preGenWindow.isEmpty()) {
 			return;
 		}
-		ServerChunkManager chunkManager = world.getChunkManager();
 		int budget = host.collapseConfig().configuredPreGenChunksPerTick();
-		int before = state.preGenQueue.size();
-		while (budget-- > 0 && !state.preGenQueue.isEmpty()) {
-			long packed = state.preGenQueue.pollFirst();
-			ChunkPos pos = new ChunkPos(packed);
-			try {
-				chunkManager.getChunk(pos.x, pos.z, ChunkStatus.FULL, true);
-			} catch (IllegalStateException ex) {
-				logChunkLoadException("pregen", pos, true, ex);
-				state.preGenMissingChunks++;
+		int before = state.preGenQueue.size() + preGenWindow.inFlight();
+		if (SingularityExecutionSettings.asyncChunkLoading()) {
+			tickAsyncPreGeneration(world, budget);
+		} else {
+			ServerChunkManager chunkManager = world.getChunkManager();
+			while (budget-- > 0 && !state.preGenQueue.isEmpty()) {
+				long packed = state.preGenQueue.pollFirst();
+				ChunkPos pos = new ChunkPos(packed);
+				try {
+					chunkManager.getChunk(pos.x, pos.z, ChunkStatus.FULL, true);
+				} catch (IllegalStateException ex) {
+					logChunkLoadException("pregen", pos, true, ex);
+					state.preGenMissingChunks++;
+				}
 			}
 		}
-		logPreGenProgress(before - state.preGenQueue.size(), state.preGenQueue.size());
-		if (state.preGenQueue.isEmpty()) {
+		int remaining = state.preGenQueue.size() + preGenWindow.inFlight();
+		logPreGenProgress(before - remaining, remaining);
+		if (state.preGenQueue.isEmpty() && preGenWindow.isEmpty()) {
 			state.preGenComplete = true;
 			Logging.SINGULARITY.info("[preGen] complete center={} total={} missing={}",
 					state.preGenCenter,
@@ -187,6 +279,7 @@ public final class ChunkPreparationService {
 	public void rebuildPreGenQueue(BlockPos centerPos) {
 		ServerWorld world = host.world();
 		ChunkPos centerChunk = new ChunkPos(centerPos);
+		preGenWindow.cancel(world);
 		state.preGenCenter = centerChunk;
 		state.preGenQueue.clear();
 		state.preGenMissingChunks = 0;
@@ -253,6 +346,7 @@ public final class ChunkPreparationService {
 			return;
 		}
 		state.preloadComplete = true;
+		SingularityDiagnostics.clearChunkLoad(world.getRegistryKey());
 		Logging.SINGULARITY.info("[preload] complete missing={} pinned={}",
 				state.preloadMissingChunks,
 				host.singularityState().singularityPinnedChunks.size());
@@ -3,6 +3,7 @@ package net.cyberpunk042.infection.service;
 import java.util.List;
 
 import net.cyberpunk042.infection.profile.CollapseBroadcastMode;
+import net.cyberpunk042.infection.profile.CollapseFillEngine;
 import net.cyberpunk042.infection.profile.CollapseFillMode;
 import net.cyberpunk042.infection.profile.CollapseFillProfile;
 import net.cyberpunk042.infection.profile.CollapseFillShape;
@@ -11,6 +12,7 @@ import net.cyberpunk042.infection.profile.DimensionProfile;
 import net.cyberpunk042.infection.profile.WaterDrainMode;
 import net.cyberpunk042.infection.singularity.CollapseErosionSettings;
 import net.cyberpunk042.infection.singularity.SingularityExecutionSettings;
+import net.cyberpunk042.log.Logging;
 import net.cyberpunk042.TheVirusBlock;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.MathHelper;
@@ -76,6 +78,7 @@ public final class CollapseConfigurationService {
 	private CollapseFillShape fillShapeConfig = DEFAULT_COLLAPSE_PROFILE.fillShape();
 	private int outlineThicknessConfig = DEFAULT_COLLAPSE_PROFILE.outlineThickness();
 	private boolean useNativeFillConfig = DEFAULT_COLLAPSE_PROFILE.useNativeFill();
+	private CollapseFillEngine fillEngineConfig = DEFAULT_COLLAPSE_PROFILE.fillEngine();
 	private boolean respectProtectedBlocksConfig = DEFAULT_COLLAPSE_PROFILE.respectProtectedBlocks();
 	private int maxOperationsPerTickConfig = CollapseErosionSettings.DEFAULT_MAX_OPERATIONS_PER_TICK;
 	private boolean collapseInwardConfig = true;
@@ -152,9 +155,9 @@ public final class CollapseConfigurationService {
 		this.fillShapeConfig = collapse.fillShape() != null ? collapse.fillShape() : fillProfile.shape();
 		this.outlineThicknessConfig = Math.max(1, collapse.outlineThickness() > 0 ? collapse.outlineThickness() : fillProfile.thickness());
 		this.useNativeFillConfig = collapse.useNativeFill();
-		System.out.println("[CollapseConfig] -> effective fillShape=" + this.fillShapeConfig
-				+ " thickness=" + this.outlineThicknessConfig
-				+ " useNativeFill=" + this.useNativeFillConfig);
+		this.fillEngineConfig = collapse.fillEngine();
+		Logging.COLLAPSE.debug("[CollapseConfig] -> effective fillShape={} thickness={} useNativeFill={} fillEngine={}",
+				this.fillShapeConfig, this.outlineThicknessConfig, this.useNativeFillConfig, this.fillEngineConfig.id());
 		this.respectProtectedBlocksConfig = collapse.respectProtectedBlocks();
 		this.maxOperationsPerTickConfig = Math.max(1, collapse.maxOperationsPerTick() > 0 ? collapse.maxOperationsPerTick() : fillProfile.maxOperationsPerTick());
 		this.collapseInwardConfig = collapse.collapseInward();
@@ -322,6 +325,10 @@ public final class CollapseConfigurationService {
 		return useNativeFillConfig;
 	}
 
+	public CollapseFillEngine configuredFillEngine() {
+		return fillEngineConfig;
+	}
+
 	public boolean configuredRespectProtectedBlocks() {
 		return respectProtectedBlocksConfig;
 	}
@@ -357,11 +364,11 @@ public final class CollapseConfigurationService {
 				configuredFillShape(),
 				configuredOutlineThickness(),
 				configuredUseNativeFill(),
+				configuredFillEngine(),
 				configuredRespectProtectedBlocks(),
 				configuredMaxOperationsPerTick());
-		System.out.println("[CollapseConfig] Cached erosion settings: shape=" + configuredFillShape()
-				+ " thickness=" + configuredOutlineThickness()
-				+ " useNativeFill=" + configuredUseNativeFill());
+		Logging.COLLAPSE.debug("[CollapseConfig] Cached erosion settings: shape={} thickness={} useNativeFill={} fillEngine={}",
+				configuredFillShape(), configuredOutlineThickness(), configuredUseNativeFill(), configuredFillEngine().id());
 	}
 
 	// ─────────────────────────────────────────────────────────────────────────────
@@ -3,17 +3,21 @@ package net.cyberpunk042.infection.service;
 
 import net.cyberpunk042.log.Logging;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 
 import net.cyberpunk042.infection.VirusWorldState;
+import net.cyberpunk042.infection.profile.CollapseFillEngine;
 import net.cyberpunk042.infection.profile.CollapseFillMode;
 import net.cyberpunk042.infection.profile.CollapseFillShape;
 import net.cyberpunk042.infection.profile.DimensionProfile;
 import net.cyberpunk042.infection.profile.WaterDrainMode;
 import net.cyberpunk042.infection.singularity.BulkFillHelper;
 import net.cyberpunk042.infection.singularity.CollapseErosionSettings;
+import net.cyberpunk042.infection.singularity.CollapseRingGeometry;
+import net.cyberpunk042.infection.singularity.SingularityChunkContext;
 import net.cyberpunk042.registry.ModBlocks;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -46,6 +50,8 @@ public final class CollapseProcessor {
 		public boolean inward = true; // true = outside→in, false = in→outside
 		public double lastProcessedRadius = -1;
 		public int sliceThickness = 16; // blocks per slice
+		// Chebyshev distance of the cleared frontier (inward: innermost cleared frame, outward: outermost)
+		public int clearedEdge = -1;
 		public int ticksSinceLastProcess = 0; // for radius_delays support
 		// Deferred drain state
 		public int deferredDrainDelayRemaining = 0;
@@ -92,6 +98,7 @@ public final class CollapseProcessor {
 		state.inward = inward;
 		state.active = true;
 		state.lastProcessedRadius = inward ? startRadius : endRadius;
+		state.clearedEdge = inward ? (int) Math.ceil(startRadius) + 1 : -1;
 		state.ticksSinceLastProcess = 0;
 		state.deferredDrainDelayRemaining = 0;
 		state.deferredDrainActive = false;
@@ -239,11 +246,13 @@ public final class CollapseProcessor {
 			int processedRings = state.inward 
 					? (int) state.startRadius - currentRing 
 					: currentRing;
-			Logging.SINGULARITY.info("[CollapseProcessor] Ring {} of {} ({}%) - {} rings this tick", 
+			Logging.SINGULARITY.info("[CollapseProcessor] Ring {} of {} ({}%) - {} rings this tick, visited={} cleared={}", 
 					processedRings, 
 					(int) state.startRadius,
 					Math.round(progress * 100),
-					ringsProcessed);
+					ringsProcessed,
+					SingularityChunkContext.blocksVisited(),
+					SingularityChunkContext.blocksCleared());
 		}
 		return true;
 	}
@@ -448,48 +457,98 @@ public final class CollapseProcessor {
 	}
 
 	/**
-	 * Fill/clear a ring-shaped slice at the given radius.
-	 * Uses BulkFillHelper.clearVolume() which uses native /fill command when possible.
+	 * Clears only the new band for this ring step (see {@link CollapseRingGeometry}).
+	 * MATRIX and WALLS clear a square frame; OUTLINE, COLUMN, ROW and VECTOR
+	 * clear a circular annulus, and the thin shapes keep only their strip
+	 * through the center. Native fill is used for the square frames only.
+	 * 
+	 * Inward: the band runs from the ring's edge (widened by the wall thickness
+	 * for WALLS and OUTLINE) up to just inside the previously cleared edge.
+	 * Outward: the band runs from just outside the previously cleared edge up
+	 * to the ring's leading edge (radius + sliceThickness).
 	 */
 	private void fillSliceAtRadius(ServerWorld world, double radius, CollapseErosionSettings erosion) {
 		if (state.center == null) {
 			return;
 		}
 
+		CollapseFillShape fillShape = erosion.fillShape();
+		int thickness = erosion.outlineThickness();
 		int centerX = state.center.getX();
 		int centerZ = state.center.getZ();
 		int minY = world.getBottomY();
 		int maxY = minY + world.getDimension().height() - 1;
 
-		// Calculate the ring bounds based on collapse direction
-		int outerRadius;
+		int innerExclusive;
+		int outerInclusive;
 		if (state.inward) {
-			outerRadius = (int) Math.ceil(radius);
+			int edge = (int) Math.ceil(radius);
+			int lead = fillShape == CollapseFillShape.WALLS || fillShape == CollapseFillShape.OUTLINE
+					? Math.max(1, thickness) : 1;
+			outerInclusive = state.clearedEdge - 1;
+			innerExclusive = Math.max(-1, edge - lead);
+			if (outerInclusive <= innerExclusive) {
+				return;
+			}
+			state.clearedEdge = innerExclusive + 1;
 		} else {
-			outerRadius = (int) Math.floor(radius) + state.sliceThickness;
+			outerInclusive = (int) Math.floor(radius) + state.sliceThickness;
+			innerExclusive = state.clearedEdge;
+			if (outerInclusive <= innerExclusive) {
+				return;
+			}
+			state.clearedEdge = outerInclusive;
 		}
 
-		// Create bounding box for the fill area
-		BlockBox box = new BlockBox(
-			centerX - outerRadius, minY, centerZ - outerRadius,
-			centerX + outerRadius, maxY, centerZ + outerRadius
-		);
+		// Thin shapes: VECTOR follows the longest axis of this ring's box, like shouldFillShape
+		CollapseFillShape strip = fillShape;
+		if (fillShape == CollapseFillShape.VECTOR) {
+			strip = maxY - minY + 1 >= 2 * outerInclusive + 1 ? CollapseFillShape.COLUMN : CollapseFillShape.ROW;
+		}
+		int halfThickness = Math.max(0, (thickness - 1) / 2);
+		int reachX = Integer.MAX_VALUE;
+		int reachZ = Integer.MAX_VALUE;
+		int bandMinY = minY;
+		int bandMaxY = maxY;
+		if (strip == CollapseFillShape.COLUMN) {
+			reachX = halfThickness;
+			reachZ = halfThickness;
+		} else if (strip == CollapseFillShape.ROW) {
+			int centerY = (minY + maxY) >> 1;
+			reachZ = halfThickness;
+			bandMinY = Math.max(minY, centerY - halfThickness);
+			bandMaxY = Math.min(maxY, centerY + halfThickness);
+		}
+		CollapseRingGeometry.Metric metric = fillShape == CollapseFillShape.MATRIX || fillShape == CollapseFillShape.WALLS
+				? CollapseRingGeometry.Metric.SQUARE
+				: CollapseRingGeometry.Metric.CIRCULAR;
 
-		// Get fill settings from erosion config
 		CollapseFillMode fillMode = erosion.fillMode();
-		CollapseFillShape fillShape = erosion.fillShape();
 		boolean respectProtected = erosion.respectProtectedBlocks();
-		int thickness = erosion.outlineThickness();
-		boolean useNativeFill = erosion.useNativeFill();
+		CollapseFillEngine fillEngine = erosion.fillEngine();
+		int cleared = 0;
+		List<CollapseRingGeometry.SectionWork> work;
+		if (fillEngine == CollapseFillEngine.NATIVE && metric == CollapseRingGeometry.Metric.SQUARE) {
+			// Boxes the command path could not fill fall back to section clearing
+			List<BlockBox> unfinished = new ArrayList<>();
+			cleared = BulkFillHelper.clearBoxesNative(world,
+					CollapseRingGeometry.frameBoxes(centerX, centerZ, innerExclusive, outerInclusive, minY, maxY),
+					fillMode, unfinished);
+			work = new ArrayList<>();
+			for (BlockBox box : unfinished) {
+				work.addAll(CollapseRingGeometry.sectionsInBox(box));
+			}
+		} else {
+			work = CollapseRingGeometry.sections(centerX, centerZ, innerExclusive, outerInclusive, metric,
+					reachX, reachZ, bandMinY, bandMaxY);
+		}
+		cleared += BulkFillHelper.clearSections(world, work, fillMode, respectProtected, fillEngine, Block.NOTIFY_LISTENERS);
+		SingularityChunkContext.recordBlocksCleared(cleared);
 
-		// Use BulkFillHelper which uses native /fill command when possible
-		int cleared = BulkFillHelper.clearVolume(world, box, fillMode, fillShape, respectProtected, 
-			thickness, useNativeFill, Block.NOTIFY_LISTENERS);
-		
 		// Log first few fills to verify
 		if (radius >= state.startRadius - 3 || radius <= 3) {
-			Logging.SINGULARITY.info("[CollapseProcessor] fillSliceAtRadius: radius={} outerRadius={} fillShape={} cleared={} blocks", 
-					(int) radius, outerRadius, fillShape, cleared);
+			Logging.SINGULARITY.info("[CollapseProcessor] fillSliceAtRadius: radius={} band=({}, {}] fillShape={} sections={} cleared={} blocks",
+					(int) radius, innerExclusive, outerInclusive, fillShape, work.size(), cleared);
 		}
 	}
 	
@@ -509,6 +568,7 @@ public final class CollapseProcessor {
 		state.elapsedTicks = 0;
 		state.active = false;
 		state.lastProcessedRadius = -1;
+		state.clearedEdge = -1;
 		state.ticksSinceLastProcess = 0;
 		state.deferredDrainDelayRemaining = 0;
 		state.deferredDrainActive = false;
@@ -45,6 +45,22 @@ public final class CollapseSnapshotService {
 				buildBorderSnapshot().orElse(null)));
 	}
 
+	public Optional<CollapseProcessorSnapshot> buildCollapseProcessorSnapshot() {
+		CollapseProcessor.State processor = host.singularity().collapseProcessorState();
+		if (!processor.active || processor.center == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new CollapseProcessorSnapshot(processor.center,
+				processor.startRadius,
+				processor.endRadius,
+				processor.durationTicks,
+				processor.elapsedTicks,
+				processor.inward,
+				processor.lastProcessedRadius,
+				processor.sliceThickness,
+				processor.clearedEdge));
+	}
+
 	public Optional<SingularityBorderSnapshot> buildBorderSnapshot() {
 		SingularityBorderService.State border = host.singularity().borderState();
 		if (!border.active && !border.hasSnapshot) {
@@ -138,6 +154,24 @@ public final class CollapseSnapshotService {
 		// Destruction service removed - CollapseProcessor manages collapse state
 	}
 
+	public void applyCollapseProcessorSnapshot(CollapseProcessorSnapshot snapshot) {
+		CollapseProcessor.State processor = host.singularity().collapseProcessorState();
+		processor.center = snapshot.center().toImmutable();
+		processor.startRadius = snapshot.startRadius();
+		processor.endRadius = snapshot.endRadius();
+		processor.durationTicks = Math.max(1L, snapshot.durationTicks());
+		processor.elapsedTicks = Math.max(0L, snapshot.elapsedTicks());
+		processor.inward = snapshot.inward();
+		processor.lastProcessedRadius = snapshot.lastProcessedRadius();
+		processor.sliceThickness = Math.max(1, snapshot.sliceThickness());
+		processor.clearedEdge = snapshot.clearedEdge();
+		if (processor.inward && processor.clearedEdge < 0) {
+			// Older saves: re-clear from the start radius rather than stalling the band
+			processor.clearedEdge = (int) Math.ceil(processor.startRadius) + 1;
+		}
+		processor.active = true;
+	}
+
 	public void applySingularityBorderSnapshot(@Nullable SingularityBorderSnapshot snapshot) {
 		SingularityBorderService.State border = host.singularity().borderState();
 		if (snapshot == null) {
@@ -287,6 +321,29 @@ public final class CollapseSnapshotService {
 		).apply(inst, CollapseTimingSnapshot::new));
 	}
 
+	public record CollapseProcessorSnapshot(
+			BlockPos center,
+			double startRadius,
+			double endRadius,
+			long durationTicks,
+			long elapsedTicks,
+			boolean inward,
+			double lastProcessedRadius,
+			int sliceThickness,
+			int clearedEdge) {
+		public static final Codec<CollapseProcessorSnapshot> CODEC = RecordCodecBuilder.create(inst -> inst.group(
+				BlockPos.CODEC.fieldOf("center").forGetter(CollapseProcessorSnapshot::center),
+				Codec.DOUBLE.optionalFieldOf("startRadius", 0.0D).forGetter(CollapseProcessorSnapshot::startRadius),
+				Codec.DOUBLE.optionalFieldOf("endRadius", 0.0D).forGetter(CollapseProcessorSnapshot::endRadius),
+				Codec.LONG.optionalFieldOf("durationTicks", 1L).forGetter(CollapseProcessorSnapshot::durationTicks),
+				Codec.LONG.optionalFieldOf("elapsedTicks", 0L).forGetter(CollapseProcessorSnapshot::elapsedTicks),
+				Codec.BOOL.optionalFieldOf("inward", true).forGetter(CollapseProcessorSnapshot::inward),
+				Codec.DOUBLE.optionalFieldOf("lastProcessedRadius", -1.0D).forGetter(CollapseProcessorSnapshot::lastProcessedRadius),
+				Codec.INT.optionalFieldOf("sliceThickness", 16).forGetter(CollapseProcessorSnapshot::sliceThickness),
+				Codec.INT.optionalFieldOf("clearedEdge", -1).forGetter(CollapseProcessorSnapshot::clearedEdge)
+		).apply(inst, CollapseProcessorSnapshot::new));
+	}
+
 	public record ResetSnapshot(List<Long> queue, int delay) {
 		public static final Codec<ResetSnapshot> CODEC = RecordCodecBuilder.create(inst -> inst.group(
 				Codec.LONG.listOf().optionalFieldOf("queue", List.of()).forGetter(ResetSnapshot::queue),
@@ -12,7 +12,6 @@ import net.cyberpunk042.registry.ModBlocks;
 import net.cyberpunk042.util.VirusEquipmentHelper;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
-import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -46,7 +45,7 @@ public final class InfectionExposureService {
 		InfectionState state = host.infectionState();
 		Object2IntMap<UUID> contactTicks = state.infectiousContactTicks();
 		Set<UUID> active = new HashSet<>();
-		for (ServerPlayerEntity player : world.getPlayers(PlayerEntity::isAlive)) {
+		for (ServerPlayerEntity player : InfectionServices.get().worldSnapshot(world).players()) {
 			if (player.isSpectator() || player.isCreative()) {
 				contactTicks.removeInt(player.getUuid());
 				continue;
@@ -90,7 +89,7 @@ public final class InfectionExposureService {
 		Object2LongMap<UUID> warnCooldowns = state.infectiousInventoryWarnCooldowns();
 		Set<UUID> retained = new HashSet<>();
 		long now = world.getTime();
-		for (ServerPlayerEntity player : world.getPlayers(PlayerEntity::isAlive)) {
+		for (ServerPlayerEntity player : InfectionServices.get().worldSnapshot(world).players()) {
 			UUID uuid = player.getUuid();
 			if (player.isSpectator() || player.isCreative()
 					|| player.getInventory().count(infectiousStack.getItem()) <= 0) {
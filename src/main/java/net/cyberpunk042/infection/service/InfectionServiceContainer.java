@@ -3,7 +3,9 @@ package net.cyberpunk042.infection.service;
 import net.cyberpunk042.log.Logging;
 
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -13,10 +15,11 @@ import net.cyberpunk042.infection.VirusWorldState;
 import net.cyberpunk042.infection.api.EffectBus;
 import net.cyberpunk042.infection.api.SimpleEffectBus;
 import net.cyberpunk042.infection.api.VirusScheduler;
-import net.cyberpunk042.infection.api.SimpleVirusScheduler;
+import net.cyberpunk042.infection.api.TimingWheelVirusScheduler;
 import net.cyberpunk042.infection.collapse.CollapseBroadcastManager;
 import net.cyberpunk042.infection.collapse.BufferedCollapseBroadcastManager;
 import net.cyberpunk042.infection.api.ScenarioRegistry;
+import net.minecraft.server.world.ServerWorld;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -40,6 +43,7 @@ public final class InfectionServiceContainer {
 	private final GuardianSpawnService guardianSpawnService;
 	private final SingularityPresentationService presentation;
 	private final BiFunction<VirusWorldState, VirusSourceService.State, VirusSourceService> sourceFactory;
+	private final Map<ServerWorld, WorldTickSnapshot> worldSnapshots = new WeakHashMap<>();
 
 	private InfectionServiceContainer(Builder builder) {
 		this.config = builder.config;
@@ -123,6 +127,14 @@ public final class InfectionServiceContainer {
 		return sourceFactory.apply(state, sourceState);
 	}
 
+	/**
+	 * Returns this tick's snapshot of {@code world}, rebuilding it on the
+	 * first call of a tick. Server thread only.
+	 */
+	public WorldTickSnapshot worldSnapshot(ServerWorld world) {
+		return worldSnapshots.computeIfAbsent(world, WorldTickSnapshot::new).refresh();
+	}
+
 	public static Builder builder(Path configDir) {
 		return new Builder(configDir);
 	}
@@ -258,7 +270,7 @@ public final class InfectionServiceContainer {
 			WatchdogService watchdogService = watchdog != null ? watchdog : new WatchdogService(alertingService);
 			EffectBusFactory effectBuses = effectBusFactory != null ? effectBusFactory
 					: state -> new SimpleEffectBus(new EffectBusTelemetry(state));
-			Supplier<VirusScheduler> schedulers = schedulerFactory != null ? schedulerFactory : SimpleVirusScheduler::new;
+			Supplier<VirusScheduler> schedulers = schedulerFactory != null ? schedulerFactory : TimingWheelVirusScheduler::new;
 			ScenarioRegistryLoader scenarioLoader = new ScenarioRegistryLoader(config);
 			Supplier<ScenarioRegistry> scenarios = scenarioRegistryFactory != null ? scenarioRegistryFactory : scenarioLoader::load;
 			Function<VirusWorldState, CollapseBroadcastManager> broadcasts =
@@ -342,6 +354,9 @@ public final class InfectionServiceContainer {
 			if (loaded.diagnostics.logSpam == null) {
 				loaded.diagnostics.logSpam = new ServiceConfig.LogSpamSettings();
 			}
+			if (loaded.fields == null) {
+				loaded.fields = new ServiceConfig.Fields();
+			}
 			return loaded;
 		}
 
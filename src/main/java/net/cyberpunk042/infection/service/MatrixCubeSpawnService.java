@@ -37,7 +37,7 @@ public final class MatrixCubeSpawnService {
 			return false;
 		}
 
-		List<ServerPlayerEntity> players = world.getPlayers(ServerPlayerEntity::isAlive);
+		List<ServerPlayerEntity> players = InfectionServices.get().worldSnapshot(world).players();
 		if (players.isEmpty()) {
 			CorruptionProfiler.logMatrixCubeSkip(world, "no_players", null, active, maxActive);
 			return false;
@@ -15,6 +15,7 @@ public final class ServiceConfig {
 	public Singularity singularity = new Singularity();
 	public Fuse fuse = new Fuse();
 	public Diagnostics diagnostics = new Diagnostics();
+	public Fields fields = new Fields();
 
 	public static ServiceConfig defaults() {
 		return new ServiceConfig();
@@ -138,6 +139,8 @@ public final class ServiceConfig {
 		public boolean collapseEnabled = true;
 		public boolean allowChunkGeneration = true;
 		public boolean allowOutsideBorderLoad = true;
+		public boolean asyncChunkLoading = true;
+		public int chunkLoadMaxInFlight = 32;
 		// Legacy fields removed: multithreaded, workerCount, mode
 		// CollapseProcessor is now the only collapse system
 	}
@@ -150,6 +153,11 @@ public final class ServiceConfig {
 		public LogSpamSettings logSpam = new LogSpamSettings();
 	}
 
+	public static final class Fields {
+		/** Players farther than this from a field get no updates for it. */
+		public double viewRadius = 128.0D;
+	}
+
 	public static final class LogSpamSettings {
 		public boolean enableSpamDetection = true;
 		public int perSecondThreshold = 10;
@@ -0,0 +1,144 @@
+package net.cyberpunk042.infection.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.cyberpunk042.infection.service.ShieldFieldService.Coverage;
+import net.cyberpunk042.infection.service.ShieldFieldService.ShieldField;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Chunk-section index of shield coverage. Each section a shield touches is
+ * classified once when the shield set changes: fully inside some shield, or
+ * partially covered by a short list of shields. Sections that are not in the
+ * index are outside every shield, so the common case is one hash lookup.
+ *
+ * <p>Distances use block centres like {@link ShieldFieldService#isShielding(BlockPos)}:
+ * a block is shielded when {@code |block - anchor|² <= radius²} in block units.
+ */
+final class ShieldCoverageIndex {
+	private static final ShieldField[] NO_FIELDS = new ShieldField[0];
+
+	private final Long2ObjectOpenHashMap<SectionEntry> sections = new Long2ObjectOpenHashMap<>();
+
+	private static final class SectionEntry {
+		boolean full;
+		ShieldField[] partial = NO_FIELDS;
+	}
+
+	void rebuild(Collection<ShieldField> fields) {
+		sections.clear();
+		for (ShieldField field : fields) {
+			add(field);
+		}
+	}
+
+	boolean isEmpty() {
+		return sections.isEmpty();
+	}
+
+	Coverage coverage(long sectionKey) {
+		SectionEntry entry = sections.get(sectionKey);
+		if (entry == null) {
+			return Coverage.NONE;
+		}
+		return entry.full ? Coverage.FULL : Coverage.PARTIAL;
+	}
+
+	boolean contains(BlockPos pos) {
+		SectionEntry entry = sections.get(ChunkSectionPos.asLong(
+				ChunkSectionPos.getSectionCoord(pos.getX()),
+				ChunkSectionPos.getSectionCoord(pos.getY()),
+				ChunkSectionPos.getSectionCoord(pos.getZ())));
+		if (entry == null) {
+			return false;
+		}
+		if (entry.full) {
+			return true;
+		}
+		for (ShieldField field : entry.partial) {
+			if (distanceSq(field.center(), pos.getX(), pos.getY(), pos.getZ()) <= field.radiusSq()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void add(ShieldField field) {
+		BlockPos center = field.center();
+		int reach = MathHelper.floor(field.radius());
+		int minX = ChunkSectionPos.getSectionCoord(center.getX() - reach);
+		int maxX = ChunkSectionPos.getSectionCoord(center.getX() + reach);
+		int minY = ChunkSectionPos.getSectionCoord(center.getY() - reach);
+		int maxY = ChunkSectionPos.getSectionCoord(center.getY() + reach);
+		int minZ = ChunkSectionPos.getSectionCoord(center.getZ() - reach);
+		int maxZ = ChunkSectionPos.getSectionCoord(center.getZ() + reach);
+		for (int sx = minX; sx <= maxX; sx++) {
+			for (int sy = minY; sy <= maxY; sy++) {
+				for (int sz = minZ; sz <= maxZ; sz++) {
+					Coverage coverage = classify(field, sx, sy, sz);
+					if (coverage == Coverage.NONE) {
+						continue;
+					}
+					SectionEntry entry = sections.computeIfAbsent(ChunkSectionPos.asLong(sx, sy, sz), key -> new SectionEntry());
+					if (coverage == Coverage.FULL) {
+						// A fully covered section needs no per-block list
+						entry.full = true;
+						entry.partial = NO_FIELDS;
+					} else if (!entry.full) {
+						entry.partial = Arrays.copyOf(entry.partial, entry.partial.length + 1);
+						entry.partial[entry.partial.length - 1] = field;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Classifies one section against one shield using its nearest and
+	 * farthest block relative to the shield anchor.
+	 */
+	static Coverage classify(ShieldField field, int sectionX, int sectionY, int sectionZ) {
+		BlockPos center = field.center();
+		int minX = sectionX << 4;
+		int minY = sectionY << 4;
+		int minZ = sectionZ << 4;
+		long nearX = axisNear(center.getX(), minX);
+		long nearY = axisNear(center.getY(), minY);
+		long nearZ = axisNear(center.getZ(), minZ);
+		if (nearX * nearX + nearY * nearY + nearZ * nearZ > field.radiusSq()) {
+			return Coverage.NONE;
+		}
+		long farX = axisFar(center.getX(), minX);
+		long farY = axisFar(center.getY(), minY);
+		long farZ = axisFar(center.getZ(), minZ);
+		if (farX * farX + farY * farY + farZ * farZ <= field.radiusSq()) {
+			return Coverage.FULL;
+		}
+		return Coverage.PARTIAL;
+	}
+
+	private static long axisNear(int center, int min) {
+		if (center < min) {
+			return min - center;
+		}
+		if (center > min + 15) {
+			return center - (min + 15);
+		}
+		return 0L;
+	}
+
+	private static long axisFar(int center, int min) {
+		return Math.max(Math.abs(min - center), Math.abs(min + 15 - center));
+	}
+
+	private static double distanceSq(BlockPos center, int x, int y, int z) {
+		double dx = x - center.getX();
+		double dy = y - center.getY();
+		double dz = z - center.getZ();
+		return dx * dx + dy * dy + dz * dz;
+	}
+}
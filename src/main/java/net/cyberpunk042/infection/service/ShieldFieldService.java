@@ -23,6 +23,7 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World.ExplosionSourceType;
@@ -48,10 +49,23 @@ public final class ShieldFieldService {
 		}
 	}
 
+	/**
+	 * How much of a chunk section lies inside active shields.
+	 */
+	public enum Coverage {
+		/** No block in the section is shielded. */
+		NONE,
+		/** Some blocks are shielded; check per block. */
+		PARTIAL,
+		/** Every block in the section is shielded. */
+		FULL
+	}
+
 	private static final double SHIELD_FIELD_RADIUS = 12.0D;
 
 	private final VirusWorldState host;
 	private final Map<Long, ShieldField> activeShields = new HashMap<>();
+	private final ShieldCoverageIndex coverageIndex = new ShieldCoverageIndex();
 
 	public ShieldFieldService(VirusWorldState host) {
 		this.host = host;
@@ -75,6 +89,7 @@ public final class ShieldFieldService {
 			}
 			if (!isAnchorIntact(world, center)) {
 				iterator.remove();
+				coverageIndex.rebuild(activeShields.values());
 				broadcastRemoval(world, field.id());
 				world.playSound(null, center, SoundEvents.BLOCK_BEACON_DEACTIVATE, SoundCategory.BLOCKS, 1.0F, 0.8F);
 				notifyStatus(world, center, false);
@@ -160,32 +175,65 @@ public final class ShieldFieldService {
 		if (activeShields.isEmpty()) {
 			return false;
 		}
-		// Pre-compute sample position and chunk coords for fast filtering
-		int posChunkX = pos.getX() >> 4;
-		int posChunkZ = pos.getZ() >> 4;
-		double sampleX = pos.getX() + 0.5D;
-		double sampleY = pos.getY() + 0.5D;
-		double sampleZ = pos.getZ() + 0.5D;
-		
-		// Shield radius is 12 blocks = within ~1-2 chunks
-		final int CHUNK_FILTER_DISTANCE = 2;
-		
-		for (ShieldField field : activeShields.values()) {
-			// Fast chunk-distance check (skip shields that are clearly too far)
-			if (Math.abs(posChunkX - field.chunkX()) > CHUNK_FILTER_DISTANCE ||
-				Math.abs(posChunkZ - field.chunkZ()) > CHUNK_FILTER_DISTANCE) {
-				continue;
+		return coverageIndex.contains(pos);
+	}
+
+	/**
+	 * Bulk check: true only when every block of the section is shielded, so
+	 * callers can skip the whole section.
+	 */
+	public boolean isShielding(ChunkSectionPos section) {
+		return coverage(section) == Coverage.FULL;
+	}
+
+	public Coverage coverage(ChunkSectionPos section) {
+		return coverage(section.asLong());
+	}
+
+	public Coverage coverage(long sectionKey) {
+		if (activeShields.isEmpty()) {
+			return Coverage.NONE;
+		}
+		return coverageIndex.coverage(sectionKey);
+	}
+
+	/**
+	 * Returns a per-block checker that remembers the coverage of the last
+	 * section it saw. Loops that walk blocks in order only pay for a lookup
+	 * when they cross a section boundary and skip distance math entirely in
+	 * sections that are fully in or out. Do not keep it across ticks.
+	 */
+	public SectionProbe probe() {
+		return new SectionProbe(this);
+	}
+
+	public static final class SectionProbe {
+		private final ShieldFieldService service;
+		private long sectionKey = Long.MIN_VALUE;
+		private Coverage coverage = Coverage.NONE;
+
+		private SectionProbe(ShieldFieldService service) {
+			this.service = service;
+		}
+
+		public boolean isShielding(BlockPos pos) {
+			if (service.activeShields.isEmpty()) {
+				return false;
 			}
-			// Use pre-computed values for distance check
-			Vec3d center = field.centerVec();
-			double dx = sampleX - center.x;
-			double dy = sampleY - center.y;
-			double dz = sampleZ - center.z;
-			if (dx * dx + dy * dy + dz * dz <= field.radiusSq()) {
-				return true;
+			long key = ChunkSectionPos.asLong(
+					ChunkSectionPos.getSectionCoord(pos.getX()),
+					ChunkSectionPos.getSectionCoord(pos.getY()),
+					ChunkSectionPos.getSectionCoord(pos.getZ()));
+			if (key != sectionKey) {
+				sectionKey = key;
+				coverage = service.coverage(key);
 			}
+			return switch (coverage) {
+				case NONE -> false;
+				case FULL -> true;
+				case PARTIAL -> service.coverageIndex.contains(pos);
+			};
 		}
-		return false;
 	}
 
 	public boolean isPlayerShielded(ServerPlayerEntity player) {
@@ -215,11 +263,13 @@ public final class ShieldFieldService {
 	public void restoreSnapshot(List<ShieldField> snapshot) {
 		activeShields.clear();
 		if (snapshot == null || snapshot.isEmpty()) {
+			coverageIndex.rebuild(activeShields.values());
 			return;
 		}
 		for (ShieldField field : snapshot) {
 			activeShields.put(field.id(), field);
 		}
+		coverageIndex.rebuild(activeShields.values());
 	}
 
 	private void activate(ServerWorld world, BlockPos pos) {
@@ -229,6 +279,7 @@ public final class ShieldFieldService {
 		}
 		ShieldField field = ShieldField.create(key, pos, SHIELD_FIELD_RADIUS, world.getTime());
 		activeShields.put(key, field);
+		coverageIndex.rebuild(activeShields.values());
 		host.markDirty();
 		world.playSound(null, pos, SoundEvents.BLOCK_BEACON_ACTIVATE, SoundCategory.BLOCKS, 1.0F, 1.05F);
 		broadcastSpawn(world, field);
@@ -242,6 +293,7 @@ public final class ShieldFieldService {
 		if (removed == null) {
 			return;
 		}
+		coverageIndex.rebuild(activeShields.values());
 		host.markDirty();
 		world.playSound(null, pos, SoundEvents.BLOCK_BEACON_DEACTIVATE, SoundCategory.BLOCKS, 1.0F, 0.85F);
 		broadcastRemoval(world, removed.id());
@@ -252,6 +304,7 @@ public final class ShieldFieldService {
 		long key = pos.asLong();
 		ShieldField removed = activeShields.remove(key);
 		if (removed != null) {
+			coverageIndex.rebuild(activeShields.values());
 			broadcastRemoval(world, removed.id());
 			host.markDirty();
 		}
@@ -445,6 +445,7 @@ public final class SingularityPhaseService {
 		host.collapseModule().queues().chunkQueue().clear();
 		SingularityLifecycleService.State state = singularity();
 		ChunkPreparationService.State prepState = host.singularity().chunkPreparationState();
+		host.singularity().chunkPreparation().cancelPendingLoads();
 		prepState.preGenQueue.clear();
 		prepState.preloadQueue.clear();
 		state.singularityPinnedChunks.clear();
@@ -522,6 +523,7 @@ public final class SingularityPhaseService {
 		state.singularityCollapseCompleteHold = 0;
 		// Destruction/scheduler removed - CollapseProcessor manages state
 		ChunkPreparationService.State prepState = host.singularity().chunkPreparationState();
+		host.singularity().chunkPreparation().cancelPendingLoads();
 		prepState.preloadQueue.clear();
 		prepState.preloadComplete = false;
 		prepState.preloadMissingChunks = 0;
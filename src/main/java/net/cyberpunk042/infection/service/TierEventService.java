@@ -227,7 +227,7 @@ public final class TierEventService {
 		if (!canTrigger(VirusEventType.PASSIVE_REVOLT, 800)) {
 			return;
 		}
-		List<AnimalEntity> animals = world.getEntitiesByClass(AnimalEntity.class, new Box(origin).expand(32.0D), Entity::isAlive);
+		List<AnimalEntity> animals = InfectionServices.get().worldSnapshot(world).entities(AnimalEntity.class, new Box(origin).expand(32.0D), Entity::isAlive);
 		if (animals.isEmpty()) {
 			return;
 		}
@@ -255,7 +255,7 @@ public final class TierEventService {
 		if (!canTrigger(VirusEventType.MOB_BUFF_STORM, 700)) {
 			return;
 		}
-		List<HostileEntity> hostiles = world.getEntitiesByClass(HostileEntity.class, new Box(origin).expand(48.0D), Entity::isAlive);
+		List<HostileEntity> hostiles = InfectionServices.get().worldSnapshot(world).entities(HostileEntity.class, new Box(origin).expand(48.0D), Entity::isAlive);
 		if (hostiles.isEmpty()) {
 			return;
 		}
@@ -322,7 +322,7 @@ public final class TierEventService {
 		markEvent(VirusEventType.INVERSION);
 		Box box = new Box(origin).expand(32.0D);
 		int affected = 0;
-		for (LivingEntity entity : world.getEntitiesByClass(LivingEntity.class, box, Entity::isAlive)) {
+		for (LivingEntity entity : InfectionServices.get().worldSnapshot(world).entities(LivingEntity.class, box, Entity::isAlive)) {
 			entity.addStatusEffect(new StatusEffectInstance(StatusEffects.LEVITATION, 80 + tier.getIndex() * 20, 0));
 			affected++;
 		}
@@ -336,7 +336,7 @@ public final class TierEventService {
 		if (!canTrigger(VirusEventType.ENTITY_DUPLICATION, 1200)) {
 			return;
 		}
-		List<MobEntity> mobs = world.getEntitiesByClass(MobEntity.class, new Box(origin).expand(32.0D + tier.getIndex() * 4.0D), Entity::isAlive);
+		List<MobEntity> mobs = InfectionServices.get().worldSnapshot(world).entities(MobEntity.class, new Box(origin).expand(32.0D + tier.getIndex() * 4.0D), Entity::isAlive);
 		if (mobs.isEmpty()) {
 			return;
 		}
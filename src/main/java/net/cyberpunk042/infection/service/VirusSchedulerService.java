@@ -5,15 +5,16 @@ import java.util.List;
 import org.jetbrains.annotations.Nullable;
 
 import net.cyberpunk042.infection.api.SimpleVirusScheduler;
+import net.cyberpunk042.infection.api.TimingWheelVirusScheduler;
 import net.cyberpunk042.infection.api.VirusScheduler;
 import net.cyberpunk042.infection.api.VirusSchedulerMetrics;
 /**
  * Hosts the per-world scheduler instance. Persists tasks via a fallback
- * {@link SimpleVirusScheduler} but allows DI to swap in alternative
+ * {@link TimingWheelVirusScheduler} but allows DI to swap in alternative
  * implementations without leaking details back into {@code VirusWorldState}.
  */
 public final class VirusSchedulerService {
-	private final SimpleVirusScheduler fallback = new SimpleVirusScheduler();
+	private final TimingWheelVirusScheduler fallback = new TimingWheelVirusScheduler();
 	private VirusScheduler active = fallback;
 
 	public VirusScheduler scheduler() {
@@ -61,13 +62,33 @@ public final class VirusSchedulerService {
 		boolean usingFallback = active == fallback;
 		int backlog = backlogSize();
 		List<SimpleVirusScheduler.TaskSnapshot> tasks = snapshot();
-		return new SchedulerDiagnostics(implementation, usingFallback, backlog, tasks);
+		if (!(active instanceof VirusSchedulerMetrics metrics)) {
+			return new SchedulerDiagnostics(implementation, usingFallback, backlog,
+					false, 0, 0, new long[0], tasks);
+		}
+		return new SchedulerDiagnostics(implementation,
+				usingFallback,
+				backlog,
+				true,
+				metrics.executedLastTick(),
+				metrics.overdueLastTick(),
+				metrics.runTimeHistogram(),
+				tasks);
 	}
 
+	/**
+	 * Tick metrics are only reported when the active scheduler implements
+	 * {@link VirusSchedulerMetrics}; otherwise {@code metricsAvailable} is
+	 * false and the counters are zero.
+	 */
 	public record SchedulerDiagnostics(
 			String implementation,
 			boolean usingFallback,
 			int backlog,
+			boolean metricsAvailable,
+			int executedLastTick,
+			int overdueLastTick,
+			long[] runTimeHistogram,
 			List<SimpleVirusScheduler.TaskSnapshot> persistedTasks) {
 	}
 }
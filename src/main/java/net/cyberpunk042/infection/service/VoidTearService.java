@@ -23,7 +23,6 @@ import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.ItemEntity;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -222,7 +221,7 @@ public final class VoidTearService {
 	}
 
 	private BlockPos pickPlayerTearPos(ServerWorld world, Random random) {
-		List<ServerPlayerEntity> players = world.getPlayers(PlayerEntity::isAlive);
+		List<ServerPlayerEntity> players = InfectionServices.get().worldSnapshot(world).players();
 		if (players.isEmpty()) {
 			return null;
 		}
@@ -256,7 +255,7 @@ public final class VoidTearService {
 		double warnRangeSq = warnRange * warnRange;
 		Vec3d centerVec = Vec3d.ofCenter(center);
 		Text warning = Text.translatable("message.the-virus-block.void_tear.warning").formatted(Formatting.LIGHT_PURPLE);
-		for (ServerPlayerEntity player : world.getPlayers(PlayerEntity::isAlive)) {
+		for (ServerPlayerEntity player : InfectionServices.get().worldSnapshot(world).players()) {
 			if (player.squaredDistanceTo(centerVec) <= warnRangeSq) {
 				player.sendMessage(warning, true);
 			}
@@ -281,7 +280,7 @@ public final class VoidTearService {
 		Text message = pushPhase
 				? Text.translatable("message.the-virus-block.void_tear.push").formatted(Formatting.LIGHT_PURPLE)
 				: Text.translatable("message.the-virus-block.void_tear.pull").formatted(Formatting.LIGHT_PURPLE);
-		for (ServerPlayerEntity player : world.getPlayers(PlayerEntity::isAlive)) {
+		for (ServerPlayerEntity player : InfectionServices.get().worldSnapshot(world).players()) {
 			if (player.squaredDistanceTo(center) <= notifyRadiusSq) {
 				player.sendMessage(message, true);
 			}
@@ -298,7 +297,7 @@ public final class VoidTearService {
 		double effectRadius = Math.max(6.0D, tear.radius() * 1.4D);
 		Box box = new Box(tear.centerBlock()).expand(effectRadius);
 		int affected = 0;
-		for (LivingEntity living : world.getEntitiesByClass(LivingEntity.class, box, Entity::isAlive)) {
+		for (LivingEntity living : InfectionServices.get().worldSnapshot(world).entities(LivingEntity.class, box, Entity::isAlive)) {
 			if (host.shieldFieldService().isShielding(living.getBlockPos())) {
 				continue;
 			}
@@ -342,7 +341,7 @@ public final class VoidTearService {
 				living.damage(world, world.getDamageSources().explosion(null, null), tear.damage());
 			}
 		}
-		for (ItemEntity item : world.getEntitiesByClass(ItemEntity.class, box, entity -> !entity.isRemoved())) {
+		for (ItemEntity item : InfectionServices.get().worldSnapshot(world).entities(ItemEntity.class, box, entity -> !entity.isRemoved())) {
 			Vec3d delta = tear.centerVec().subtract(item.getPos());
 			double distance = delta.length();
 			if (distance < 0.1D) {
@@ -458,6 +457,7 @@ public final class VoidTearService {
 		int depth = Math.max(2, carveRadius + 1);
 		int radiusSq = carveRadius * carveRadius;
 		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		ShieldFieldService.SectionProbe shields = host.shieldFieldService().probe();
 		for (int dx = -carveRadius; dx <= carveRadius; dx++) {
 			for (int dz = -carveRadius; dz <= carveRadius; dz++) {
 				if (dx * dx + dz * dz > radiusSq) {
@@ -465,7 +465,7 @@ public final class VoidTearService {
 				}
 				for (int dy = 0; dy <= depth; dy++) {
 					mutable.set(center.getX() + dx, center.getY() - dy, center.getZ() + dz);
-					if (!world.isChunkLoaded(ChunkPos.toLong(mutable)) || host.shieldFieldService().isShielding(mutable)) {
+					if (!world.isChunkLoaded(ChunkPos.toLong(mutable)) || shields.isShielding(mutable)) {
 						continue;
 					}
 					BlockState state = world.getBlockState(mutable);
@@ -475,7 +475,7 @@ public final class VoidTearService {
 				}
 				for (int dy = 1; dy <= 2; dy++) {
 					mutable.set(center.getX() + dx, center.getY() + dy, center.getZ() + dz);
-					if (!world.isChunkLoaded(ChunkPos.toLong(mutable)) || host.shieldFieldService().isShielding(mutable)) {
+					if (!world.isChunkLoaded(ChunkPos.toLong(mutable)) || shields.isShielding(mutable)) {
 						continue;
 					}
 					BlockState state = world.getBlockState(mutable);
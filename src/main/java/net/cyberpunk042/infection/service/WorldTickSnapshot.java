@@ -0,0 +1,187 @@
+package net.cyberpunk042.infection.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.cyberpunk042.util.Probe;
+import net.cyberpunk042.util.ProbeRegistry;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Per-tick view of a world shared by the infection services, owned by
+ * {@link InfectionServiceContainer#worldSnapshot(ServerWorld)}.
+ *
+ * <p>The living-player list and the players' chunk positions are rebuilt on
+ * the first access of each server tick. The entity index is bucketed by
+ * chunk section and filled lazily: the first {@link #entities} query of a
+ * tick that reaches a section looks it up once through the world's sectioned
+ * entity lookup, keeping living entities (hostiles included) and items whose
+ * position lies in it. Later queries in the same tick read the bucket, and
+ * sections no query reaches are never visited.
+ *
+ * <p>Entities spawned or moved into an already filled section during the
+ * tick show up in the next tick's index; entities removed during the tick
+ * are skipped at query time. Fill and query time are recorded under the
+ * {@code Snapshot.*} probes so the index can be weighed against the lookups
+ * it replaces. Server thread only.
+ */
+public final class WorldTickSnapshot {
+	private static final Probe BUILD_PROBE = ProbeRegistry.register("Snapshot.players");
+	private static final Probe INDEX_PROBE = ProbeRegistry.register("Snapshot.index");
+	private static final Probe QUERY_PROBE = ProbeRegistry.register("Snapshot.query");
+	/** Entity boxes may reach this far outside the section holding their position. */
+	private static final double QUERY_MARGIN = 2.0D;
+
+	private final ServerWorld world;
+	private int builtTick = Integer.MIN_VALUE;
+	private final List<ServerPlayerEntity> players = new ArrayList<>();
+	private final List<ServerPlayerEntity> playersView = Collections.unmodifiableList(players);
+	private long[] playerChunks = new long[8];
+	private final Long2ObjectOpenHashMap<List<Entity>> sections = new Long2ObjectOpenHashMap<>();
+	private final List<List<Entity>> spareBuckets = new ArrayList<>();
+
+	WorldTickSnapshot(ServerWorld world) {
+		this.world = world;
+	}
+
+	WorldTickSnapshot refresh() {
+		int tick = world.getServer().getTicks();
+		if (tick != builtTick) {
+			builtTick = tick;
+			rebuildPlayers();
+			releaseIndex();
+		}
+		return this;
+	}
+
+	/**
+	 * Players alive at the start of the tick. Unmodifiable.
+	 */
+	public List<ServerPlayerEntity> players() {
+		return playersView;
+	}
+
+	/**
+	 * Packed {@link ChunkPos} of {@code players().get(index)}.
+	 */
+	public long playerChunk(int index) {
+		return playerChunks[index];
+	}
+
+	/**
+	 * True when any living player stands within {@code radius} chunks
+	 * (Chebyshev distance) of the packed chunk position.
+	 */
+	public boolean isPlayerNearChunk(long chunk, int radius) {
+		int x = ChunkPos.getPackedX(chunk);
+		int z = ChunkPos.getPackedZ(chunk);
+		for (int i = 0; i < players.size(); i++) {
+			long playerChunk = playerChunks[i];
+			if (Math.abs(ChunkPos.getPackedX(playerChunk) - x) <= radius
+					&& Math.abs(ChunkPos.getPackedZ(playerChunk) - z) <= radius) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Entities of {@code type} whose bounding box intersects {@code box}.
+	 * Living entities and items come from the section index; any other type
+	 * falls through to the world lookup. The returned list is fresh.
+	 */
+	public <T extends Entity> List<T> entities(Class<T> type, Box box, Predicate<? super T> filter) {
+		if (!LivingEntity.class.isAssignableFrom(type) && !ItemEntity.class.isAssignableFrom(type)) {
+			return world.getEntitiesByClass(type, box, filter);
+		}
+		long probeStart = QUERY_PROBE.start();
+		List<T> result = new ArrayList<>();
+		int minX = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minX - QUERY_MARGIN));
+		int minY = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minY - QUERY_MARGIN));
+		int minZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minZ - QUERY_MARGIN));
+		int maxX = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxX + QUERY_MARGIN));
+		int maxY = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxY + QUERY_MARGIN));
+		int maxZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxZ + QUERY_MARGIN));
+		for (int sx = minX; sx <= maxX; sx++) {
+			for (int sz = minZ; sz <= maxZ; sz++) {
+				for (int sy = minY; sy <= maxY; sy++) {
+					List<Entity> bucket = section(ChunkSectionPos.asLong(sx, sy, sz));
+					for (int i = 0; i < bucket.size(); i++) {
+						Entity entity = bucket.get(i);
+						if (!type.isInstance(entity) || entity.isRemoved() || !box.intersects(entity.getBoundingBox())) {
+							continue;
+						}
+						T typed = type.cast(entity);
+						if (filter.test(typed)) {
+							result.add(typed);
+						}
+					}
+				}
+			}
+		}
+		QUERY_PROBE.end(probeStart);
+		return result;
+	}
+
+	private void rebuildPlayers() {
+		long probeStart = BUILD_PROBE.start();
+		players.clear();
+		for (ServerPlayerEntity player : world.getPlayers()) {
+			if (player.isAlive()) {
+				players.add(player);
+			}
+		}
+		if (playerChunks.length < players.size()) {
+			playerChunks = new long[Math.max(players.size(), playerChunks.length * 2)];
+		}
+		for (int i = 0; i < players.size(); i++) {
+			BlockPos pos = players.get(i).getBlockPos();
+			playerChunks[i] = ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4);
+		}
+		BUILD_PROBE.end(probeStart);
+	}
+
+	/**
+	 * Bucket for a packed section position, filled on first use this tick.
+	 * Only entities positioned inside the section are kept, so an entity
+	 * lands in exactly one bucket even when its box spans several sections.
+	 */
+	private List<Entity> section(long key) {
+		List<Entity> bucket = sections.get(key);
+		if (bucket != null) {
+			return bucket;
+		}
+		long probeStart = INDEX_PROBE.start();
+		bucket = spareBuckets.isEmpty() ? new ArrayList<>() : spareBuckets.remove(spareBuckets.size() - 1);
+		int minX = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackX(key));
+		int minY = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackY(key));
+		int minZ = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackZ(key));
+		Box sectionBox = new Box(minX, minY, minZ, minX + 16, minY + 16, minZ + 16);
+		bucket.addAll(world.getEntitiesByClass(Entity.class, sectionBox, entity ->
+			(entity instanceof LivingEntity || entity instanceof ItemEntity)
+				&& ChunkSectionPos.toLong(entity.getBlockPos()) == key));
+		sections.put(key, bucket);
+		INDEX_PROBE.end(probeStart);
+		return bucket;
+	}
+
+	private void releaseIndex() {
+		for (List<Entity> bucket : sections.values()) {
+			bucket.clear();
+			spareBuckets.add(bucket);
+		}
+		sections.clear();
+	}
+}
@@ -1,10 +1,12 @@
 package net.cyberpunk042.infection.singularity;
 
+import java.util.List;
 import java.util.Locale;
 
 import org.jetbrains.annotations.Nullable;
 
 import net.cyberpunk042.registry.ModBlocks;
+import net.cyberpunk042.infection.profile.CollapseFillEngine;
 import net.cyberpunk042.infection.profile.CollapseFillMode;
 import net.cyberpunk042.infection.profile.CollapseFillShape;
 import net.minecraft.block.BlockState;
@@ -16,6 +18,8 @@ import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec2f;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
 
 /**
  * Minimal helper that emulates the vanilla /fill command for collapse purposes.
@@ -81,6 +85,107 @@ public final class BulkFillHelper {
 		return cleared;
 	}
 
+	/**
+	 * Clears section work units with the requested engine. NATIVE is
+	 * handled by the caller with whole boxes, so it maps to the per-block path
+	 * here; SECTION falls back to per-block for DESTROY (drops need the world).
+	 */
+	public static int clearSections(ServerWorld world,
+			List<CollapseRingGeometry.SectionWork> works,
+			CollapseFillMode mode,
+			boolean respectProtected,
+			CollapseFillEngine engine,
+			int updateFlags) {
+		if (engine == CollapseFillEngine.SECTION && mode == CollapseFillMode.AIR) {
+			return SectionPaletteFill.clear(world, works, respectProtected);
+		}
+		int cleared = 0;
+		for (CollapseRingGeometry.SectionWork work : works) {
+			cleared += clearSection(world, work, mode, respectProtected, updateFlags);
+			SingularityChunkContext.recordSectionProcessed();
+		}
+		return cleared;
+	}
+
+	/**
+	 * Clears the band columns of a single chunk section produced by
+	 * {@link CollapseRingGeometry}. Sections that are already all air are
+	 * skipped without touching individual blocks. Visited block counts are
+	 * reported to {@link SingularityChunkContext}.
+	 */
+	public static int clearSection(ServerWorld world,
+			CollapseRingGeometry.SectionWork work,
+			CollapseFillMode mode,
+			boolean respectProtected,
+			int updateFlags) {
+		WorldChunk chunk = world.getChunk(work.chunkX(), work.chunkZ());
+		int sectionIndex = chunk.getSectionIndex(work.minY());
+		if (sectionIndex < 0 || sectionIndex >= chunk.getSectionArray().length) {
+			return 0;
+		}
+		ChunkSection section = chunk.getSection(sectionIndex);
+		if (section.isEmpty()) {
+			return 0;
+		}
+
+		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		BlockState air = Blocks.AIR.getDefaultState();
+		int startX = work.chunkX() << 4;
+		int startZ = work.chunkZ() << 4;
+		int visited = 0;
+		int cleared = 0;
+		for (int y = work.minY(); y <= work.maxY(); y++) {
+			for (int localZ = 0; localZ < 16; localZ++) {
+				for (int localX = 0; localX < 16; localX++) {
+					if (!work.contains(localX, localZ)) {
+						continue;
+					}
+					visited++;
+					BlockState state = section.getBlockState(localX, y & 15, localZ);
+					if (shouldSkip(state)) {
+						continue;
+					}
+					mutable.set(startX + localX, y, startZ + localZ);
+					if (respectProtected && state.getHardness(world, mutable) < 0.0F) {
+						continue;
+					}
+					if (mode == CollapseFillMode.DESTROY) {
+						if (world.breakBlock(mutable, false)) {
+							cleared++;
+						}
+						continue;
+					}
+					world.setBlockState(mutable, air, updateFlags);
+					cleared++;
+				}
+			}
+		}
+		SingularityChunkContext.recordBlocksVisited(visited);
+		return cleared;
+	}
+
+	/**
+	 * Runs a native fill for each of the supplied boxes (typically the frame
+	 * boxes from {@link CollapseRingGeometry#frameBoxes}). Once the command
+	 * path fails, that box and every box after it are added to
+	 * {@code unfinished} so the caller can clear them another way; the return
+	 * value only counts the boxes that were filled.
+	 */
+	public static int clearBoxesNative(ServerWorld world, List<BlockBox> boxes, CollapseFillMode mode, List<BlockBox> unfinished) {
+		int total = 0;
+		for (int i = 0; i < boxes.size(); i++) {
+			BlockBox box = boxes.get(i);
+			int result = runNativeFill(world, box, mode, "replace");
+			if (result < 0) {
+				unfinished.addAll(boxes.subList(i, boxes.size()));
+				break;
+			}
+			SingularityChunkContext.recordBlocksVisited((int) Math.min(Integer.MAX_VALUE, boxVolume(box)));
+			total += result;
+		}
+		return total;
+	}
+
 	private static boolean shouldUseNativeFill(boolean useNativeFill, CollapseFillShape shape, BlockBox box) {
 		if (!useNativeFill) {
 			return false;
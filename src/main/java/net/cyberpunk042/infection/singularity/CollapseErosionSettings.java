@@ -1,5 +1,6 @@
 package net.cyberpunk042.infection.singularity;
 
+import net.cyberpunk042.infection.profile.CollapseFillEngine;
 import net.cyberpunk042.infection.profile.CollapseFillMode;
 import net.cyberpunk042.infection.profile.CollapseFillShape;
 import net.cyberpunk042.infection.profile.WaterDrainMode;
@@ -16,6 +17,7 @@ public record CollapseErosionSettings(
 		CollapseFillShape fillShape,
 		int outlineThickness,
 		boolean useNativeFill,
+		CollapseFillEngine fillEngine,
 		boolean respectProtectedBlocks,
 		int maxOperationsPerTick) {
 	
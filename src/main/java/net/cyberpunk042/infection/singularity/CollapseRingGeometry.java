@@ -0,0 +1,230 @@
+package net.cyberpunk042.infection.singularity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.ChunkSectionPos;
+
+/**
+ * Ring geometry for the collapse processor. Given a band between an inner
+ * (exclusive) and outer (inclusive) radius around a center column, produces
+ * either per-chunk-section work units or, for square bands, the four wall
+ * boxes of the frame. Bands can be further limited to a strip through the
+ * center for the thin fill shapes. Only the band is ever visited, so the cost
+ * of a ring step scales with the ring's area instead of the full square.
+ *
+ * <p>Column masks use the same {@code (localZ << 4) | localX} encoding as
+ * {@link SingularityRingSlices}.
+ */
+public final class CollapseRingGeometry {
+	private static final int COLUMNS_PER_SECTION = 256;
+
+	private CollapseRingGeometry() {
+	}
+
+	/**
+	 * Distance metric used to decide band membership.
+	 */
+	public enum Metric {
+		/** Chebyshev distance - the band is a square frame. */
+		SQUARE,
+		/** Euclidean distance - the band is a circular annulus. */
+		CIRCULAR
+	}
+
+	/**
+	 * One chunk section worth of band columns. {@code columnMask} holds 256
+	 * bits (four longs) marking which columns of the section belong to the band.
+	 */
+	public record SectionWork(int chunkX, int sectionY, int chunkZ, int minY, int maxY, long[] columnMask, int columnCount) {
+		public boolean contains(int localX, int localZ) {
+			int index = (localZ << 4) | (localX & 15);
+			return (columnMask[index >>> 6] & (1L << (index & 63))) != 0L;
+		}
+
+		public int blockCount() {
+			return columnCount * (maxY - minY + 1);
+		}
+	}
+
+	/**
+	 * Splits the band {@code innerExclusive < d <= outerInclusive} into
+	 * per-section work units covering {@code [minY, maxY]}. Only columns with
+	 * {@code |dx| <= reachX} and {@code |dz| <= reachZ} are kept, which is how
+	 * the thin shapes carve their strip out of the band (pass
+	 * {@link Integer#MAX_VALUE} for no limit). Chunks fully inside or outside
+	 * the band are rejected without per-column checks.
+	 */
+	public static List<SectionWork> sections(int centerX,
+			int centerZ,
+			double innerExclusive,
+			double outerInclusive,
+			Metric metric,
+			int reachX,
+			int reachZ,
+			int minY,
+			int maxY) {
+		List<SectionWork> work = new ArrayList<>();
+		if (outerInclusive < 0.0D || outerInclusive <= innerExclusive || maxY < minY) {
+			return work;
+		}
+		int reach = (int) Math.ceil(outerInclusive);
+		int minChunkX = ChunkSectionPos.getSectionCoord(centerX - reach);
+		int maxChunkX = ChunkSectionPos.getSectionCoord(centerX + reach);
+		int minChunkZ = ChunkSectionPos.getSectionCoord(centerZ - reach);
+		int maxChunkZ = ChunkSectionPos.getSectionCoord(centerZ + reach);
+		int minSectionY = ChunkSectionPos.getSectionCoord(minY);
+		int maxSectionY = ChunkSectionPos.getSectionCoord(maxY);
+
+		for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+			int startX = chunkX << 4;
+			for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+				int startZ = chunkZ << 4;
+				if (axisNear(startX, centerX) > reachX || axisNear(startZ, centerZ) > reachZ
+						|| !chunkIntersectsBand(startX, startZ, centerX, centerZ, innerExclusive, outerInclusive, metric)) {
+					continue;
+				}
+				long[] mask = new long[COLUMNS_PER_SECTION / 64];
+				int columns = 0;
+				for (int localZ = 0; localZ < 16; localZ++) {
+					int dz = startZ + localZ - centerZ;
+					if (Math.abs(dz) > reachZ) {
+						continue;
+					}
+					for (int localX = 0; localX < 16; localX++) {
+						int dx = startX + localX - centerX;
+						if (Math.abs(dx) > reachX || !inBand(dx, dz, innerExclusive, outerInclusive, metric)) {
+							continue;
+						}
+						int index = (localZ << 4) | localX;
+						mask[index >>> 6] |= 1L << (index & 63);
+						columns++;
+					}
+				}
+				if (columns == 0) {
+					continue;
+				}
+				for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+					int sectionMinY = Math.max(minY, sectionY << 4);
+					int sectionMaxY = Math.min(maxY, (sectionY << 4) + 15);
+					work.add(new SectionWork(chunkX, sectionY, chunkZ, sectionMinY, sectionMaxY, mask, columns));
+				}
+			}
+		}
+		return work;
+	}
+
+	/**
+	 * Splits an axis-aligned box into per-section work units.
+	 */
+	public static List<SectionWork> sectionsInBox(BlockBox box) {
+		List<SectionWork> work = new ArrayList<>();
+		int minSectionY = ChunkSectionPos.getSectionCoord(box.getMinY());
+		int maxSectionY = ChunkSectionPos.getSectionCoord(box.getMaxY());
+		for (int chunkX = ChunkSectionPos.getSectionCoord(box.getMinX()); chunkX <= ChunkSectionPos.getSectionCoord(box.getMaxX()); chunkX++) {
+			int startX = chunkX << 4;
+			int fromX = Math.max(box.getMinX(), startX) - startX;
+			int toX = Math.min(box.getMaxX(), startX + 15) - startX;
+			for (int chunkZ = ChunkSectionPos.getSectionCoord(box.getMinZ()); chunkZ <= ChunkSectionPos.getSectionCoord(box.getMaxZ()); chunkZ++) {
+				int startZ = chunkZ << 4;
+				int fromZ = Math.max(box.getMinZ(), startZ) - startZ;
+				int toZ = Math.min(box.getMaxZ(), startZ + 15) - startZ;
+				long[] mask = new long[COLUMNS_PER_SECTION / 64];
+				for (int localZ = fromZ; localZ <= toZ; localZ++) {
+					for (int localX = fromX; localX <= toX; localX++) {
+						int index = (localZ << 4) | localX;
+						mask[index >>> 6] |= 1L << (index & 63);
+					}
+				}
+				int columns = (toX - fromX + 1) * (toZ - fromZ + 1);
+				for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+					int sectionMinY = Math.max(box.getMinY(), sectionY << 4);
+					int sectionMaxY = Math.min(box.getMaxY(), (sectionY << 4) + 15);
+					work.add(new SectionWork(chunkX, sectionY, chunkZ, sectionMinY, sectionMaxY, mask, columns));
+				}
+			}
+		}
+		return work;
+	}
+
+	/**
+	 * Returns the wall boxes making up a square band. Each column of the band
+	 * is covered exactly once, so the boxes can be handed to a native fill
+	 * without overlap. Returns an empty list for non-square or empty bands.
+	 */
+	public static List<BlockBox> frameBoxes(int centerX,
+			int centerZ,
+			int innerExclusive,
+			int outerInclusive,
+			int minY,
+			int maxY) {
+		List<BlockBox> boxes = new ArrayList<>(4);
+		if (outerInclusive < 0 || outerInclusive <= innerExclusive || maxY < minY) {
+			return boxes;
+		}
+		int outer = outerInclusive;
+		if (innerExclusive < 0) {
+			boxes.add(new BlockBox(centerX - outer, minY, centerZ - outer, centerX + outer, maxY, centerZ + outer));
+			return boxes;
+		}
+		int inner = innerExclusive;
+		// North and south strips span the full width
+		boxes.add(new BlockBox(centerX - outer, minY, centerZ - outer, centerX + outer, maxY, centerZ - inner - 1));
+		boxes.add(new BlockBox(centerX - outer, minY, centerZ + inner + 1, centerX + outer, maxY, centerZ + outer));
+		// West and east strips exclude the rows already covered above
+		boxes.add(new BlockBox(centerX - outer, minY, centerZ - inner, centerX - inner - 1, maxY, centerZ + inner));
+		boxes.add(new BlockBox(centerX + inner + 1, minY, centerZ - inner, centerX + outer, maxY, centerZ + inner));
+		return boxes;
+	}
+
+	private static boolean inBand(int dx, int dz, double innerExclusive, double outerInclusive, Metric metric) {
+		if (metric == Metric.SQUARE) {
+			int distance = Math.max(Math.abs(dx), Math.abs(dz));
+			return distance > innerExclusive && distance <= outerInclusive;
+		}
+		double distSq = (double) dx * dx + (double) dz * dz;
+		double innerSq = innerExclusive < 0.0D ? -1.0D : innerExclusive * innerExclusive;
+		return distSq > innerSq && distSq <= outerInclusive * outerInclusive;
+	}
+
+	private static boolean chunkIntersectsBand(int startX,
+			int startZ,
+			int centerX,
+			int centerZ,
+			double innerExclusive,
+			double outerInclusive,
+			Metric metric) {
+		int nearDx = axisNear(startX, centerX);
+		int nearDz = axisNear(startZ, centerZ);
+		int farDx = Math.max(Math.abs(startX - centerX), Math.abs(startX + 15 - centerX));
+		int farDz = Math.max(Math.abs(startZ - centerZ), Math.abs(startZ + 15 - centerZ));
+		double near;
+		double far;
+		double inner;
+		double outer;
+		if (metric == Metric.SQUARE) {
+			near = Math.max(nearDx, nearDz);
+			far = Math.max(farDx, farDz);
+			inner = innerExclusive;
+			outer = outerInclusive;
+		} else {
+			near = (double) nearDx * nearDx + (double) nearDz * nearDz;
+			far = (double) farDx * farDx + (double) farDz * farDz;
+			inner = innerExclusive < 0.0D ? -1.0D : innerExclusive * innerExclusive;
+			outer = outerInclusive * outerInclusive;
+		}
+		// Entirely outside the outer edge, or entirely inside the inner edge
+		return near <= outer && far > inner;
+	}
+
+	private static int axisNear(int start, int center) {
+		if (center < start) {
+			return start - center;
+		}
+		if (center > start + 15) {
+			return center - (start + 15);
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,270 @@
+package net.cyberpunk042.infection.singularity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+
+import net.cyberpunk042.registry.ModBlocks;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.network.packet.s2c.play.ChunkDeltaUpdateS2CPacket;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.LightingProvider;
+import net.minecraft.world.poi.PointOfInterestStorage;
+import net.minecraft.world.poi.PointOfInterestTypes;
+
+/**
+ * Section-palette clear path used by {@link net.cyberpunk042.infection.profile.CollapseFillEngine#SECTION}.
+ *
+ * <p>Writes air straight into a {@link ChunkSection} instead of going through
+ * {@code world.setBlockState}, so there are no per-block neighbour updates,
+ * heightmap updates or packets. Fully covered sections that contain nothing
+ * we must keep are swapped for a fresh all-air container in one step.
+ * Afterwards, once per section:
+ * <ul>
+ *   <li>block entities and points of interest in the cleared cells are removed</li>
+ *   <li>light is re-checked only on the boundary of the cleared region and at
+ *       removed light sources (interior cells are reached by propagation)</li>
+ *   <li>one {@link ChunkDeltaUpdateS2CPacket} is sent to tracking players</li>
+ * </ul>
+ * Heightmaps are repopulated once per chunk after all of its sections in the
+ * batch have been written.
+ *
+ * <p>Only handles AIR fills; DESTROY needs drops and stays on the per-block path.
+ */
+public final class SectionPaletteFill {
+	private static final int SECTION_VOLUME = 16 * 16 * 16;
+
+	private SectionPaletteFill() {
+	}
+
+	/**
+	 * Clears every work unit in {@code works}, then repopulates the heightmaps
+	 * of each chunk that changed.
+	 */
+	public static int clear(ServerWorld world, List<CollapseRingGeometry.SectionWork> works, boolean respectProtected) {
+		Long2ObjectLinkedOpenHashMap<WorldChunk> touched = new Long2ObjectLinkedOpenHashMap<>();
+		int total = 0;
+		for (CollapseRingGeometry.SectionWork work : works) {
+			WorldChunk chunk = world.getChunk(work.chunkX(), work.chunkZ());
+			int cleared = clear(world, chunk, work, respectProtected);
+			if (cleared > 0) {
+				touched.putIfAbsent(chunk.getPos().toLong(), chunk);
+				total += cleared;
+			}
+			SingularityChunkContext.recordSectionProcessed();
+		}
+		for (WorldChunk chunk : touched.values()) {
+			populateHeightmaps(chunk);
+		}
+		return total;
+	}
+
+	private static int clear(ServerWorld world, WorldChunk chunk, CollapseRingGeometry.SectionWork work, boolean respectProtected) {
+		ChunkSection[] sections = chunk.getSectionArray();
+		int sectionIndex = chunk.getSectionIndex(work.minY());
+		if (sectionIndex < 0 || sectionIndex >= sections.length) {
+			return 0;
+		}
+		ChunkSection section = sections[sectionIndex];
+		if (section.isEmpty()) {
+			return 0;
+		}
+
+		int baseY = work.sectionY() << 4;
+		boolean fullSection = work.columnCount() == 256
+				&& work.minY() == baseY
+				&& work.maxY() == baseY + 15;
+		BitSet cleared = new BitSet(SECTION_VOLUME);
+		BitSet lightSources = new BitSet(SECTION_VOLUME);
+		BitSet pointsOfInterest = new BitSet(SECTION_VOLUME);
+		int visited;
+
+		if (fullSection && !section.hasAny(state -> mustKeep(state, respectProtected))) {
+			// Whole-section replace: note what was there for lighting, then swap the container
+			for (int index = 0; index < SECTION_VOLUME; index++) {
+				BlockState state = section.getBlockState(index & 15, index >> 8, (index >> 4) & 15);
+				if (state.isAir()) {
+					continue;
+				}
+				cleared.set(index);
+				if (state.getLuminance() > 0) {
+					lightSources.set(index);
+				}
+				if (PointOfInterestTypes.isPointOfInterest(state)) {
+					pointsOfInterest.set(index);
+				}
+			}
+			sections[sectionIndex] = new ChunkSection(
+					new PalettedContainer<>(Block.STATE_IDS, Blocks.AIR.getDefaultState(),
+							PalettedContainer.PaletteProvider.BLOCK_STATE),
+					section.getBiomeContainer());
+			section = sections[sectionIndex];
+			visited = SECTION_VOLUME;
+		} else {
+			visited = clearMasked(world, section, work, baseY, respectProtected, cleared, lightSources, pointsOfInterest);
+		}
+
+		SingularityChunkContext.recordBlocksVisited(visited);
+		int count = cleared.cardinality();
+		if (count == 0) {
+			return 0;
+		}
+		finishSection(world, chunk, section, work, baseY, cleared, lightSources, pointsOfInterest);
+		return count;
+	}
+
+	private static int clearMasked(ServerWorld world,
+			ChunkSection section,
+			CollapseRingGeometry.SectionWork work,
+			int baseY,
+			boolean respectProtected,
+			BitSet cleared,
+			BitSet lightSources,
+			BitSet pointsOfInterest) {
+		BlockState air = Blocks.AIR.getDefaultState();
+		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		int startX = work.chunkX() << 4;
+		int startZ = work.chunkZ() << 4;
+		int visited = 0;
+		section.lock();
+		try {
+			for (int y = work.minY(); y <= work.maxY(); y++) {
+				int localY = y - baseY;
+				for (int localZ = 0; localZ < 16; localZ++) {
+					for (int localX = 0; localX < 16; localX++) {
+						if (!work.contains(localX, localZ)) {
+							continue;
+						}
+						visited++;
+						BlockState state = section.getBlockState(localX, localY, localZ);
+						if (state.isAir() || mustKeep(state, false)) {
+							continue;
+						}
+						if (respectProtected) {
+							mutable.set(startX + localX, y, startZ + localZ);
+							if (state.getHardness(world, mutable) < 0.0F) {
+								continue;
+							}
+						}
+						section.setBlockState(localX, localY, localZ, air, false);
+						int index = index(localX, localY, localZ);
+						cleared.set(index);
+						if (state.getLuminance() > 0) {
+							lightSources.set(index);
+						}
+						if (PointOfInterestTypes.isPointOfInterest(state)) {
+							pointsOfInterest.set(index);
+						}
+					}
+				}
+			}
+		} finally {
+			section.unlock();
+		}
+		return visited;
+	}
+
+	private static void finishSection(ServerWorld world,
+			WorldChunk chunk,
+			ChunkSection section,
+			CollapseRingGeometry.SectionWork work,
+			int baseY,
+			BitSet cleared,
+			BitSet lightSources,
+			BitSet pointsOfInterest) {
+		int startX = work.chunkX() << 4;
+		int startZ = work.chunkZ() << 4;
+		ChunkSectionPos sectionPos = ChunkSectionPos.from(work.chunkX(), work.sectionY(), work.chunkZ());
+
+		// Block entities living in cleared cells
+		List<BlockPos> staleBlockEntities = new ArrayList<>();
+		for (BlockPos pos : chunk.getBlockEntityPositions()) {
+			if (ChunkSectionPos.getSectionCoord(pos.getY()) != work.sectionY()) {
+				continue;
+			}
+			if (cleared.get(index(pos.getX() & 15, pos.getY() - baseY, pos.getZ() & 15))) {
+				staleBlockEntities.add(pos);
+			}
+		}
+		for (BlockPos pos : staleBlockEntities) {
+			chunk.removeBlockEntity(pos);
+		}
+
+		// Points of interest (beds, workstations, portals) that lived in cleared cells
+		if (!pointsOfInterest.isEmpty()) {
+			PointOfInterestStorage poiStorage = world.getPointOfInterestStorage();
+			for (int index = pointsOfInterest.nextSetBit(0); index >= 0; index = pointsOfInterest.nextSetBit(index + 1)) {
+				poiStorage.remove(new BlockPos(startX + (index & 15), baseY + (index >> 8), startZ + ((index >> 4) & 15)));
+			}
+		}
+
+		// Lighting: section status plus boundary cells and removed light sources
+		LightingProvider lighting = world.getChunkManager().getLightingProvider();
+		lighting.setSectionStatus(sectionPos, section.isEmpty());
+		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		ShortOpenHashSet packed = new ShortOpenHashSet(cleared.cardinality());
+		for (int index = cleared.nextSetBit(0); index >= 0; index = cleared.nextSetBit(index + 1)) {
+			int localX = index & 15;
+			int localZ = (index >> 4) & 15;
+			int localY = index >> 8;
+			mutable.set(startX + localX, baseY + localY, startZ + localZ);
+			packed.add(ChunkSectionPos.packLocal(mutable));
+			if (lightSources.get(index) || isBoundary(cleared, localX, localY, localZ)) {
+				lighting.checkBlock(mutable.toImmutable());
+			}
+		}
+
+		chunk.markNeedsSaving();
+
+		// One delta packet for the whole section
+		ChunkDeltaUpdateS2CPacket packet = new ChunkDeltaUpdateS2CPacket(sectionPos, packed, section);
+		for (ServerPlayerEntity player : PlayerLookup.tracking(world, chunk.getPos())) {
+			player.networkHandler.sendPacket(packet);
+		}
+	}
+
+	private static void populateHeightmaps(WorldChunk chunk) {
+		EnumSet<Heightmap.Type> heightmapTypes = EnumSet.noneOf(Heightmap.Type.class);
+		for (Map.Entry<Heightmap.Type, Heightmap> entry : chunk.getHeightmaps()) {
+			heightmapTypes.add(entry.getKey());
+		}
+		if (!heightmapTypes.isEmpty()) {
+			Heightmap.populateHeightmaps(chunk, heightmapTypes);
+		}
+	}
+
+	private static boolean isBoundary(BitSet cleared, int localX, int localY, int localZ) {
+		return localX == 0 || localX == 15 || localY == 0 || localY == 15 || localZ == 0 || localZ == 15
+				|| !cleared.get(index(localX - 1, localY, localZ))
+				|| !cleared.get(index(localX + 1, localY, localZ))
+				|| !cleared.get(index(localX, localY - 1, localZ))
+				|| !cleared.get(index(localX, localY + 1, localZ))
+				|| !cleared.get(index(localX, localY, localZ - 1))
+				|| !cleared.get(index(localX, localY, localZ + 1));
+	}
+
+	private static boolean mustKeep(BlockState state, boolean respectProtected) {
+		return state.isOf(ModBlocks.VIRUS_BLOCK)
+				|| state.isOf(ModBlocks.SINGULARITY_BLOCK)
+				|| (respectProtected && state.getBlock().getHardness() < 0.0F);
+	}
+
+	private static int index(int localX, int localY, int localZ) {
+		return (localY << 8) | (localZ << 4) | localX;
+	}
+}
@@ -50,11 +50,13 @@ public final class SingularityChunkContext {
 		if (ctx != null && (ctx.world == world || world == null)) {
 			if (chunkLoggingEnabled()) {
 				Logging.SINGULARITY.topic("chunk").info(
-						"tick={} colsProcessed={} colsCompleted={} blocksCleared={} skippedMissing={} skippedBorder={} waterRemoved={}",
+						"tick={} colsProcessed={} colsCompleted={} blocksVisited={} blocksCleared={} sections={} skippedMissing={} skippedBorder={} waterRemoved={}",
 						world.getTime(),
 						ctx.columnsProcessed,
 						ctx.columnsCompleted,
+						ctx.blocksVisited,
 						ctx.blocksCleared,
+						ctx.sectionsProcessed,
 						ctx.skippedMissingChunks,
 						ctx.skippedBorderChunks,
 						ctx.waterCellsCleared);
@@ -135,6 +137,33 @@ public final class SingularityChunkContext {
 		}
 	}
 
+	public static void recordBlocksVisited(int amount) {
+		if (amount <= 0) {
+			return;
+		}
+		Context ctx = ACTIVE.get();
+		if (ctx != null) {
+			ctx.blocksVisited += amount;
+		}
+	}
+
+	public static void recordSectionProcessed() {
+		Context ctx = ACTIVE.get();
+		if (ctx != null) {
+			ctx.sectionsProcessed++;
+		}
+	}
+
+	public static long blocksVisited() {
+		Context ctx = ACTIVE.get();
+		return ctx == null ? 0L : ctx.blocksVisited;
+	}
+
+	public static long blocksCleared() {
+		Context ctx = ACTIVE.get();
+		return ctx == null ? 0L : ctx.blocksCleared;
+	}
+
 	public static void recordWaterCleared() {
 		Context ctx = ACTIVE.get();
 		if (ctx != null) {
@@ -242,7 +271,9 @@ public final class SingularityChunkContext {
 		int skippedBorderChunks;
 		int waterCellsCleared;
 		int columnsCompleted;
-		int blocksCleared;
+		long blocksCleared;
+		long blocksVisited;
+		int sectionsProcessed;
 		int missingSamples;
 		int borderSamples;
 		int broadcastBuffered;
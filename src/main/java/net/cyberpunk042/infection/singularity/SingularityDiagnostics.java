@@ -1,8 +1,14 @@
 package net.cyberpunk042.infection.singularity;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 import net.cyberpunk042.infection.service.InfectionServiceContainer;
 import net.cyberpunk042.infection.service.InfectionServices;
 import net.cyberpunk042.infection.service.ServiceConfig;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.world.World;
 
 /**
  * Central accessors for collapse diagnostics so legacy {@code SingularityConfig}
@@ -10,6 +16,17 @@ import net.cyberpunk042.infection.service.ServiceConfig;
  */
 public final class SingularityDiagnostics {
 	private static final ServiceConfig.Diagnostics FALLBACK = new ServiceConfig.Diagnostics();
+	private static final Map<RegistryKey<World>, ChunkLoadStats> CHUNK_LOADS = new ConcurrentHashMap<>();
+
+	/**
+	 * Snapshot of the async chunk preload/pre-generation window.
+	 *
+	 * @param phase           {@code "preGen"} or {@code "preload"}
+	 * @param inFlight        chunk futures currently pending
+	 * @param chunksPerSecond completions per second over the last second of ticks
+	 */
+	public record ChunkLoadStats(String phase, int inFlight, double chunksPerSecond, long completed, long failed) {
+	}
 
 	private SingularityDiagnostics() {
 	}
@@ -46,6 +63,18 @@ public final class SingularityDiagnostics {
 		return interval > 0 ? interval : 20;
 	}
 
+	public static void recordChunkLoad(RegistryKey<World> world, ChunkLoadStats stats) {
+		CHUNK_LOADS.put(world, stats);
+	}
+
+	public static void clearChunkLoad(RegistryKey<World> world) {
+		CHUNK_LOADS.remove(world);
+	}
+
+	public static Optional<ChunkLoadStats> chunkLoad(RegistryKey<World> world) {
+		return Optional.ofNullable(CHUNK_LOADS.get(world));
+	}
+
 	public static ServiceConfig.LogSpamSettings logSpamSettings() {
 		ServiceConfig.Diagnostics diagnostics = diagnostics();
 		ServiceConfig.LogSpamSettings logSpam = diagnostics.logSpam;
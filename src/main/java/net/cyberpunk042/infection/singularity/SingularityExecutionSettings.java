@@ -51,6 +51,14 @@ public final class SingularityExecutionSettings {
 				&& world.getGameRules().getBoolean(TheVirusBlock.VIRUS_SINGULARITY_ALLOW_CHUNK_GENERATION);
 	}
 
+	public static boolean asyncChunkLoading() {
+		return snapshot().asyncChunkLoading;
+	}
+
+	public static int chunkLoadMaxInFlight() {
+		return Math.max(1, snapshot().chunkLoadMaxInFlight);
+	}
+
 	public static boolean allowOutsideBorderLoad() {
 		return snapshot().allowOutsideBorderLoad;
 	}
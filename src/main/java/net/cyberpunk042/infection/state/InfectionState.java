@@ -4,6 +4,7 @@ import java.util.EnumMap;
 import java.util.Map;
 import java.util.UUID;
 
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
@@ -34,6 +35,11 @@ public final class InfectionState {
 	private final Object2IntMap<UUID> infectiousContactTicks = new Object2IntOpenHashMap<>();
 	private final Object2IntMap<UUID> helmetPingTimers = new Object2IntOpenHashMap<>();
 	private final Object2DoubleMap<UUID> heavyPantsVoidWear = new Object2DoubleOpenHashMap<>();
+	/**
+	 * Chunks still waiting to be cleansed, in processing order. Persisted so an
+	 * interrupted cleanse resumes after a restart.
+	 */
+	private final LongLinkedOpenHashSet cleanseQueue = new LongLinkedOpenHashSet();
 	
 	/**
 	 * Tracks how many times the virus has been hurt by each damage type.
@@ -114,6 +120,10 @@ public final class InfectionState {
 		this.cleansingActive = cleansingActive;
 	}
 
+	public LongLinkedOpenHashSet cleanseQueue() {
+		return cleanseQueue;
+	}
+
 	public boolean boobytrapDefaultsCaptured() {
 		return boobytrapDefaultsCaptured;
 	}
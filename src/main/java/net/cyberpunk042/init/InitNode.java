@@ -113,6 +113,7 @@ public abstract class InitNode {
     
     private final java.util.Set<String> dependencies = new java.util.HashSet<>();
     private boolean reloadable = false;
+    private boolean mainThread = false;
     
     // ═══════════════════════════════════════════════════════════════════════════
     // STATE - What's the current status?
@@ -262,6 +263,27 @@ public abstract class InitNode {
         return this;
     }
     
+    /**
+     * Pin this node to the thread that calls {@link InitOrchestrator#execute()}.
+     * 
+     * <p>Only matters in parallel mode, where other nodes run on a worker pool.
+     * Use it for nodes that touch vanilla registries, payload types or the
+     * render system, none of which are safe to call from another thread.
+     * 
+     * <pre>{@code
+     * public static final InitNode BLOCKS = InitNode.simple(
+     *     "blocks", "Blocks",
+     *     () -> { ModBlocks.bootstrap(); return 1; }
+     * ).onMainThread();
+     * }</pre>
+     * 
+     * @return this (for chaining)
+     */
+    public InitNode onMainThread() {
+        this.mainThread = true;
+        return this;
+    }
+    
     // ═══════════════════════════════════════════════════════════════════════════
     // ABSTRACT METHOD - You MUST implement this
     // ═══════════════════════════════════════════════════════════════════════════
@@ -468,6 +490,9 @@ public abstract class InitNode {
     /** @return Whether this node supports hot-reload */
     public boolean isReloadable() { return reloadable; }
     
+    /** @return Whether this node must run on the calling thread in parallel mode */
+    public boolean requiresMainThread() { return mainThread; }
+    
     /** @return IDs of nodes this depends on */
     public Set<String> dependencies() { return Collections.unmodifiableSet(dependencies); }
     
@@ -3,6 +3,12 @@ package net.cyberpunk042.init;
 import net.cyberpunk042.log.Logging;
 
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages execution of init nodes in the correct order.
@@ -34,12 +40,32 @@ import java.util.*;
  *     .register(new FieldRegistryNode()) // Will run first
  *     .execute();
  * }</pre>
+ * 
+ * <h2>Parallel Mode</h2>
+ * <pre>{@code
+ * // Opt in with -Dthevirusblock.initWorkers=4, or:
+ * Init.orchestrator()
+ *     .parallel(4)
+ *     .stage(fieldStage)
+ *     .execute();
+ * }</pre>
+ * 
+ * <p>Each node is handed to a bounded worker pool as soon as its
+ * dependencies are done. Nodes marked {@link InitNode#onMainThread()} still
+ * run on the thread that called {@code execute()}. Stages remain barriers,
+ * events are fired from the calling thread, and {@link InitSummary} records
+ * every node's span so the critical path can be read off the report.
  */
 public class InitOrchestrator {
     
+    /** Worker count for parallel mode; 0 or unset keeps sequential execution. */
+    public static final String WORKERS_PROPERTY = "thevirusblock.initWorkers";
+    
     private final InitStore store;
     private final List<InitNode> registrationOrder = new ArrayList<>();
     private boolean executed = false;
+    private int workers = Math.max(0, Integer.getInteger(WORKERS_PROPERTY, 0));
+    private ExecutorService pool;
     
     /**
      * Create an orchestrator that reports to the given store.
@@ -48,6 +74,17 @@ public class InitOrchestrator {
         this.store = store;
     }
     
+    /**
+     * Run nodes on a pool of {@code workers} threads as their dependencies
+     * complete. Pass 0 to go back to running nodes one at a time.
+     * 
+     * @return this (for chaining)
+     */
+    public InitOrchestrator parallel(int workers) {
+        this.workers = Math.max(0, workers);
+        return this;
+    }
+    
     // ═══════════════════════════════════════════════════════════════════════════
     // REGISTRATION - Tell the orchestrator what to load
     // ═══════════════════════════════════════════════════════════════════════════
@@ -189,16 +226,25 @@ public class InitOrchestrator {
         
         executed = true;
         store.markStarted();
+        if (workers > 0) {
+            pool = Executors.newFixedThreadPool(workers, workerFactory());
+            Logging.REGISTRY.info("Parallel initialization with {} workers", workers);
+        }
         
-        // If we have stages, execute stage by stage
-        if (!stageOrder.isEmpty()) {
-            executeByStages();
-        } else {
-            // No stages - execute all nodes in dependency order
-            List<InitNode> sorted = sortByDependencies();
-            Logging.REGISTRY.info("Starting initialization with {} nodes...", sorted.size());
-            for (InitNode node : sorted) {
-                executeNode(node, null);
+        try {
+            // If we have stages, execute stage by stage
+            if (!stageOrder.isEmpty()) {
+                executeByStages();
+            } else {
+                // No stages - execute all nodes in dependency order
+                List<InitNode> sorted = sortByDependencies();
+                Logging.REGISTRY.info("Starting initialization with {} nodes...", sorted.size());
+                executeNodes(sorted, null);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
             }
         }
         
@@ -246,9 +292,7 @@ public class InitOrchestrator {
         List<InitNode> stageNodes = sortNodesInStage(stage);
         
         // Execute each node
-        for (InitNode node : stageNodes) {
-            executeNode(node, stage);
-        }
+        executeNodes(stageNodes, stage);
         
         // Fire stage complete/failed event
         stage.markComplete();
@@ -285,24 +329,156 @@ public class InitOrchestrator {
     }
     
     /**
-     * Execute a single node (used internally and for reload).
+     * Execute dependency-sorted nodes, sequentially or on the pool.
+     */
+    private void executeNodes(List<InitNode> sorted, InitStage stage) {
+        if (pool == null) {
+            for (InitNode node : sorted) {
+                executeNode(node, stage);
+            }
+        } else {
+            executeParallel(sorted, stage);
+        }
+    }
+    
+    /**
+     * Execute a single node on the calling thread.
      * @param stage The containing stage (for stage events), or null if no stages
      */
     private void executeNode(InitNode node, InitStage stage) {
-        // Check dependencies are satisfied
+        if (!dependenciesMet(node)) {
+            return;
+        }
+        store.fireEvent(InitEvent.started(node));
+        finishNode(run(node), stage);
+    }
+    
+    /**
+     * Execute nodes as a DAG. Worker nodes go to the pool the moment their
+     * last dependency finishes; main-thread nodes run here in between, while
+     * waiting on workers. Results, events and stage progress are all handled
+     * on this thread.
+     */
+    private void executeParallel(List<InitNode> sorted, InitStage stage) {
+        Map<String, InitNode> byId = new HashMap<>();
+        for (InitNode node : sorted) {
+            byId.put(node.id(), node);
+        }
+        
+        // Count only dependencies inside this batch; earlier stages are done
+        Map<InitNode, Integer> waiting = new HashMap<>();
+        Map<String, List<InitNode>> dependents = new HashMap<>();
+        Deque<InitNode> ready = new ArrayDeque<>();
+        for (InitNode node : sorted) {
+            int pending = 0;
+            for (String depId : node.dependencies()) {
+                if (byId.containsKey(depId)) {
+                    pending++;
+                    dependents.computeIfAbsent(depId, k -> new ArrayList<>()).add(node);
+                }
+            }
+            if (pending == 0) {
+                ready.add(node);
+            } else {
+                waiting.put(node, pending);
+            }
+        }
+        
+        BlockingQueue<Finished> finished = new LinkedBlockingQueue<>();
+        Deque<InitNode> mainThread = new ArrayDeque<>();
+        int inFlight = 0;
+        
+        while (true) {
+            // Dispatch everything that became ready
+            while (!ready.isEmpty()) {
+                InitNode node = ready.poll();
+                if (!dependenciesMet(node)) {
+                    release(node, dependents, waiting, ready);
+                    continue;
+                }
+                if (node.requiresMainThread()) {
+                    mainThread.add(node);
+                } else {
+                    store.fireEvent(InitEvent.started(node));
+                    pool.execute(() -> finished.add(run(node)));
+                    inFlight++;
+                }
+            }
+            
+            Finished done;
+            if (!mainThread.isEmpty()) {
+                InitNode node = mainThread.poll();
+                store.fireEvent(InitEvent.started(node));
+                done = run(node);
+            } else if (inFlight > 0) {
+                try {
+                    done = finished.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    Logging.REGISTRY.error("Interrupted with {} init nodes still running", inFlight);
+                    return;
+                }
+                inFlight--;
+            } else {
+                break;
+            }
+            
+            finishNode(done, stage);
+            release(done.node(), dependents, waiting, ready);
+        }
+        
+        for (InitNode node : waiting.keySet()) {
+            Logging.REGISTRY.warn("Skipping {} - dependencies never completed (cycle?)", node.id());
+        }
+    }
+    
+    private static void release(InitNode node, Map<String, List<InitNode>> dependents,
+                                Map<InitNode, Integer> waiting, Deque<InitNode> ready) {
+        for (InitNode dependent : dependents.getOrDefault(node.id(), List.of())) {
+            int pending = waiting.merge(dependent, -1, Integer::sum);
+            if (pending == 0) {
+                waiting.remove(dependent);
+                ready.add(dependent);
+            }
+        }
+    }
+    
+    private boolean dependenciesMet(InitNode node) {
         for (String depId : node.dependencies()) {
             if (!store.isComplete(depId)) {
                 Logging.REGISTRY.warn("Skipping {} - dependency {} not complete", 
                     node.id(), depId);
-                return;
+                return false;
             }
         }
-        
-        // Fire started event
-        store.fireEvent(InitEvent.started(node));
-        
-        // Execute
+        return true;
+    }
+    
+    /** A node's result plus where and when it ran. */
+    private record Finished(InitNode node, InitResult result, String thread, long startNanos, long endNanos) {}
+    
+    private static Finished run(InitNode node) {
+        long start = System.nanoTime();
         InitResult result = node.execute();
+        return new Finished(node, result, Thread.currentThread().getName(), start, System.nanoTime());
+    }
+    
+    private static ThreadFactory workerFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "VirusInit-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    /**
+     * Record a finished node and fire its completion events.
+     */
+    private void finishNode(Finished done, InitStage stage) {
+        InitNode node = done.node();
+        InitResult result = done.result();
+        store.recordSpan(node, done.thread(), done.startNanos(), done.endNanos());
         store.recordResult(result);
         
         // Update stage progress
@@ -514,6 +690,16 @@ public class InitOrchestrator {
     // ═══════════════════════════════════════════════════════════════════════════
     
     private void logSummary(InitSummary summary) {
+        List<InitSummary.Span> critical = summary.criticalPath();
+        if (!critical.isEmpty()) {
+            StringBuilder path = new StringBuilder();
+            for (InitSummary.Span span : critical) {
+                if (path.length() > 0) path.append(" → ");
+                path.append(span.nodeId()).append(String.format(" (%.1fms)", span.durationMs()));
+            }
+            Logging.REGISTRY.info("Critical path: {}", path);
+        }
+        
         if (summary.allSucceeded()) {
             Logging.REGISTRY.info("Initialization complete: {} nodes, {} items, {}ms",
                 summary.completedCount(),
@@ -53,6 +53,10 @@ public class InitStore {
     // Timing
     private long startTime = 0;
     private long endTime = 0;
+    private long startNanos = 0;
+    
+    // Per-node spans from execute(), in completion order
+    private final List<InitSummary.Span> timeline = new ArrayList<>();
     
     // ═══════════════════════════════════════════════════════════════════════════
     // NODE REGISTRATION - Called by orchestrator
@@ -81,8 +85,16 @@ public class InitStore {
         results.put(result.nodeId(), result);
     }
     
+    /**
+     * Record when a node ran (absolute {@link System#nanoTime()} values).
+     */
+    void recordSpan(InitNode node, String thread, long startedAt, long endedAt) {
+        timeline.add(new InitSummary.Span(node, thread, startedAt - startNanos, endedAt - startNanos));
+    }
+    
     void markStarted() {
         startTime = System.currentTimeMillis();
+        startNanos = System.nanoTime();
     }
     
     void markEnded() {
@@ -338,7 +350,7 @@ public class InitStore {
     public InitSummary getSummary() {
         List<InitResult> resultList = new ArrayList<>(results.values());
         long duration = endTime > 0 ? endTime - startTime : System.currentTimeMillis() - startTime;
-        return new InitSummary(resultList, duration);
+        return new InitSummary(resultList, duration, List.copyOf(timeline));
     }
     
     // ═══════════════════════════════════════════════════════════════════════════
@@ -368,10 +380,12 @@ public class InitStore {
         nodes.clear();
         stages.clear();
         results.clear();
+        timeline.clear();
         subscribers.clear();
         stageSubscribers.clear();
         startTime = 0;
         endTime = 0;
+        startNanos = 0;
         Logging.REGISTRY.debug("InitStore reset");
     }
     
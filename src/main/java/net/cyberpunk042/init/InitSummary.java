@@ -1,6 +1,12 @@
 package net.cyberpunk042.init;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -22,13 +28,38 @@ import java.util.stream.Collectors;
  * 
  * // Print detailed report
  * summary.printReport();
+ * 
+ * // Which nodes gated startup?
+ * for (InitSummary.Span span : summary.criticalPath()) {
+ *     System.out.println(span.node().displayName() + " " + span.durationMs() + "ms");
+ * }
  * }</pre>
  */
 public record InitSummary(
     List<InitResult> results,
-    long totalTimeMs
+    long totalTimeMs,
+    List<Span> timeline
 ) {
     
+    /**
+     * Wall-clock span of one node during {@code execute()}.
+     * Times are nanoseconds since the orchestrator started.
+     */
+    public record Span(InitNode node, String thread, long startNanos, long endNanos) {
+        
+        public String nodeId() {
+            return node.id();
+        }
+        
+        public double startMs() {
+            return startNanos / 1_000_000.0;
+        }
+        
+        public double durationMs() {
+            return (endNanos - startNanos) / 1_000_000.0;
+        }
+    }
+    
     // ═══════════════════════════════════════════════════════════════════════════
     // COUNTS
     // ═══════════════════════════════════════════════════════════════════════════
@@ -92,6 +123,61 @@ public record InitSummary(
             .toList();
     }
     
+    // ═══════════════════════════════════════════════════════════════════════════
+    // TIMELINE
+    // ═══════════════════════════════════════════════════════════════════════════
+    
+    /**
+     * The chain of nodes that decided when initialization finished.
+     * 
+     * <p>Starts from the node that ended last and walks back to whatever
+     * gated it: the declared dependency that finished last, or, for nodes
+     * without recorded dependencies, the last node to finish before it
+     * started (a stage barrier, or simply the previous node when running
+     * sequentially). Returned in execution order.
+     */
+    public List<Span> criticalPath() {
+        if (timeline.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Span> byId = new HashMap<>();
+        Span last = null;
+        for (Span span : timeline) {
+            byId.put(span.nodeId(), span);
+            if (last == null || span.endNanos() > last.endNanos()) {
+                last = span;
+            }
+        }
+        List<Span> path = new ArrayList<>();
+        Set<Span> seen = new HashSet<>();
+        for (Span span = last; span != null && seen.add(span); span = gateOf(span, byId)) {
+            path.add(span);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+    
+    private Span gateOf(Span span, Map<String, Span> byId) {
+        Span gate = null;
+        for (String depId : span.node().dependencies()) {
+            Span dep = byId.get(depId);
+            if (dep != null && dep.endNanos() <= span.startNanos()
+                    && (gate == null || dep.endNanos() > gate.endNanos())) {
+                gate = dep;
+            }
+        }
+        if (gate != null) {
+            return gate;
+        }
+        for (Span other : timeline) {
+            if (other != span && other.endNanos() <= span.startNanos()
+                    && (gate == null || other.endNanos() > gate.endNanos())) {
+                gate = other;
+            }
+        }
+        return gate;
+    }
+    
     // ═══════════════════════════════════════════════════════════════════════════
     // REPORTING
     // ═══════════════════════════════════════════════════════════════════════════
@@ -138,6 +224,19 @@ public record InitSummary(
         
         sb.append(line).append("\n");
         
+        if (!timeline.isEmpty()) {
+            sb.append("  TIMELINE (node, start, duration, thread)\n");
+            for (Span span : timeline) {
+                sb.append(String.format("  %-28s +%7.1fms %8.1fms  %s\n",
+                    span.nodeId(), span.startMs(), span.durationMs(), span.thread()));
+            }
+            sb.append(halfLine).append("\n");
+            sb.append("  Critical path: ").append(criticalPath().stream()
+                .map(Span::nodeId)
+                .collect(Collectors.joining(" → "))).append("\n");
+            sb.append(line).append("\n");
+        }
+        
         // If any failures, show error details
         if (anyFailed()) {
             sb.append("  ERRORS:\n");
@@ -7,11 +7,17 @@ import net.cyberpunk042.field.FieldRegistry;
 import net.cyberpunk042.growth.scheduler.GrowthScheduler;
 import net.cyberpunk042.init.InitNode;
 import net.cyberpunk042.log.Logging;
+import net.cyberpunk042.network.FieldDefinitionRequestPayload;
+import net.cyberpunk042.network.FieldDefinitionSync;
 import net.cyberpunk042.network.FieldNetworking;
+import net.cyberpunk042.network.FieldReplicator;
+import net.cyberpunk042.util.Probe;
+import net.cyberpunk042.util.ProbeRegistry;
 import net.cyberpunk042.visual.color.ColorThemeRegistry;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.minecraft.resource.ResourceManager;
@@ -76,6 +82,7 @@ public final class FieldNodes {
                     public void reload(ResourceManager manager) {
                         Logging.REGISTRY.topic("field").info("Reloading field definitions from resources...");
                         FieldRegistry.clear();
+                        FieldDefinitionSync.invalidate();
                         FieldRegistry.registerDefaults();
                         var loader = new net.cyberpunk042.field.loader.FieldLoader();
                         loader.load(manager);
@@ -87,7 +94,7 @@ public final class FieldNodes {
             Logging.REGISTRY.topic("field").info("Registered field definition reload listener");
             return 1;
         }
-    );
+    ).onMainThread();
     
     /**
      * Field manager tick and network wiring.
@@ -96,10 +103,11 @@ public final class FieldNodes {
         "field_manager_wiring", "Field Manager Wiring",
         () -> {
             Set<ServerWorld> wiredWorlds = Collections.newSetFromMap(new WeakHashMap<>());
+            ProbeRegistry.WorldProbes fieldProbes = ProbeRegistry.perWorld("FieldMgr");
             
             ServerTickEvents.END_WORLD_TICK.register(world -> {
-                String dim = world.getRegistryKey().getValue().getPath();
-                net.cyberpunk042.util.SuperProfiler.start("FieldMgr:" + dim);
+                Probe probe = fieldProbes.of(world);
+                long probeStart = probe.start();
                 FieldManager manager = FieldManager.get(world);
                 if (manager != null) {
                     if (!wiredWorlds.contains(world)) {
@@ -110,7 +118,7 @@ public final class FieldNodes {
                     }
                     manager.tick();
                 }
-                net.cyberpunk042.util.SuperProfiler.end("FieldMgr:" + dim);
+                probe.end(probeStart);
             });
             
             Logging.REGISTRY.topic("field").info("Wired FieldManager to FieldNetworking");
@@ -136,6 +144,10 @@ public final class FieldNodes {
                     }
                 });
             });
+            ServerPlayConnectionEvents.DISCONNECT.register((handler, server) ->
+                FieldReplicator.forget(handler.player.getUuid()));
+            ServerPlayNetworking.registerGlobalReceiver(FieldDefinitionRequestPayload.ID, (payload, context) ->
+                context.server().execute(() -> FieldDefinitionSync.handleRequest(context.player(), payload)));
             return 1;
         }
     );
@@ -165,6 +177,7 @@ public final class FieldNodes {
         },
         () -> {
             FieldRegistry.reload();
+            FieldDefinitionSync.invalidate();
             return FieldRegistry.count();
         }
     );
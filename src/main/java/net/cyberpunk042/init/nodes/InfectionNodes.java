@@ -7,9 +7,13 @@ import net.cyberpunk042.infection.VirusInventoryAnnouncements;
 import net.cyberpunk042.infection.VirusItemAlerts;
 import net.cyberpunk042.infection.VirusTierBossBar;
 import net.cyberpunk042.infection.VirusWorldState;
+import net.cyberpunk042.infection.mutation.BlockMutationHelper;
 import net.cyberpunk042.init.InitNode;
 import net.cyberpunk042.util.DelayedServerTasks;
+import net.cyberpunk042.util.Probe;
+import net.cyberpunk042.util.ProbeRegistry;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.minecraft.server.world.ServerWorld;
@@ -63,6 +67,10 @@ public final class InfectionNodes {
         "terrain_corruption", "Terrain Corruption",
         () -> {
             GlobalTerrainCorruption.init();
+            // Replacement tables classify blocks by tag; rebuild after tags change
+            ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resources, success) ->
+                BlockMutationHelper.invalidateReplacementTables());
+            ServerLifecycleEvents.SERVER_STOPPED.register(server -> BlockMutationHelper.invalidateReplacementTables());
             return 1;
         }
     );
@@ -123,25 +131,33 @@ public final class InfectionNodes {
                         totalMs, getMs, onLoadMs, world.getRegistryKey().getValue());
                 }
             });
+            ServerWorldEvents.UNLOAD.register((server, world) -> VirusWorldState.detach(world));
+            
+            ProbeRegistry.WorldProbes getProbes = ProbeRegistry.perWorld("VWS.get");
+            ProbeRegistry.WorldProbes tickProbes = ProbeRegistry.perWorld("VWS.tick");
+            ProbeRegistry.WorldProbes bossBarProbes = ProbeRegistry.perWorld("BossBar");
+            ProbeRegistry.WorldProbes announceProbes = ProbeRegistry.perWorld("Announce");
             
             ServerTickEvents.END_WORLD_TICK.register(world -> {
-                String dim = world.getRegistryKey().getValue().getPath();
-                
-                net.cyberpunk042.util.SuperProfiler.start("VWS.get:" + dim);
+                Probe probe = getProbes.of(world);
+                long probeStart = probe.start();
                 VirusWorldState state = VirusWorldState.get(world);
-                net.cyberpunk042.util.SuperProfiler.end("VWS.get:" + dim);
+                probe.end(probeStart);
                 
-                net.cyberpunk042.util.SuperProfiler.start("VWS.tick:" + dim);
+                probe = tickProbes.of(world);
+                probeStart = probe.start();
                 state.tick(world);
-                net.cyberpunk042.util.SuperProfiler.end("VWS.tick:" + dim);
+                probe.end(probeStart);
                 
-                net.cyberpunk042.util.SuperProfiler.start("BossBar:" + dim);
+                probe = bossBarProbes.of(world);
+                probeStart = probe.start();
                 VirusTierBossBar.update(world, state);
-                net.cyberpunk042.util.SuperProfiler.end("BossBar:" + dim);
+                probe.end(probeStart);
                 
-                net.cyberpunk042.util.SuperProfiler.start("Announce:" + dim);
+                probe = announceProbes.of(world);
+                probeStart = probe.start();
                 VirusInventoryAnnouncements.tick(world);
-                net.cyberpunk042.util.SuperProfiler.end("Announce:" + dim);
+                probe.end(probeStart);
             });
             
             return 1;
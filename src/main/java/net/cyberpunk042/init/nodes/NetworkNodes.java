@@ -30,16 +30,19 @@ public final class NetworkNodes {
             PayloadTypeRegistry.playS2C().register(ShieldFieldRemovePayload.ID, ShieldFieldRemovePayload.CODEC);
             PayloadTypeRegistry.playS2C().register(FieldRemovePayload.ID, FieldRemovePayload.CODEC);
             PayloadTypeRegistry.playS2C().register(FieldUpdatePayload.ID, FieldUpdatePayload.CODEC);
+            PayloadTypeRegistry.playS2C().register(FieldDeltaPayload.ID, FieldDeltaPayload.CODEC);
             PayloadTypeRegistry.playS2C().register(FieldDefinitionSyncPayload.ID, FieldDefinitionSyncPayload.CODEC);
+            PayloadTypeRegistry.playS2C().register(FieldDefinitionManifestPayload.ID, FieldDefinitionManifestPayload.CODEC);
+            PayloadTypeRegistry.playS2C().register(FieldDefinitionBinaryPayload.ID, FieldDefinitionBinaryPayload.CODEC);
             PayloadTypeRegistry.playS2C().register(SingularityVisualStartPayload.ID, SingularityVisualStartPayload.CODEC);
             PayloadTypeRegistry.playS2C().register(SingularityVisualStopPayload.ID, SingularityVisualStopPayload.CODEC);
             PayloadTypeRegistry.playS2C().register(SingularityBorderPayload.ID, SingularityBorderPayload.CODEC);
             PayloadTypeRegistry.playS2C().register(SingularitySchedulePayload.ID, SingularitySchedulePayload.CODEC);
             PayloadTypeRegistry.playS2C().register(GrowthBeamPayload.ID, GrowthBeamPayload.CODEC);
             PayloadTypeRegistry.playS2C().register(GrowthRingFieldPayload.ID, GrowthRingFieldPayload.CODEC);
-            return 17;
+            return 20;
         }
-    );
+    ).onMainThread();
     
     /**
      * Client-to-server payload registration.
@@ -49,9 +52,10 @@ public final class NetworkNodes {
         () -> {
             PayloadTypeRegistry.playC2S().register(PurificationTotemSelectPayload.ID, PurificationTotemSelectPayload.CODEC);
             PayloadTypeRegistry.playC2S().register(VirusDifficultySelectPayload.ID, VirusDifficultySelectPayload.CODEC);
-            return 2;
+            PayloadTypeRegistry.playC2S().register(FieldDefinitionRequestPayload.ID, FieldDefinitionRequestPayload.CODEC);
+            return 3;
         }
-    );
+    ).onMainThread();
     
     /**
      * GUI packet registration (both directions).
@@ -62,7 +66,7 @@ public final class NetworkNodes {
             GuiPacketRegistration.registerAll();
             return 1;
         }
-    );
+    ).onMainThread();
     
     /**
      * Server-side networking handlers.
@@ -73,5 +77,5 @@ public final class NetworkNodes {
             GuiPacketRegistration.registerServerHandlers();
             return 1;
         }
-    ).dependsOn("gui_payloads");
+    ).onMainThread().dependsOn("gui_payloads");
 }
@@ -3,6 +3,7 @@ package net.cyberpunk042.init.nodes;
 import net.cyberpunk042.init.InitNode;
 import net.cyberpunk042.registry.ModBlockEntities;
 import net.cyberpunk042.registry.ModBlocks;
+import net.cyberpunk042.registry.ModChunkTickets;
 import net.cyberpunk042.registry.ModEntities;
 import net.cyberpunk042.registry.ModItemGroups;
 import net.cyberpunk042.registry.ModItems;
@@ -27,7 +28,7 @@ public final class RegistryNodes {
             ModBlocks.bootstrap();
             return 1; // Could count actual blocks registered
         }
-    );
+    ).onMainThread();
     
     /**
      * Item registry.
@@ -38,7 +39,7 @@ public final class RegistryNodes {
             ModItems.bootstrap();
             return 1;
         }
-    ).dependsOn("blocks"); // Items often reference blocks
+    ).onMainThread().dependsOn("blocks"); // Items often reference blocks
     
     /**
      * Block entity registry.
@@ -49,7 +50,7 @@ public final class RegistryNodes {
             ModBlockEntities.bootstrap();
             return 1;
         }
-    ).dependsOn("blocks");
+    ).onMainThread().dependsOn("blocks");
     
     /**
      * Entity registry.
@@ -60,7 +61,7 @@ public final class RegistryNodes {
             ModEntities.bootstrap();
             return 1;
         }
-    );
+    ).onMainThread();
     
     /**
      * Status effect registry.
@@ -71,7 +72,7 @@ public final class RegistryNodes {
             ModStatusEffects.bootstrap();
             return 1;
         }
-    );
+    ).onMainThread();
     
     /**
      * Item group (creative tab) registry.
@@ -82,7 +83,7 @@ public final class RegistryNodes {
             ModItemGroups.bootstrap();
             return 1;
         }
-    ).dependsOn("items");
+    ).onMainThread().dependsOn("items");
     
     /**
      * Screen handler registry.
@@ -93,5 +94,16 @@ public final class RegistryNodes {
             ModScreenHandlers.bootstrap();
             return 1;
         }
-    );
+    ).onMainThread();
+    
+    /**
+     * Chunk ticket types used by the singularity chunk loader.
+     */
+    public static final InitNode CHUNK_TICKETS = InitNode.simple(
+        "chunk_tickets", "Chunk Tickets",
+        () -> {
+            ModChunkTickets.bootstrap();
+            return 1;
+        }
+    ).onMainThread();
 }
@@ -207,7 +207,7 @@ public class Context implements ContextBuilder<Context> {
     void log(LogLevel level, String message, Object... args) {
         if (!effectiveLevel.includes(level)) return;
         String fullMessage = buildMessage(message, args);
-        LogOutput.emit(channel, topicName, level, fullMessage, exception, forceChat);
+        LogOutput.emit(channel, topicName, level, fullMessage, message, exception, forceChat);
     }
     
     private String buildMessage(String message, Object... args) {
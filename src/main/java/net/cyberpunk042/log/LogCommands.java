@@ -3,8 +3,10 @@ package net.cyberpunk042.log;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
+import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.text.Text;
@@ -30,6 +32,20 @@ public class LogCommands {
     };
     
     public static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+        LiteralArgumentBuilder<ServerCommandSource> watchdog = literal("watchdog")
+            .executes(LogCommands::watchdogStatus)
+            .then(literal("on").executes(ctx -> setWatchdog(ctx, true)))
+            .then(literal("off").executes(ctx -> setWatchdog(ctx, false)))
+            .then(argument("perSec", IntegerArgumentType.integer(1))
+                .then(argument("perMin", IntegerArgumentType.integer(1))
+                    .executes(LogCommands::setWatchdogThresholds)));
+        // The benchmark blocks the server thread and toggles the global watchdog; dev-only, ops only
+        if (FabricLoader.getInstance().isDevelopmentEnvironment()) {
+            watchdog.then(literal("bench")
+                .requires(src -> src.hasPermissionLevel(2))
+                .executes(LogCommands::watchdogBench));
+        }
+        
         dispatcher.register(
             literal("virus").then(literal("logs")
                 .executes(LogCommands::dashboard)
@@ -46,12 +62,7 @@ public class LogCommands {
                         .suggests(CHANNEL_SUGGESTIONS)
                         .then(literal("on").executes(ctx -> setChatForward(ctx, true)))
                         .then(literal("off").executes(ctx -> setChatForward(ctx, false)))))
-                .then(literal("watchdog")
-                    .then(literal("on").executes(ctx -> setWatchdog(ctx, true)))
-                    .then(literal("off").executes(ctx -> setWatchdog(ctx, false)))
-                    .then(argument("perSec", IntegerArgumentType.integer(1))
-                        .then(argument("perMin", IntegerArgumentType.integer(1))
-                            .executes(LogCommands::setWatchdogThresholds))))
+                .then(watchdog)
                 // Override commands
                 .then(literal("override")
                     .executes(LogCommands::overrideStatus)
@@ -96,7 +107,8 @@ public class LogCommands {
         ServerCommandSource src = ctx.getSource();
         src.sendFeedback(() -> Text.literal("§6=== Logging Dashboard ==="), false);
         src.sendFeedback(() -> Text.literal("§7Channels: §f" + Logging.channels().size()), false);
-        src.sendFeedback(() -> Text.literal("§7Watchdog: §f" + (LogWatchdog.isEnabled() ? "ON" : "OFF")), false);
+        src.sendFeedback(() -> Text.literal("§7Watchdog: §f" + (LogWatchdog.isEnabled() ? "ON" : "OFF")
+            + " §7suppressed: §f" + LogWatchdog.suppressedTotal()), false);
         src.sendFeedback(() -> Text.literal("§7Chat: §f" + (LogConfig.chatEnabled() ? "ON" : "OFF")), false);
         src.sendFeedback(() -> Text.literal("§7Use §e/virus logs list§7 to see all channels"), false);
         return 1;
@@ -158,6 +170,23 @@ public class LogCommands {
         return 1;
     }
     
+    private static int watchdogStatus(CommandContext<ServerCommandSource> ctx) {
+        ServerCommandSource src = ctx.getSource();
+        src.sendFeedback(() -> Text.literal("§6=== Log Watchdog ==="), false);
+        src.sendFeedback(() -> Text.literal("§7Enabled: §f" + (LogWatchdog.isEnabled() ? "ON" : "OFF")
+            + " §7Limits: §f" + LogWatchdog.perSecond() + "/s, " + LogWatchdog.perMinute() + "/m"), false);
+        src.sendFeedback(() -> Text.literal("§7Templates tracked: §f" + LogWatchdog.trackedTemplates()
+            + " §7recycled: §f" + LogWatchdog.recycledTotal()), false);
+        src.sendFeedback(() -> Text.literal("§7Suppressed: §f" + LogWatchdog.suppressedTotal()), false);
+        return 1;
+    }
+    
+    private static int watchdogBench(CommandContext<ServerCommandSource> ctx) {
+        LogWatchdogBenchmark.Result result = LogWatchdogBenchmark.run();
+        ctx.getSource().sendFeedback(() -> Text.literal("§a" + result.describe()), false);
+        return 1;
+    }
+    
     private static int setWatchdogThresholds(CommandContext<ServerCommandSource> ctx) {
         int perSec = IntegerArgumentType.getInteger(ctx, "perSec");
         int perMin = IntegerArgumentType.getInteger(ctx, "perMin");
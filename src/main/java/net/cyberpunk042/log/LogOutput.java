@@ -26,6 +26,15 @@ public final class LogOutput {
     
     public static void emit(Channel channel, String topic, LogLevel level, 
                            String message, Throwable exception, boolean forceChat) {
+        emit(channel, topic, level, message, message, exception, forceChat);
+    }
+    
+    /**
+     * @param template the unformatted pattern or another per-call-site string,
+     *                 used as the watchdog identity instead of the message
+     */
+    public static void emit(Channel channel, String topic, LogLevel level, 
+                           String message, String template, Throwable exception, boolean forceChat) {
         
         // 0. Null safety
         if (channel == null || level == null || level == LogLevel.OFF) {
@@ -38,7 +47,7 @@ public final class LogOutput {
         }
         
         // 2. Watchdog check
-        WatchdogDecision decision = LogWatchdog.observe(channel.id(), topic, message);
+        WatchdogDecision decision = LogWatchdog.observe(channel.id(), topic, template);
         if (decision.suppress()) {
             if (decision.summary() != null) {
                 // Log suppression summary (bypasses overrides)
@@ -302,7 +302,7 @@ public class LogScope implements AutoCloseable {
         String rendered = render();
         
         // Emit via standard pipeline
-        LogOutput.emit(channel, topic, level, rendered, null, false);
+        LogOutput.emit(channel, topic, level, rendered, root.name(), null, false);
     }
     
     /**
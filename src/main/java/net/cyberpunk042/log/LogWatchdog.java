@@ -1,41 +1,80 @@
 package net.cyberpunk042.log;
 
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Spam detection for log messages.
  * Tracks per-template rates and suppresses excessive logging.
+ *
+ * <p>Callers pass the message template (the pattern before argument
+ * substitution) where they have one, so every call site maps to the same
+ * window. The window key is a hash of channel, topic and the first
+ * {@value #TEMPLATE_PREFIX} template characters with digit runs and bracketed
+ * text collapsed, computed without allocating. Each key is interned as a
+ * numbered window on first use.
+ *
+ * <p>Windows live in a fixed table of {@value #TABLE_SIZE} slots. A key
+ * probes {@value #PROBES} neighbouring slots; when all are taken by other
+ * keys, the least recently seen one is recycled. Slots are swapped with CAS,
+ * so observing never locks and only allocates when a new template appears.
  */
 public final class LogWatchdog {
-    
+
+    private static final int TABLE_BITS = 10;
+    private static final int TABLE_SIZE = 1 << TABLE_BITS;
+    private static final int PROBES = 4;
+    private static final int TEMPLATE_PREFIX = 50;
+
     private static volatile boolean enabled = true;
     private static volatile int perSecond = 50;
     private static volatile int perMinute = 500;
     private static volatile boolean suppress = true;
-    
-    private static final ConcurrentHashMap<String, Stats> stats = new ConcurrentHashMap<>();
-    
-    private static class Stats {
+
+    private static final AtomicReferenceArray<Window> windows = new AtomicReferenceArray<>(TABLE_SIZE);
+    private static final AtomicInteger nextId = new AtomicInteger();
+    private static final AtomicLong suppressedTotal = new AtomicLong();
+    private static final AtomicLong recycledTotal = new AtomicLong();
+
+    private static final class Window {
+        final long key;
+        final int id;
+        final String channel;
+        final String topic;
+        final String template;
         final AtomicInteger secondCount = new AtomicInteger(0);
         final AtomicInteger minuteCount = new AtomicInteger(0);
         final AtomicLong lastSecond = new AtomicLong(0);
         final AtomicLong lastMinute = new AtomicLong(0);
+        volatile long lastSeen;
         volatile boolean suppressed = false;
         volatile int suppressedCount = 0;
+
+        Window(long key, String channel, String topic, String template, long now) {
+            this.key = key;
+            this.id = nextId.incrementAndGet();
+            this.channel = channel;
+            this.topic = topic;
+            this.template = template;
+            this.lastSeen = now;
+        }
+
+        String describe() {
+            String sample = template.length() > TEMPLATE_PREFIX ? template.substring(0, TEMPLATE_PREFIX) + "..." : template;
+            return channel + (topic != null ? ":" + topic : "") + " #" + id + " \"" + sample + "\"";
+        }
     }
-    
-    public static WatchdogDecision observe(String channel, String topic, String message) {
+
+    public static WatchdogDecision observe(String channel, String topic, String template) {
         if (!enabled) return WatchdogDecision.ALLOW;
-        
-        String key = buildKey(channel, topic, message);
-        Stats s = stats.computeIfAbsent(key, k -> new Stats());
-        
+
         long now = System.currentTimeMillis();
+        Window s = window(channel, topic, template != null ? template : "", now);
+
         long currentSecond = now / 1000;
         long currentMinute = now / 60000;
-        
+
         // Reset counters on new time windows
         if (s.lastSecond.get() != currentSecond) {
             s.lastSecond.set(currentSecond);
@@ -48,49 +87,135 @@ public final class LogWatchdog {
                 int count = s.suppressedCount;
                 s.suppressed = false;
                 s.suppressedCount = 0;
-                return new WatchdogDecision(false, 
-                    String.format("Suppressed %d messages for [%s]", count, key));
+                return new WatchdogDecision(false,
+                    String.format("Suppressed %d messages for [%s]", count, s.describe()));
             }
         }
-        
+
         int secCount = s.secondCount.incrementAndGet();
         int minCount = s.minuteCount.incrementAndGet();
-        
+
         boolean shouldSuppress = suppress && (secCount > perSecond || minCount > perMinute);
-        
+
         if (shouldSuppress) {
+            suppressedTotal.incrementAndGet();
             if (!s.suppressed) {
                 s.suppressed = true;
                 s.suppressedCount = 1;
-                return new WatchdogDecision(true, 
-                    String.format("Rate limit exceeded for [%s], suppressing...", key));
+                return new WatchdogDecision(true,
+                    String.format("Rate limit exceeded for [%s], suppressing...", s.describe()));
             } else {
                 s.suppressedCount++;
                 return WatchdogDecision.SUPPRESS;
             }
         }
-        
+
         return WatchdogDecision.ALLOW;
     }
-    
-    private static String buildKey(String channel, String topic, String message) {
-        // Extract template (first 50 chars, normalized)
-        String template = message.length() > 50 ? message.substring(0, 50) : message;
-        template = template.replaceAll("\\d+", "#").replaceAll("\\[.*?\\]", "[...]");
-        return channel + (topic != null ? ":" + topic : "") + ":" + template.hashCode();
+
+    private static Window window(String channel, String topic, String template, long now) {
+        long key = key(channel, topic, template);
+        int base = ((int) (key ^ (key >>> 32)) * 0x9E3779B9) >>> (32 - TABLE_BITS);
+        int victim = -1;
+        long oldest = Long.MAX_VALUE;
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (base + i) & (TABLE_SIZE - 1);
+            Window w = windows.get(slot);
+            if (w == null) {
+                // Slots are only ever replaced, never emptied, so the key cannot sit further along
+                victim = slot;
+                break;
+            }
+            if (w.key == key) {
+                w.lastSeen = now;
+                return w;
+            }
+            if (w.lastSeen < oldest) {
+                oldest = w.lastSeen;
+                victim = slot;
+            }
+        }
+        Window previous = windows.get(victim);
+        Window created = new Window(key, channel, topic, template, now);
+        if (windows.compareAndSet(victim, previous, created)) {
+            if (previous != null) {
+                recycledTotal.incrementAndGet();
+            }
+            return created;
+        }
+        // Another thread claimed the slot first; use its window if it is ours
+        Window winner = windows.get(victim);
+        return winner != null && winner.key == key ? winner : created;
+    }
+
+    private static long key(String channel, String topic, String template) {
+        int scope = channel.hashCode() * 31 + (topic != null ? topic.hashCode() : 0);
+        return ((long) scope << 32) | (templateHash(template) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Hash of the template prefix with each digit run counted as {@code #}
+     * and each closed {@code [...]} as one marker, so messages differing
+     * only in numbers or bracketed values share a window.
+     */
+    private static int templateHash(String template) {
+        int end = Math.min(template.length(), TEMPLATE_PREFIX);
+        int hash = 0;
+        boolean inDigits = false;
+        for (int i = 0; i < end; i++) {
+            char c = template.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (!inDigits) {
+                    hash = 31 * hash + '#';
+                    inDigits = true;
+                }
+                continue;
+            }
+            inDigits = false;
+            if (c == '[') {
+                int close = template.indexOf(']', i + 1);
+                if (close >= 0 && close < end) {
+                    hash = 31 * hash + 0x5B5D;
+                    i = close;
+                    continue;
+                }
+            }
+            hash = 31 * hash + c;
+        }
+        return hash;
     }
-    
+
     public static void reset() {
-        stats.clear();
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            windows.set(i, null);
+        }
+        suppressedTotal.set(0);
+        recycledTotal.set(0);
     }
-    
+
     public static void setEnabled(boolean value) { enabled = value; }
     public static void setThresholds(int perSec, int perMin) { perSecond = perSec; perMinute = perMin; }
     public static void setSuppress(boolean value) { suppress = value; }
-    
+
     public static boolean isEnabled() { return enabled; }
+    public static boolean isSuppressing() { return suppress; }
     public static int perSecond() { return perSecond; }
     public static int perMinute() { return perMinute; }
-    
+
+    /** Messages suppressed since the last {@link #reset()}. */
+    public static long suppressedTotal() { return suppressedTotal.get(); }
+
+    /** Windows evicted to make room for a new template since the last {@link #reset()}. */
+    public static long recycledTotal() { return recycledTotal.get(); }
+
+    /** Templates currently holding a window. */
+    public static int trackedTemplates() {
+        int count = 0;
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            if (windows.get(i) != null) count++;
+        }
+        return count;
+    }
+
     private LogWatchdog() {}
 }
@@ -0,0 +1,91 @@
+package net.cyberpunk042.log;
+
+import java.util.Locale;
+
+/**
+ * In-game benchmark for the watchdog, run via {@code /virus logs watchdog bench}.
+ *
+ * <p>Logs through {@link Channel#info} at 100k messages per second for one
+ * second with the watchdog on, paced in 1 ms bursts. One template is used,
+ * so after the per-second threshold nearly every message is suppressed and
+ * the watchdog path dominates. It then times {@link LogWatchdog#observe}
+ * on its own against the old regex key derivation over the same formatted
+ * messages. Blocks the calling thread for about a second and switches the
+ * global watchdog on while it runs, so the command is only registered in
+ * development environments.
+ */
+public final class LogWatchdogBenchmark {
+
+    private static final Channel CHANNEL = Channel.of("watchdog_bench", "WatchdogBench", LogLevel.INFO);
+    private static final String TEMPLATE = "bench message {} at tick {} pos=[{}]";
+    private static final int MESSAGES_PER_MS = 100;
+    private static final int DURATION_MS = 1000;
+    private static final int SAMPLE_MESSAGES = 1024;
+
+    public record Result(int messages, long elapsedMs, double infoNanos, long suppressed,
+                         double observeNanos, double legacyKeyNanos) {
+        public String describe() {
+            return String.format(Locale.ROOT,
+                "info: %d msgs in %dms, %.0f ns/msg, %d suppressed | observe %.0f ns vs legacy key %.0f ns",
+                messages, elapsedMs, infoNanos, suppressed, observeNanos, legacyKeyNanos);
+        }
+    }
+
+    public static Result run() {
+        boolean wasEnabled = LogWatchdog.isEnabled();
+        boolean wasSuppressing = LogWatchdog.isSuppressing();
+        LogWatchdog.setEnabled(true);
+        LogWatchdog.setSuppress(true);
+        try {
+            long suppressedBefore = LogWatchdog.suppressedTotal();
+            long busyNanos = 0L;
+            int messages = 0;
+            long start = System.nanoTime();
+            for (int ms = 0; ms < DURATION_MS; ms++) {
+                long burstStart = System.nanoTime();
+                for (int i = 0; i < MESSAGES_PER_MS; i++) {
+                    CHANNEL.info(TEMPLATE, messages, ms, i);
+                    messages++;
+                }
+                long burstEnd = System.nanoTime();
+                busyNanos += burstEnd - burstStart;
+                long deadline = start + (ms + 1) * 1_000_000L;
+                while (System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+            long suppressed = LogWatchdog.suppressedTotal() - suppressedBefore;
+
+            String[] formatted = new String[SAMPLE_MESSAGES];
+            for (int i = 0; i < SAMPLE_MESSAGES; i++) {
+                formatted[i] = "[WatchdogBench] bench message " + i + " at tick " + (i * 7) + " pos=[" + i + ",64," + (-i) + "]";
+            }
+            int iterations = DURATION_MS * MESSAGES_PER_MS;
+            long observeStart = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                LogWatchdog.observe(CHANNEL.id(), "observe", TEMPLATE);
+            }
+            long observeNanos = System.nanoTime() - observeStart;
+            long legacyStart = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                legacyKey(CHANNEL.id(), null, formatted[i & (SAMPLE_MESSAGES - 1)]);
+            }
+            long legacyNanos = System.nanoTime() - legacyStart;
+            return new Result(messages, elapsedMs, (double) busyNanos / messages, suppressed,
+                (double) observeNanos / iterations, (double) legacyNanos / iterations);
+        } finally {
+            LogWatchdog.setEnabled(wasEnabled);
+            LogWatchdog.setSuppress(wasSuppressing);
+        }
+    }
+
+    /** Key derivation the watchdog used before template windows, kept for comparison. */
+    private static String legacyKey(String channel, String topic, String message) {
+        String template = message.length() > 50 ? message.substring(0, 50) : message;
+        template = template.replaceAll("\\d+", "#").replaceAll("\\[.*?\\]", "[...]");
+        return channel + (topic != null ? ":" + topic : "") + ":" + template.hashCode();
+    }
+
+    private LogWatchdogBenchmark() {}
+}
@@ -19,20 +19,20 @@ public abstract class AbstractSkeletonEntityMixin extends HostileEntity {
 
 	@Inject(method = "tickMovement", at = @At("TAIL"))
 	private void theVirusBlock$extinguishDuringInfection(CallbackInfo ci) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("Skeleton.tick");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.SKELETON_TICK.start();
 		// Fast exit: Only do anything if skeleton is on fire
 		if (!this.isOnFire()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.SKELETON_TICK.end(probeStart);
 			return;
 		}
 		if (!(getWorld() instanceof ServerWorld serverWorld)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.SKELETON_TICK.end(probeStart);
 			return;
 		}
 		if (VirusWorldState.get(serverWorld).infectionState().infected()) {
 			this.setFireTicks(0);
 		}
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.SKELETON_TICK.end(probeStart);
 	}
 }
 
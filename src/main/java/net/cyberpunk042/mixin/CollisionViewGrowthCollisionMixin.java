@@ -38,21 +38,21 @@ public interface CollisionViewGrowthCollisionMixin {
 			Vec3d movementReference,
 			CallbackInfoReturnable<Iterable<VoxelShape>> cir) {
 		// Count all calls (even early exits) for profiling
-		net.cyberpunk042.util.SuperProfiler.start("Mixin:Collision.getAll");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.COLLISION_GET_ALL.start();
 		
 		// Ultra-fast early exit - if no growth blocks exist globally, skip everything
 		if (!net.cyberpunk042.block.entity.GrowthCollisionTracker.hasAny()) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:Collision.getAll");
+			net.cyberpunk042.util.MixinProfiler.COLLISION_GET_ALL.end(probeStart);
 			return;
 		}
 		if (entity == null || !(this instanceof World world) || world.isClient) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:Collision.getAll");
+			net.cyberpunk042.util.MixinProfiler.COLLISION_GET_ALL.end(probeStart);
 			return;
 		}
 		Iterable<VoxelShape> vanilla = cir.getReturnValue();
 		List<VoxelShape> extras = GrowthCollisionMixinHelper.gatherGrowthCollisions(entity, world, queryBox, vanilla);
 		if (extras.isEmpty()) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:Collision.getAll");
+			net.cyberpunk042.util.MixinProfiler.COLLISION_GET_ALL.end(probeStart);
 			return;
 		}
 
@@ -67,7 +67,7 @@ public interface CollisionViewGrowthCollisionMixin {
 			merged.addAll(extras);
 			cir.setReturnValue(merged);
 		}
-		net.cyberpunk042.util.SuperProfiler.end("Mixin:Collision.getAll");
+		net.cyberpunk042.util.MixinProfiler.COLLISION_GET_ALL.end(probeStart);
 	}
 
 	@Inject(
@@ -79,21 +79,21 @@ public interface CollisionViewGrowthCollisionMixin {
 			@Nullable Entity entity,
 			Box queryBox,
 			CallbackInfoReturnable<Iterable<VoxelShape>> cir) {
-		net.cyberpunk042.util.SuperProfiler.start("Mixin:Collision.getBlock");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.COLLISION_GET_BLOCK.start();
 		
 		// Ultra-fast early exit
 		if (!net.cyberpunk042.block.entity.GrowthCollisionTracker.hasAny()) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:Collision.getBlock");
+			net.cyberpunk042.util.MixinProfiler.COLLISION_GET_BLOCK.end(probeStart);
 			return;
 		}
 		if (entity == null || !(this instanceof World world) || world.isClient) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:Collision.getBlock");
+			net.cyberpunk042.util.MixinProfiler.COLLISION_GET_BLOCK.end(probeStart);
 			return;
 		}
 		Iterable<VoxelShape> vanilla = cir.getReturnValue();
 		List<VoxelShape> extras = GrowthCollisionMixinHelper.gatherGrowthCollisions(entity, world, queryBox, vanilla);
 		if (extras.isEmpty()) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:Collision.getBlock");
+			net.cyberpunk042.util.MixinProfiler.COLLISION_GET_BLOCK.end(probeStart);
 			return;
 		}
 
@@ -108,7 +108,7 @@ public interface CollisionViewGrowthCollisionMixin {
 			merged.addAll(extras);
 			cir.setReturnValue(merged);
 		}
-		net.cyberpunk042.util.SuperProfiler.end("Mixin:Collision.getBlock");
+		net.cyberpunk042.util.MixinProfiler.COLLISION_GET_BLOCK.end(probeStart);
 	}
 }
 
@@ -42,18 +42,18 @@ public abstract class EntityGrowthCollisionIntermediaryMixin {
 			List<VoxelShape> original,
 			Box queryBox,
 			CallbackInfoReturnable<List<VoxelShape>> cir) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("Entity.findCollisions.Int");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.ENTITY_FIND_COLLISIONS_INT.start();
 		// Fast exit when no growth blocks exist
 		if (!net.cyberpunk042.block.entity.GrowthCollisionTracker.hasAny()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ENTITY_FIND_COLLISIONS_INT.end(probeStart);
 			return;
 		}
 		if (world.isClient) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ENTITY_FIND_COLLISIONS_INT.end(probeStart);
 			return;
 		}
 		GrowthCollisionMixinHelper.appendGrowthCollisions(entity, world, original, queryBox, cir);
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.ENTITY_FIND_COLLISIONS_INT.end(probeStart);
 	}
 
 	@Inject(
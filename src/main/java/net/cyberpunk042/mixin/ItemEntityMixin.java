@@ -37,62 +37,62 @@ public abstract class ItemEntityMixin extends Entity {
 			at = @At("HEAD"))
 	private void theVirusBlock$onDamage(ServerWorld world, DamageSource source, float amount,
 	                                    CallbackInfoReturnable<Boolean> cir) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("ItemEntity.damage");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_DAMAGE.start();
 		if (theVirusBlock$burnAlertSent) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_DAMAGE.end(probeStart);
 			return;
 		}
 		if (!source.isIn(DamageTypeTags.IS_FIRE)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_DAMAGE.end(probeStart);
 			return;
 		}
 		ItemStack stack = ((ItemEntity) (Object) this).getStack();
 		if (!stack.isOf(ModBlocks.VIRUS_BLOCK.asItem())) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_DAMAGE.end(probeStart);
 			return;
 		}
 		VirusItemAlerts.broadcastBurn(world);
 		theVirusBlock$burnAlertSent = true;
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_DAMAGE.end(probeStart);
 	}
 
 	@Inject(method = "onPlayerCollision(Lnet/minecraft/entity/player/PlayerEntity;)V", at = @At("HEAD"))
 	private void theVirusBlock$preparePickup(PlayerEntity player, CallbackInfo ci) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("ItemEntity.prepPickup");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_PREP_PICKUP.start();
 		if (getWorld().isClient() || theVirusBlock$pickupAlertSent) {
 			theVirusBlock$trackPickup = false;
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_PREP_PICKUP.end(probeStart);
 			return;
 		}
 		ItemStack stack = ((ItemEntity) (Object) this).getStack();
 		theVirusBlock$trackPickup = stack.isOf(ModBlocks.VIRUS_BLOCK.asItem());
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_PREP_PICKUP.end(probeStart);
 	}
 
 	@Inject(method = "onPlayerCollision(Lnet/minecraft/entity/player/PlayerEntity;)V", at = @At("TAIL"))
 	private void theVirusBlock$announcePickup(PlayerEntity player, CallbackInfo ci) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("ItemEntity.announce");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_ANNOUNCE.start();
 		if (!theVirusBlock$trackPickup || theVirusBlock$pickupAlertSent || getWorld().isClient()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_ANNOUNCE.end(probeStart);
 			return;
 		}
 		if (!this.isRemoved()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_ANNOUNCE.end(probeStart);
 			return;
 		}
 		if (!(player instanceof ServerPlayerEntity serverPlayer)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_ANNOUNCE.end(probeStart);
 			return;
 		}
 		World world = getWorld();
 		if (!(world instanceof ServerWorld serverWorld)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_ANNOUNCE.end(probeStart);
 			return;
 		}
 		VirusItemAlerts.broadcastPickup(serverWorld, serverPlayer);
 		theVirusBlock$pickupAlertSent = true;
 		theVirusBlock$trackPickup = false;
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.ITEM_ENTITY_ANNOUNCE.end(probeStart);
 	}
 }
 
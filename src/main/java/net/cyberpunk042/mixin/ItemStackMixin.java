@@ -15,14 +15,14 @@ import net.minecraft.registry.tag.ItemTags;
 public abstract class ItemStackMixin {
 	@Inject(method = "isSuitableFor", at = @At("RETURN"), cancellable = true)
 	private void theVirusBlock$ensureCorruptedMetalsArePickaxeable(BlockState state, CallbackInfoReturnable<Boolean> cir) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("ItemStack.isSuitable");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.ITEM_STACK_IS_SUITABLE.start();
 		if (state == null || cir.getReturnValue()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_STACK_IS_SUITABLE.end(probeStart);
 			return;
 		}
 		ItemStack self = (ItemStack) (Object) this;
 		if (!self.isIn(ItemTags.PICKAXES)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ITEM_STACK_IS_SUITABLE.end(probeStart);
 			return;
 		}
 		Block block = state.getBlock();
@@ -32,7 +32,7 @@ public abstract class ItemStackMixin {
 				|| block == ModBlocks.CORRUPTED_CRYING_OBSIDIAN) {
 			cir.setReturnValue(true);
 		}
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.ITEM_STACK_IS_SUITABLE.end(probeStart);
 	}
 }
 
@@ -116,11 +116,11 @@ public abstract class LivingEntityMixin extends Entity {
 
 	@Inject(method = "baseTick", at = @At("TAIL"))
 	private void theVirusBlock$lavaBlessing(CallbackInfo ci) {
-		net.cyberpunk042.util.SuperProfiler.start("Mixin:LivingEntity.tick");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.LIVING_ENTITY_TICK.start();
 		
 		LivingEntity self = (LivingEntity) (Object) this;
 		if (!(self instanceof PlayerEntity player) || !(player.getWorld() instanceof ServerWorld serverWorld)) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:LivingEntity.tick");
+			net.cyberpunk042.util.MixinProfiler.LIVING_ENTITY_TICK.end(probeStart);
 			return;
 		}
 
@@ -128,14 +128,14 @@ public abstract class LivingEntityMixin extends Entity {
 		boolean inLava = player.isInLava();
 		boolean inWater = player.isTouchingWater() || player.isSubmergedInWater();
 		if (!inLava && !inWater) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:LivingEntity.tick");
+			net.cyberpunk042.util.MixinProfiler.LIVING_ENTITY_TICK.end(probeStart);
 			return; // Fast exit if not in liquid
 		}
 		
 		VirusWorldState state = VirusWorldState.get(serverWorld);
 		boolean liquidsCorrupted = state.tiers().areLiquidsCorrupted(serverWorld);
 		if (!liquidsCorrupted) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:LivingEntity.tick");
+			net.cyberpunk042.util.MixinProfiler.LIVING_ENTITY_TICK.end(probeStart);
 			return;
 		}
 		
@@ -149,7 +149,7 @@ public abstract class LivingEntityMixin extends Entity {
 			theVirusBlock$degradeArmorInWater(serverPlayer, tier, serverWorld);
 		}
 		
-		net.cyberpunk042.util.SuperProfiler.end("Mixin:LivingEntity.tick");
+		net.cyberpunk042.util.MixinProfiler.LIVING_ENTITY_TICK.end(probeStart);
 	}
 
 	private void theVirusBlock$degradeArmorInWater(ServerPlayerEntity player, int tier, ServerWorld world) {
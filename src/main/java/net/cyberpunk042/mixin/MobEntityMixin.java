@@ -20,22 +20,22 @@ abstract class MobEntityMixin extends LivingEntity {
 
 	@Inject(method = "setTarget", at = @At("HEAD"), cancellable = true)
 	private void thevirus$blockAllyTargets(LivingEntity target, CallbackInfo ci) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("Mob.setTarget");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.MOB_SET_TARGET.start();
 		if (target == null || !(this.getWorld() instanceof ServerWorld serverWorld)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.MOB_SET_TARGET.end(probeStart);
 			return;
 		}
 		if (serverWorld.getGameRules().getBoolean(TheVirusBlock.VIRUS_MOB_FRIENDLY_FIRE)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.MOB_SET_TARGET.end(probeStart);
 			return;
 		}
 		MobEntity self = (MobEntity) (Object) this;
 		if (VirusMobAllyHelper.isAlly(self) && VirusMobAllyHelper.isAlly(target)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.MOB_SET_TARGET.end(probeStart);
 			ci.cancel();
 			return;
 		}
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.MOB_SET_TARGET.end(probeStart);
 	}
 }
 
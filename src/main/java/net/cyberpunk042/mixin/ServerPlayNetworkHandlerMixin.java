@@ -143,30 +143,30 @@ public abstract class ServerPlayNetworkHandlerMixin {
 			Box queryBox,
 			Vec3d movementReference,
 			Operation<Iterable<VoxelShape>> original) {
-		net.cyberpunk042.util.SuperProfiler.start("Mixin:AntiCheat.collision");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.ANTI_CHEAT_COLLISION.start();
 		
 		// Fast exit when no growth blocks exist - most common case
 		if (!net.cyberpunk042.block.entity.GrowthCollisionTracker.hasAny()) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:AntiCheat.collision");
+			net.cyberpunk042.util.MixinProfiler.ANTI_CHEAT_COLLISION.end(probeStart);
 			return original.call(collisionView, entity, queryBox, movementReference);
 		}
 		Iterable<VoxelShape> vanilla = original.call(collisionView, entity, queryBox, movementReference);
 		if (GrowthCollisionDebug.disableAntiCheatCollisions()) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:AntiCheat.collision");
+			net.cyberpunk042.util.MixinProfiler.ANTI_CHEAT_COLLISION.end(probeStart);
 			return vanilla;
 		}
 		if (!(entity instanceof ServerPlayerEntity) || !(collisionView instanceof World world) || world.isClient) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:AntiCheat.collision");
+			net.cyberpunk042.util.MixinProfiler.ANTI_CHEAT_COLLISION.end(probeStart);
 			return vanilla;
 		}
 		List<VoxelShape> extras = GrowthCollisionMixinHelper.gatherGrowthCollisions(entity, world, queryBox, vanilla);
 		if (extras.isEmpty()) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:AntiCheat.collision");
+			net.cyberpunk042.util.MixinProfiler.ANTI_CHEAT_COLLISION.end(probeStart);
 			return vanilla;
 		}
 		// Optimize merging
 		if (vanilla == null || !vanilla.iterator().hasNext()) {
-			net.cyberpunk042.util.SuperProfiler.end("Mixin:AntiCheat.collision");
+			net.cyberpunk042.util.MixinProfiler.ANTI_CHEAT_COLLISION.end(probeStart);
 			return extras;
 		}
 		List<VoxelShape> merged = new ArrayList<>();
@@ -174,7 +174,7 @@ public abstract class ServerPlayNetworkHandlerMixin {
 			merged.add(shape);
 		}
 		merged.addAll(extras);
-		net.cyberpunk042.util.SuperProfiler.end("Mixin:AntiCheat.collision");
+		net.cyberpunk042.util.MixinProfiler.ANTI_CHEAT_COLLISION.end(probeStart);
 		return merged;
 	}
 
@@ -12,9 +12,9 @@ import net.minecraft.server.world.ServerWorld;
 public abstract class ServerWorldChunkGuardMixin {
 	@Inject(method = "close", at = @At("HEAD"))
 	private void theVirusBlock$clearChunkGuard(CallbackInfo ci) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("ServerWorld.close");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.SERVER_WORLD_CLOSE.start();
 		SingularityChunkContext.disableBorderGuard((ServerWorld) (Object) this);
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.SERVER_WORLD_CLOSE.end(probeStart);
 	}
 }
  
\ No newline at end of file
@@ -0,0 +1,33 @@
+package net.cyberpunk042.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import net.cyberpunk042.infection.VirusWorldState;
+import net.cyberpunk042.infection.VirusWorldStateHolder;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.PersistentStateManager;
+
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldVirusStateMixin implements VirusWorldStateHolder {
+	@Unique
+	private VirusWorldState theVirusBlock$state;
+	@Unique
+	private PersistentStateManager theVirusBlock$stateSource;
+
+	@Override
+	public VirusWorldState theVirusBlock$getVirusState() {
+		return theVirusBlock$state;
+	}
+
+	@Override
+	public PersistentStateManager theVirusBlock$getVirusStateSource() {
+		return theVirusBlock$stateSource;
+	}
+
+	@Override
+	public void theVirusBlock$setVirusState(VirusWorldState state, PersistentStateManager source) {
+		this.theVirusBlock$state = state;
+		this.theVirusBlock$stateSource = source;
+	}
+}
@@ -25,9 +25,9 @@ public abstract class WitherEntityMixin {
 
 	@Inject(method = "mobTick", at = @At("TAIL"))
 	private void theVirusBlock$mobTick(CallbackInfo ci) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("Wither.mobTick");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.WITHER_MOB_TICK.start();
 		hideBossBar();
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.WITHER_MOB_TICK.end(probeStart);
 	}
 
 	private void hideBossBar() {
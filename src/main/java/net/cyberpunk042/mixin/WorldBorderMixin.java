@@ -13,26 +13,26 @@ import net.minecraft.world.border.WorldBorder;
 public abstract class WorldBorderMixin {
 	@Inject(method = "contains(DD)Z", at = @At("HEAD"), cancellable = true)
 	private void theVirusBlock$allowSingularityBypass(double x, double z, CallbackInfoReturnable<Boolean> cir) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("Border.containsXZ");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.BORDER_CONTAINS_XZ.start();
 		if (SingularityChunkContext.shouldBypassBorder((WorldBorder) (Object) this, x, z)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.BORDER_CONTAINS_XZ.end(probeStart);
 			cir.setReturnValue(true);
 			return;
 		}
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.BORDER_CONTAINS_XZ.end(probeStart);
 	}
 
 	@Inject(method = "contains(Lnet/minecraft/util/math/BlockPos;)Z", at = @At("HEAD"), cancellable = true)
 	private void theVirusBlock$allowSingularityBypass(BlockPos pos, CallbackInfoReturnable<Boolean> cir) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("Border.containsPos");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.BORDER_CONTAINS_POS.start();
 		if (SingularityChunkContext.shouldBypassBorder((WorldBorder) (Object) this,
 				pos.getX() + 0.5D,
 				pos.getZ() + 0.5D)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.BORDER_CONTAINS_POS.end(probeStart);
 			cir.setReturnValue(true);
 			return;
 		}
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.BORDER_CONTAINS_POS.end(probeStart);
 	}
 }
 
@@ -28,20 +28,20 @@ public interface WorldCollisionGrowthIntermediaryMixin {
 			Box queryBox,
 			Vec3d movementReference,
 			CallbackInfoReturnable<Iterable<VoxelShape>> cir) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("World.getCollisions.Int");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.WORLD_COLLISIONS_INT.start();
 		// Fast exit when no growth blocks exist
 		if (!net.cyberpunk042.block.entity.GrowthCollisionTracker.hasAny()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.WORLD_COLLISIONS_INT.end(probeStart);
 			return;
 		}
 		if (!(this instanceof World world) || world.isClient || entity == null) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.WORLD_COLLISIONS_INT.end(probeStart);
 			return;
 		}
 		Iterable<VoxelShape> vanilla = cir.getReturnValue();
 		List<VoxelShape> extras = GrowthCollisionMixinHelper.gatherGrowthCollisions(entity, world, queryBox, vanilla);
 		if (extras.isEmpty()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.WORLD_COLLISIONS_INT.end(probeStart);
 			return;
 		}
 		// Avoid allocation when vanilla is empty
@@ -55,7 +55,7 @@ public interface WorldCollisionGrowthIntermediaryMixin {
 			merged.addAll(extras);
 			cir.setReturnValue(merged);
 		}
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.WORLD_COLLISIONS_INT.end(probeStart);
 	}
 
 	@Inject(
@@ -66,20 +66,20 @@ public interface WorldCollisionGrowthIntermediaryMixin {
 			@Nullable Entity entity,
 			Box queryBox,
 			CallbackInfoReturnable<Iterable<VoxelShape>> cir) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("World.getBlockColl.Int");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.WORLD_BLOCK_COLLISIONS_INT.start();
 		// Fast exit when no growth blocks exist
 		if (!net.cyberpunk042.block.entity.GrowthCollisionTracker.hasAny()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.WORLD_BLOCK_COLLISIONS_INT.end(probeStart);
 			return;
 		}
 		if (!(this instanceof World world) || world.isClient || entity == null) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.WORLD_BLOCK_COLLISIONS_INT.end(probeStart);
 			return;
 		}
 		Iterable<VoxelShape> vanilla = cir.getReturnValue();
 		List<VoxelShape> extras = GrowthCollisionMixinHelper.gatherGrowthCollisions(entity, world, queryBox, vanilla);
 		if (extras.isEmpty()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.WORLD_BLOCK_COLLISIONS_INT.end(probeStart);
 			return;
 		}
 		// Avoid allocation when vanilla is empty
@@ -93,7 +93,7 @@ public interface WorldCollisionGrowthIntermediaryMixin {
 			merged.addAll(extras);
 			cir.setReturnValue(merged);
 		}
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.WORLD_BLOCK_COLLISIONS_INT.end(probeStart);
 	}
 }
 
@@ -19,21 +19,21 @@ public abstract class ZombieEntityMixin extends HostileEntity {
 
 	@Inject(method = "tickMovement", at = @At("TAIL"))
 	private void theVirusBlock$extinguishDuringInfection(CallbackInfo ci) {
-		var ctx = net.cyberpunk042.util.MixinProfiler.enter("Zombie.tick");
+		long probeStart = net.cyberpunk042.util.MixinProfiler.ZOMBIE_TICK.start();
 		
 		// Fast exit: Only do anything if zombie is on fire
 		if (!this.isOnFire()) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ZOMBIE_TICK.end(probeStart);
 			return;
 		}
 		if (!(getWorld() instanceof ServerWorld serverWorld)) {
-			ctx.exit();
+			net.cyberpunk042.util.MixinProfiler.ZOMBIE_TICK.end(probeStart);
 			return;
 		}
 		if (VirusWorldState.get(serverWorld).infectionState().infected()) {
 			this.setFireTicks(0);
 		}
-		ctx.exit();
+		net.cyberpunk042.util.MixinProfiler.ZOMBIE_TICK.end(probeStart);
 	}
 }
 
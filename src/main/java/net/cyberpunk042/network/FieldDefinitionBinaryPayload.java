@@ -0,0 +1,47 @@
+package net.cyberpunk042.network;
+
+import com.google.common.hash.Hashing;
+import net.cyberpunk042.TheVirusBlock;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * One field definition in {@link JsonBinaryCodec} form, sent in answer to a
+ * {@link FieldDefinitionRequestPayload}. {@code hash} is the content hash of
+ * {@code data}; the client stores the bytes under it in its disk cache.
+ */
+public record FieldDefinitionBinaryPayload(String definitionId, long hash, byte[] data) implements CustomPayload {
+
+    public static final Identifier PACKET_ID = Identifier.of(TheVirusBlock.MOD_ID, "field_definition_binary");
+    public static final Id<FieldDefinitionBinaryPayload> ID = new Id<>(PACKET_ID);
+    public static final PacketCodec<PacketByteBuf, FieldDefinitionBinaryPayload> CODEC =
+            PacketCodec.of(FieldDefinitionBinaryPayload::write, FieldDefinitionBinaryPayload::read);
+
+    public static FieldDefinitionBinaryPayload read(PacketByteBuf buf) {
+        return new FieldDefinitionBinaryPayload(buf.readString(), buf.readLong(), buf.readByteArray());
+    }
+
+    private void write(PacketByteBuf buf) {
+        buf.writeString(definitionId);
+        buf.writeLong(hash);
+        buf.writeByteArray(data);
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+
+    /**
+     * Content hash used by the manifest and the client cache.
+     */
+    public static long hash(byte[] data) {
+        return Hashing.murmur3_128().hashBytes(data).asLong();
+    }
+
+    public Identifier definitionIdentifier() {
+        return Identifier.tryParse(definitionId);
+    }
+}
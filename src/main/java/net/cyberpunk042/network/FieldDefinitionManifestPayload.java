@@ -0,0 +1,48 @@
+package net.cyberpunk042.network;
+
+import net.cyberpunk042.TheVirusBlock;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists every field definition the server has, as (id, content hash).
+ * Sent on join to clients that understand it; the client answers with a
+ * {@link FieldDefinitionRequestPayload} for the hashes missing from its
+ * disk cache.
+ */
+public record FieldDefinitionManifestPayload(List<Entry> entries) implements CustomPayload {
+
+    public static final Identifier PACKET_ID = Identifier.of(TheVirusBlock.MOD_ID, "field_definition_manifest");
+    public static final Id<FieldDefinitionManifestPayload> ID = new Id<>(PACKET_ID);
+    public static final PacketCodec<PacketByteBuf, FieldDefinitionManifestPayload> CODEC =
+            PacketCodec.of(FieldDefinitionManifestPayload::write, FieldDefinitionManifestPayload::read);
+
+    public record Entry(String definitionId, long hash) {}
+
+    public static FieldDefinitionManifestPayload read(PacketByteBuf buf) {
+        int size = buf.readVarInt();
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry(buf.readString(), buf.readLong()));
+        }
+        return new FieldDefinitionManifestPayload(entries);
+    }
+
+    private void write(PacketByteBuf buf) {
+        buf.writeVarInt(entries.size());
+        for (Entry entry : entries) {
+            buf.writeString(entry.definitionId());
+            buf.writeLong(entry.hash());
+        }
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,33 @@
+package net.cyberpunk042.network;
+
+import net.cyberpunk042.TheVirusBlock;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Client reply to a {@link FieldDefinitionManifestPayload}: the content
+ * hashes it has no cached copy of. The server answers each with a
+ * {@link FieldDefinitionBinaryPayload}.
+ */
+public record FieldDefinitionRequestPayload(long[] hashes) implements CustomPayload {
+
+    public static final Identifier PACKET_ID = Identifier.of(TheVirusBlock.MOD_ID, "field_definition_request");
+    public static final Id<FieldDefinitionRequestPayload> ID = new Id<>(PACKET_ID);
+    public static final PacketCodec<PacketByteBuf, FieldDefinitionRequestPayload> CODEC =
+            PacketCodec.of(FieldDefinitionRequestPayload::write, FieldDefinitionRequestPayload::read);
+
+    public static FieldDefinitionRequestPayload read(PacketByteBuf buf) {
+        return new FieldDefinitionRequestPayload(buf.readLongArray());
+    }
+
+    private void write(PacketByteBuf buf) {
+        buf.writeLongArray(hashes);
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,113 @@
+package net.cyberpunk042.network;
+
+import com.google.gson.Gson;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.cyberpunk042.field.FieldDefinition;
+import net.cyberpunk042.field.FieldRegistry;
+import net.cyberpunk042.log.Logging;
+import net.cyberpunk042.util.NetworkProfiler;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server side of field definition sync.
+ *
+ * <p>Clients that register {@link FieldDefinitionManifestPayload} get a
+ * manifest of (id, content hash) on join and request only the hashes their
+ * disk cache lacks. Those arrive as {@link JsonBinaryCodec} bytes. Older
+ * clients get the previous one-JSON-string-per-definition sync.
+ *
+ * <p>Encoded bytes are cached per definition id and reused for every player.
+ * An entry is re-encoded when the registry returns a different definition
+ * object, which is what a reload or re-register produces. Server thread only.
+ */
+public final class FieldDefinitionSync {
+
+    private static final Gson GSON = new Gson();
+
+    private static final Map<String, Encoded> ENCODED = new HashMap<>();
+    private static final Long2ObjectMap<Encoded> BY_HASH = new Long2ObjectOpenHashMap<>();
+
+    private FieldDefinitionSync() {}
+
+    private record Encoded(FieldDefinition definition, long hash, byte[] data) {}
+
+    public static void syncTo(ServerPlayerEntity player) {
+        if (!ServerPlayNetworking.canSend(player, FieldDefinitionManifestPayload.ID)) {
+            syncJsonTo(player);
+            return;
+        }
+        List<FieldDefinitionManifestPayload.Entry> entries = new ArrayList<>();
+        for (FieldDefinition def : FieldRegistry.all()) {
+            Encoded encoded = encoded(def);
+            entries.add(new FieldDefinitionManifestPayload.Entry(def.id(), encoded.hash()));
+        }
+        ServerPlayNetworking.send(player, new FieldDefinitionManifestPayload(entries));
+        Logging.REGISTRY.topic("field").info(
+            "Sent definition manifest ({} entries) to {}", entries.size(), player.getName().getString());
+    }
+
+    /**
+     * Sends the definitions a client asked for after reading the manifest.
+     * Unknown hashes (a reload happened in between) are skipped; the next
+     * manifest covers them.
+     */
+    public static void handleRequest(ServerPlayerEntity player, FieldDefinitionRequestPayload request) {
+        int sent = 0;
+        for (long hash : request.hashes()) {
+            Encoded encoded = BY_HASH.get(hash);
+            if (encoded == null || FieldRegistry.get(encoded.definition().id()) != encoded.definition()) {
+                continue;
+            }
+            ServerPlayNetworking.send(player,
+                new FieldDefinitionBinaryPayload(encoded.definition().id(), hash, encoded.data()));
+            NetworkProfiler.trackSend("FieldDefinitionBinary", encoded.data().length);
+            sent++;
+        }
+        Logging.REGISTRY.topic("field").info(
+            "Sent {} of {} requested definitions to {} ({} cached by client)",
+            sent, request.hashes().length, player.getName().getString(),
+            FieldRegistry.count() - request.hashes().length);
+    }
+
+    /**
+     * Drops all encoded bytes. Stale entries are also detected on use, so
+     * this only frees memory.
+     */
+    public static void invalidate() {
+        ENCODED.clear();
+        BY_HASH.clear();
+    }
+
+    private static Encoded encoded(FieldDefinition def) {
+        Encoded encoded = ENCODED.get(def.id());
+        if (encoded != null && encoded.definition() == def) {
+            return encoded;
+        }
+        if (encoded != null) {
+            BY_HASH.remove(encoded.hash());
+        }
+        byte[] data = JsonBinaryCodec.encode(def.toJson());
+        encoded = new Encoded(def, FieldDefinitionBinaryPayload.hash(data), data);
+        ENCODED.put(def.id(), encoded);
+        BY_HASH.put(encoded.hash(), encoded);
+        return encoded;
+    }
+
+    private static void syncJsonTo(ServerPlayerEntity player) {
+        int count = 0;
+        for (FieldDefinition def : FieldRegistry.all()) {
+            String json = GSON.toJson(def.toJson());
+            ServerPlayNetworking.send(player, new FieldDefinitionSyncPayload(def.id(), json));
+            count++;
+        }
+        Logging.REGISTRY.topic("field").info(
+            "Synced {} definitions to {} (JSON fallback)", count, player.getName().getString());
+    }
+}
@@ -0,0 +1,273 @@
+package net.cyberpunk042.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.function.LongConsumer;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.cyberpunk042.TheVirusBlock;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+import java.util.List;
+
+/**
+ * Delta-encoded field update, written per player by {@link FieldReplicator}.
+ *
+ * <p>The body starts with the field id and a change mask; only the masked
+ * groups follow. Positions are quantized to {@value #POSITION_SCALE} steps
+ * per block and sent as zigzag varlongs relative to the previous value.
+ * Strings are interned per connection: each is sent once, then referenced
+ * by a varint id.
+ *
+ * <p>Both sides keep a {@link Baseline} per field. A {@link #FULL} mask resets
+ * it, so the first update after spawn or after re-entering the view radius
+ * is self-contained. A {@link #HIDDEN} record carries only the id: the field
+ * left the player's view radius, so the client drops its baseline and stops
+ * drawing the field until the next full update.
+ */
+public record FieldDeltaPayload(byte[] data) implements CustomPayload {
+
+    public static final Identifier PACKET_ID = Identifier.of(TheVirusBlock.MOD_ID, "field_delta");
+    public static final Id<FieldDeltaPayload> ID = new Id<>(PACKET_ID);
+    public static final PacketCodec<PacketByteBuf, FieldDeltaPayload> CODEC =
+            PacketCodec.of(FieldDeltaPayload::write, FieldDeltaPayload::read);
+
+    public static final double POSITION_SCALE = 4096.0;
+
+    // Change mask bits
+    static final int POSITION = 1;
+    static final int ALPHA = 1 << 1;
+    static final int SHUFFLE = 1 << 2;
+    static final int FOLLOW_MODE = 1 << 3;
+    static final int PREDICTION = 1 << 4;
+    static final int HIDDEN = 1 << 6;
+    static final int FULL = 1 << 7;
+    static final int ALL = POSITION | ALPHA | SHUFFLE | FOLLOW_MODE | PREDICTION;
+
+    public static FieldDeltaPayload read(PacketByteBuf buf) {
+        return new FieldDeltaPayload(buf.readByteArray());
+    }
+
+    private void write(PacketByteBuf buf) {
+        buf.writeByteArray(data);
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+
+    /**
+     * Last state one side knows about for a field. Positions are kept
+     * quantized so the encoder and decoder never drift apart.
+     */
+    public static final class Baseline {
+        long qx, qy, qz;
+        float alpha;
+        String shuffleType = "";
+        int shuffleIndex = -1;
+        String followMode = "snap";
+        boolean predictionEnabled;
+        int predictionLeadTicks;
+        float predictionMaxDistance;
+        float predictionLookAhead;
+        float predictionVerticalBoost;
+
+        void reset() {
+            qx = qy = qz = 0;
+            alpha = 0;
+            shuffleType = "";
+            shuffleIndex = -1;
+            followMode = "snap";
+            predictionEnabled = false;
+            predictionLeadTicks = 0;
+            predictionMaxDistance = 0;
+            predictionLookAhead = 0;
+            predictionVerticalBoost = 0;
+        }
+    }
+
+    // ========================================================================
+    // ENCODE (server)
+    // ========================================================================
+
+    /**
+     * Writes the delta from {@code base} to {@code state} and advances the
+     * baseline. Returns false (writing nothing) when nothing changed.
+     *
+     * @param fresh true when the receiver has no baseline for this field
+     * @param strings this connection's intern table; new strings are added
+     */
+    static boolean encode(PacketByteBuf buf, FieldUpdatePayload state, Baseline base, boolean fresh,
+                          Object2IntMap<String> strings) {
+        if (fresh) base.reset();
+        String shuffleType = state.shuffleType() != null ? state.shuffleType() : "";
+        String followMode = state.followMode() != null ? state.followMode() : "snap";
+        long qx = quantize(state.x());
+        long qy = quantize(state.y());
+        long qz = quantize(state.z());
+
+        int mask = fresh ? FULL : 0;
+        if (fresh || qx != base.qx || qy != base.qy || qz != base.qz) mask |= POSITION;
+        if (fresh || state.alpha() != base.alpha) mask |= ALPHA;
+        if (fresh || !shuffleType.equals(base.shuffleType) || state.shuffleIndex() != base.shuffleIndex) mask |= SHUFFLE;
+        if (fresh || !followMode.equals(base.followMode)) mask |= FOLLOW_MODE;
+        if (fresh || state.predictionEnabled() != base.predictionEnabled
+                || state.predictionLeadTicks() != base.predictionLeadTicks
+                || state.predictionMaxDistance() != base.predictionMaxDistance
+                || state.predictionLookAhead() != base.predictionLookAhead
+                || state.predictionVerticalBoost() != base.predictionVerticalBoost) {
+            mask |= PREDICTION;
+        }
+        if (mask == 0) return false;
+
+        buf.writeVarLong(state.id());
+        buf.writeByte(mask);
+        if ((mask & POSITION) != 0) {
+            buf.writeVarLong(zigzag(qx - base.qx));
+            buf.writeVarLong(zigzag(qy - base.qy));
+            buf.writeVarLong(zigzag(qz - base.qz));
+            base.qx = qx;
+            base.qy = qy;
+            base.qz = qz;
+        }
+        if ((mask & ALPHA) != 0) {
+            buf.writeFloat(state.alpha());
+            base.alpha = state.alpha();
+        }
+        if ((mask & SHUFFLE) != 0) {
+            writeString(buf, shuffleType, strings);
+            buf.writeVarInt(state.shuffleIndex() + 1);
+            base.shuffleType = shuffleType;
+            base.shuffleIndex = state.shuffleIndex();
+        }
+        if ((mask & FOLLOW_MODE) != 0) {
+            writeString(buf, followMode, strings);
+            base.followMode = followMode;
+        }
+        if ((mask & PREDICTION) != 0) {
+            buf.writeBoolean(state.predictionEnabled());
+            buf.writeVarInt(state.predictionLeadTicks());
+            buf.writeFloat(state.predictionMaxDistance());
+            buf.writeFloat(state.predictionLookAhead());
+            buf.writeFloat(state.predictionVerticalBoost());
+            base.predictionEnabled = state.predictionEnabled();
+            base.predictionLeadTicks = state.predictionLeadTicks();
+            base.predictionMaxDistance = state.predictionMaxDistance();
+            base.predictionLookAhead = state.predictionLookAhead();
+            base.predictionVerticalBoost = state.predictionVerticalBoost();
+        }
+        return true;
+    }
+
+    /**
+     * Writes a {@link #HIDDEN} record for a field that left the receiver's
+     * view radius.
+     */
+    static void encodeHidden(PacketByteBuf buf, long id) {
+        buf.writeVarLong(id);
+        buf.writeByte(HIDDEN);
+    }
+
+    private static void writeString(PacketByteBuf buf, String value, Object2IntMap<String> strings) {
+        int id = strings.getInt(value);
+        if (id >= 0) {
+            buf.writeVarInt(id << 1);
+            return;
+        }
+        id = strings.size();
+        strings.put(value, id);
+        buf.writeVarInt((id << 1) | 1);
+        buf.writeString(value);
+    }
+
+    // ========================================================================
+    // DECODE (client)
+    // ========================================================================
+
+    /**
+     * Applies one delta to the matching baseline and returns the resulting
+     * full state, or null for a {@link #HIDDEN} record, which drops the
+     * baseline and is reported to {@code onHidden} instead.
+     *
+     * @param bases this connection's baselines, keyed by field id
+     * @param strings this connection's intern table, indexed by id
+     * @param onHidden receives the id of a field that left the view radius
+     */
+    public static FieldUpdatePayload decode(PacketByteBuf buf, Long2ObjectMap<Baseline> bases, List<String> strings,
+                                            LongConsumer onHidden) {
+        long id = buf.readVarLong();
+        int mask = buf.readUnsignedByte();
+        if ((mask & HIDDEN) != 0) {
+            bases.remove(id);
+            onHidden.accept(id);
+            return null;
+        }
+        Baseline base = bases.get(id);
+        if (base == null) {
+            base = new Baseline();
+            bases.put(id, base);
+        } else if ((mask & FULL) != 0) {
+            base.reset();
+        }
+        if ((mask & POSITION) != 0) {
+            base.qx += unzigzag(buf.readVarLong());
+            base.qy += unzigzag(buf.readVarLong());
+            base.qz += unzigzag(buf.readVarLong());
+        }
+        if ((mask & ALPHA) != 0) {
+            base.alpha = buf.readFloat();
+        }
+        if ((mask & SHUFFLE) != 0) {
+            base.shuffleType = readString(buf, strings);
+            base.shuffleIndex = buf.readVarInt() - 1;
+        }
+        if ((mask & FOLLOW_MODE) != 0) {
+            base.followMode = readString(buf, strings);
+        }
+        if ((mask & PREDICTION) != 0) {
+            base.predictionEnabled = buf.readBoolean();
+            base.predictionLeadTicks = buf.readVarInt();
+            base.predictionMaxDistance = buf.readFloat();
+            base.predictionLookAhead = buf.readFloat();
+            base.predictionVerticalBoost = buf.readFloat();
+        }
+        return FieldUpdatePayload.full(id,
+            base.qx / POSITION_SCALE, base.qy / POSITION_SCALE, base.qz / POSITION_SCALE,
+            base.alpha, base.shuffleType, base.shuffleIndex, base.followMode,
+            base.predictionEnabled, base.predictionLeadTicks, base.predictionMaxDistance,
+            base.predictionLookAhead, base.predictionVerticalBoost);
+    }
+
+    private static String readString(PacketByteBuf buf, List<String> strings) {
+        int header = buf.readVarInt();
+        int id = header >>> 1;
+        if ((header & 1) != 0) {
+            String value = buf.readString();
+            if (id == strings.size()) {
+                strings.add(value);
+            } else {
+                strings.set(id, value);
+            }
+            return value;
+        }
+        return id < strings.size() ? strings.get(id) : "";
+    }
+
+    // ========================================================================
+    // HELPERS
+    // ========================================================================
+
+    private static long quantize(double value) {
+        return Math.round(value * POSITION_SCALE);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
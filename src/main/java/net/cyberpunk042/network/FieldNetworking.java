@@ -9,6 +9,10 @@ import net.minecraft.server.world.ServerWorld;
 
 /**
  * Network utilities for field synchronization.
+ * 
+ * <p>Spawn and remove are broadcast to the world. Updates go through
+ * {@link FieldReplicator}, which sends each player only what changed for
+ * fields within their view radius.
  */
 public final class FieldNetworking {
     
@@ -18,9 +22,13 @@ public final class FieldNetworking {
         PayloadTypeRegistry.playS2C().register(FieldSpawnPayload.ID, FieldSpawnPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(FieldRemovePayload.ID, FieldRemovePayload.CODEC);
         PayloadTypeRegistry.playS2C().register(FieldUpdatePayload.ID, FieldUpdatePayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(FieldDeltaPayload.ID, FieldDeltaPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(FieldDefinitionSyncPayload.ID, FieldDefinitionSyncPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(FieldDefinitionManifestPayload.ID, FieldDefinitionManifestPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(FieldDefinitionBinaryPayload.ID, FieldDefinitionBinaryPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(FieldDefinitionRequestPayload.ID, FieldDefinitionRequestPayload.CODEC);
         
-        Logging.REGISTRY.info("Registered field network payloads (spawn, remove, update)");
+        Logging.REGISTRY.info("Registered field network payloads (spawn, remove, update, delta)");
     }
     
     public static void sendSpawn(ServerWorld world, FieldInstance instance) {
@@ -62,6 +70,7 @@ public final class FieldNetworking {
     
     public static void sendRemove(ServerWorld world, long fieldId) {
         FieldRemovePayload payload = new FieldRemovePayload(fieldId);
+        FieldReplicator.forget(fieldId);
         int playerCount = world.getPlayers().size();
         for (ServerPlayerEntity player : world.getPlayers()) {
             ServerPlayNetworking.send(player, payload);
@@ -81,7 +90,7 @@ public final class FieldNetworking {
     }
     
     /**
-     * Sends update with all options including follow mode and prediction.
+     * Replicates update with all options including follow mode and prediction.
      */
     public static void sendUpdateFull(ServerWorld world, FieldInstance instance, 
                                        String shuffleType, int shuffleIndex,
@@ -103,17 +112,15 @@ public final class FieldNetworking {
             predictionLookAhead,
             predictionVerticalBoost
         );
-        for (ServerPlayerEntity player : world.getPlayers()) {
-            ServerPlayNetworking.send(player, payload);
-        }
+        FieldReplicator.replicate(world, payload);
         
         Logging.REGISTRY.topic("field").trace(
-            "Sent update for field {} (shuffle={}:{}, follow={}, predict={})", 
+            "Replicated update for field {} (shuffle={}:{}, follow={}, predict={})", 
             instance.id(), shuffleType, shuffleIndex, followMode, predictionEnabled);
     }
     
     /**
-     * Sends update with a static pattern ID instead of shuffle index.
+     * Replicates update with a static pattern ID instead of shuffle index.
      */
     public static void sendUpdateWithPattern(ServerWorld world, FieldInstance instance, String patternId,
                                               String followMode, boolean predictionEnabled,
@@ -134,12 +141,10 @@ public final class FieldNetworking {
             predictionLookAhead,
             predictionVerticalBoost
         );
-        for (ServerPlayerEntity player : world.getPlayers()) {
-            ServerPlayNetworking.send(player, payload);
-        }
+        FieldReplicator.replicate(world, payload);
         
         Logging.REGISTRY.topic("field").trace(
-            "Sent update for field {} (staticPattern={}, follow={}, predict={})", 
+            "Replicated update for field {} (staticPattern={}, follow={}, predict={})", 
             instance.id(), patternId, followMode, predictionEnabled);
     }
     
@@ -159,20 +164,10 @@ public final class FieldNetworking {
     /**
      * Syncs all field definitions to a player.
      * Call when player joins so they have all definitions for rendering.
+     * 
+     * @see FieldDefinitionSync
      */
     public static void syncDefinitionsTo(ServerPlayerEntity player) {
-        var gson = new com.google.gson.Gson();
-        
-        int count = 0;
-        for (var def : net.cyberpunk042.field.FieldRegistry.all()) {
-            // Serialize to JSON
-            String json = gson.toJson(def.toJson());
-            var payload = new FieldDefinitionSyncPayload(def.id().toString(), json);
-            ServerPlayNetworking.send(player, payload);
-            count++;
-        }
-        
-        Logging.REGISTRY.topic("field").info(
-            "Synced {} definitions to {}", count, player.getName().getString());
+        FieldDefinitionSync.syncTo(player);
     }
 }
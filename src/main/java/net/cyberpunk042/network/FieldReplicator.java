@@ -0,0 +1,134 @@
+package net.cyberpunk042.network;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.cyberpunk042.infection.service.InfectionServiceContainer;
+import net.cyberpunk042.infection.service.InfectionServices;
+import net.cyberpunk042.util.NetworkProfiler;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player replication of field updates.
+ *
+ * <p>For every player the replicator remembers the last state sent for each
+ * field and sends only what changed, as a {@link FieldDeltaPayload}. Play
+ * packets are ordered and reliable, so the last state sent is the state the
+ * client holds. Unchanged fields send nothing.
+ *
+ * <p>Players farther than {@code fields.viewRadius} (services.json) from a
+ * field get no updates for it. When a field leaves a player's range they are
+ * sent one hidden record so the client stops drawing it, and their baseline
+ * is dropped, so the first update after they come back in range is a full
+ * one that shows the field again.
+ *
+ * <p>Server thread only.
+ */
+public final class FieldReplicator {
+
+    private static final String PACKET_TYPE = "FieldDelta";
+    private static final double DEFAULT_VIEW_RADIUS = 128.0;
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    private static final Map<UUID, PlayerView> VIEWS = new HashMap<>();
+
+    private FieldReplicator() {}
+
+    /** What one player's client knows: field baselines and interned strings. */
+    private static final class PlayerView {
+        final Long2ObjectOpenHashMap<FieldDeltaPayload.Baseline> fields = new Long2ObjectOpenHashMap<>();
+        final Object2IntOpenHashMap<String> strings = new Object2IntOpenHashMap<>();
+        long windowStart = System.nanoTime();
+        long windowBytes;
+
+        PlayerView() {
+            strings.defaultReturnValue(-1);
+        }
+
+        void countBytes(int bytes) {
+            windowBytes += bytes;
+            long now = System.nanoTime();
+            long elapsed = now - windowStart;
+            if (elapsed >= RATE_WINDOW_NANOS) {
+                NetworkProfiler.trackRate(PACKET_TYPE, windowBytes * 1_000_000_000L / elapsed);
+                windowStart = now;
+                windowBytes = 0;
+            }
+        }
+    }
+
+    /**
+     * Sends {@code state} to every player in range whose copy differs.
+     */
+    public static void replicate(ServerWorld world, FieldUpdatePayload state) {
+        double radius = viewRadius();
+        double radiusSq = radius * radius;
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer(64));
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            PlayerView view = VIEWS.computeIfAbsent(player.getUuid(), uuid -> new PlayerView());
+            if (player.squaredDistanceTo(state.x(), state.y(), state.z()) > radiusSq) {
+                if (view.fields.remove(state.id()) != null) {
+                    buf.clear();
+                    FieldDeltaPayload.encodeHidden(buf, state.id());
+                    send(player, view, buf);
+                }
+                continue;
+            }
+            FieldDeltaPayload.Baseline base = view.fields.get(state.id());
+            boolean fresh = base == null;
+            if (fresh) {
+                base = new FieldDeltaPayload.Baseline();
+                view.fields.put(state.id(), base);
+            }
+
+            long encodeStart = NetworkProfiler.startEncode(PACKET_TYPE);
+            buf.clear();
+            if (!FieldDeltaPayload.encode(buf, state, base, fresh, view.strings)) {
+                NetworkProfiler.endEncode(PACKET_TYPE, encodeStart);
+                continue;
+            }
+            NetworkProfiler.endEncode(PACKET_TYPE, encodeStart, buf.readableBytes());
+            send(player, view, buf);
+        }
+        buf.release();
+    }
+
+    private static void send(ServerPlayerEntity player, PlayerView view, PacketByteBuf buf) {
+        byte[] data = new byte[buf.readableBytes()];
+        buf.readBytes(data);
+        ServerPlayNetworking.send(player, new FieldDeltaPayload(data));
+        view.countBytes(data.length);
+    }
+
+    /**
+     * Drops every player's baseline for a removed field.
+     */
+    public static void forget(long fieldId) {
+        for (PlayerView view : VIEWS.values()) {
+            view.fields.remove(fieldId);
+        }
+    }
+
+    /**
+     * Drops a player's state; call on disconnect. The client clears its
+     * tables at the same point.
+     */
+    public static void forget(UUID playerUuid) {
+        VIEWS.remove(playerUuid);
+    }
+
+    private static double viewRadius() {
+        InfectionServiceContainer services = InfectionServices.container();
+        if (services == null || services.settings().fields == null) {
+            return DEFAULT_VIEW_RADIUS;
+        }
+        return services.settings().fields.viewRadius;
+    }
+}
@@ -0,0 +1,158 @@
+package net.cyberpunk042.network;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import net.minecraft.network.PacketByteBuf;
+
+import java.util.Map;
+
+/**
+ * Compact binary form of a JSON tree, used to sync field definitions.
+ *
+ * <p>Layout: a string table (varint count, then strings), then one tagged
+ * element. Object keys and string values are written as varint indexes into
+ * the table, so repeated keys ("type", "color", ...) cost one byte each.
+ * Integral numbers are zigzag varlongs; other numbers are doubles.
+ *
+ * <p>Decoding yields an equivalent tree for the normal JSON loader, without
+ * reparsing text.
+ */
+public final class JsonBinaryCodec {
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_TRUE = 1;
+    private static final int TAG_FALSE = 2;
+    private static final int TAG_LONG = 3;
+    private static final int TAG_DOUBLE = 4;
+    private static final int TAG_STRING = 5;
+    private static final int TAG_ARRAY = 6;
+    private static final int TAG_OBJECT = 7;
+
+    // Doubles beyond this can't round-trip through long exactly
+    private static final double MAX_EXACT_LONG = 9.007199254740992E15;
+
+    private JsonBinaryCodec() {}
+
+    public static byte[] encode(JsonElement element) {
+        Object2IntLinkedOpenHashMap<String> strings = new Object2IntLinkedOpenHashMap<>();
+        strings.defaultReturnValue(-1);
+        PacketByteBuf body = new PacketByteBuf(Unpooled.buffer(256));
+        PacketByteBuf out = new PacketByteBuf(Unpooled.buffer(512));
+        try {
+            writeElement(body, element, strings);
+            out.writeVarInt(strings.size());
+            for (String value : strings.keySet()) {
+                out.writeString(value);
+            }
+            out.writeBytes(body);
+            byte[] data = new byte[out.readableBytes()];
+            out.readBytes(data);
+            return data;
+        } finally {
+            body.release();
+            out.release();
+        }
+    }
+
+    public static JsonElement decode(byte[] data) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.wrappedBuffer(data));
+        int count = buf.readVarInt();
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            strings[i] = buf.readString();
+        }
+        return readElement(buf, strings);
+    }
+
+    private static void writeElement(PacketByteBuf buf, JsonElement element, Object2IntLinkedOpenHashMap<String> strings) {
+        if (element == null || element.isJsonNull()) {
+            buf.writeByte(TAG_NULL);
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            buf.writeByte(TAG_OBJECT);
+            buf.writeVarInt(object.size());
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                buf.writeVarInt(intern(entry.getKey(), strings));
+                writeElement(buf, entry.getValue(), strings);
+            }
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            buf.writeByte(TAG_ARRAY);
+            buf.writeVarInt(array.size());
+            for (JsonElement child : array) {
+                writeElement(buf, child, strings);
+            }
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                buf.writeByte(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+            } else if (primitive.isNumber()) {
+                double value = primitive.getAsDouble();
+                if (value == Math.rint(value) && Math.abs(value) <= MAX_EXACT_LONG) {
+                    long integral = (long) value;
+                    buf.writeByte(TAG_LONG);
+                    buf.writeVarLong((integral << 1) ^ (integral >> 63));
+                } else {
+                    buf.writeByte(TAG_DOUBLE);
+                    buf.writeDouble(value);
+                }
+            } else {
+                buf.writeByte(TAG_STRING);
+                buf.writeVarInt(intern(primitive.getAsString(), strings));
+            }
+        }
+    }
+
+    private static JsonElement readElement(PacketByteBuf buf, String[] strings) {
+        int tag = buf.readUnsignedByte();
+        switch (tag) {
+            case TAG_NULL:
+                return JsonNull.INSTANCE;
+            case TAG_TRUE:
+                return new JsonPrimitive(true);
+            case TAG_FALSE:
+                return new JsonPrimitive(false);
+            case TAG_LONG: {
+                long raw = buf.readVarLong();
+                return new JsonPrimitive((raw >>> 1) ^ -(raw & 1));
+            }
+            case TAG_DOUBLE:
+                return new JsonPrimitive(buf.readDouble());
+            case TAG_STRING:
+                return new JsonPrimitive(strings[buf.readVarInt()]);
+            case TAG_ARRAY: {
+                int size = buf.readVarInt();
+                JsonArray array = new JsonArray(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(readElement(buf, strings));
+                }
+                return array;
+            }
+            case TAG_OBJECT: {
+                int size = buf.readVarInt();
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < size; i++) {
+                    String key = strings[buf.readVarInt()];
+                    object.add(key, readElement(buf, strings));
+                }
+                return object;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown JSON tag " + tag);
+        }
+    }
+
+    private static int intern(String value, Object2IntLinkedOpenHashMap<String> strings) {
+        int index = strings.getInt(value);
+        if (index < 0) {
+            index = strings.size();
+            strings.put(value, index);
+        }
+        return index;
+    }
+}
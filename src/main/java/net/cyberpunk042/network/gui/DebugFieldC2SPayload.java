@@ -8,13 +8,22 @@ import net.minecraft.network.packet.CustomPayload;
  * G107: Client -> Server debug field update.
  * 
  * <p>Sent when the player modifies the DEBUG field in real-time.</p>
+ * 
+ * <p>Spawns and updates carry a {@code revision}. An update with a
+ * {@code baseRevision} of {@link #NO_BASE} holds the whole state document;
+ * otherwise {@code fieldJson} is a JSON patch against the document the
+ * server acknowledged as {@code baseRevision}.</p>
  */
 public record DebugFieldC2SPayload(
     String fieldJson,
     boolean spawn,
-    boolean despawn
+    boolean despawn,
+    int revision,
+    int baseRevision
 ) implements CustomPayload {
     
+    public static final int NO_BASE = -1;
+    
     public static final Id<DebugFieldC2SPayload> ID = new Id<>(GuiPacketIds.DEBUG_FIELD_C2S);
     
     public static final PacketCodec<RegistryByteBuf, DebugFieldC2SPayload> CODEC = PacketCodec.of(
@@ -22,11 +31,15 @@ public record DebugFieldC2SPayload(
             buf.writeString(payload.fieldJson);
             buf.writeBoolean(payload.spawn);
             buf.writeBoolean(payload.despawn);
+            buf.writeVarInt(payload.revision);
+            buf.writeVarInt(payload.baseRevision);
         },
         buf -> new DebugFieldC2SPayload(
             buf.readString(),
             buf.readBoolean(),
-            buf.readBoolean()
+            buf.readBoolean(),
+            buf.readVarInt(),
+            buf.readVarInt()
         )
     );
     
@@ -35,15 +48,24 @@ public record DebugFieldC2SPayload(
         return ID;
     }
     
-    public static DebugFieldC2SPayload updateField(String json) {
-        return new DebugFieldC2SPayload(json, false, false);
+    /** True when {@code fieldJson} is a patch rather than a full document. */
+    public boolean isPatch() {
+        return baseRevision != NO_BASE;
+    }
+    
+    public static DebugFieldC2SPayload updateField(int revision, String json) {
+        return new DebugFieldC2SPayload(json, false, false, revision, NO_BASE);
+    }
+    
+    public static DebugFieldC2SPayload patchField(int revision, int baseRevision, String patchJson) {
+        return new DebugFieldC2SPayload(patchJson, false, false, revision, baseRevision);
     }
     
-    public static DebugFieldC2SPayload spawnField(String json) {
-        return new DebugFieldC2SPayload(json, true, false);
+    public static DebugFieldC2SPayload spawnField(int revision, String json) {
+        return new DebugFieldC2SPayload(json, true, false, revision, NO_BASE);
     }
     
     public static DebugFieldC2SPayload despawnField() {
-        return new DebugFieldC2SPayload("", false, true);
+        return new DebugFieldC2SPayload("", false, true, 0, NO_BASE);
     }
 }
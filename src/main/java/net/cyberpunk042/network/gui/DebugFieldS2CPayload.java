@@ -6,13 +6,21 @@ import net.minecraft.network.packet.CustomPayload;
 
 /**
  * G108: Server -> Client debug field confirmation/update.
+ * 
+ * <p>Replies to versioned updates carry the update's {@code revision}:
+ * either an acknowledgement the client can patch against, or a
+ * {@code resync} request when the patch base is unknown to the server.</p>
  */
 public record DebugFieldS2CPayload(
     String fieldJson,
     boolean active,
-    String status
+    String status,
+    int revision,
+    boolean resync
 ) implements CustomPayload {
     
+    public static final int NO_REVISION = -1;
+    
     public static final Id<DebugFieldS2CPayload> ID = new Id<>(GuiPacketIds.DEBUG_FIELD_S2C);
     
     public static final PacketCodec<RegistryByteBuf, DebugFieldS2CPayload> CODEC = PacketCodec.of(
@@ -20,16 +28,32 @@ public record DebugFieldS2CPayload(
             buf.writeString(payload.fieldJson);
             buf.writeBoolean(payload.active);
             buf.writeString(payload.status);
+            buf.writeVarInt(payload.revision);
+            buf.writeBoolean(payload.resync);
         },
         buf -> new DebugFieldS2CPayload(
             buf.readString(),
             buf.readBoolean(),
-            buf.readString()
+            buf.readString(),
+            buf.readVarInt(),
+            buf.readBoolean()
         )
     );
     
+    public DebugFieldS2CPayload(String fieldJson, boolean active, String status) {
+        this(fieldJson, active, status, NO_REVISION, false);
+    }
+    
     @Override
     public Id<? extends CustomPayload> getId() {
         return ID;
     }
+    
+    public static DebugFieldS2CPayload ack(int revision, String status) {
+        return new DebugFieldS2CPayload("", true, status, revision, false);
+    }
+    
+    public static DebugFieldS2CPayload resync(int revision) {
+        return new DebugFieldS2CPayload("", true, "", revision, true);
+    }
 }
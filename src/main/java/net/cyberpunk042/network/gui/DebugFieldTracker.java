@@ -1,5 +1,8 @@
 package net.cyberpunk042.network.gui;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import net.cyberpunk042.field.FieldDefinition;
 import net.cyberpunk042.field.FieldManager;
@@ -7,10 +10,12 @@ import net.cyberpunk042.field.FieldRegistry;
 import net.cyberpunk042.field.instance.PersonalFieldInstance;
 import net.cyberpunk042.field.loader.FieldLoader;
 import net.cyberpunk042.log.Logging;
+import net.cyberpunk042.util.json.JsonPatch;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,7 +25,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * Debug fields are temporary preview fields that follow the player.
  * 
  * <p>Uses a single reusable definition per player to avoid registry growth.
- * <p>Throttles updates to prevent lag during rapid GUI slider changes.
+ * <p>The client coalesces slider changes and sends JSON patches against the
+ * last revision this tracker acknowledged. The last few revisions are kept
+ * per player so patches written before an acknowledgement arrived still
+ * apply; a patch against anything older asks the client for a full resync.
  */
 public final class DebugFieldTracker {
     
@@ -33,11 +41,19 @@ public final class DebugFieldTracker {
     // Player UUID -> last definition JSON hash (to detect actual changes)
     private static final Map<UUID, Integer> LAST_DEF_HASH = new ConcurrentHashMap<>();
     
-    // Player UUID -> last update time (for throttling)
-    private static final Map<UUID, Long> LAST_UPDATE_TIME = new ConcurrentHashMap<>();
+    // Player UUID -> recently applied state documents by revision
+    private static final Map<UUID, Revisions> REVISIONS = new ConcurrentHashMap<>();
     
-    // Minimum ms between updates per player (throttle rapid slider changes)
-    private static final long UPDATE_THROTTLE_MS = 100;
+    // Revisions kept per player; the client sends full documents once it is this far ahead of its last ack
+    public static final int REVISION_HISTORY = 8;
+    
+    /** Most recent documents for one player, oldest evicted first. */
+    private static final class Revisions extends LinkedHashMap<Integer, JsonObject> {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, JsonObject> eldest) {
+            return size() > REVISION_HISTORY;
+        }
+    }
     
     private DebugFieldTracker() {}
     
@@ -49,23 +65,63 @@ public final class DebugFieldTracker {
             uuid -> "debug_" + uuid.toString().substring(0, 8));
     }
     
+    /**
+     * Applies a versioned spawn or update from the live preview.
+     * 
+     * <p>Patches are applied to a copy of the acknowledged base revision. The
+     * resulting document is kept under the payload's revision and
+     * acknowledged even if it does not parse as a definition, since the
+     * client's copy matches it either way.</p>
+     * 
+     * @return the reply for the client: an ack, a resync request, or a failure status
+     */
+    public static DebugFieldS2CPayload receive(ServerPlayerEntity player, DebugFieldC2SPayload payload) {
+        UUID playerUuid = player.getUuid();
+        JsonObject document;
+        try {
+            if (payload.isPatch()) {
+                Revisions revisions = REVISIONS.get(playerUuid);
+                JsonObject base = revisions != null ? revisions.get(payload.baseRevision()) : null;
+                if (base == null) {
+                    Logging.GUI.topic("debug").debug("Debug field patch {} against unknown revision {}, requesting resync",
+                        payload.revision(), payload.baseRevision());
+                    return DebugFieldS2CPayload.resync(payload.revision());
+                }
+                JsonArray patch = JsonParser.parseString(payload.fieldJson()).getAsJsonArray();
+                JsonElement patched = JsonPatch.apply(base.deepCopy(), patch);
+                document = patched.getAsJsonObject();
+            } else {
+                document = JsonParser.parseString(payload.fieldJson()).getAsJsonObject();
+                if (payload.spawn()) {
+                    REVISIONS.remove(playerUuid);
+                }
+            }
+        } catch (RuntimeException e) {
+            Logging.GUI.topic("debug").warn("Rejected debug field revision {}: {}", payload.revision(), e.getMessage());
+            return payload.isPatch()
+                ? DebugFieldS2CPayload.resync(payload.revision())
+                : new DebugFieldS2CPayload("", false, payload.spawn() ? "Failed to spawn" : "");
+        }
+        
+        REVISIONS.computeIfAbsent(playerUuid, uuid -> new Revisions()).put(payload.revision(), document);
+        boolean success = apply(player, document);
+        if (payload.spawn()) {
+            return success
+                ? DebugFieldS2CPayload.ack(payload.revision(), "Debug field spawned")
+                : new DebugFieldS2CPayload("", false, "Failed to spawn");
+        }
+        return DebugFieldS2CPayload.ack(payload.revision(), "");
+    }
+    
     /**
      * Spawn or update a debug field for a player.
      * @param player the player
-     * @param definitionJson JSON string of the field definition
+     * @param definitionJson the field definition document
      * @return true if spawned/updated successfully
      */
-    public static boolean spawnOrUpdate(ServerPlayerEntity player, String definitionJson) {
+    private static boolean apply(ServerPlayerEntity player, JsonObject definitionJson) {
         UUID playerUuid = player.getUuid();
         
-        // Throttle rapid updates (slider drags)
-        long now = System.currentTimeMillis();
-        Long lastUpdate = LAST_UPDATE_TIME.get(playerUuid);
-        if (lastUpdate != null && now - lastUpdate < UPDATE_THROTTLE_MS) {
-            return true; // Skip this update, previous one is recent enough
-        }
-        LAST_UPDATE_TIME.put(playerUuid, now);
-        
         // Check if definition actually changed (skip if identical)
         int jsonHash = definitionJson.hashCode();
         Integer lastHash = LAST_DEF_HASH.get(playerUuid);
@@ -82,9 +138,7 @@ public final class DebugFieldTracker {
         try {
             // Parse the definition
             FieldLoader loader = new FieldLoader();
-            FieldDefinition definition = loader.parseDefinition(
-                JsonParser.parseString(definitionJson).getAsJsonObject()
-            );
+            FieldDefinition definition = loader.parseDefinition(definitionJson);
             
             if (definition == null) {
                 Logging.GUI.topic("debug").warn("Failed to parse debug field definition");
@@ -148,6 +202,7 @@ public final class DebugFieldTracker {
      */
     public static boolean despawn(ServerPlayerEntity player) {
         UUID playerUuid = player.getUuid();
+        REVISIONS.remove(playerUuid);
         Long fieldId = DEBUG_FIELDS.remove(playerUuid);
         
         if (fieldId == null) {
@@ -166,6 +221,16 @@ public final class DebugFieldTracker {
         return removed;
     }
     
+    /**
+     * Drop everything held for a disconnecting player, despawning their debug field.
+     */
+    public static void forget(ServerPlayerEntity player) {
+        despawn(player);
+        UUID playerUuid = player.getUuid();
+        LAST_DEF_HASH.remove(playerUuid);
+        PLAYER_DEF_IDS.remove(playerUuid);
+    }
+    
     /**
      * Check if a player has a debug field.
      */
@@ -187,7 +252,7 @@ public final class DebugFieldTracker {
         DEBUG_FIELDS.clear();
         PLAYER_DEF_IDS.clear();
         LAST_DEF_HASH.clear();
-        LAST_UPDATE_TIME.clear();
+        REVISIONS.clear();
     }
 }
 
@@ -108,21 +108,17 @@ public final class GuiPacketRegistration {
             DebugFieldC2SPayload.ID, (payload, context) -> {
                 context.server().execute(() -> {
                     var player = context.player();
-                    if (payload.spawn()) {
-                        Logging.GUI.topic("network").debug("Player {} spawning debug field", player.getName().getString());
-                        boolean success = DebugFieldTracker.spawnOrUpdate(player, payload.fieldJson());
-                        // Send confirmation
-                        net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.send(
-                            player, new DebugFieldS2CPayload("", success, success ? "Debug field spawned" : "Failed to spawn"));
-                    } else if (payload.despawn()) {
+                    if (payload.despawn()) {
                         Logging.GUI.topic("network").debug("Player {} despawning debug field", player.getName().getString());
                         boolean success = DebugFieldTracker.despawn(player);
                         net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.send(
                             player, new DebugFieldS2CPayload("", success, success ? "Debug field removed" : "No debug field to remove"));
                     } else {
-                        // Update existing debug field
-                        Logging.GUI.topic("network").trace("Player {} updating debug field", player.getName().getString());
-                        DebugFieldTracker.spawnOrUpdate(player, payload.fieldJson());
+                        // Spawn, or update from a full document or patch; reply acks the revision
+                        Logging.GUI.topic("network").trace("Player {} {} debug field r{}", player.getName().getString(),
+                            payload.spawn() ? "spawning" : payload.isPatch() ? "patching" : "updating", payload.revision());
+                        net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.send(
+                            player, DebugFieldTracker.receive(player, payload));
                     }
                 });
             }
@@ -305,6 +301,10 @@ public final class GuiPacketRegistration {
             }
         );
         
+        // Debug preview state is per session; drop it when the player leaves
+        net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents.DISCONNECT.register((handler, server) ->
+            DebugFieldTracker.forget(handler.player));
+        
         Logging.GUI.topic("network").info("GUI server handlers registered");
     }
 }
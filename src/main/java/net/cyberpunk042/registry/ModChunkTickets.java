@@ -0,0 +1,28 @@
+package net.cyberpunk042.registry;
+
+import net.cyberpunk042.TheVirusBlock;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.util.Identifier;
+
+public final class ModChunkTickets {
+	/**
+	 * Keeps an in-flight singularity chunk load alive. Not persisted and
+	 * expires unless refreshed, so a load abandoned by a server stop or a
+	 * dropped window never leaves the chunk force-loaded.
+	 */
+	public static final ChunkTicketType SINGULARITY_LOAD = register("singularity_load",
+			new ChunkTicketType(40L, false, ChunkTicketType.Use.LOADING));
+
+	private ModChunkTickets() {
+	}
+
+	public static void bootstrap() {
+		// no-op; class load ensures static init
+	}
+
+	private static ChunkTicketType register(String name, ChunkTicketType type) {
+		return Registry.register(Registries.TICKET_TYPE, Identifier.of(TheVirusBlock.MOD_ID, name), type);
+	}
+}
@@ -1,95 +1,56 @@
 package net.cyberpunk042.util;
 
 /**
- * Helper for profiling mixins with minimal boilerplate.
+ * Probes for mixin hooks. Each hook gets a constant so entity and collision
+ * callbacks record through a pre-registered {@link Probe} handle instead of
+ * building a label per call.
  * 
  * Usage in mixin:
  * {@code
- * var ctx = MixinProfiler.enter("MyMixin.methodName");
- * try {
- *     // your code
- * } finally {
- *     ctx.exit();
- * }
- * }
- * 
- * Or for quick early-exit patterns:
- * {@code
- * var ctx = MixinProfiler.enter("MyMixin.methodName");
+ * long probeStart = MixinProfiler.ZOMBIE_TICK.start();
  * if (earlyExitCondition) {
- *     return ctx.exitWith(defaultValue);
+ *     MixinProfiler.ZOMBIE_TICK.end(probeStart);
+ *     return;
  * }
  * // rest of code
- * return ctx.exitWith(result);
+ * MixinProfiler.ZOMBIE_TICK.end(probeStart);
  * }
  */
 public final class MixinProfiler {
     
-    private static volatile boolean enabled = true;
+    public static final Probe SKELETON_TICK = probe("Skeleton.tick");
+    public static final Probe BED_ON_USE = probe("BedBlock.onUse");
+    public static final Probe ENTITY_FIND_COLLISIONS = probe("Entity.findCollisions");
+    public static final Probe ENTITY_FIND_COLLISIONS_INT = probe("Entity.findCollisions.Int");
+    public static final Probe EXPLOSION_EXPLODE = probe("Explosion.explode");
+    public static final Probe FIREWORK_TICK = probe("Firework.tick");
+    public static final Probe ITEM_ENTITY_DAMAGE = probe("ItemEntity.damage");
+    public static final Probe ITEM_ENTITY_PREP_PICKUP = probe("ItemEntity.prepPickup");
+    public static final Probe ITEM_ENTITY_ANNOUNCE = probe("ItemEntity.announce");
+    public static final Probe ITEM_STACK_IS_SUITABLE = probe("ItemStack.isSuitable");
+    public static final Probe MOB_SET_TARGET = probe("Mob.setTarget");
+    public static final Probe PLAYER_ON_DEATH = probe("Player.onDeath");
+    public static final Probe SERVER_PLAYER_COPY_FROM = probe("ServerPlayer.copyFrom");
+    public static final Probe RECIPE_MANAGER_APPLY = probe("RecipeMgr.apply");
+    public static final Probe SERVER_WORLD_CLOSE = probe("ServerWorld.close");
+    public static final Probe WITHER_MOB_TICK = probe("Wither.mobTick");
+    public static final Probe BORDER_CONTAINS_POS = probe("Border.containsPos");
+    public static final Probe BORDER_CONTAINS_XZ = probe("Border.containsXZ");
+    public static final Probe WORLD_BLOCK_COLLISIONS_INT = probe("World.getBlockColl.Int");
+    public static final Probe WORLD_COLLISIONS_INT = probe("World.getCollisions.Int");
+    public static final Probe ZOMBIE_TICK = probe("Zombie.tick");
+    public static final Probe LIVING_ENTITY_TICK = probe("LivingEntity.tick");
+    public static final Probe ANTI_CHEAT_COLLISION = probe("AntiCheat.collision");
+    public static final Probe COLLISION_GET_ALL = probe("Collision.getAll");
+    public static final Probe COLLISION_GET_BLOCK = probe("Collision.getBlock");
+    public static final Probe GROWTH_COLLISION = probe("GrowthCollision");
     
     private MixinProfiler() {}
     
     /**
-     * Start profiling a mixin method.
-     * @param label Unique identifier like "ZombieMixin.tick"
-     * @return A context that must be exited
-     */
-    public static Context enter(String label) {
-        if (!enabled) return NOOP;
-        SuperProfiler.start("Mixin:" + label);
-        return new ActiveContext(label);
-    }
-    
-    /**
-     * Quick count without timing - for very hot paths
+     * Registers (or returns) the probe for a mixin hook, named {@code Mixin:label}.
      */
-    public static void count(String label) {
-        if (!enabled) return;
-        SuperProfiler.start("Mixin:" + label);
-        SuperProfiler.end("Mixin:" + label);
-    }
-    
-    public static void setEnabled(boolean value) {
-        enabled = value;
-    }
-    
-    // ========================================================================
-    // Context interface for clean exit patterns
-    // ========================================================================
-    
-    public interface Context {
-        void exit();
-        <T> T exitWith(T value);
-        void exitVoid();
-    }
-    
-    private static final Context NOOP = new Context() {
-        @Override public void exit() {}
-        @Override public <T> T exitWith(T value) { return value; }
-        @Override public void exitVoid() {}
-    };
-    
-    private static final class ActiveContext implements Context {
-        private final String label;
-        
-        ActiveContext(String label) {
-            this.label = label;
-        }
-        
-        @Override
-        public void exit() {
-            SuperProfiler.end("Mixin:" + label);
-        }
-        
-        @Override
-        public <T> T exitWith(T value) {
-            SuperProfiler.end("Mixin:" + label);
-            return value;
-        }
-        
-        @Override
-        public void exitVoid() {
-            SuperProfiler.end("Mixin:" + label);
-        }
+    public static Probe probe(String label) {
+        return ProbeRegistry.register("Mixin:" + label);
     }
 }
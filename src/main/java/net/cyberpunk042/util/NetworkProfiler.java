@@ -1,50 +1,47 @@
 package net.cyberpunk042.util;
 
-import net.cyberpunk042.log.Logging;
-
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Network performance profiler for tracking:
  * - Packet codec encode/decode times
  * - Round-trip times (RTT) for request/response patterns
  * - Packet counts and sizes
- * - Network latency statistics
+ * 
+ * Samples are recorded through {@link ProbeRegistry}; each packet type gets
+ * its probes on first use (named {@code Net.<kind>:<type>}) and later calls
+ * only do a map lookup on the constant type string.
  */
 public final class NetworkProfiler {
     
-    // ========================================================================
-    // CODEC TIMING
-    // ========================================================================
-    
-    private static final Map<String, AtomicLong> ENCODE_TIME = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicLong> ENCODE_COUNT = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicLong> DECODE_TIME = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicLong> DECODE_COUNT = new ConcurrentHashMap<>();
+    /** Name prefix of every network probe; the main report lists them separately. */
+    public static final String PREFIX = "Net.";
     
-    // ========================================================================
-    // RTT TRACKING
-    // ========================================================================
+    private static final Map<String, Probe> ENCODE = new ConcurrentHashMap<>();
+    private static final Map<String, Probe> DECODE = new ConcurrentHashMap<>();
+    private static final Map<String, Probe> RTT = new ConcurrentHashMap<>();
+    private static final Map<String, Probe> RATE = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Probe>> PACKETS = new ConcurrentHashMap<>();
     
+    // In-flight requests keyed by type:id
     private static final Map<String, Long> PENDING_REQUESTS = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicLong> RTT_TOTAL = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicLong> RTT_COUNT = new ConcurrentHashMap<>();
-    private static final Map<String, Long> RTT_MAX = new ConcurrentHashMap<>();
-    private static final Map<String, Long> RTT_MIN = new ConcurrentHashMap<>();
-    
-    // ========================================================================
-    // PACKET STATS
-    // ========================================================================
-    
-    private static final Map<String, AtomicLong> PACKET_COUNT = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicLong> PACKET_BYTES = new ConcurrentHashMap<>();
     
     private static volatile boolean enabled = true;
     
     private NetworkProfiler() {}
     
+    private static Probe probe(Map<String, Probe> probes, String kind, String type, Probe.Unit unit) {
+        Probe probe = probes.get(type);
+        if (probe == null) {
+            probe = ProbeRegistry.register(PREFIX + kind + ":" + type, unit);
+            probes.put(type, probe);
+        }
+        return probe;
+    }
+    
     // ========================================================================
     // CODEC PROFILING
     // ========================================================================
@@ -54,18 +51,24 @@ public final class NetworkProfiler {
      */
     public static long startEncode(String packetType) {
         if (!enabled) return 0;
-        return System.nanoTime();
+        return probe(ENCODE, "encode", packetType, Probe.Unit.NANOS).start();
     }
     
     /**
      * End timing an encode operation.
      */
     public static void endEncode(String packetType, long startTime, int byteSize) {
-        if (!enabled || startTime == 0) return;
-        long elapsed = System.nanoTime() - startTime;
-        ENCODE_TIME.computeIfAbsent(packetType, k -> new AtomicLong()).addAndGet(elapsed);
-        ENCODE_COUNT.computeIfAbsent(packetType, k -> new AtomicLong()).incrementAndGet();
-        PACKET_BYTES.computeIfAbsent(packetType, k -> new AtomicLong()).addAndGet(byteSize);
+        if (startTime == 0) return;
+        probe(ENCODE, "encode", packetType, Probe.Unit.NANOS).end(startTime);
+        trackPacket("S2C", packetType, byteSize);
+    }
+    
+    /**
+     * End timing an encode that produced nothing to send.
+     */
+    public static void endEncode(String packetType, long startTime) {
+        if (startTime == 0) return;
+        probe(ENCODE, "encode", packetType, Probe.Unit.NANOS).end(startTime);
     }
     
     /**
@@ -73,17 +76,15 @@ public final class NetworkProfiler {
      */
     public static long startDecode(String packetType) {
         if (!enabled) return 0;
-        return System.nanoTime();
+        return probe(DECODE, "decode", packetType, Probe.Unit.NANOS).start();
     }
     
     /**
      * End timing a decode operation.
      */
     public static void endDecode(String packetType, long startTime) {
-        if (!enabled || startTime == 0) return;
-        long elapsed = System.nanoTime() - startTime;
-        DECODE_TIME.computeIfAbsent(packetType, k -> new AtomicLong()).addAndGet(elapsed);
-        DECODE_COUNT.computeIfAbsent(packetType, k -> new AtomicLong()).incrementAndGet();
+        if (startTime == 0) return;
+        probe(DECODE, "decode", packetType, Probe.Unit.NANOS).end(startTime);
     }
     
     // ========================================================================
@@ -96,7 +97,7 @@ public final class NetworkProfiler {
      * @param requestId Unique ID to correlate with response
      */
     public static void startRequest(String requestType, String requestId) {
-        if (!enabled) return;
+        if (!enabled || !ProbeRegistry.isEnabled()) return;
         PENDING_REQUESTS.put(requestType + ":" + requestId, System.nanoTime());
     }
     
@@ -104,18 +105,10 @@ public final class NetworkProfiler {
      * Mark the end of a request-response cycle when response is received.
      */
     public static void endRequest(String requestType, String requestId) {
-        if (!enabled) return;
-        String key = requestType + ":" + requestId;
-        Long startTime = PENDING_REQUESTS.remove(key);
+        if (!enabled || !ProbeRegistry.isEnabled()) return;
+        Long startTime = PENDING_REQUESTS.remove(requestType + ":" + requestId);
         if (startTime == null) return;
-        
-        long rtt = System.nanoTime() - startTime;
-        long rttMs = rtt / 1_000_000;
-        
-        RTT_TOTAL.computeIfAbsent(requestType, k -> new AtomicLong()).addAndGet(rtt);
-        RTT_COUNT.computeIfAbsent(requestType, k -> new AtomicLong()).incrementAndGet();
-        RTT_MAX.compute(requestType, (k, v) -> v == null ? rttMs : Math.max(v, rttMs));
-        RTT_MIN.compute(requestType, (k, v) -> v == null ? rttMs : Math.min(v, rttMs));
+        probe(RTT, "rtt", requestType, Probe.Unit.NANOS).end(startTime);
     }
     
     // ========================================================================
@@ -123,13 +116,12 @@ public final class NetworkProfiler {
     // ========================================================================
     
     /**
-     * Track a packet being sent/received.
+     * Track a packet being sent/received. Recorded as a byte-size sample.
      */
     public static void trackPacket(String direction, String packetType, int bytes) {
-        if (!enabled) return;
-        String key = direction + ":" + packetType;
-        PACKET_COUNT.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
-        PACKET_BYTES.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(bytes);
+        if (!enabled || !ProbeRegistry.isEnabled()) return;
+        Map<String, Probe> probes = PACKETS.computeIfAbsent(direction, d -> new ConcurrentHashMap<>());
+        probe(probes, direction, packetType, Probe.Unit.BYTES).record(bytes);
     }
     
     public static void trackSend(String packetType, int bytes) {
@@ -140,6 +132,15 @@ public final class NetworkProfiler {
         trackPacket("C2S", packetType, bytes);
     }
     
+    /**
+     * Track one player's send rate for a packet type. Each call is one
+     * sample, so the report shows the spread across players.
+     */
+    public static void trackRate(String packetType, long bytesPerSecond) {
+        if (!enabled || !ProbeRegistry.isEnabled()) return;
+        probe(RATE, "rate", packetType, Probe.Unit.BYTES).record(bytesPerSecond);
+    }
+    
     // ========================================================================
     // REPORT GENERATION
     // ========================================================================
@@ -147,90 +148,48 @@ public final class NetworkProfiler {
     /**
      * Generate a network stats report section for the main profiler.
      */
-    public static String generateReport() {
-        if (!enabled) return "";
-        
-        StringBuilder sb = new StringBuilder();
-        
-        // Codec timing
-        if (!ENCODE_COUNT.isEmpty() || !DECODE_COUNT.isEmpty()) {
-            sb.append("+--------------------------------------------------------------------------+\n");
-            sb.append("| NETWORK CODEC TIMING                                                     |\n");
-            sb.append("+--------------------------------------------------------------------------+\n");
-            
-            for (String type : ENCODE_COUNT.keySet()) {
-                long encCount = ENCODE_COUNT.getOrDefault(type, new AtomicLong(0)).get();
-                long encTimeNs = ENCODE_TIME.getOrDefault(type, new AtomicLong(0)).get();
-                long decCount = DECODE_COUNT.getOrDefault(type, new AtomicLong(0)).get();
-                long decTimeNs = DECODE_TIME.getOrDefault(type, new AtomicLong(0)).get();
-                long bytes = PACKET_BYTES.getOrDefault(type, new AtomicLong(0)).get();
-                
-                long encAvgUs = encCount > 0 ? (encTimeNs / encCount / 1000) : 0;
-                long decAvgUs = decCount > 0 ? (decTimeNs / decCount / 1000) : 0;
-                
-                String shortType = type.length() > 18 ? type.substring(0, 15) + "..." : type;
-                sb.append(String.format("|   %-18s Enc: %4dus x%-4d  Dec: %4dus x%-4d  %5.1fKB |\n",
-                    shortType, encAvgUs, encCount, decAvgUs, decCount, bytes / 1024.0));
+    public static String generateReport(List<ProbeRegistry.Stats> stats) {
+        StringBuilder timing = new StringBuilder();
+        StringBuilder traffic = new StringBuilder();
+        for (ProbeRegistry.Stats stat : stats) {
+            String name = stat.probe().name();
+            if (!name.startsWith(PREFIX)) continue;
+            String shortName = name.length() > 28 ? name.substring(0, 25) + "..." : name;
+            if (name.startsWith(PREFIX + "rate:")) {
+                traffic.append(String.format(Locale.ROOT, "|   %-28s B/s/player  p50 %-8d p99 %-8d max %-8d|\n",
+                    shortName, stat.p50(), stat.p99(), stat.max()));
+            } else if (stat.probe().unit() == Probe.Unit.BYTES) {
+                traffic.append(String.format(Locale.ROOT, "|   %-28s %6d packets  %8.1fKB      |\n",
+                    shortName, stat.count(), stat.total() / 1024.0));
+            } else {
+                timing.append(String.format(Locale.ROOT, "|   %-28s x%-5d p50 %-8s p99 %-8s max %-8s|\n",
+                    shortName, stat.count(), ProbeRegistry.formatNanos(stat.p50()),
+                    ProbeRegistry.formatNanos(stat.p99()), ProbeRegistry.formatNanos(stat.max())));
             }
         }
         
-        // RTT stats
-        if (!RTT_COUNT.isEmpty()) {
+        StringBuilder sb = new StringBuilder();
+        if (timing.length() > 0) {
             sb.append("+--------------------------------------------------------------------------+\n");
-            sb.append("| NETWORK LATENCY (RTT)                                                    |\n");
+            sb.append("| NETWORK CODEC / RTT TIMING                                               |\n");
             sb.append("+--------------------------------------------------------------------------+\n");
-            
-            for (String type : RTT_COUNT.keySet()) {
-                long count = RTT_COUNT.getOrDefault(type, new AtomicLong(0)).get();
-                long totalNs = RTT_TOTAL.getOrDefault(type, new AtomicLong(0)).get();
-                long maxMs = RTT_MAX.getOrDefault(type, 0L);
-                long minMs = RTT_MIN.getOrDefault(type, 0L);
-                long avgMs = count > 0 ? (totalNs / count / 1_000_000) : 0;
-                
-                String shortType = type.length() > 20 ? type.substring(0, 17) + "..." : type;
-                sb.append(String.format("|   %-20s %4d reqs  Avg: %4dms  Min: %3dms  Max: %4dms |\n",
-                    shortType, count, avgMs, minMs, maxMs));
-            }
+            sb.append(timing);
         }
-        
-        // Packet stats
-        if (!PACKET_COUNT.isEmpty()) {
+        if (traffic.length() > 0) {
             sb.append("+--------------------------------------------------------------------------+\n");
             sb.append("| PACKET TRAFFIC                                                           |\n");
             sb.append("+--------------------------------------------------------------------------+\n");
-            
-            // Sort by count descending
-            PACKET_COUNT.entrySet().stream()
-                .sorted((a, b) -> Long.compare(b.getValue().get(), a.getValue().get()))
-                .limit(8)
-                .forEach(entry -> {
-                    String key = entry.getKey();
-                    long count = entry.getValue().get();
-                    long bytes = PACKET_BYTES.getOrDefault(key, new AtomicLong(0)).get();
-                    String shortKey = key.length() > 28 ? key.substring(0, 25) + "..." : key;
-                    sb.append(String.format("|   %-28s %6d packets  %8.1fKB      |\n",
-                        shortKey, count, bytes / 1024.0));
-                });
+            sb.append(traffic);
         }
-        
         return sb.toString();
     }
     
     /**
-     * Clear all stats for a fresh interval.
+     * Drops requests still waiting for a response. Probe counters are reset
+     * with the rest of the registry.
      */
     public static void reset() {
-        ENCODE_TIME.clear();
-        ENCODE_COUNT.clear();
-        DECODE_TIME.clear();
-        DECODE_COUNT.clear();
-        RTT_TOTAL.clear();
-        RTT_COUNT.clear();
-        RTT_MAX.clear();
-        RTT_MIN.clear();
-        PACKET_COUNT.clear();
-        PACKET_BYTES.clear();
-        // Note: PENDING_REQUESTS is intentionally NOT cleared (in-flight requests)
+        PENDING_REQUESTS.clear();
     }
     
     public static void setEnabled(boolean value) {
@@ -0,0 +1,66 @@
+package net.cyberpunk042.util;
+
+/**
+ * Handle for one registered probe. Get it once from {@link ProbeRegistry#register}
+ * and keep it in a static field, so recording indexes an array instead of
+ * hashing a label.
+ * 
+ * <pre>
+ * long start = PROBE.start();
+ * // measured code
+ * PROBE.end(start);
+ * </pre>
+ * 
+ * {@link #start()} costs a single volatile read while probes are disabled and
+ * returns {@code 0}, which {@link #end(long)} ignores.
+ */
+public final class Probe {
+    
+    public enum Unit { NANOS, BYTES }
+    
+    final int id;
+    private final String name;
+    private final Unit unit;
+    
+    Probe(int id, String name, Unit unit) {
+        this.id = id;
+        this.name = name;
+        this.unit = unit;
+    }
+    
+    public String name() {
+        return name;
+    }
+    
+    public Unit unit() {
+        return unit;
+    }
+    
+    /**
+     * @return start timestamp, or {@code 0} when probes are disabled
+     */
+    public long start() {
+        return ProbeRegistry.enabled ? System.nanoTime() : 0L;
+    }
+    
+    /**
+     * Records the time since {@code start}; a zero start is skipped.
+     */
+    public void end(long start) {
+        if (start == 0L) return;
+        ProbeRegistry.record(id, System.nanoTime() - start);
+    }
+    
+    /**
+     * Records a raw sample (a duration, or a size for {@link Unit#BYTES} probes).
+     */
+    public void record(long value) {
+        if (!ProbeRegistry.enabled) return;
+        ProbeRegistry.record(id, value);
+    }
+    
+    @Override
+    public String toString() {
+        return name;
+    }
+}
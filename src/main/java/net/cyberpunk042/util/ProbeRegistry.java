@@ -0,0 +1,316 @@
+package net.cyberpunk042.util;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry and storage for {@link Probe}s.
+ * 
+ * <p>Each probe gets an integer id at registration. Samples are written by
+ * the recording thread into its own {@link Recorder} (count, total, max and a
+ * log-linear histogram per probe), so the hot path takes no locks and shares
+ * no cache lines with other threads. {@link #snapshot()} merges all recorders
+ * and derives p50/p99 from the histograms.
+ * 
+ * <p>Histogram buckets are exact below 8 and split every power of two into 8
+ * sub-buckets above that, so percentiles are within 12.5% of the real value.
+ * 
+ * <p>{@link #reset()} starts a new interval by bumping an epoch; each
+ * recorder clears itself the next time its thread records. Recorders hold
+ * their thread weakly; once the thread has died and its samples belong to a
+ * past interval, the recorder is dropped on the next reset or snapshot.
+ */
+public final class ProbeRegistry {
+    
+    private static final int COUNT = 0;
+    private static final int TOTAL = 1;
+    private static final int MAX = 2;
+    private static final int BUCKETS = 3;
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    // Linear buckets [0, 8) plus 8 per power of two up to 2^63
+    private static final int BUCKET_COUNT = (64 - SUB_BITS + 1) * SUB_COUNT;
+    private static final int SLOT_SIZE = BUCKETS + BUCKET_COUNT;
+    
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    
+    static volatile boolean enabled = true;
+    private static volatile int epoch = 0;
+    
+    private static final Object LOCK = new Object();
+    private static final Map<String, Probe> BY_NAME = new ConcurrentHashMap<>();
+    private static volatile Probe[] probes = new Probe[0];
+    
+    private static final List<Recorder> RECORDERS = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Recorder> LOCAL = ThreadLocal.withInitial(() -> {
+        Recorder recorder = new Recorder();
+        RECORDERS.add(recorder);
+        return recorder;
+    });
+    
+    private ProbeRegistry() {}
+    
+    // ============================================================================
+    // REGISTRATION
+    // ============================================================================
+    
+    /**
+     * Returns the timing probe called {@code name}, registering it on first use.
+     */
+    public static Probe register(String name) {
+        return register(name, Probe.Unit.NANOS);
+    }
+    
+    public static Probe register(String name, Probe.Unit unit) {
+        Probe probe = BY_NAME.get(name);
+        if (probe != null) return probe;
+        synchronized (LOCK) {
+            probe = BY_NAME.get(name);
+            if (probe == null) {
+                Probe[] current = probes;
+                probe = new Probe(current.length, name, unit);
+                Probe[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[probe.id] = probe;
+                probes = grown;
+                BY_NAME.put(name, probe);
+            }
+            return probe;
+        }
+    }
+    
+    /**
+     * One probe per dimension, named {@code prefix:dimension}.
+     */
+    public static WorldProbes perWorld(String prefix) {
+        return new WorldProbes(prefix);
+    }
+    
+    public static final class WorldProbes {
+        private final String prefix;
+        private final Map<RegistryKey<World>, Probe> byWorld = new ConcurrentHashMap<>();
+        
+        private WorldProbes(String prefix) {
+            this.prefix = prefix;
+        }
+        
+        public Probe of(World world) {
+            RegistryKey<World> key = world.getRegistryKey();
+            Probe probe = byWorld.get(key);
+            if (probe == null) {
+                probe = register(prefix + ":" + key.getValue().getPath());
+                byWorld.put(key, probe);
+            }
+            return probe;
+        }
+    }
+    
+    // ============================================================================
+    // CONTROL
+    // ============================================================================
+    
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    public static void setEnabled(boolean value) {
+        enabled = value;
+        if (!value) reset();
+    }
+    
+    /**
+     * Starts a new reporting interval.
+     */
+    public static void reset() {
+        epoch++;
+        pruneDead();
+    }
+    
+    /**
+     * Drops recorders whose thread has died, keeping any that still hold
+     * samples for the current interval.
+     */
+    private static void pruneDead() {
+        int current = epoch;
+        RECORDERS.removeIf(recorder -> recorder.epoch != current && !recorder.isOwnerAlive());
+    }
+    
+    // ============================================================================
+    // RECORDING
+    // ============================================================================
+    
+    static void record(int id, long value) {
+        LOCAL.get().record(id, value);
+    }
+    
+    /**
+     * Single-writer storage for one thread. Fields are written with opaque
+     * stores so readers on other threads see whole values, never torn ones.
+     */
+    private static final class Recorder {
+        final WeakReference<Thread> owner = new WeakReference<>(Thread.currentThread());
+        volatile int epoch = ProbeRegistry.epoch;
+        volatile long[][] slots = new long[32][];
+        
+        boolean isOwnerAlive() {
+            Thread thread = owner.get();
+            return thread != null && thread.isAlive();
+        }
+        
+        void record(int id, long value) {
+            int current = ProbeRegistry.epoch;
+            if (epoch != current) {
+                for (long[] slot : slots) {
+                    if (slot != null) Arrays.fill(slot, 0L);
+                }
+                epoch = current;
+            }
+            long[] slot = slot(id);
+            if (value < 0L) value = 0L;
+            add(slot, COUNT, 1L);
+            add(slot, TOTAL, value);
+            if (value > (long) LONGS.getOpaque(slot, MAX)) {
+                LONGS.setOpaque(slot, MAX, value);
+            }
+            add(slot, BUCKETS + bucket(value), 1L);
+        }
+        
+        private long[] slot(int id) {
+            long[][] current = slots;
+            if (id >= current.length) {
+                current = Arrays.copyOf(current, Math.max(id + 1, current.length * 2));
+                slots = current;
+            }
+            long[] slot = current[id];
+            if (slot == null) {
+                slot = new long[SLOT_SIZE];
+                current[id] = slot;
+            }
+            return slot;
+        }
+        
+        private static void add(long[] slot, int index, long delta) {
+            LONGS.setOpaque(slot, index, (long) LONGS.getOpaque(slot, index) + delta);
+        }
+    }
+    
+    static int bucket(long value) {
+        if (value < SUB_COUNT) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+    
+    /** Midpoint of a bucket's value range. */
+    static long bucketValue(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+        int sub = bucket % SUB_COUNT;
+        long width = 1L << (exponent - SUB_BITS);
+        return ((long) (SUB_COUNT + sub) << (exponent - SUB_BITS)) + width / 2;
+    }
+    
+    // ============================================================================
+    // REPORTING
+    // ============================================================================
+    
+    public record Stats(Probe probe, long count, long total, long max, long p50, long p99) {
+        public long mean() {
+            return count > 0 ? total / count : 0L;
+        }
+        
+        public String describe() {
+            if (probe.unit() == Probe.Unit.BYTES) {
+                return String.format(Locale.ROOT, "%s: %d x  %.1fKB total  p50 %dB  p99 %dB  max %dB",
+                    probe.name(), count, total / 1024.0, p50, p99, max);
+            }
+            return String.format(Locale.ROOT, "%s: %d x  %s total  p50 %s  p99 %s  max %s",
+                probe.name(), count, formatNanos(total), formatNanos(p50), formatNanos(p99), formatNanos(max));
+        }
+    }
+    
+    /**
+     * Merges all recorders for the current interval. Probes with no samples
+     * are left out; results are in registration order.
+     */
+    public static List<Stats> snapshot() {
+        pruneDead();
+        Probe[] all = probes;
+        int current = epoch;
+        long[][] merged = new long[all.length][];
+        for (Recorder recorder : RECORDERS) {
+            if (recorder.epoch != current) continue;
+            long[][] slots = recorder.slots;
+            for (int id = 0; id < Math.min(all.length, slots.length); id++) {
+                long[] slot = slots[id];
+                if (slot == null) continue;
+                long[] into = merged[id];
+                if (into == null) {
+                    into = new long[SLOT_SIZE];
+                    merged[id] = into;
+                }
+                for (int i = 0; i < SLOT_SIZE; i++) {
+                    long value = (long) LONGS.getOpaque(slot, i);
+                    into[i] = i == MAX ? Math.max(into[i], value) : into[i] + value;
+                }
+            }
+        }
+        List<Stats> stats = new ArrayList<>();
+        for (int id = 0; id < all.length; id++) {
+            long[] slot = merged[id];
+            if (slot == null || slot[COUNT] == 0L) continue;
+            stats.add(new Stats(all[id], slot[COUNT], slot[TOTAL], slot[MAX],
+                percentile(slot, 0.50), percentile(slot, 0.99)));
+        }
+        return stats;
+    }
+    
+    /**
+     * Sum of recorded time across all timing probes this interval. Cheap
+     * enough to call every tick; skips the histograms.
+     */
+    public static long totalNanos() {
+        Probe[] all = probes;
+        int current = epoch;
+        long sum = 0L;
+        for (Recorder recorder : RECORDERS) {
+            if (recorder.epoch != current) continue;
+            long[][] slots = recorder.slots;
+            for (int id = 0; id < Math.min(all.length, slots.length); id++) {
+                long[] slot = slots[id];
+                if (slot != null && all[id].unit() == Probe.Unit.NANOS) {
+                    sum += (long) LONGS.getOpaque(slot, TOTAL);
+                }
+            }
+        }
+        return sum;
+    }
+    
+    private static long percentile(long[] slot, double fraction) {
+        long rank = (long) Math.ceil(slot[COUNT] * fraction);
+        long seen = 0L;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += slot[BUCKETS + bucket];
+            if (seen >= rank) {
+                return Math.min(bucketValue(bucket), slot[MAX]);
+            }
+        }
+        return slot[MAX];
+    }
+    
+    public static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000L) return String.format(Locale.ROOT, "%.1fms", nanos / 1_000_000.0);
+        if (nanos >= 1_000L) return String.format(Locale.ROOT, "%.1fus", nanos / 1_000.0);
+        return nanos + "ns";
+    }
+}
@@ -13,39 +13,24 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Comprehensive performance profiler with clean ASCII output.
  * 
  * Features:
  * - Total tick time vs mod code time analysis
- * - Mixin profiling support
- * - Network packet tracking
- * - Per-handler breakdown
+ * - Per-probe breakdown with p50/p99/max (see {@link ProbeRegistry})
+ * - Network codec and packet stats (see {@link NetworkProfiler})
  * - Entity diagnostics (breakdown by type)
  * - Spike detection
  */
 public final class SuperProfiler {
     
-    // ============================================================================
-    // TIMING DATA
-    // ============================================================================
-    
-    private static final Map<String, AtomicLong> TOTAL_TIME = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicLong> CALL_COUNT = new ConcurrentHashMap<>();
-    private static final Map<String, Long> MAX_SINGLE_CALL = new ConcurrentHashMap<>();
-    private static final ThreadLocal<Map<String, Long>> START_TIMES = ThreadLocal.withInitial(ConcurrentHashMap::new);
-    
-    // Network tracking
-    private static final Map<String, AtomicLong> PACKET_COUNT = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicLong> PACKET_BYTES = new ConcurrentHashMap<>();
-    
     // Per-tick tracking
     private static long tickStartTime = 0;
     private static long totalTickTimeNs = 0;
-    private static long modCodeTimeNs = 0;
+    // Probe time recorded before this tick started; the difference at tick end is mod time
+    private static long probeNanosAtTickStart = 0;
     private static int tickCount = 0;
     private static int spikeCount = 0;
     private static long worstTickMs = 0;
@@ -57,10 +42,9 @@ public final class SuperProfiler {
     // Config
     private static final long SPIKE_THRESHOLD_MS = 100;
     private static final long REPORT_INTERVAL_MS = 5000;
+    private static final int TOP_HANDLERS = 12;
     private static long lastReportTime = 0;
     
-    private static volatile boolean enabled = true;
-    
     // Zombie entity cleanup - removes falling blocks that never tick
     private static volatile boolean zombieCleanupEnabled = true;
     private static int zombiesRemovedThisReport = 0;
@@ -83,13 +67,14 @@ public final class SuperProfiler {
     // ============================================================================
     
     private static void onTickStart(MinecraftServer server) {
-        if (!enabled) return;
+        if (!ProbeRegistry.isEnabled()) return;
         tickStartTime = System.nanoTime();
+        probeNanosAtTickStart = ProbeRegistry.totalNanos();
         memoryAtStart = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
     }
     
     private static void onTickEnd(MinecraftServer server) {
-        if (!enabled) return;
+        if (!ProbeRegistry.isEnabled()) return;
         long tickTimeNs = System.nanoTime() - tickStartTime;
         long tickTimeMs = tickTimeNs / 1_000_000;
         
@@ -109,7 +94,7 @@ public final class SuperProfiler {
             if (tickTimeMs > worstTickMs) {
                 worstTickMs = tickTimeMs;
             }
-            long modMs = modCodeTimeNs / 1_000_000;
+            long modMs = (ProbeRegistry.totalNanos() - probeNanosAtTickStart) / 1_000_000;
             Logging.PROFILER.warn("[SPIKE] {}ms tick | Mod: {}ms | Vanilla: {}ms",
                 tickTimeMs, modMs, tickTimeMs - modMs);
         }
@@ -120,41 +105,6 @@ public final class SuperProfiler {
             generateReport(server);
             lastReportTime = now;
         }
-        
-        modCodeTimeNs = 0;
-    }
-    
-    // ============================================================================
-    // PROFILING API
-    // ============================================================================
-    
-    public static void start(String label) {
-        if (!enabled) return;
-        START_TIMES.get().put(label, System.nanoTime());
-    }
-    
-    public static void end(String label) {
-        if (!enabled) return;
-        Long startTime = START_TIMES.get().remove(label);
-        if (startTime == null) return;
-        
-        long elapsed = System.nanoTime() - startTime;
-        TOTAL_TIME.computeIfAbsent(label, k -> new AtomicLong()).addAndGet(elapsed);
-        CALL_COUNT.computeIfAbsent(label, k -> new AtomicLong()).incrementAndGet();
-        modCodeTimeNs += elapsed;
-        
-        long elapsedMs = elapsed / 1_000_000;
-        MAX_SINGLE_CALL.compute(label, (k, v) -> v == null ? elapsedMs : Math.max(v, elapsedMs));
-    }
-    
-    // ============================================================================
-    // NETWORK TRACKING
-    // ============================================================================
-    
-    public static void trackPacket(String packetName, int bytes) {
-        if (!enabled) return;
-        PACKET_COUNT.computeIfAbsent(packetName, k -> new AtomicLong()).incrementAndGet();
-        PACKET_BYTES.computeIfAbsent(packetName, k -> new AtomicLong()).addAndGet(bytes);
     }
     
     // ============================================================================
@@ -165,7 +115,17 @@ public final class SuperProfiler {
         if (tickCount == 0) return;
         
         long avgTickMs = totalTickTimeNs / tickCount / 1_000_000;
-        long modTotalMs = TOTAL_TIME.values().stream().mapToLong(AtomicLong::get).sum() / 1_000_000;
+        List<ProbeRegistry.Stats> stats = ProbeRegistry.snapshot();
+        List<ProbeRegistry.Stats> handlers = new ArrayList<>();
+        long modTotalNs = 0;
+        for (ProbeRegistry.Stats stat : stats) {
+            if (stat.probe().unit() == Probe.Unit.NANOS && !stat.probe().name().startsWith(NetworkProfiler.PREFIX)) {
+                handlers.add(stat);
+                modTotalNs += stat.total();
+            }
+        }
+        handlers.sort((a, b) -> Long.compare(b.total(), a.total()));
+        long modTotalMs = modTotalNs / 1_000_000;
         long unaccountedMs = (totalTickTimeNs / 1_000_000) - modTotalMs;
         double tps = tickCount / (REPORT_INTERVAL_MS / 1000.0);
         double modPercent = totalTickTimeNs > 0 ? (modTotalMs * 100.0 / (totalTickTimeNs / 1_000_000)) : 0;
@@ -190,55 +150,22 @@ public final class SuperProfiler {
         sb.append("| TOP HANDLERS (sorted by total time)                                      |\n");
         sb.append("+--------------------------------------------------------------------------+\n");
         
-        List<Map.Entry<String, AtomicLong>> sorted = new ArrayList<>(TOTAL_TIME.entrySet());
-        sorted.sort((a, b) -> Long.compare(b.getValue().get(), a.getValue().get()));
-        
-        int shown = 0;
-        for (Map.Entry<String, AtomicLong> entry : sorted) {
-            if (shown >= 12) break;
-            String label = entry.getKey();
-            long totalNs = entry.getValue().get();
-            long count = CALL_COUNT.getOrDefault(label, new AtomicLong(1)).get();
-            long maxMs = MAX_SINGLE_CALL.getOrDefault(label, 0L);
-            long totalMs = totalNs / 1_000_000;
-            long avgUs = count > 0 ? (totalNs / count / 1_000) : 0;
-            
-            if (totalMs > 0 || shown < 8) {
-                String shortLabel = label.length() > 22 ? label.substring(0, 19) + "..." : label;
-                sb.append(String.format("|   %-22s %4dms  %5d calls  %5dus avg  %3dms max |\n",
-                    shortLabel, totalMs, count, avgUs, maxMs));
-                shown++;
-            }
+        for (int i = 0; i < Math.min(TOP_HANDLERS, handlers.size()); i++) {
+            ProbeRegistry.Stats stat = handlers.get(i);
+            String label = stat.probe().name();
+            String shortLabel = label.length() > 22 ? label.substring(0, 19) + "..." : label;
+            sb.append(String.format(Locale.ROOT, "|   %-22s %5dms x%-6d p50 %-7s p99 %-7s max %-7s|\n",
+                shortLabel, stat.total() / 1_000_000, stat.count(),
+                ProbeRegistry.formatNanos(stat.p50()), ProbeRegistry.formatNanos(stat.p99()),
+                ProbeRegistry.formatNanos(stat.max())));
         }
         
-        if (sorted.isEmpty()) {
+        if (handlers.isEmpty()) {
             sb.append("|   (no profiled code ran)                                                 |\n");
         }
         
-        // Network stats (simple tracking from SuperProfiler)
-        if (!PACKET_COUNT.isEmpty()) {
-            sb.append("+--------------------------------------------------------------------------+\n");
-            sb.append("| SIMPLE PACKET COUNTS                                                     |\n");
-            sb.append("+--------------------------------------------------------------------------+\n");
-            
-            List<Map.Entry<String, AtomicLong>> packetsSorted = new ArrayList<>(PACKET_COUNT.entrySet());
-            packetsSorted.sort((a, b) -> Long.compare(b.getValue().get(), a.getValue().get()));
-            
-            int packetShown = 0;
-            for (Map.Entry<String, AtomicLong> entry : packetsSorted) {
-                if (packetShown >= 5) break;
-                String name = entry.getKey();
-                long count = entry.getValue().get();
-                long bytes = PACKET_BYTES.getOrDefault(name, new AtomicLong(0)).get();
-                String shortName = name.length() > 30 ? name.substring(0, 27) + "..." : name;
-                sb.append(String.format("|   %-30s  %5d packets  %7.1fKB           |\n",
-                    shortName, count, bytes / 1024.0));
-                packetShown++;
-            }
-        }
-        
-        // Detailed network stats from NetworkProfiler
-        sb.append(NetworkProfiler.generateReport());
+        // Network codec timings and packet traffic
+        sb.append(NetworkProfiler.generateReport(stats));
         
         // World diagnostics
         sb.append("+--------------------------------------------------------------------------+\n");
@@ -477,14 +404,9 @@ public final class SuperProfiler {
     }
     
     private static void reset() {
-        TOTAL_TIME.clear();
-        CALL_COUNT.clear();
-        MAX_SINGLE_CALL.clear();
-        PACKET_COUNT.clear();
-        PACKET_BYTES.clear();
-        NetworkProfiler.reset();
+        ProbeRegistry.reset();
         totalTickTimeNs = 0;
-        modCodeTimeNs = 0;
+        probeNanosAtTickStart = 0;
         tickCount = 0;
         spikeCount = 0;
         worstTickMs = 0;
@@ -492,11 +414,11 @@ public final class SuperProfiler {
     }
     
     public static void setEnabled(boolean value) {
-        enabled = value;
+        ProbeRegistry.setEnabled(value);
         if (!value) reset();
     }
     
     public static boolean isEnabled() {
-        return enabled;
+        return ProbeRegistry.isEnabled();
     }
 }
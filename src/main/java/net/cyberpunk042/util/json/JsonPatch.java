@@ -0,0 +1,188 @@
+package net.cyberpunk042.util.json;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.util.Map;
+
+/**
+ * Minimal JSON Patch (RFC 6902 subset) for syncing documents in small steps.
+ *
+ * <p>{@link #diff} emits {@code add}, {@code remove} and {@code replace}
+ * operations with RFC 6901 pointers. Objects are compared member by member
+ * and arrays of equal length element by element; any other difference
+ * replaces the value whole. {@link #apply} understands the same operations.</p>
+ *
+ * <h3>Usage</h3>
+ * <pre>{@code
+ * JsonArray patch = JsonPatch.diff(lastSent, current);
+ * JsonElement updated = JsonPatch.apply(cached.deepCopy(), patch);
+ * }</pre>
+ */
+public final class JsonPatch {
+
+    private JsonPatch() {}
+
+    /**
+     * Operations that turn {@code from} into {@code to}. Empty when they are equal.
+     * Values in the result are shared with {@code to}, not copied.
+     */
+    public static JsonArray diff(JsonElement from, JsonElement to) {
+        JsonArray ops = new JsonArray();
+        diff("", from, to, ops);
+        return ops;
+    }
+
+    private static void diff(String path, JsonElement from, JsonElement to, JsonArray ops) {
+        if (from.equals(to)) {
+            return;
+        }
+        if (from.isJsonObject() && to.isJsonObject()) {
+            JsonObject a = from.getAsJsonObject();
+            JsonObject b = to.getAsJsonObject();
+            for (String key : a.keySet()) {
+                if (!b.has(key)) {
+                    ops.add(op("remove", path + "/" + escape(key), null));
+                }
+            }
+            for (Map.Entry<String, JsonElement> entry : b.entrySet()) {
+                String child = path + "/" + escape(entry.getKey());
+                JsonElement old = a.get(entry.getKey());
+                if (old == null) {
+                    ops.add(op("add", child, entry.getValue()));
+                } else {
+                    diff(child, old, entry.getValue(), ops);
+                }
+            }
+            return;
+        }
+        if (from.isJsonArray() && to.isJsonArray() && from.getAsJsonArray().size() == to.getAsJsonArray().size()) {
+            JsonArray a = from.getAsJsonArray();
+            JsonArray b = to.getAsJsonArray();
+            for (int i = 0; i < a.size(); i++) {
+                diff(path + "/" + i, a.get(i), b.get(i), ops);
+            }
+            return;
+        }
+        ops.add(op("replace", path, to));
+    }
+
+    /**
+     * Applies {@code patch} to {@code document} in place.
+     *
+     * @return the patched document; a different instance only when the
+     *         patch replaces the root
+     * @throws IllegalArgumentException if an operation does not fit the document
+     */
+    public static JsonElement apply(JsonElement document, JsonArray patch) {
+        for (JsonElement element : patch) {
+            JsonObject op = element.getAsJsonObject();
+            String kind = op.get("op").getAsString();
+            String path = op.get("path").getAsString();
+            JsonElement value = op.get("value");
+            boolean writes = kind.equals("add") || kind.equals("replace");
+            if (!writes && !kind.equals("remove")) {
+                throw new IllegalArgumentException("Unsupported patch op '" + kind + "'");
+            }
+            if (writes && value == null) {
+                throw new IllegalArgumentException("Missing value for " + kind + " at '" + path + "'");
+            }
+
+            if (path.isEmpty()) {
+                if (!writes) {
+                    throw new IllegalArgumentException("Cannot remove the document root");
+                }
+                document = value;
+                continue;
+            }
+
+            int slash = path.lastIndexOf('/');
+            JsonElement parent = resolve(document, path.substring(0, slash));
+            String key = unescape(path.substring(slash + 1));
+            if (parent.isJsonObject()) {
+                JsonObject object = parent.getAsJsonObject();
+                if (writes) {
+                    object.add(key, value);
+                } else if (object.remove(key) == null) {
+                    throw new IllegalArgumentException("Nothing to remove at '" + path + "'");
+                }
+            } else if (parent.isJsonArray()) {
+                JsonArray array = parent.getAsJsonArray();
+                int index = index(array, key, path, kind.equals("add"));
+                if (kind.equals("replace")) {
+                    array.set(index, value);
+                } else if (kind.equals("remove")) {
+                    array.remove(index);
+                } else if (index == array.size()) {
+                    array.add(value);
+                } else {
+                    throw new IllegalArgumentException("Only appending is supported at '" + path + "'");
+                }
+            } else {
+                throw new IllegalArgumentException("Cannot patch into a value at '" + path + "'");
+            }
+        }
+        return document;
+    }
+
+    private static JsonElement resolve(JsonElement document, String pointer) {
+        JsonElement current = document;
+        if (pointer.isEmpty()) {
+            return current;
+        }
+        for (String token : pointer.substring(1).split("/", -1)) {
+            String key = unescape(token);
+            if (current != null && current.isJsonObject()) {
+                current = current.getAsJsonObject().get(key);
+            } else if (current != null && current.isJsonArray()) {
+                current = current.getAsJsonArray().get(index(current.getAsJsonArray(), key, pointer, false));
+            } else {
+                current = null;
+            }
+            if (current == null) {
+                throw new IllegalArgumentException("No value at '" + pointer + "'");
+            }
+        }
+        return current;
+    }
+
+    private static int index(JsonArray array, String token, String path, boolean allowEnd) {
+        int index;
+        try {
+            index = Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad array index in '" + path + "'");
+        }
+        int limit = allowEnd ? array.size() : array.size() - 1;
+        if (index < 0 || index > limit) {
+            throw new IllegalArgumentException("Array index out of range in '" + path + "'");
+        }
+        return index;
+    }
+
+    private static JsonObject op(String kind, String path, JsonElement value) {
+        JsonObject op = new JsonObject();
+        op.add("op", new JsonPrimitive(kind));
+        op.add("path", new JsonPrimitive(path));
+        if (value != null) {
+            op.add("value", value);
+        }
+        return op;
+    }
+
+    private static String escape(String key) {
+        if (key.indexOf('~') < 0 && key.indexOf('/') < 0) {
+            return key;
+        }
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String token) {
+        if (token.indexOf('~') < 0) {
+            return token;
+        }
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+}